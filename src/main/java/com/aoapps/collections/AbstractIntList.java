@@ -0,0 +1,358 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A skeletal implementation of {@link IntList}, minimizing the effort required to implement
+ * a primitive list backed by something other than a <code>int[]</code>.  All boxed operations are
+ * routed to their primitive counterparts, and the iterator and spliterator traverse
+ * primitive values without boxing.
+ *
+ * <p>To implement an unmodifiable list, only {@link #getInt(int)} and {@link #size()} are required.
+ * To implement a modifiable list, {@link #set(int, int)}, {@link #add(int, int)}, and
+ * {@link #removeAtIndex(int)} must also be overridden.  Implementations should increment
+ * {@link #modCount} on structural modifications, as documented by {@link AbstractList}.</p>
+ *
+ * @see  AbstractList
+ *
+ * @author  AO Industries, Inc.
+ */
+public abstract class AbstractIntList extends AbstractList<Integer> implements IntList {
+
+  /**
+   * Sole constructor.  (For invocation by subclass constructors, typically implicit.)
+   */
+  protected AbstractIntList() {
+    // Do nothing
+  }
+
+  @Override
+  public Integer get(int index) {
+    return getInt(index);
+  }
+
+  @Override
+  public Integer set(int index, Integer element) {
+    return set(index, element.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation always throws an {@link UnsupportedOperationException}.</p>
+   */
+  @Override
+  public int set(int index, int element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean add(Integer o) {
+    return add(o.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation calls {@code add(size(), o)}.</p>
+   */
+  @Override
+  public boolean add(int o) {
+    add(size(), o);
+    return true;
+  }
+
+  @Override
+  public void add(int index, Integer element) {
+    add(index, element.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation always throws an {@link UnsupportedOperationException}.</p>
+   */
+  @Override
+  public void add(int index, int element) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Integer remove(int index) {
+    return removeAtIndex(index);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation always throws an {@link UnsupportedOperationException}.</p>
+   */
+  @Override
+  public int removeAtIndex(int index) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Number) {
+      return removeByValue(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeByValue(int value) {
+    int index = indexOf(value);
+    if (index < 0) {
+      return false;
+    }
+    removeAtIndex(index);
+    return true;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(int elem) {
+    return indexOf(elem) >= 0;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (o instanceof Number) {
+      return indexOf(((Number) o).intValue());
+    }
+    return -1;
+  }
+
+  @Override
+  public int indexOf(int elem) {
+    for (int i = 0, size = size(); i < size; i++) {
+      if (elem == getInt(i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    if (o instanceof Number) {
+      return lastIndexOf(((Number) o).intValue());
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(int elem) {
+    for (int i = size() - 1; i >= 0; i--) {
+      if (elem == getInt(i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int[] toArrayInt() {
+    int size = size();
+    int[] result = new int[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = getInt(i);
+    }
+    return result;
+  }
+
+  /**
+   * Returns an iterator over the elements in this list in proper sequence.
+   * The elements may be traversed as primitive values, without boxing, by {@link IntIterator#nextInt()}.
+   *
+   * <p>This implementation is <em>fail-fast</em>, relying on the list's
+   * {@link #getInt(int)}, {@link #removeAtIndex(int)}, and {@link #modCount}.</p>
+   */
+  @Override
+  public IntIterator iterator() {
+    return new Itr();
+  }
+
+  /**
+   * A version of AbstractList.Itr that does not box.
+   */
+  private class Itr implements IntIterator {
+    private int cursor; // index of next element to return
+    private int lastRet = -1; // index of last element returned; -1 if no such
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size();
+    }
+
+    @Override
+    public int nextInt() {
+      checkForComodification();
+      try {
+        int i = cursor;
+        int next = getInt(i);
+        lastRet = i;
+        cursor = i + 1;
+        return next;
+      } catch (IndexOutOfBoundsException e) {
+        checkForComodification();
+        throw new NoSuchElementException(e.toString());
+      }
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+
+      try {
+        removeAtIndex(lastRet);
+        if (lastRet < cursor) {
+          cursor--;
+        }
+        lastRet = -1;
+        expectedModCount = modCount;
+      } catch (IndexOutOfBoundsException e) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * Creates a <em>late-binding</em> and <em>fail-fast</em> {@link Spliterator.OfInt}
+   * over the elements in this list.  The spliterator splits by index, relying on the
+   * list's {@link #getInt(int)}, and traverses primitive values without boxing.
+   *
+   * <p>The {@code Spliterator} reports {@link Spliterator#SIZED},
+   * {@link Spliterator#SUBSIZED}, and {@link Spliterator#ORDERED}.</p>
+   */
+  @Override
+  public Spliterator.OfInt spliterator() {
+    return new RandomAccessSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Index-based split-by-two, lazily initialized Spliterator.
+   */
+  private final class RandomAccessSpliterator implements Spliterator.OfInt {
+    private int index; // current index, modified on advance/split
+    private int fence; // -1 until used; then one past last index
+    private int expectedModCount; // initialized when fence set
+
+    private RandomAccessSpliterator(int origin, int fence, int expectedModCount) {
+      this.index = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    private int getFence() {
+      int hi = fence;
+      if (hi < 0) {
+        expectedModCount = modCount;
+        hi = size();
+        fence = hi;
+      }
+      return hi;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+      int hi = getFence();
+      int lo = index;
+      int mid = (lo + hi) >>> 1;
+      if (lo >= mid) {
+        // Too small to divide
+        return null;
+      }
+      index = mid;
+      return new RandomAccessSpliterator(lo, mid, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      Objects.requireNonNull(action);
+      int hi = getFence();
+      int i = index;
+      if (i < hi) {
+        index = i + 1;
+        action.accept(getInt(i));
+        checkForComodification();
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      Objects.requireNonNull(action);
+      int hi = getFence();
+      int i = index;
+      index = hi;
+      for (; i < hi; i++) {
+        action.accept(getInt(i));
+      }
+      checkForComodification();
+    }
+
+    @Override
+    public long estimateSize() {
+      return (long) getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+}
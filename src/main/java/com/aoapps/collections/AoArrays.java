@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2010, 2011, 2013, 2014, 2016, 2017, 2019, 2020, 2021, 2022, 2024, 2025  AO Industries, Inc.
+ * Copyright (C) 2010, 2011, 2013, 2014, 2016, 2017, 2019, 2020, 2021, 2022, 2024, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -25,7 +25,10 @@ package com.aoapps.collections;
 
 import com.aoapps.collections.AoCollections.PeekIterator;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Array;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -516,6 +519,35 @@ public final class AoArrays {
   // </editor-fold>
 
   // <editor-fold defaultstate="collapsed" desc="indexOf and lastIndexOf (byte[])">
+  /**
+   * Reads eight bytes at a time from a <code>byte[]</code>, with the first byte in the low-order bits.
+   */
+  private static final VarHandle LONGS_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * A <code>long</code> with each of its eight bytes set to one.
+   */
+  private static final long ONE_BYTES = 0x0101010101010101L;
+
+  /**
+   * A <code>long</code> with the low-order seven bits of each of its eight bytes set.
+   */
+  private static final long LOW_SEVEN_BITS = 0x7f7f7f7f7f7f7f7fL;
+
+  /**
+   * The number of bytes at which searches switch to comparing eight bytes at a time.
+   */
+  private static final int SWAR_THRESHOLD = 16;
+
+  /**
+   * Finds the bytes that are zero, setting only the high-order bit of each zero byte.
+   * Unlike the common <code>(x - 0x01..) &amp; ~x &amp; 0x80..</code>, this has no false
+   * positives, so may be used to find the last zero byte as well as the first.
+   */
+  private static long zeroBytes(long x) {
+    return ~(((x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | x | LOW_SEVEN_BITS);
+  }
+
   /**
    * Finds the first index of an element or <code>-1</code> if not found.
    *
@@ -532,7 +564,33 @@ public final class AoArrays {
    */
   public static int indexOf(byte[] array, byte element, int fromIndex) {
     if (array != null) {
-      for (int i = fromIndex, len = array.length; i < len; i++) {
+      return indexOf(array, element, fromIndex, array.length);
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first index of an element within a range or <code>-1</code> if not found.
+   * The range is searched eight elements at a time within a single <code>long</code>.
+   *
+   * @param  array      may be {@code null}, in which the element is never found
+   * @param  fromIndex  the first index to search, inclusive
+   * @param  toIndex    the last index to search, exclusive
+   */
+  public static int indexOf(byte[] array, byte element, int fromIndex, int toIndex) {
+    if (array != null) {
+      int i = fromIndex;
+      if (toIndex - i >= SWAR_THRESHOLD) {
+        // Compare eight bytes at a time
+        long pattern = (element & 0xffL) * ONE_BYTES;
+        for (int end = toIndex - 7; i < end; i += 8) {
+          long found = zeroBytes((long) LONGS_LE.get(array, i) ^ pattern);
+          if (found != 0) {
+            return i + (Long.numberOfTrailingZeros(found) >>> 3);
+          }
+        }
+      }
+      for (; i < toIndex; i++) {
         if (array[i] == element) {
           return i;
         }
@@ -561,7 +619,18 @@ public final class AoArrays {
    */
   public static int lastIndexOf(byte[] array, byte element, int fromIndex) {
     if (array != null) {
-      for (int i = fromIndex; i >= 0; i--) {
+      int i = fromIndex;
+      if (i >= SWAR_THRESHOLD) {
+        // Compare eight bytes at a time
+        long pattern = (element & 0xffL) * ONE_BYTES;
+        for (; i >= 7; i -= 8) {
+          long found = zeroBytes((long) LONGS_LE.get(array, i - 7) ^ pattern);
+          if (found != 0) {
+            return i - (Long.numberOfLeadingZeros(found) >>> 3);
+          }
+        }
+      }
+      for (; i >= 0; i--) {
         if (array[i] == element) {
           return i;
         }
@@ -646,7 +715,21 @@ public final class AoArrays {
    */
   public static int indexOf(int[] array, int element, int fromIndex) {
     if (array != null) {
-      for (int i = fromIndex, len = array.length; i < len; i++) {
+      return indexOf(array, element, fromIndex, array.length);
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first index of an element within a range or <code>-1</code> if not found.
+   *
+   * @param  array      may be {@code null}, in which the element is never found
+   * @param  fromIndex  the first index to search, inclusive
+   * @param  toIndex    the last index to search, exclusive
+   */
+  public static int indexOf(int[] array, int element, int fromIndex, int toIndex) {
+    if (array != null) {
+      for (int i = fromIndex; i < toIndex; i++) {
         if (array[i] == element) {
           return i;
         }
@@ -703,7 +786,21 @@ public final class AoArrays {
    */
   public static int indexOf(long[] array, long element, int fromIndex) {
     if (array != null) {
-      for (int i = fromIndex, len = array.length; i < len; i++) {
+      return indexOf(array, element, fromIndex, array.length);
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the first index of an element within a range or <code>-1</code> if not found.
+   *
+   * @param  array      may be {@code null}, in which the element is never found
+   * @param  fromIndex  the first index to search, inclusive
+   * @param  toIndex    the last index to search, exclusive
+   */
+  public static int indexOf(long[] array, long element, int fromIndex, int toIndex) {
+    if (array != null) {
+      for (int i = fromIndex; i < toIndex; i++) {
         if (array[i] == element) {
           return i;
         }
@@ -914,6 +1011,137 @@ public final class AoArrays {
 
   // </editor-fold>
 
+  // <editor-fold defaultstate="collapsed" desc="radixSort">
+  /**
+   * The number of elements below which {@link #radixSort(int[], int, int)} and
+   * {@link #radixSort(long[], int, int)} use {@link Arrays#sort(int[], int, int)}.
+   */
+  private static final int RADIX_SORT_THRESHOLD = 1024;
+
+  /**
+   * Sorts the specified range of the array into ascending numerical order with a
+   * least-significant-digit radix sort, eight bits per pass.  Runs in linear time,
+   * using a temporary array the size of the range, and is typically faster than
+   * {@link Arrays#sort(int[], int, int)} for large ranges of random values.
+   * Passes where every element has the same digit are skipped.  Small ranges are sorted
+   * with {@link Arrays#sort(int[], int, int)}.
+   *
+   * @param  fromIndex  the index of the first element, inclusive, to be sorted
+   * @param  toIndex    the index of the last element, exclusive, to be sorted
+   *
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds
+   */
+  public static void radixSort(int[] a, int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+    Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+    int n = toIndex - fromIndex;
+    if (n < RADIX_SORT_THRESHOLD) {
+      Arrays.sort(a, fromIndex, toIndex);
+      return;
+    }
+    // Count all digits in a single pass, flipping the sign bit so negatives sort first
+    int[] counts = new int[4 * 256];
+    for (int i = fromIndex; i < toIndex; i++) {
+      int value = a[i] ^ Integer.MIN_VALUE;
+      for (int d = 0; d < 4; d++) {
+        counts[(d << 8) | ((value >>> (d << 3)) & 0xff)]++;
+      }
+    }
+    int[] src = a;
+    int srcOff = fromIndex;
+    int[] dst = new int[n];
+    int dstOff = 0;
+    for (int d = 0; d < 4; d++) {
+      int base = d << 8;
+      int shift = d << 3;
+      if (counts[base | (((src[srcOff] ^ Integer.MIN_VALUE) >>> shift) & 0xff)] == n) {
+        // All the same digit
+        continue;
+      }
+      int sum = dstOff;
+      for (int b = base, end = base + 256; b < end; b++) {
+        int count = counts[b];
+        counts[b] = sum;
+        sum += count;
+      }
+      for (int i = srcOff, end = srcOff + n; i < end; i++) {
+        int value = src[i];
+        dst[counts[base | (((value ^ Integer.MIN_VALUE) >>> shift) & 0xff)]++] = value;
+      }
+      int[] tmp = src;
+      src = dst;
+      dst = tmp;
+      int tmpOff = srcOff;
+      srcOff = dstOff;
+      dstOff = tmpOff;
+    }
+    if (src != a) {
+      System.arraycopy(src, srcOff, a, fromIndex, n);
+    }
+  }
+
+  /**
+   * Sorts the specified range of the array into ascending numerical order with a
+   * least-significant-digit radix sort, eight bits per pass.  Runs in linear time,
+   * using a temporary array the size of the range, and is typically faster than
+   * {@link Arrays#sort(long[], int, int)} for large ranges of random values.
+   * Passes where every element has the same digit are skipped.  Small ranges are sorted
+   * with {@link Arrays#sort(long[], int, int)}.
+   *
+   * @param  fromIndex  the index of the first element, inclusive, to be sorted
+   * @param  toIndex    the index of the last element, exclusive, to be sorted
+   *
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds
+   */
+  public static void radixSort(long[] a, int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+    Objects.checkFromToIndex(fromIndex, toIndex, a.length);
+    int n = toIndex - fromIndex;
+    if (n < RADIX_SORT_THRESHOLD) {
+      Arrays.sort(a, fromIndex, toIndex);
+      return;
+    }
+    // Count all digits in a single pass, flipping the sign bit so negatives sort first
+    int[] counts = new int[8 * 256];
+    for (int i = fromIndex; i < toIndex; i++) {
+      long value = a[i] ^ Long.MIN_VALUE;
+      for (int d = 0; d < 8; d++) {
+        counts[(d << 8) | (int) ((value >>> (d << 3)) & 0xff)]++;
+      }
+    }
+    long[] src = a;
+    int srcOff = fromIndex;
+    long[] dst = new long[n];
+    int dstOff = 0;
+    for (int d = 0; d < 8; d++) {
+      int base = d << 8;
+      int shift = d << 3;
+      if (counts[base | (int) (((src[srcOff] ^ Long.MIN_VALUE) >>> shift) & 0xff)] == n) {
+        // All the same digit
+        continue;
+      }
+      int sum = dstOff;
+      for (int b = base, end = base + 256; b < end; b++) {
+        int count = counts[b];
+        counts[b] = sum;
+        sum += count;
+      }
+      for (int i = srcOff, end = srcOff + n; i < end; i++) {
+        long value = src[i];
+        dst[counts[base | (int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xff)]++] = value;
+      }
+      long[] tmp = src;
+      src = dst;
+      dst = tmp;
+      int tmpOff = srcOff;
+      srcOff = dstOff;
+      dstOff = tmpOff;
+    }
+    if (src != a) {
+      System.arraycopy(src, srcOff, a, fromIndex, n);
+    }
+  }
+
+  // </editor-fold>
+
   /**
    * Computes hashCode compatible with Arrays.hashCode, but only across the
    * given subset of the array.
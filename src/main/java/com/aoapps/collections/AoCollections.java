@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2010, 2011, 2012, 2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021, 2022, 2023, 2024, 2025  AO Industries, Inc.
+ * Copyright (C) 2010, 2011, 2012, 2013, 2014, 2016, 2017, 2018, 2019, 2020, 2021, 2022, 2023, 2024, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -248,6 +248,7 @@ public final class AoCollections {
       Collections.unmodifiableSet(Collections.emptySet()).getClass(),
       // UnionMethodSet.class, // Is now read-through
       AoArrays.UnmodifiableArraySet.class,
+      PerfectHashSet.class,
 
       // SortedSet
       SingletonSortedSet.class,
@@ -486,6 +487,7 @@ public final class AoCollections {
       Collections.unmodifiableMap(Collections.emptyMap()).entrySet().getClass(),
       // UnionMethodSet.class, // Is now read-through
       AoArrays.UnmodifiableArraySet.class,
+      PerfectHashSet.class,
 
       // SortedSet
       SingletonSortedSet.class,
@@ -604,6 +606,34 @@ public final class AoCollections {
     return unmodifiableCopySet(asSet(iter), false);
   }
 
+  /**
+   * Performs defensive shallow copy and returns an unmodifiable set for fast lookups.
+   * Sets of more than one element are a {@link PerfectHashSet}, with O(1) {@link Set#contains(java.lang.Object)}
+   * and no objects allocated per element.
+   * The iteration order of the original set is not maintained.
+   *
+   * @param  collection  may be {@code null}, which will return {@code null}
+   *
+   * @throws  NullPointerException  if any element is null
+   */
+  public static <T> Set<T> frozenCopySet(Collection<? extends T> collection) throws NullPointerException {
+    if (collection == null) {
+      return null;
+    }
+    int size = collection.size();
+    if (size == 0) {
+      return Collections.emptySet();
+    }
+    if (size == 1) {
+      return Collections.singleton(Objects.requireNonNull(collection.iterator().next()));
+    }
+    Set<T> set = new PerfectHashSet<>(collection);
+    if (set.size() == 1) {
+      return Collections.singleton(set.iterator().next());
+    }
+    return set;
+  }
+
   // Java 17: Deprecate: https://bugs.openjdk.org/browse/JDK-6323374
   private static final Class<?>[] unmodifiableSortedSetClasses = {
       // SortedSet
@@ -1239,6 +1269,17 @@ public final class AoCollections {
     // return (initialCapacity > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int)initialCapacity;
   }
 
+  /**
+   * Gets the initial capacity to use for hash-based collections that will contain the given number of elements,
+   * with the given load factor.
+   *
+   * @see  IntHashSet
+   * @see  LongHashSet
+   */
+  public static int getHashInitialCapacity(int elements, float loadFactor) {
+    return (int) (elements / loadFactor) + 1;
+  }
+
   /**
    * Creates a new {@link ArrayList} with a capacity large enough to contain the given number of elements without growing.
    *
@@ -1333,6 +1374,60 @@ public final class AoCollections {
     return newIntArrayList(elements == null ? -1 : elements);
   }
 
+  /**
+   * Creates a new {@link IntHashSet} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static IntHashSet newIntHashSet(int elements) {
+    return (elements == -1) ? new IntHashSet() : new IntHashSet(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link IntHashSet} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static IntHashSet newIntHashSet(Integer elements) {
+    return newIntHashSet(elements == null ? -1 : elements);
+  }
+
+  /**
+   * Creates a new {@link IntIntHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static IntIntHashMap newIntIntHashMap(int elements) {
+    return (elements == -1) ? new IntIntHashMap() : new IntIntHashMap(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link IntIntHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static IntIntHashMap newIntIntHashMap(Integer elements) {
+    return newIntIntHashMap(elements == null ? -1 : elements);
+  }
+
+  /**
+   * Creates a new {@link IntObjectHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static <V> IntObjectHashMap<V> newIntObjectHashMap(int elements) {
+    return (elements == -1) ? new IntObjectHashMap<>() : new IntObjectHashMap<>(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link IntObjectHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static <V> IntObjectHashMap<V> newIntObjectHashMap(Integer elements) {
+    return newIntObjectHashMap(elements == null ? -1 : elements);
+  }
+
   /**
    * Creates a new {@link LinkedHashMap} with a capacity large enough to contain the given number of elements without rehashing.
    *
@@ -1391,6 +1486,60 @@ public final class AoCollections {
     return newLongArrayList(elements == null ? -1 : elements);
   }
 
+  /**
+   * Creates a new {@link LongHashSet} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static LongHashSet newLongHashSet(int elements) {
+    return (elements == -1) ? new LongHashSet() : new LongHashSet(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link LongHashSet} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static LongHashSet newLongHashSet(Integer elements) {
+    return newLongHashSet(elements == null ? -1 : elements);
+  }
+
+  /**
+   * Creates a new {@link LongLongHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static LongLongHashMap newLongLongHashMap(int elements) {
+    return (elements == -1) ? new LongLongHashMap() : new LongLongHashMap(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link LongLongHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static LongLongHashMap newLongLongHashMap(Integer elements) {
+    return newLongLongHashMap(elements == null ? -1 : elements);
+  }
+
+  /**
+   * Creates a new {@link LongObjectHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code -1} when unknown
+   */
+  public static <V> LongObjectHashMap<V> newLongObjectHashMap(int elements) {
+    return (elements == -1) ? new LongObjectHashMap<>() : new LongObjectHashMap<>(getHashInitialCapacity(elements));
+  }
+
+  /**
+   * Creates a new {@link LongObjectHashMap} with a capacity large enough to contain the given number of elements without rehashing.
+   *
+   * @param  elements  The number of elements or {@code null} when unknown
+   */
+  public static <V> LongObjectHashMap<V> newLongObjectHashMap(Integer elements) {
+    return newLongObjectHashMap(elements == null ? -1 : elements);
+  }
+
   /**
    * Creates a new {@link SortedArrayList} with a capacity large enough to contain the given number of elements without growing.
    *
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2010, 2011, 2013, 2016, 2019, 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2010, 2011, 2013, 2016, 2019, 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,11 +23,16 @@
 
 package com.aoapps.collections;
 
+import com.aoapps.lang.EmptyArrays;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.function.ObjIntConsumer;
 
 /**
  * A compact <code>Set</code> implementation that stores the elements in hashCode order.
@@ -42,9 +47,18 @@ import java.util.Iterator;
  * <p>This set will generally operate at O(log n) due to binary search.  In general, it will
  * not be as fast as the O(1) behavior of HashSet.  Here we give up speed to save space.</p>
  *
+ * <p>The hash codes of the elements are cached in a parallel <code>int[]</code>, so searches
+ * only touch the elements for <code>equals</code> on matching hash codes.</p>
+ *
+ * <p>When the other collection is also an {@link ArraySet} or {@link UnmodifiableArraySet},
+ * {@link #containsAll(java.util.Collection)}, {@link #equals(java.lang.Object)}, {@link #retainAll(java.util.Collection)},
+ * {@link #removeAll(java.util.Collection)}, {@link #union(java.util.Collection)}, {@link #intersection(java.util.Collection)},
+ * and {@link #difference(java.util.Collection)} walk both sets together in hashCode order in O(n + m).</p>
+ *
  * <p>This set is not thread safe.</p>
  *
  * @see  HashCodeComparator to properly sort objects before adding to the set
+ * @see  ArraySetBuilder to build from elements in any order
  *
  * @author  AO Industries, Inc.
  */
@@ -58,18 +72,36 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   private static final boolean ASSERTIONS_ENABLED = true;
 
   /**
-   * The number of elements at which a linear search switches to a binary search.
+   * The default number of elements at which a linear search switches to a binary search.
    */
   private static final int BINARY_SEARCH_THRESHOLD = 13; // The point where the O(n) line and O(log n) curves intersect.
 
+  private static int resolveBinarySearchThreshold(int binarySearchThreshold) {
+    return ArraySetTuning.checkBinarySearchThreshold(binarySearchThreshold) == 0 ? BINARY_SEARCH_THRESHOLD : binarySearchThreshold;
+  }
+
   private final ArrayList<E> elements;
 
+  /**
+   * The hash codes of the elements, in the same order.  May be longer than the number of elements.
+   */
+  private transient int[] hashes;
+
+  /**
+   * The number of elements at which a linear search switches to a binary search.
+   *
+   * @serial
+   */
+  private int binarySearchThreshold;
+
   /**
    * @deprecated  This is for convention only, please provide a previously sorted ArrayList for best performance.
    */
   @Deprecated
   public ArraySet() {
     this.elements = new ArrayList<>();
+    this.hashes = EmptyArrays.EMPTY_INT_ARRAY;
+    this.binarySearchThreshold = BINARY_SEARCH_THRESHOLD;
   }
 
   /**
@@ -78,47 +110,103 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   @Deprecated
   public ArraySet(int initialCapacity) {
     this.elements = new ArrayList<>(initialCapacity);
+    this.hashes = new int[initialCapacity];
+    this.binarySearchThreshold = BINARY_SEARCH_THRESHOLD;
   }
 
+  /**
+   * Copies the elements of the provided collection, which may be in any order and contain duplicates.
+   * The elements are sorted once by {@link ArraySetBuilder}.
+   *
+   * @deprecated  This is for convention only, please provide a previously sorted ArrayList or use
+   *              {@link ArraySetBuilder} for best performance.
+   */
+  @Deprecated
+  public ArraySet(Collection<? extends E> c) {
+    this(ArraySetBuilder.sort(c), 0);
+  }
+
+  /**
+   * Uses the provided elements list without copying, which must already
+   * be sorted in hashCode order and unique.
+   *
+   * <p>The set takes ownership of the list, which must not be modified afterward.  The hash codes of
+   * the elements are cached in a parallel array that only changes through the set.</p>
+   *
+   * <p>The sort order and uniqueness is only checked with assertions enabled.</p>
+   *
+   * @see  HashCodeComparator to properly sort objects before adding to the set
+   */
   /*
   @Complexity(
     best=GrowthFunction.LINEAR,
-    bestConditions={GrowthCondition.GOOD_HASH_CODE},
     average=GrowthFunction.LINEAR,
-    averageConditions={GrowthCondition.GOOD_HASH_CODE},
-    worst=GrowthFunction.QUADRATIC
+    worst=GrowthFunction.LINEAR
   )
    */
-  /**
-   * @deprecated  This is for convention only, please provide a previously sorted ArrayList for best performance.
-   */
-  @Deprecated
-  @SuppressWarnings("OverridableMethodCallInConstructor")
-  public ArraySet(Collection<? extends E> c) {
-    this.elements = new ArrayList<>(c.size());
-    addAll(c);
+  public ArraySet(ArrayList<E> elements) {
+    this(elements, 0);
   }
 
   /**
    * Uses the provided elements list without copying, which must already
    * be sorted in hashCode order and unique.
    *
+   * <p>The set takes ownership of the list, which must not be modified afterward.  The hash codes of
+   * the elements are cached in a parallel array that only changes through the set.</p>
+   *
    * <p>The sort order and uniqueness is only checked with assertions enabled.</p>
    *
+   * @param  binarySearchThreshold  the number of elements at which a linear search switches to a binary search,
+   *                                or {@code 0} for the default
+   *
+   * @throws  IllegalArgumentException  if the threshold is negative
+   *
    * @see  HashCodeComparator to properly sort objects before adding to the set
+   * @see  ArraySetTuning
    */
   /*
   @Complexity(
-    best=GrowthFunction.CONSTANT,
-    average=GrowthFunction.CONSTANT,
-    worst=GrowthFunction.CONSTANT
+    best=GrowthFunction.LINEAR,
+    average=GrowthFunction.LINEAR,
+    worst=GrowthFunction.LINEAR
   )
    */
-  public ArraySet(ArrayList<E> elements) {
+  public ArraySet(ArrayList<E> elements, int binarySearchThreshold) throws IllegalArgumentException {
     if (ASSERTIONS_ENABLED) {
       assert assertInOrderAndUnique(elements);
     }
     this.elements = elements;
+    this.hashes = computeHashes(elements);
+    this.binarySearchThreshold = resolveBinarySearchThreshold(binarySearchThreshold);
+  }
+
+  /**
+   * Uses the already sorted and unique elements from {@link ArraySetBuilder}.
+   */
+  @SuppressWarnings("unchecked")
+  ArraySet(ArraySetBuilder.Sorted sorted, int binarySearchThreshold) {
+    this.elements = new ArrayList<>(Arrays.asList((E[]) sorted.elements));
+    this.hashes = sorted.hashes;
+    this.binarySearchThreshold = resolveBinarySearchThreshold(binarySearchThreshold);
+  }
+
+  private ArraySet(ArrayList<E> elements, int[] hashes, int binarySearchThreshold) {
+    this.elements = elements;
+    this.hashes = hashes;
+    this.binarySearchThreshold = binarySearchThreshold;
+  }
+
+  private static int[] computeHashes(ArrayList<?> elements) {
+    int size = elements.size();
+    if (size == 0) {
+      return EmptyArrays.EMPTY_INT_ARRAY;
+    }
+    int[] newHashes = new int[size];
+    for (int i = 0; i < size; i++) {
+      newHashes[i] = elements.get(i).hashCode();
+    }
+    return newHashes;
   }
 
   private boolean assertInOrderAndUnique(ArrayList<E> elements) {
@@ -163,13 +251,32 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
     worst=GrowthFunction.LOGARITHMIC
   )
    */
-  @SuppressWarnings("unchecked")
-  private int binarySearch(E elem) {
-    return java.util.Collections.binarySearch(elements, elem, HashCodeComparator.getInstance());
+  private int binarySearch(int objHash) {
+    return Arrays.binarySearch(hashes, 0, elements.size(), objHash);
+  }
+
+  /**
+   * Appends an element, which must already be known to belong at the end of the set.
+   */
+  private void append(E e, int elemHash) {
+    int size = elements.size();
+    if (size == hashes.length) {
+      hashes = Arrays.copyOf(hashes, Math.max(size + (size >> 1), size + 1));
+    }
+    elements.add(e);
+    hashes[size] = elemHash;
+  }
+
+  HashOrderMerge.Side toSide() {
+    return new HashOrderMerge.Side(elements, hashes, elements.size());
   }
 
   public void trimToSize() {
     elements.trimToSize();
+    int size = elements.size();
+    if (size < hashes.length) {
+      hashes = size == 0 ? EmptyArrays.EMPTY_INT_ARRAY : Arrays.copyOf(hashes, size);
+    }
   }
 
   @Override
@@ -183,7 +290,6 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   /*
   @Complexity(
     best=GrowthFunction.LOGARITHMIC,
@@ -198,41 +304,35 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
     if (size == 0 || o == null) {
       return false;
     }
-    if (size < BINARY_SEARCH_THRESHOLD) {
+    int[] hs = hashes; // Local fast reference
+    int objHash = o.hashCode();
+    if (size < binarySearchThreshold) {
+      ArraySetTuning.countSearch(false);
       // Simple search
       for (int i = 0; i < size; i++) {
-        if (elements.get(i).equals(o)) {
+        if (hs[i] == objHash && elements.get(i).equals(o)) {
           return true;
         }
       }
     } else {
-      int index = binarySearch((E) o);
+      ArraySetTuning.countSearch(true);
+      int index = binarySearch(objHash);
       if (index < 0) {
         return false;
       }
       // Matches at index?
-      E elem = elements.get(index);
-      if (elem.equals(o)) {
+      if (elements.get(index).equals(o)) {
         return true;
       }
       // Look forward until different hashCode
-      int objHash = o.hashCode();
-      for (int i = index + 1; i < size; i++) {
-        elem = elements.get(i);
-        if (elem.hashCode() != objHash) {
-          break;
-        }
-        if (elem.equals(o)) {
+      for (int i = index + 1; i < size && hs[i] == objHash; i++) {
+        if (elements.get(i).equals(o)) {
           return true;
         }
       }
       // Look backward until different hashCode
-      for (int i = index - 1; i >= 0; i--) {
-        elem = elements.get(i);
-        if (elem.hashCode() != objHash) {
-          break;
-        }
-        if (elem.equals(o)) {
+      for (int i = index - 1; i >= 0 && hs[i] == objHash; i--) {
+        if (elements.get(i).equals(o)) {
           return true;
         }
       }
@@ -242,7 +342,30 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
 
   @Override
   public Iterator<E> iterator() {
-    return elements.iterator();
+    Iterator<E> iter = elements.iterator();
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return iter.hasNext();
+      }
+
+      @Override
+      public E next() {
+        E next = iter.next();
+        index++;
+        return next;
+      }
+
+      @Override
+      public void remove() {
+        iter.remove();
+        // Keep hashes parallel to elements
+        index--;
+        System.arraycopy(hashes, index + 1, hashes, index, elements.size() - index);
+      }
+    };
   }
 
   @Override
@@ -280,34 +403,30 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   )*/
   public boolean add(E e) {
     int size = elements.size();
+    int elemHash = e.hashCode();
     if (size == 0) {
-      elements.add(e);
+      append(e, elemHash);
       return true;
     } else {
       // Shortcut for adding last element
-      int elemHash = e.hashCode();
-      E last = elements.get(size - 1);
-      int lastHash = last.hashCode();
+      int[] hs = hashes; // Local fast reference
+      int lastHash = hs[size - 1];
       if (elemHash > lastHash) {
-        elements.add(e);
+        append(e, elemHash);
         return true;
       } else if (elemHash == lastHash) {
-        if (last.equals(e)) {
+        if (elements.get(size - 1).equals(e)) {
           // Already in set
           return false;
         }
         // Look backward until different hashCode
-        for (int i = size - 2; i >= 0; i--) {
-          E elem = elements.get(i);
-          if (elem.hashCode() != elemHash) {
-            break;
-          }
-          if (elem.equals(e)) {
+        for (int i = size - 2; i >= 0 && hs[i] == elemHash; i--) {
+          if (elements.get(i).equals(e)) {
             // Already in set
             return false;
           }
         }
-        elements.add(e);
+        append(e, elemHash);
         return true;
       } else {
         if (contains(e)) {
@@ -359,6 +478,9 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   )*/
   @SuppressWarnings("element-type-mismatch")
   public boolean containsAll(Collection<?> c) {
+    if (HashOrderMerge.isHashOrdered(c)) {
+      return HashOrderMerge.containsAll(toSide(), HashOrderMerge.of(c));
+    }
     for (Object o : c) {
       if (!contains(o)) {
         return false;
@@ -386,9 +508,27 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
     return modified;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The retained elements are compacted in a single pass.  Another {@link ArraySet} or
+   * {@link UnmodifiableArraySet} is merged in hashCode order, otherwise membership is determined
+   * by {@link Collection#contains(java.lang.Object)} of the given collection.</p>
+   */
   @Override
+  /*
+  @Complexity(
+    best=GrowthFunction.LINEAR,
+    bestConditions={GrowthCondition.GOOD_HASH_CODE},
+    average=GrowthFunction.LINEAR,
+    averageConditions={GrowthCondition.GOOD_HASH_CODE},
+    worst=GrowthFunction.QUADRATIC
+  )*/
   public boolean retainAll(Collection<?> c) {
-    throw new UnsupportedOperationException();
+    if (c == this) {
+      return false;
+    }
+    return compact(c, HashOrderMerge.Op.INTERSECTION);
   }
 
   @Override
@@ -400,15 +540,144 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
     averageConditions={GrowthCondition.GOOD_HASH_CODE},
     worst=GrowthFunction.QUADRATIC
   )*/
-  @SuppressWarnings("element-type-mismatch")
   public boolean removeAll(Collection<?> c) {
-    boolean modified = false;
-    for (Object o : c) {
-      if (remove(o)) {
-        modified = true;
+    if (c == this) {
+      boolean modified = !elements.isEmpty();
+      clear();
+      return modified;
+    }
+    return compact(c, HashOrderMerge.Op.DIFFERENCE);
+  }
+
+  /**
+   * Keeps only the result of merging with the given collection, overwriting the elements in-place.
+   * A collection not in hashCode order is not merged, since it may contain {@code null} or
+   * determine membership other than by {@link Object#equals(java.lang.Object)}, such as by a
+   * comparator.  Each element is instead checked with {@link Collection#contains(java.lang.Object)}.
+   */
+  private boolean compact(Collection<?> c, HashOrderMerge.Op op) {
+    int size = elements.size();
+    if (size == 0) {
+      return false;
+    }
+    final int[] hs = hashes; // Local fast reference
+    int newSize;
+    if (HashOrderMerge.isHashOrdered(c)) {
+      newSize = HashOrderMerge.merge(
+          toSide(),
+          HashOrderMerge.of(c),
+          op,
+          new ObjIntConsumer<Object>() {
+            private int index;
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void accept(Object elem, int hash) {
+              elements.set(index, (E) elem);
+              hs[index] = hash;
+              index++;
+            }
+          }
+      );
+    } else {
+      final boolean retain = op == HashOrderMerge.Op.INTERSECTION;
+      final ArrayList<E> elems = elements; // Local fast reference
+      newSize = 0;
+      for (int i = 0; i < size; i++) {
+        E elem = elems.get(i);
+        if (c.contains(elem) == retain) {
+          if (newSize != i) {
+            elems.set(newSize, elem);
+            hs[newSize] = hs[i];
+          }
+          newSize++;
+        }
       }
     }
-    return modified;
+    if (newSize == size) {
+      return false;
+    }
+    elements.subList(newSize, size).clear();
+    return true;
+  }
+
+  /**
+   * Merges with the given collection into a new set, allocating its storage exactly once.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> ArraySet<T> merge(Collection<?> c, HashOrderMerge.Op op) {
+    HashOrderMerge.Side side1 = toSide();
+    HashOrderMerge.Side side2 = HashOrderMerge.of(c);
+    int count = HashOrderMerge.merge(side1, side2, op, null);
+    ArrayList<T> newElements = new ArrayList<>(count);
+    int[] newHashes = count == 0 ? EmptyArrays.EMPTY_INT_ARRAY : new int[count];
+    HashOrderMerge.merge(side1, side2, op, (elem, hash) -> {
+      newHashes[newElements.size()] = hash;
+      newElements.add((T) elem);
+    });
+    return new ArraySet<>(newElements, newHashes, binarySearchThreshold);
+  }
+
+  /**
+   * Gets a new set of the elements in either this set or the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  /*
+  @Complexity(
+    best=GrowthFunction.LINEAR,
+    bestConditions={GrowthCondition.GOOD_HASH_CODE},
+    average=GrowthFunction.LINEAR,
+    averageConditions={GrowthCondition.GOOD_HASH_CODE},
+    worst=GrowthFunction.QUADRATIC
+  )*/
+  public ArraySet<E> union(Collection<? extends E> c) {
+    return merge(c, HashOrderMerge.Op.UNION);
+  }
+
+  /**
+   * Gets a new set of the elements in both this set and the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  /*
+  @Complexity(
+    best=GrowthFunction.LINEAR,
+    bestConditions={GrowthCondition.GOOD_HASH_CODE},
+    average=GrowthFunction.LINEAR,
+    averageConditions={GrowthCondition.GOOD_HASH_CODE},
+    worst=GrowthFunction.QUADRATIC
+  )*/
+  public ArraySet<E> intersection(Collection<?> c) {
+    return merge(c, HashOrderMerge.Op.INTERSECTION);
+  }
+
+  /**
+   * Gets a new set of the elements in this set that are not in the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  /*
+  @Complexity(
+    best=GrowthFunction.LINEAR,
+    bestConditions={GrowthCondition.GOOD_HASH_CODE},
+    average=GrowthFunction.LINEAR,
+    averageConditions={GrowthCondition.GOOD_HASH_CODE},
+    worst=GrowthFunction.QUADRATIC
+  )*/
+  public ArraySet<E> difference(Collection<?> c) {
+    return merge(c, HashOrderMerge.Op.DIFFERENCE);
+  }
+
+  /**
+   * Computes the hash code from the cached hash codes of the elements.
+   */
+  @Override
+  public int hashCode() {
+    int[] hs = hashes; // Local fast reference
+    int size = elements.size();
+    int h = 0;
+    for (int i = 0; i < size; i++) {
+      h += hs[i];
+    }
+    return h;
   }
 
   @Override
@@ -421,4 +690,11 @@ public class ArraySet<E> extends AbstractSet<E> implements Serializable {
   public void clear() {
     elements.clear();
   }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    hashes = computeHashes(elements);
+    // Not in the serialized form before the threshold could be set
+    binarySearchThreshold = resolveBinarySearchThreshold(binarySearchThreshold);
+  }
 }
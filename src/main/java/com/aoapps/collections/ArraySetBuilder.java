@@ -0,0 +1,257 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.EmptyArrays;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Collects elements in any order, then sorts them once into hashCode order and removes
+ * duplicates, producing an {@link ArraySet} or {@link UnmodifiableArraySet} in O(n log n).
+ *
+ * <p>The hash code of each element is computed once, packed with its index into a <code>long</code>,
+ * and the packed values are sorted as primitives.  Duplicates are then removed in a single
+ * pass, comparing with <code>equals</code> only within runs of the same hash code.  When an
+ * element is added more than once, the first one added is kept.</p>
+ *
+ * <p>null values are not supported.</p>
+ *
+ * <p>This builder is not thread safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ArraySetBuilder<E> {
+
+  /**
+   * The number of elements at which {@link Arrays#parallelSort(long[])} is used.
+   */
+  private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+  /**
+   * The initial capacity used when none specified in constructor.
+   */
+  private static final int DEFAULT_INITIAL_CAPACITY = 10;
+
+  /**
+   * Elements in hashCode order with duplicates removed, along with their hash codes.
+   */
+  static final class Sorted {
+
+    final Object[] elements;
+    final int[] hashes;
+
+    Sorted(Object[] elements, int[] hashes) {
+      this.elements = elements;
+      this.hashes = hashes;
+    }
+  }
+
+  private Object[] elements;
+  private int size;
+  private int binarySearchThreshold;
+
+  /**
+   * Constructs an empty builder with the specified initial capacity.
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative
+   */
+  public ArraySetBuilder(int initialCapacity) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    this.elements = initialCapacity == 0 ? EmptyArrays.EMPTY_OBJECT_ARRAY : new Object[initialCapacity];
+  }
+
+  /**
+   * Constructs an empty builder with an initial capacity of ten.
+   */
+  public ArraySetBuilder() {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    int oldCapacity = elements.length;
+    if (minCapacity > oldCapacity) {
+      int newCapacity = oldCapacity + (oldCapacity >> 1);
+      if (newCapacity < minCapacity || newCapacity < 0) {
+        newCapacity = minCapacity;
+      }
+      elements = Arrays.copyOf(elements, newCapacity);
+    }
+  }
+
+  /**
+   * Sets the number of elements at which a linear search switches to a binary search in the sets built.
+   *
+   * @param  binarySearchThreshold  the threshold, or {@code 0} to use any threshold registered for the class of
+   *                                the first element in {@link ArraySetTuning}, otherwise the default
+   *
+   * @return  this builder
+   *
+   * @throws  IllegalArgumentException  if the threshold is negative
+   */
+  public ArraySetBuilder<E> setBinarySearchThreshold(int binarySearchThreshold) throws IllegalArgumentException {
+    this.binarySearchThreshold = ArraySetTuning.checkBinarySearchThreshold(binarySearchThreshold);
+    return this;
+  }
+
+  private int getBinarySearchThreshold() {
+    if (binarySearchThreshold == 0 && size > 0) {
+      return ArraySetTuning.getBinarySearchThreshold(elements[0].getClass());
+    }
+    return binarySearchThreshold;
+  }
+
+  /**
+   * The number of elements added so far, including any duplicates.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Adds an element, in any order.
+   *
+   * @return  this builder
+   *
+   * @throws  NullPointerException  if the element is null
+   */
+  public ArraySetBuilder<E> add(E e) throws NullPointerException {
+    if (e == null) {
+      throw new NullPointerException();
+    }
+    ensureCapacity(size + 1);
+    elements[size++] = e;
+    return this;
+  }
+
+  /**
+   * Adds all the elements of a collection, in any order.
+   *
+   * @return  this builder
+   *
+   * @throws  NullPointerException  if any element is null
+   */
+  public ArraySetBuilder<E> addAll(Collection<? extends E> c) throws NullPointerException {
+    Object[] a = c.toArray();
+    int numNew = a.length;
+    for (Object o : a) {
+      if (o == null) {
+        throw new NullPointerException();
+      }
+    }
+    ensureCapacity(size + numNew);
+    System.arraycopy(a, 0, elements, size, numNew);
+    size += numNew;
+    return this;
+  }
+
+  /**
+   * Adds all the elements of an iterable, in any order.
+   *
+   * @return  this builder
+   *
+   * @throws  NullPointerException  if any element is null
+   */
+  public ArraySetBuilder<E> addAll(Iterable<? extends E> iterable) throws NullPointerException {
+    if (iterable instanceof Collection) {
+      return addAll((Collection<? extends E>) iterable);
+    }
+    for (E e : iterable) {
+      add(e);
+    }
+    return this;
+  }
+
+  /**
+   * Builds a new {@link ArraySet} of the elements added so far.  The builder may continue to be used.
+   */
+  public ArraySet<E> buildArraySet() {
+    return new ArraySet<>(sort(elements, size), getBinarySearchThreshold());
+  }
+
+  /**
+   * Builds a new {@link UnmodifiableArraySet} of the elements added so far.  The builder may continue to be used.
+   */
+  public UnmodifiableArraySet<E> buildUnmodifiableArraySet() {
+    return new UnmodifiableArraySet<>(sort(elements, size), getBinarySearchThreshold());
+  }
+
+  /**
+   * Sorts the elements of a collection into hashCode order, removing duplicates.
+   */
+  static Sorted sort(Collection<?> c) {
+    Object[] a = c.toArray();
+    return sort(a, a.length);
+  }
+
+  /**
+   * Sorts the first <code>size</code> elements into hashCode order, removing duplicates.
+   * The given array is not modified.
+   */
+  static Sorted sort(Object[] elements, int size) {
+    if (size == 0) {
+      return new Sorted(EmptyArrays.EMPTY_OBJECT_ARRAY, EmptyArrays.EMPTY_INT_ARRAY);
+    }
+    // Hash code in the high bits, index in the low bits: also keeps equal hash codes in the order added
+    long[] keys = new long[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = ((long) elements[i].hashCode() << 32) | i;
+    }
+    if (size >= PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(keys);
+    } else {
+      Arrays.sort(keys);
+    }
+    Object[] sorted = new Object[size];
+    int[] hashes = new int[size];
+    int count = 0;
+    int runStart = 0;
+    KEYS:
+    for (long key : keys) {
+      int hash = (int) (key >> 32);
+      Object elem = elements[(int) key];
+      if (count == 0 || hashes[count - 1] != hash) {
+        runStart = count;
+      } else {
+        // Check the run of the same hashCode for an equal element
+        for (int i = runStart; i < count; i++) {
+          if (sorted[i].equals(elem)) {
+            continue KEYS;
+          }
+        }
+      }
+      sorted[count] = elem;
+      hashes[count] = hash;
+      count++;
+    }
+    if (count < size) {
+      sorted = Arrays.copyOf(sorted, count);
+      hashes = Arrays.copyOf(hashes, count);
+    }
+    return new Sorted(sorted, hashes);
+  }
+}
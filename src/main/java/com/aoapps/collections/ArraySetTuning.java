@@ -0,0 +1,272 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tunes the point at which {@link ArraySet} and {@link UnmodifiableArraySet} switch from a linear
+ * search to a binary search, which depends on the cost of <code>equals</code> for the element type
+ * and on the CPU.
+ *
+ * <p>A threshold may be given to the set constructors or {@link ArraySetBuilder#setBinarySearchThreshold(int)}
+ * directly.  Alternatively, a threshold may be registered per element class, either directly or
+ * measured by {@link #calibrate(java.util.Collection)}, and will be used by {@link ArraySetBuilder}
+ * when no threshold is given.</p>
+ *
+ * <p>Optional statistics count how often each search is used, to check that a workload uses the
+ * expected search.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class ArraySetTuning {
+
+  /** Make no instances. */
+  private ArraySetTuning() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The largest set size measured by {@link #calibrate(java.util.Collection)}.
+   */
+  private static final int CALIBRATE_MAX_SIZE = 128;
+
+  /**
+   * The number of lookups timed per set size and search.
+   */
+  private static final int CALIBRATE_LOOKUPS = 20000;
+
+  /**
+   * The number of times each measurement is repeated, taking the fastest.
+   */
+  private static final int CALIBRATE_PASSES = 3;
+
+  /**
+   * The number of consecutive sizes where binary search must be faster.
+   */
+  private static final int CALIBRATE_CONSECUTIVE = 3;
+
+  private static final Map<Class<?>, Integer> thresholds = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the binary search threshold to use for sets of the given element class.
+   *
+   * @param  binarySearchThreshold  the number of elements at which a linear search switches to a binary search,
+   *                                or {@code 0} to remove the registration
+   *
+   * @throws  IllegalArgumentException  if the threshold is negative
+   */
+  public static void setBinarySearchThreshold(Class<?> elementClass, int binarySearchThreshold) throws IllegalArgumentException {
+    checkBinarySearchThreshold(binarySearchThreshold);
+    if (binarySearchThreshold == 0) {
+      thresholds.remove(elementClass);
+    } else {
+      thresholds.put(elementClass, binarySearchThreshold);
+    }
+  }
+
+  /**
+   * Gets the binary search threshold registered for the given element class.
+   *
+   * @return  the threshold or {@code 0} when none registered
+   */
+  public static int getBinarySearchThreshold(Class<?> elementClass) {
+    Integer threshold = thresholds.get(elementClass);
+    return threshold == null ? 0 : threshold;
+  }
+
+  static int checkBinarySearchThreshold(int binarySearchThreshold) throws IllegalArgumentException {
+    if (binarySearchThreshold < 0) {
+      throw new IllegalArgumentException("Illegal binary search threshold: " + binarySearchThreshold);
+    }
+    return binarySearchThreshold;
+  }
+
+  /**
+   * Measures the binary search threshold for the elements of the given sample, timing linear and binary
+   * searches for each set size up to 128.  When all the elements are of the same
+   * class, the threshold is also registered for that class.
+   *
+   * <p>The sample should contain at least 128 distinct elements representative of the
+   * workload.  This takes tens of milliseconds and, like any microbenchmark, is best run once the JVM is warmed up.</p>
+   *
+   * @return  the first size of the first run of consecutive sizes where binary search is faster, or one more
+   *          than the largest size measured when no full run is found, including a run cut short by the
+   *          largest size
+   *
+   * @throws  IllegalArgumentException  if the sample has too few distinct elements
+   *
+   * @see  #setBinarySearchThreshold(java.lang.Class, int)
+   */
+  public static int calibrate(Collection<?> sample) throws IllegalArgumentException {
+    ArraySetBuilder.Sorted sorted = ArraySetBuilder.sort(sample);
+    Object[] elements = sorted.elements;
+    if (elements.length < CALIBRATE_MAX_SIZE) {
+      throw new IllegalArgumentException("At least " + CALIBRATE_MAX_SIZE + " distinct elements required: " + elements.length);
+    }
+    Object[] lookups = new Object[CALIBRATE_LOOKUPS];
+    // Warm-up both searches before timing
+    for (int size = 1; size <= CALIBRATE_MAX_SIZE; size <<= 1) {
+      measure(elements, size, lookups);
+    }
+    // Only accepted once binary search is faster for enough consecutive sizes
+    int threshold = CALIBRATE_MAX_SIZE + 1;
+    int candidate = 0;
+    int consecutive = 0;
+    for (int size = 1; size <= CALIBRATE_MAX_SIZE; size++) {
+      long[] nanos = measure(elements, size, lookups);
+      long linearNanos = nanos[0];
+      long binaryNanos = nanos[1];
+      if (binaryNanos < linearNanos) {
+        if (consecutive == 0) {
+          candidate = size;
+        }
+        if (++consecutive == CALIBRATE_CONSECUTIVE) {
+          threshold = candidate;
+          break;
+        }
+      } else {
+        consecutive = 0;
+      }
+    }
+    Class<?> elementClass = null;
+    for (Object elem : elements) {
+      Class<?> clazz = elem.getClass();
+      if (elementClass == null) {
+        elementClass = clazz;
+      } else if (elementClass != clazz) {
+        elementClass = null;
+        break;
+      }
+    }
+    if (elementClass != null) {
+      setBinarySearchThreshold(elementClass, threshold);
+    }
+    return threshold;
+  }
+
+  /**
+   * Times linear and binary searches of a set of the given size, taken from across the sample.
+   *
+   * @return  the fastest time of linear search then binary search
+   */
+  private static long[] measure(Object[] elements, int size, Object[] lookups) {
+    // Spread the subset across the sample, so the misses fall between elements
+    List<Object> subset = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      subset.add(elements[(int) ((long) i * elements.length / size)]);
+    }
+    // Lookups are half hits, and half from the whole sample, mostly misses
+    for (int i = 0; i < CALIBRATE_LOOKUPS; i++) {
+      int random = (int) ((i * 0x9E3779B9L) & 0x7fffffff);
+      lookups[i] = (i & 1) == 0 ? subset.get(random % size) : elements[random % elements.length];
+    }
+    ArraySetBuilder<Object> builder = new ArraySetBuilder<>(size).addAll(subset);
+    UnmodifiableArraySet<Object> linear = builder.setBinarySearchThreshold(Integer.MAX_VALUE).buildUnmodifiableArraySet();
+    UnmodifiableArraySet<Object> binary = builder.setBinarySearchThreshold(1).buildUnmodifiableArraySet();
+    long linearNanos = Long.MAX_VALUE;
+    long binaryNanos = Long.MAX_VALUE;
+    for (int pass = 0; pass < CALIBRATE_PASSES; pass++) {
+      linearNanos = Math.min(linearNanos, time(linear, lookups));
+      binaryNanos = Math.min(binaryNanos, time(binary, lookups));
+    }
+    return new long[]{linearNanos, binaryNanos};
+  }
+
+  /**
+   * Prevents the calibration lookups from being optimized away.
+   */
+  private static int calibrateSink;
+
+  private static long time(UnmodifiableArraySet<Object> set, Object[] lookups) {
+    int found = 0;
+    long startNanos = System.nanoTime();
+    for (Object lookup : lookups) {
+      if (set.contains(lookup)) {
+        found++;
+      }
+    }
+    long timeNanos = System.nanoTime() - startNanos;
+    calibrateSink += found;
+    return timeNanos;
+  }
+
+  // <editor-fold defaultstate="collapsed" desc="Statistics">
+  private static volatile boolean statisticsEnabled;
+
+  private static final LongAdder linearSearches = new LongAdder();
+  private static final LongAdder binarySearches = new LongAdder();
+
+  /**
+   * Checks if statistics are being counted.
+   */
+  public static boolean isStatisticsEnabled() {
+    return statisticsEnabled;
+  }
+
+  /**
+   * Enables or disables counting of statistics.  Disabled by default.
+   */
+  public static void setStatisticsEnabled(boolean enabled) {
+    statisticsEnabled = enabled;
+  }
+
+  /**
+   * Counts a search when statistics are enabled.
+   */
+  static void countSearch(boolean binary) {
+    if (statisticsEnabled) {
+      (binary ? binarySearches : linearSearches).increment();
+    }
+  }
+
+  /**
+   * Gets the number of linear searches, of sets smaller than their binary search threshold, while statistics were enabled.
+   */
+  public static long getLinearSearches() {
+    return linearSearches.sum();
+  }
+
+  /**
+   * Gets the number of binary searches while statistics were enabled.
+   */
+  public static long getBinarySearches() {
+    return binarySearches.sum();
+  }
+
+  /**
+   * Resets the statistics to zero.
+   */
+  public static void resetStatistics() {
+    linearSearches.reset();
+    binarySearches.reset();
+  }
+  // </editor-fold>
+}
@@ -0,0 +1,635 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A list of <code>int</code> values stored in fixed-size segments and indexed by <code>long</code>,
+ * for lists too large to grow as a single array.  Growth allocates new segments without copying
+ * the existing elements, so appending is constant time without pauses, peak memory does not
+ * double while growing, and the size is not limited to {@link Integer#MAX_VALUE}.
+ *
+ * <p>Lists smaller than one segment grow a single array, like {@link IntArrayList}, so small
+ * lists do not allocate a full segment.</p>
+ *
+ * <p>Since the size may exceed {@link Integer#MAX_VALUE}, use {@link #size64()} instead of
+ * {@link #size()}, which is limited to {@link Integer#MAX_VALUE}.</p>
+ *
+ * <p>This list is not thread safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class BigIntArrayList extends AbstractCollection<Integer> implements IntCollection, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = 2720996127585831539L;
+
+  /**
+   * The number of bits of the index within a segment.
+   */
+  private static final int SEGMENT_SHIFT = 20;
+
+  /**
+   * The number of elements in each segment.
+   */
+  public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+  private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  /**
+   * The maximum capacity, limited by the maximum number of segments.
+   */
+  private static final long MAX_CAPACITY = (long) (Integer.MAX_VALUE - 8) << SEGMENT_SHIFT;
+
+  private static final int DEFAULT_CAPACITY = 10;
+
+  /**
+   * The segments.  Only the first segment may be shorter than {@link #SEGMENT_SIZE}, and only
+   * while it is the only segment.
+   */
+  private transient int[][] segments;
+
+  private transient int segmentCount;
+
+  /**
+   * The number of elements.
+   */
+  private long size;
+
+  private transient int modCount;
+
+  /**
+   * Constructs an empty list with the specified initial capacity.
+   *
+   * @throws  IllegalArgumentException  if the specified initial capacity is negative
+   */
+  public BigIntArrayList(long initialCapacity) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    segments = new int[1][];
+    ensureCapacity(initialCapacity);
+  }
+
+  /**
+   * Constructs an empty list with an initial capacity of ten.
+   */
+  public BigIntArrayList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified collection, in the order they are
+   * returned by the collection's iterator.
+   */
+  public BigIntArrayList(IntCollection c) {
+    this(c.size());
+    c.forEachInt(this::add);
+  }
+
+  private long capacity() {
+    if (segmentCount == 1) {
+      return segments[0].length;
+    }
+    return (long) segmentCount << SEGMENT_SHIFT;
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, to hold at least the given number of
+   * elements.  Once larger than a single segment, only new segments are allocated; no elements are copied.
+   */
+  public void ensureCapacity(long minCapacity) {
+    if (minCapacity > capacity()) {
+      if (minCapacity > MAX_CAPACITY) {
+        throw new OutOfMemoryError("Required capacity too large: " + minCapacity);
+      }
+      modCount++;
+      if (minCapacity <= SEGMENT_SIZE) {
+        // Grow the only segment
+        int oldLength = segmentCount == 0 ? 0 : segments[0].length;
+        int newLength = (int) Math.min(Math.max(oldLength + (oldLength >> 1), minCapacity), SEGMENT_SIZE);
+        segments[0] = segmentCount == 0 ? new int[newLength] : Arrays.copyOf(segments[0], newLength);
+        segmentCount = 1;
+      } else {
+        if (segmentCount == 1 && segments[0].length < SEGMENT_SIZE) {
+          segments[0] = Arrays.copyOf(segments[0], SEGMENT_SIZE);
+        }
+        int needed = (int) ((minCapacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        if (needed > segments.length) {
+          segments = Arrays.copyOf(segments, Math.max(segments.length + (segments.length >> 1), needed));
+        }
+        while (segmentCount < needed) {
+          segments[segmentCount++] = new int[SEGMENT_SIZE];
+        }
+      }
+    }
+  }
+
+  /**
+   * Releases the segments beyond the current size, and trims the first segment to size when it
+   * is the only segment.
+   */
+  public void trimToSize() {
+    modCount++;
+    int needed = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    Arrays.fill(segments, needed, segmentCount, null);
+    segmentCount = needed;
+    if (needed == 1 && segments[0].length > size) {
+      segments[0] = Arrays.copyOf(segments[0], (int) size);
+    }
+    if (segments.length > Math.max(needed, 1)) {
+      segments = Arrays.copyOf(segments, Math.max(needed, 1));
+    }
+  }
+
+  /**
+   * Gets the number of elements, which may exceed {@link Integer#MAX_VALUE}.
+   */
+  public long size64() {
+    return size;
+  }
+
+  /**
+   * Gets the number of elements or {@link Integer#MAX_VALUE} when larger.
+   *
+   * @see  #size64()
+   */
+  @Override
+  public int size() {
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void rangeCheck(long index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Checks a range of this list, a range of an array, and that they are the same length.
+   */
+  private void rangeCheck(long index, int arrayLength, int off, int len) {
+    Objects.checkFromIndexSize(off, len, arrayLength);
+    if (index < 0 || index > size - len) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Length: " + len + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Returns the element at the specified position in this list.
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public int getInt(long index) {
+    rangeCheck(index);
+    return segments[(int) (index >>> SEGMENT_SHIFT)][(int) index & SEGMENT_MASK];
+  }
+
+  /**
+   * Replaces the element at the specified position in this list with the specified element.
+   *
+   * @return  the element previously at the specified position
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public int set(long index, int element) {
+    rangeCheck(index);
+    int[] segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+    int i = (int) index & SEGMENT_MASK;
+    int oldValue = segment[i];
+    segment[i] = element;
+    return oldValue;
+  }
+
+  @Override
+  public boolean add(Integer o) {
+    return add(o.intValue());
+  }
+
+  /**
+   * Appends the specified element to the end of this list, in constant time.
+   */
+  @Override
+  public boolean add(int o) {
+    long s = size;
+    if (s == capacity()) {
+      ensureCapacity(s + 1);
+    }
+    segments[(int) (s >>> SEGMENT_SHIFT)][(int) s & SEGMENT_MASK] = o;
+    size = s + 1;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Appends the elements in the specified range of an array to the end of this list, copying
+   * by segment.
+   */
+  @Override
+  public boolean addAll(int[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    if (len == 0) {
+      return false;
+    }
+    ensureCapacity(size + len);
+    long index = size;
+    size += len;
+    modCount++;
+    setElements(index, a, off, len);
+    return true;
+  }
+
+  /**
+   * Copies elements from this list into an array, by segment.
+   *
+   * @param  index  the position of the first element to copy
+   * @param  dest   the array to copy into
+   * @param  off    the position in the array of the first element
+   * @param  len    the number of elements to copy
+   *
+   * @throws  IndexOutOfBoundsException  if either range is out of bounds
+   */
+  public void getElements(long index, int[] dest, int off, int len) {
+    rangeCheck(index, dest.length, off, len);
+    while (len > 0) {
+      int i = (int) index & SEGMENT_MASK;
+      int count = Math.min(len, SEGMENT_SIZE - i);
+      System.arraycopy(segments[(int) (index >>> SEGMENT_SHIFT)], i, dest, off, count);
+      index += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Copies elements from an array into this list, replacing the existing elements, by segment.
+   *
+   * @param  index  the position of the first element to replace
+   * @param  src    the array to copy from
+   * @param  off    the position in the array of the first element
+   * @param  len    the number of elements to copy
+   *
+   * @throws  IndexOutOfBoundsException  if either range is out of bounds
+   */
+  public void setElements(long index, int[] src, int off, int len) {
+    rangeCheck(index, src.length, off, len);
+    while (len > 0) {
+      int i = (int) index & SEGMENT_MASK;
+      int count = Math.min(len, SEGMENT_SIZE - i);
+      System.arraycopy(src, off, segments[(int) (index >>> SEGMENT_SHIFT)], i, count);
+      index += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Replaces the elements greater than or equal to {@code fromIndex} and less than {@code toIndex}
+   * with the given value, by segment.
+   *
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds
+   */
+  public void fill(long fromIndex, long toIndex, int value) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+      throw new IndexOutOfBoundsException(
+          "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+    }
+    while (fromIndex < toIndex) {
+      int i = (int) fromIndex & SEGMENT_MASK;
+      int count = (int) Math.min(toIndex - fromIndex, SEGMENT_SIZE - i);
+      Arrays.fill(segments[(int) (fromIndex >>> SEGMENT_SHIFT)], i, i + count, value);
+      fromIndex += count;
+    }
+  }
+
+  /**
+   * Removes the element at the specified position in this list, shifting the following elements
+   * one position toward the start.  This takes time proportional to the number of following elements.
+   *
+   * @return  the element that was removed
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public int removeAtIndex(long index) {
+    int oldValue = getInt(index);
+    long last = size - 1;
+    long pos = index;
+    while (pos < last) {
+      int[] segment = segments[(int) (pos >>> SEGMENT_SHIFT)];
+      int i = (int) pos & SEGMENT_MASK;
+      int count = (int) Math.min(last - pos, SEGMENT_MASK - i);
+      System.arraycopy(segment, i + 1, segment, i, count);
+      pos += count;
+      if (pos < last) {
+        // Move the first element of the next segment to the end of this segment
+        segment[SEGMENT_MASK] = segments[(int) ((pos + 1) >>> SEGMENT_SHIFT)][0];
+        pos++;
+      }
+    }
+    size = last;
+    modCount++;
+    return oldValue;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Number) {
+      return removeByValue(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeByValue(int value) {
+    long index = indexOf(value);
+    if (index == -1) {
+      return false;
+    }
+    removeAtIndex(index);
+    return true;
+  }
+
+  /**
+   * Removes all of the elements that satisfy the given predicate, compacting the remaining
+   * elements in a single pass.
+   */
+  @Override
+  public boolean removeIfInt(IntPredicate filter) {
+    Objects.requireNonNull(filter);
+    final int expectedModCount = modCount;
+    long write = 0;
+    for (long read = 0; read < size; read++) {
+      int value = segments[(int) (read >>> SEGMENT_SHIFT)][(int) read & SEGMENT_MASK];
+      if (!filter.test(value)) {
+        if (write != read) {
+          segments[(int) (write >>> SEGMENT_SHIFT)][(int) write & SEGMENT_MASK] = value;
+        }
+        write++;
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+    if (write == size) {
+      return false;
+    }
+    size = write;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    modCount++;
+    size = 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(int elem) {
+    return indexOf(elem) != -1;
+  }
+
+  /**
+   * Searches for the first occurrence of the given value, by segment.
+   *
+   * @return  the index of the value or {@code -1} when not found
+   */
+  public long indexOf(int elem) {
+    for (int s = 0; s < segmentCount; s++) {
+      long start = (long) s << SEGMENT_SHIFT;
+      if (start >= size) {
+        break;
+      }
+      int end = (int) Math.min(size - start, SEGMENT_SIZE);
+      int i = AoArrays.indexOf(segments[s], elem, 0, end);
+      if (i != -1) {
+        return start + i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Searches for the last occurrence of the given value, by segment.
+   *
+   * @return  the index of the value or {@code -1} when not found
+   */
+  public long lastIndexOf(int elem) {
+    // Starts at the last segment in use, if any
+    for (int s = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT) - 1; s >= 0; s--) {
+      long start = (long) s << SEGMENT_SHIFT;
+      int last = (int) Math.min(size - 1 - start, SEGMENT_MASK);
+      int i = AoArrays.lastIndexOf(segments[s], elem, last);
+      if (i != -1) {
+        return start + i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws  OutOfMemoryError  if the size exceeds the maximum length of an array
+   */
+  @Override
+  public int[] toArrayInt() {
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new OutOfMemoryError("Required array size too large: " + size);
+    }
+    int[] array = new int[(int) size];
+    getElements(0, array, 0, array.length);
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    long remaining = size;
+    for (int s = 0; remaining > 0; s++) {
+      int[] segment = segments[s];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        action.accept(segment[i]);
+      }
+      remaining -= end;
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public IntIterator iterator() {
+    return new Itr();
+  }
+
+  private class Itr implements IntIterator {
+    long cursor;       // index of next element to return
+    long lastRet = -1; // index of last element returned; -1 if no such
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size;
+    }
+
+    @Override
+    public int nextInt() {
+      checkForComodification();
+      long i = cursor;
+      if (i >= size) {
+        throw new NoSuchElementException();
+      }
+      cursor = i + 1;
+      return segments[(int) (i >>> SEGMENT_SHIFT)][(int) (lastRet = i) & SEGMENT_MASK];
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      removeAtIndex(lastRet);
+      cursor = lastRet;
+      lastRet = -1;
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#ORDERED}.</p>
+   */
+  @Override
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      BigIntArrayList l = (BigIntArrayList) super.clone();
+      l.segments = segments.clone();
+      for (int s = 0; s < segmentCount; s++) {
+        l.segments[s] = segments[s].clone();
+      }
+      l.modCount = 0;
+      return l;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Save the state of the {@link BigIntArrayList} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The size is emitted (long), followed by all of
+   *             its elements (each a <code>int</code>) in the proper order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out size
+    s.defaultWriteObject();
+
+    // Write out all elements in the proper order.
+    long remaining = size;
+    for (int seg = 0; remaining > 0; seg++) {
+      int[] segment = segments[seg];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        s.writeInt(segment[i]);
+      }
+      remaining -= end;
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link BigIntArrayList} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in size
+    s.defaultReadObject();
+    long count = size;
+    if (count < 0 || count > MAX_CAPACITY) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    size = 0;
+    segments = new int[1][];
+    ensureCapacity(count);
+
+    // Read in all elements in the proper order.
+    long remaining = count;
+    for (int seg = 0; remaining > 0; seg++) {
+      int[] segment = segments[seg];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        segment[i] = s.readInt();
+      }
+      remaining -= end;
+    }
+    size = count;
+  }
+}
@@ -0,0 +1,635 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * A list of <code>long</code> values stored in fixed-size segments and indexed by <code>long</code>,
+ * for lists too large to grow as a single array.  Growth allocates new segments without copying
+ * the existing elements, so appending is constant time without pauses, peak memory does not
+ * double while growing, and the size is not limited to {@link Integer#MAX_VALUE}.
+ *
+ * <p>Lists smaller than one segment grow a single array, like {@link LongArrayList}, so small
+ * lists do not allocate a full segment.</p>
+ *
+ * <p>Since the size may exceed {@link Integer#MAX_VALUE}, use {@link #size64()} instead of
+ * {@link #size()}, which is limited to {@link Integer#MAX_VALUE}.</p>
+ *
+ * <p>This list is not thread safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class BigLongArrayList extends AbstractCollection<Long> implements LongCollection, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = 6600938081800504609L;
+
+  /**
+   * The number of bits of the index within a segment.
+   */
+  private static final int SEGMENT_SHIFT = 20;
+
+  /**
+   * The number of elements in each segment.
+   */
+  public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+  private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  /**
+   * The maximum capacity, limited by the maximum number of segments.
+   */
+  private static final long MAX_CAPACITY = (long) (Integer.MAX_VALUE - 8) << SEGMENT_SHIFT;
+
+  private static final int DEFAULT_CAPACITY = 10;
+
+  /**
+   * The segments.  Only the first segment may be shorter than {@link #SEGMENT_SIZE}, and only
+   * while it is the only segment.
+   */
+  private transient long[][] segments;
+
+  private transient int segmentCount;
+
+  /**
+   * The number of elements.
+   */
+  private long size;
+
+  private transient int modCount;
+
+  /**
+   * Constructs an empty list with the specified initial capacity.
+   *
+   * @throws  IllegalArgumentException  if the specified initial capacity is negative
+   */
+  public BigLongArrayList(long initialCapacity) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    segments = new long[1][];
+    ensureCapacity(initialCapacity);
+  }
+
+  /**
+   * Constructs an empty list with an initial capacity of ten.
+   */
+  public BigLongArrayList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified collection, in the order they are
+   * returned by the collection's iterator.
+   */
+  public BigLongArrayList(LongCollection c) {
+    this(c.size());
+    c.forEachLong(this::add);
+  }
+
+  private long capacity() {
+    if (segmentCount == 1) {
+      return segments[0].length;
+    }
+    return (long) segmentCount << SEGMENT_SHIFT;
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, to hold at least the given number of
+   * elements.  Once larger than a single segment, only new segments are allocated; no elements are copied.
+   */
+  public void ensureCapacity(long minCapacity) {
+    if (minCapacity > capacity()) {
+      if (minCapacity > MAX_CAPACITY) {
+        throw new OutOfMemoryError("Required capacity too large: " + minCapacity);
+      }
+      modCount++;
+      if (minCapacity <= SEGMENT_SIZE) {
+        // Grow the only segment
+        int oldLength = segmentCount == 0 ? 0 : segments[0].length;
+        int newLength = (int) Math.min(Math.max(oldLength + (oldLength >> 1), minCapacity), SEGMENT_SIZE);
+        segments[0] = segmentCount == 0 ? new long[newLength] : Arrays.copyOf(segments[0], newLength);
+        segmentCount = 1;
+      } else {
+        if (segmentCount == 1 && segments[0].length < SEGMENT_SIZE) {
+          segments[0] = Arrays.copyOf(segments[0], SEGMENT_SIZE);
+        }
+        int needed = (int) ((minCapacity + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        if (needed > segments.length) {
+          segments = Arrays.copyOf(segments, Math.max(segments.length + (segments.length >> 1), needed));
+        }
+        while (segmentCount < needed) {
+          segments[segmentCount++] = new long[SEGMENT_SIZE];
+        }
+      }
+    }
+  }
+
+  /**
+   * Releases the segments beyond the current size, and trims the first segment to size when it
+   * is the only segment.
+   */
+  public void trimToSize() {
+    modCount++;
+    int needed = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+    Arrays.fill(segments, needed, segmentCount, null);
+    segmentCount = needed;
+    if (needed == 1 && segments[0].length > size) {
+      segments[0] = Arrays.copyOf(segments[0], (int) size);
+    }
+    if (segments.length > Math.max(needed, 1)) {
+      segments = Arrays.copyOf(segments, Math.max(needed, 1));
+    }
+  }
+
+  /**
+   * Gets the number of elements, which may exceed {@link Integer#MAX_VALUE}.
+   */
+  public long size64() {
+    return size;
+  }
+
+  /**
+   * Gets the number of elements or {@link Integer#MAX_VALUE} when larger.
+   *
+   * @see  #size64()
+   */
+  @Override
+  public int size() {
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  private void rangeCheck(long index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Checks a range of this list, a range of an array, and that they are the same length.
+   */
+  private void rangeCheck(long index, int arrayLength, int off, int len) {
+    Objects.checkFromIndexSize(off, len, arrayLength);
+    if (index < 0 || index > size - len) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Length: " + len + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Returns the element at the specified position in this list.
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public long getLong(long index) {
+    rangeCheck(index);
+    return segments[(int) (index >>> SEGMENT_SHIFT)][(int) index & SEGMENT_MASK];
+  }
+
+  /**
+   * Replaces the element at the specified position in this list with the specified element.
+   *
+   * @return  the element previously at the specified position
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public long set(long index, long element) {
+    rangeCheck(index);
+    long[] segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+    int i = (int) index & SEGMENT_MASK;
+    long oldValue = segment[i];
+    segment[i] = element;
+    return oldValue;
+  }
+
+  @Override
+  public boolean add(Long o) {
+    return add(o.longValue());
+  }
+
+  /**
+   * Appends the specified element to the end of this list, in constant time.
+   */
+  @Override
+  public boolean add(long o) {
+    long s = size;
+    if (s == capacity()) {
+      ensureCapacity(s + 1);
+    }
+    segments[(int) (s >>> SEGMENT_SHIFT)][(int) s & SEGMENT_MASK] = o;
+    size = s + 1;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Appends the elements in the specified range of an array to the end of this list, copying
+   * by segment.
+   */
+  @Override
+  public boolean addAll(long[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    if (len == 0) {
+      return false;
+    }
+    ensureCapacity(size + len);
+    long index = size;
+    size += len;
+    modCount++;
+    setElements(index, a, off, len);
+    return true;
+  }
+
+  /**
+   * Copies elements from this list into an array, by segment.
+   *
+   * @param  index  the position of the first element to copy
+   * @param  dest   the array to copy into
+   * @param  off    the position in the array of the first element
+   * @param  len    the number of elements to copy
+   *
+   * @throws  IndexOutOfBoundsException  if either range is out of bounds
+   */
+  public void getElements(long index, long[] dest, int off, int len) {
+    rangeCheck(index, dest.length, off, len);
+    while (len > 0) {
+      int i = (int) index & SEGMENT_MASK;
+      int count = Math.min(len, SEGMENT_SIZE - i);
+      System.arraycopy(segments[(int) (index >>> SEGMENT_SHIFT)], i, dest, off, count);
+      index += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Copies elements from an array into this list, replacing the existing elements, by segment.
+   *
+   * @param  index  the position of the first element to replace
+   * @param  src    the array to copy from
+   * @param  off    the position in the array of the first element
+   * @param  len    the number of elements to copy
+   *
+   * @throws  IndexOutOfBoundsException  if either range is out of bounds
+   */
+  public void setElements(long index, long[] src, int off, int len) {
+    rangeCheck(index, src.length, off, len);
+    while (len > 0) {
+      int i = (int) index & SEGMENT_MASK;
+      int count = Math.min(len, SEGMENT_SIZE - i);
+      System.arraycopy(src, off, segments[(int) (index >>> SEGMENT_SHIFT)], i, count);
+      index += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  /**
+   * Replaces the elements greater than or equal to {@code fromIndex} and less than {@code toIndex}
+   * with the given value, by segment.
+   *
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds
+   */
+  public void fill(long fromIndex, long toIndex, long value) {
+    if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+      throw new IndexOutOfBoundsException(
+          "From Index: " + fromIndex + ", To Index: " + toIndex + ", Size: " + size);
+    }
+    while (fromIndex < toIndex) {
+      int i = (int) fromIndex & SEGMENT_MASK;
+      int count = (int) Math.min(toIndex - fromIndex, SEGMENT_SIZE - i);
+      Arrays.fill(segments[(int) (fromIndex >>> SEGMENT_SHIFT)], i, i + count, value);
+      fromIndex += count;
+    }
+  }
+
+  /**
+   * Removes the element at the specified position in this list, shifting the following elements
+   * one position toward the start.  This takes time proportional to the number of following elements.
+   *
+   * @return  the element that was removed
+   *
+   * @throws  IndexOutOfBoundsException  if index is out of range {@code (index < 0 || index >= size64())}.
+   */
+  public long removeAtIndex(long index) {
+    long oldValue = getLong(index);
+    long last = size - 1;
+    long pos = index;
+    while (pos < last) {
+      long[] segment = segments[(int) (pos >>> SEGMENT_SHIFT)];
+      int i = (int) pos & SEGMENT_MASK;
+      int count = (int) Math.min(last - pos, SEGMENT_MASK - i);
+      System.arraycopy(segment, i + 1, segment, i, count);
+      pos += count;
+      if (pos < last) {
+        // Move the first element of the next segment to the end of this segment
+        segment[SEGMENT_MASK] = segments[(int) ((pos + 1) >>> SEGMENT_SHIFT)][0];
+        pos++;
+      }
+    }
+    size = last;
+    modCount++;
+    return oldValue;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Number) {
+      return removeByValue(((Number) o).longValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeByValue(long value) {
+    long index = indexOf(value);
+    if (index == -1) {
+      return false;
+    }
+    removeAtIndex(index);
+    return true;
+  }
+
+  /**
+   * Removes all of the elements that satisfy the given predicate, compacting the remaining
+   * elements in a single pass.
+   */
+  @Override
+  public boolean removeIfLong(LongPredicate filter) {
+    Objects.requireNonNull(filter);
+    final int expectedModCount = modCount;
+    long write = 0;
+    for (long read = 0; read < size; read++) {
+      long value = segments[(int) (read >>> SEGMENT_SHIFT)][(int) read & SEGMENT_MASK];
+      if (!filter.test(value)) {
+        if (write != read) {
+          segments[(int) (write >>> SEGMENT_SHIFT)][(int) write & SEGMENT_MASK] = value;
+        }
+        write++;
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+    if (write == size) {
+      return false;
+    }
+    size = write;
+    modCount++;
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    modCount++;
+    size = 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).longValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(long elem) {
+    return indexOf(elem) != -1;
+  }
+
+  /**
+   * Searches for the first occurrence of the given value, by segment.
+   *
+   * @return  the index of the value or {@code -1} when not found
+   */
+  public long indexOf(long elem) {
+    for (int s = 0; s < segmentCount; s++) {
+      long start = (long) s << SEGMENT_SHIFT;
+      if (start >= size) {
+        break;
+      }
+      int end = (int) Math.min(size - start, SEGMENT_SIZE);
+      int i = AoArrays.indexOf(segments[s], elem, 0, end);
+      if (i != -1) {
+        return start + i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Searches for the last occurrence of the given value, by segment.
+   *
+   * @return  the index of the value or {@code -1} when not found
+   */
+  public long lastIndexOf(long elem) {
+    // Starts at the last segment in use, if any
+    for (int s = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT) - 1; s >= 0; s--) {
+      long start = (long) s << SEGMENT_SHIFT;
+      int last = (int) Math.min(size - 1 - start, SEGMENT_MASK);
+      int i = AoArrays.lastIndexOf(segments[s], elem, last);
+      if (i != -1) {
+        return start + i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws  OutOfMemoryError  if the size exceeds the maximum length of an array
+   */
+  @Override
+  public long[] toArrayLong() {
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new OutOfMemoryError("Required array size too large: " + size);
+    }
+    long[] array = new long[(int) size];
+    getElements(0, array, 0, array.length);
+    return array;
+  }
+
+  @Override
+  public void forEachLong(LongConsumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    long remaining = size;
+    for (int s = 0; remaining > 0; s++) {
+      long[] segment = segments[s];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        action.accept(segment[i]);
+      }
+      remaining -= end;
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public LongIterator iterator() {
+    return new Itr();
+  }
+
+  private class Itr implements LongIterator {
+    long cursor;       // index of next element to return
+    long lastRet = -1; // index of last element returned; -1 if no such
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size;
+    }
+
+    @Override
+    public long nextLong() {
+      checkForComodification();
+      long i = cursor;
+      if (i >= size) {
+        throw new NoSuchElementException();
+      }
+      cursor = i + 1;
+      return segments[(int) (i >>> SEGMENT_SHIFT)][(int) (lastRet = i) & SEGMENT_MASK];
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+      removeAtIndex(lastRet);
+      cursor = lastRet;
+      lastRet = -1;
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#ORDERED}.</p>
+   */
+  @Override
+  public Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      BigLongArrayList l = (BigLongArrayList) super.clone();
+      l.segments = segments.clone();
+      for (int s = 0; s < segmentCount; s++) {
+        l.segments[s] = segments[s].clone();
+      }
+      l.modCount = 0;
+      return l;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Save the state of the {@link BigLongArrayList} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The size is emitted (long), followed by all of
+   *             its elements (each a <code>long</code>) in the proper order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out size
+    s.defaultWriteObject();
+
+    // Write out all elements in the proper order.
+    long remaining = size;
+    for (int seg = 0; remaining > 0; seg++) {
+      long[] segment = segments[seg];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        s.writeLong(segment[i]);
+      }
+      remaining -= end;
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link BigLongArrayList} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in size
+    s.defaultReadObject();
+    long count = size;
+    if (count < 0 || count > MAX_CAPACITY) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    size = 0;
+    segments = new long[1][];
+    ensureCapacity(count);
+
+    // Read in all elements in the proper order.
+    long remaining = count;
+    for (int seg = 0; remaining > 0; seg++) {
+      long[] segment = segments[seg];
+      int end = (int) Math.min(remaining, segment.length);
+      for (int i = 0; i < end; i++) {
+        segment[i] = s.readLong();
+      }
+      remaining -= end;
+    }
+    size = count;
+  }
+}
@@ -0,0 +1,532 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+// Generated from PrimitiveArrayList.java.template by src/main/template/GeneratePrimitiveArrayLists.java; edit the template instead.
+
+package com.aoapps.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An ArrayList that stores things using <code>char[]</code> instead of <code>Object[]</code>.  null values are not supported.
+ *
+ * <p>This provides the positional, search, and bulk array operations without boxing.  Unlike
+ * {@link IntArrayList}, there is no primitive collection interface or iterator for
+ * <code>char</code> values; use {@link #getChar(int)} or {@link #toArrayChar()} to access the
+ * elements without boxing.</p>
+ *
+ * @see  java.util.ArrayList
+ * @see  SortedCharArrayList
+ */
+public class CharArrayList extends AbstractList<Character>
+    implements RandomAccess, Cloneable, java.io.Serializable {
+  private static final long serialVersionUID = 2957421096834848430L;
+
+  /**
+   * The array buffer into which the elements of the ArrayList are stored.
+   * The capacity of the ArrayList is the length of this array buffer.
+   */
+  protected transient char[] elementData;
+
+  /**
+   * The size of the ArrayList (the number of elements it contains).
+   *
+   * @serial
+   */
+  protected int size;
+
+  /**
+   * Constructs an empty list with the specified initial capacity.
+   *
+   * @param   initialCapacity   the initial capacity of the list.
+   * @exception IllegalArgumentException if the specified initial capacity
+   *            is negative
+   */
+  public CharArrayList(int initialCapacity) {
+    super();
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: "
+          + initialCapacity);
+    }
+    this.elementData = new char[initialCapacity];
+  }
+
+  /**
+   * Constructs an empty list with an initial capacity of ten.
+   */
+  public CharArrayList() {
+    this(10);
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified
+   * collection, in the order they are returned by the collection's
+   * iterator.  The {@link CharArrayList} instance has an initial capacity of
+   * 110% the size of the specified collection.
+   *
+   * @param c the collection whose elements are to be placed into this list.
+   * @throws NullPointerException if the specified collection is null.
+   */
+  public CharArrayList(Collection<? extends Character> c) {
+    size = c.size();
+    // Allow 10% room for growth
+    elementData = new char[
+    (int) Math.min((size * 110L) / 100, Integer.MAX_VALUE)];
+    Iterator<? extends Character> iter = c.iterator();
+    int pos = 0;
+    while (iter.hasNext()) {
+      elementData[pos++] = iter.next().charValue();
+    }
+  }
+
+  /**
+   * Constructs a list containing a copy of the elements of the specified array.
+   * The {@link CharArrayList} instance has an initial capacity of 110% the length of the array.
+   */
+  public CharArrayList(char[] elements) {
+    size = elements.length;
+    // Allow 10% room for growth
+    elementData = new char[
+    (int) Math.min((size * 110L) / 100, Integer.MAX_VALUE)
+    ];
+    System.arraycopy(elements, 0, elementData, 0, size);
+  }
+
+  /**
+   * Trims the capacity of this {@link CharArrayList} instance to be the
+   * list's current size.
+   */
+  public void trimToSize() {
+    modCount++;
+    if (size < elementData.length) {
+      elementData = Arrays.copyOf(elementData, size);
+    }
+  }
+
+  /**
+   * Increases the capacity of this {@link CharArrayList} instance, if
+   * necessary, to ensure  that it can hold at least the number of elements
+   * specified by the minimum capacity argument.
+   *
+   * @param   minCapacity   the desired minimum capacity.
+   */
+  public void ensureCapacity(int minCapacity) {
+    modCount++;
+    int oldCapacity = elementData.length;
+    if (minCapacity > oldCapacity) {
+      int newCapacity = (oldCapacity * 3) / 2 + 1;
+      if (newCapacity < minCapacity) {
+        newCapacity = minCapacity;
+      }
+      elementData = Arrays.copyOf(elementData, newCapacity);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object elem) {
+    if (elem instanceof Character) {
+      return contains(((Character) elem).charValue());
+    }
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if this list contains the specified element.
+   */
+  public boolean contains(char elem) {
+    return indexOf(elem) >= 0;
+  }
+
+  @Override
+  public int indexOf(Object elem) {
+    if (elem instanceof Character) {
+      return indexOf(((Character) elem).charValue());
+    }
+    return -1;
+  }
+
+  /**
+   * Searches for the first occurence of the given argument.
+   *
+   * @return  the index of the first occurrence of the argument in this
+   *          list; returns {@code -1} if the object is not found.
+   */
+  public int indexOf(char elem) {
+    for (int i = 0; i < size; i++) {
+      if (elementData[i] == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object elem) {
+    if (elem instanceof Character) {
+      return lastIndexOf(((Character) elem).charValue());
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last occurrence of the specified value in this list.
+   *
+   * @return  the index of the last occurrence of the specified value in
+   *          this list; returns {@code -1} if the value is not found.
+   */
+  public int lastIndexOf(char elem) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (elementData[i] == elem) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      CharArrayList v = (CharArrayList) super.clone();
+      v.elementData = Arrays.copyOf(elementData, size);
+      v.modCount = 0;
+      return v;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Returns an array containing all of the elements in this list
+   * in the correct order.
+   */
+  public char[] toArrayChar() {
+    return Arrays.copyOf(elementData, size);
+  }
+
+  // Positional Access Operations
+
+  @Override
+  public Character get(int index) {
+    return getChar(index);
+  }
+
+  /**
+   * Returns the element at the specified position in this list.
+   *
+   * @throws    IndexOutOfBoundsException if index is out of range {@code (index < 0 || index >= size())}.
+   */
+  public char getChar(int index) {
+    rangeCheck(index);
+    return elementData[index];
+  }
+
+  @Override
+  public Character set(int index, Character element) {
+    return set(index, element.charValue());
+  }
+
+  /**
+   * Replaces the element at the specified position in this list with
+   * the specified element.
+   *
+   * @return the element previously at the specified position.
+   * @throws    IndexOutOfBoundsException if index is out of range {@code (index < 0 || index >= size())}.
+   */
+  public char set(int index, char element) {
+    rangeCheck(index);
+    char oldValue = elementData[index];
+    elementData[index] = element;
+    return oldValue;
+  }
+
+  @Override
+  public boolean add(Character o) {
+    return add(o.charValue());
+  }
+
+  /**
+   * Appends the specified element to the end of this list.
+   *
+   * @return {@code true} (as per the general contract of Collection.add).
+   */
+  public boolean add(char o) {
+    ensureCapacity(size + 1);  // Increments modCount!!
+    elementData[size++] = o;
+    return true;
+  }
+
+  @Override
+  public void add(int index, Character element) {
+    add(index, element.charValue());
+  }
+
+  /**
+   * Inserts the specified element at the specified position in this
+   * list. Shifts the element currently at that position (if any) and
+   * any subsequent elements to the right (adds one to their indices).
+   *
+   * @throws    IndexOutOfBoundsException if index is out of range
+   *                  {@code (index < 0 || index > size())}.
+   */
+  public void add(int index, char element) {
+    if (index > size || index < 0) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Size: " + size);
+    }
+
+    ensureCapacity(size + 1);  // Increments modCount!!
+    System.arraycopy(elementData, index, elementData, index + 1,
+        size - index);
+    elementData[index] = element;
+    size++;
+  }
+
+  /**
+   * Appends all of the elements in the specified range of an array to the end of this list.
+   *
+   * @return  {@code true} if this list changed as a result of the call
+   *
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds of the array
+   */
+  public boolean addAll(char[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    ensureCapacity(size + len);  // Increments modCount
+    System.arraycopy(a, off, elementData, size, len);
+    size += len;
+    return len != 0;
+  }
+
+  /**
+   * Appends all of the elements in the specified array to the end of this list.
+   *
+   * @return  {@code true} if this list changed as a result of the call
+   */
+  public boolean addAll(char[] a) {
+    return addAll(a, 0, a.length);
+  }
+
+  @Override
+  public Character remove(int index) {
+    return removeAtIndex(index);
+  }
+
+  /**
+   * Removes the element at the specified position in this list.
+   * Shifts any subsequent elements to the left (subtracts one from their
+   * indices).
+   *
+   * @return the element that was removed from the list.
+   * @throws    IndexOutOfBoundsException if index out of range {@code (index < 0 || index >= size())}.
+   */
+  public char removeAtIndex(int index) {
+    rangeCheck(index);
+
+    modCount++;
+    char oldValue = elementData[index];
+
+    int numMoved = size - index - 1;
+    if (numMoved > 0) {
+      System.arraycopy(elementData, index + 1, elementData, index,
+          numMoved);
+    }
+    size--;
+
+    return oldValue;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Character) {
+      return removeByValue(((Character) o).charValue());
+    }
+    return false;
+  }
+
+  /**
+   * Removes the first occurrence of a single instance of the specified value from this list, if it is present.
+   *
+   * @return {@code true} if the list contained the specified element.
+   */
+  public boolean removeByValue(char value) {
+    int index = indexOf(value);
+    if (index == -1) {
+      return false;
+    }
+    removeAtIndex(index);
+    return true;
+  }
+
+  /**
+   * Removes all of the elements from this list.  The list will
+   * be empty after this call returns.
+   */
+  @Override
+  public void clear() {
+    modCount++;
+    size = 0;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    modCount++;
+    System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+    size -= toIndex - fromIndex;
+  }
+
+  /**
+   * Sorts the elements into ascending order, as by {@link Arrays#sort(char[], int, int)}.
+   */
+  public void sort() {
+    Arrays.sort(elementData, 0, size);
+    modCount++;
+  }
+
+  /**
+   * Check if the given index is in range.  If not, throw an appropriate
+   * runtime exception.
+   */
+  private void rangeCheck(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(
+          "Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * Compares the elements without boxing when the other list is also a {@link CharArrayList}.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof CharArrayList) {
+      CharArrayList other = (CharArrayList) o;
+      if (other.size != size) {
+        return false;
+      }
+      for (int i = 0; i < size; i++) {
+        if (!(elementData[i] == other.elementData[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return super.equals(o);
+  }
+
+  /**
+   * Computes the hash code as specified by {@link java.util.List#hashCode()}, without boxing.
+   */
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (int i = 0; i < size; i++) {
+      hashCode = 31 * hashCode + Character.hashCode(elementData[i]);
+    }
+    return hashCode;
+  }
+
+  /**
+   * The number of elements written or read per block in serialization.
+   */
+  private static final int SERIAL_BLOCK_ELEMENTS = 1024;
+
+  /**
+   * Save the state of the {@link CharArrayList} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The length of the array backing the {@link CharArrayList}
+   *             instance is emitted (int), followed by all of its elements
+   *             (each a <code>char</code>) in the proper order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out element count, and any hidden stuff
+    s.defaultWriteObject();
+
+    // Write out array length
+    s.writeInt(elementData.length);
+
+    // Write out all elements in the proper order, in blocks of the same bytes as writeChar
+    byte[] block = new byte[Math.min(size, SERIAL_BLOCK_ELEMENTS) * Character.BYTES];
+    CharBuffer view = ByteBuffer.wrap(block).asCharBuffer();
+    for (int i = 0; i < size; ) {
+      int count = Math.min(size - i, view.capacity());
+      view.clear();
+      view.put(elementData, i, count);
+      s.write(block, 0, count * Character.BYTES);
+      i += count;
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link CharArrayList} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in size, and any hidden stuff
+    s.defaultReadObject();
+
+    // Read in array length and allocate array
+    int arrayLength = s.readInt();
+    char[] a = new char[arrayLength];
+    elementData = a;
+
+    // Read in all elements in the proper order, in blocks
+    byte[] block = new byte[Math.min(size, SERIAL_BLOCK_ELEMENTS) * Character.BYTES];
+    CharBuffer view = ByteBuffer.wrap(block).asCharBuffer();
+    for (int i = 0; i < size; ) {
+      int count = Math.min(size - i, view.capacity());
+      s.readFully(block, 0, count * Character.BYTES);
+      view.clear();
+      view.get(a, i, count);
+      i += count;
+    }
+  }
+}
@@ -0,0 +1,522 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A table of primitive columns of equal length, stored column by column without any per-row objects.
+ * This generalizes {@link IntsAndLongs} to any number of <code>int</code>, <code>long</code>, and
+ * <code>double</code> columns.
+ *
+ * <p>Rows are appended with {@link #addRow()} and filled with the column setters.  The table may
+ * be sorted by any column with {@link #sort(int)}, which computes the row order once and then
+ * reorders every column, after which that column may be searched with the binary search methods.
+ * The scan methods loop over a single column array, which the JIT compiler may vectorize.</p>
+ *
+ * <p>This table is not thread safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ColumnTable {
+
+  /**
+   * The type of a column.
+   */
+  public enum Type {
+    INT,
+    LONG,
+    DOUBLE
+  }
+
+  private static final int DEFAULT_CAPACITY = 10;
+
+  private final Type[] types;
+
+  /**
+   * The column arrays, each an <code>int[]</code>, <code>long[]</code>, or <code>double[]</code> by type.
+   */
+  private final Object[] columns;
+
+  private int capacity;
+
+  private int size;
+
+  /**
+   * Constructs an empty table with the given column types.
+   *
+   * @param  initialCapacity  the number of rows to allocate
+   *
+   * @throws  IllegalArgumentException  if the specified initial capacity is negative
+   */
+  public ColumnTable(int initialCapacity, Type ... types) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    this.types = types.clone();
+    this.columns = new Object[types.length];
+    for (int column = 0; column < types.length; column++) {
+      columns[column] = allocate(Objects.requireNonNull(types[column]), initialCapacity);
+    }
+    this.capacity = initialCapacity;
+  }
+
+  /**
+   * Constructs an empty table with the given column types and an initial capacity of ten rows.
+   */
+  public ColumnTable(Type ... types) {
+    this(DEFAULT_CAPACITY, types);
+  }
+
+  private static Object allocate(Type type, int length) {
+    switch (type) {
+      case INT:
+        return new int[length];
+      case LONG:
+        return new long[length];
+      case DOUBLE:
+        return new double[length];
+      default:
+        throw new AssertionError();
+    }
+  }
+
+  private static Object copyOf(Object array, int length) {
+    if (array instanceof int[]) {
+      return Arrays.copyOf((int[]) array, length);
+    }
+    if (array instanceof long[]) {
+      return Arrays.copyOf((long[]) array, length);
+    }
+    return Arrays.copyOf((double[]) array, length);
+  }
+
+  public int getColumnCount() {
+    return types.length;
+  }
+
+  public Type getType(int column) {
+    return types[column];
+  }
+
+  /**
+   * Gets the number of rows.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Increases the capacity of this table, if necessary, to hold at least the given number of rows.
+   */
+  public void ensureCapacity(int minCapacity) {
+    if (minCapacity > capacity) {
+      int newCapacity = Math.max(capacity + (capacity >> 1) + 1, minCapacity);
+      for (int column = 0; column < columns.length; column++) {
+        columns[column] = copyOf(columns[column], newCapacity);
+      }
+      capacity = newCapacity;
+    }
+  }
+
+  /**
+   * Trims the capacity of this table to be the table's current size.
+   */
+  public void trimToSize() {
+    if (size < capacity) {
+      for (int column = 0; column < columns.length; column++) {
+        columns[column] = copyOf(columns[column], size);
+      }
+      capacity = size;
+    }
+  }
+
+  /**
+   * Appends a row with all values zero.
+   *
+   * @return  the index of the new row
+   */
+  public int addRow() {
+    ensureCapacity(size + 1);
+    return size++;
+  }
+
+  /**
+   * Removes all rows.  The used rows are zeroed, so rows added later start with all values zero.
+   */
+  public void clear() {
+    for (Object array : columns) {
+      if (array instanceof int[]) {
+        Arrays.fill((int[]) array, 0, size, 0);
+      } else if (array instanceof long[]) {
+        Arrays.fill((long[]) array, 0, size, 0);
+      } else {
+        Arrays.fill((double[]) array, 0, size, 0);
+      }
+    }
+    size = 0;
+  }
+
+  private Object column(int column, Type type) throws IllegalArgumentException {
+    if (types[column] != type) {
+      throw new IllegalArgumentException("Column " + column + " is not " + type + ": " + types[column]);
+    }
+    return columns[column];
+  }
+
+  private int[] intColumn(int column) throws IllegalArgumentException {
+    return (int[]) column(column, Type.INT);
+  }
+
+  private long[] longColumn(int column) throws IllegalArgumentException {
+    return (long[]) column(column, Type.LONG);
+  }
+
+  private double[] doubleColumn(int column) throws IllegalArgumentException {
+    return (double[]) column(column, Type.DOUBLE);
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#INT}
+   */
+  public int getInt(int row, int column) throws IllegalArgumentException {
+    return intColumn(column)[Objects.checkIndex(row, size)];
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#LONG}
+   */
+  public long getLong(int row, int column) throws IllegalArgumentException {
+    return longColumn(column)[Objects.checkIndex(row, size)];
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#DOUBLE}
+   */
+  public double getDouble(int row, int column) throws IllegalArgumentException {
+    return doubleColumn(column)[Objects.checkIndex(row, size)];
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#INT}
+   */
+  public void setInt(int row, int column, int value) throws IllegalArgumentException {
+    intColumn(column)[Objects.checkIndex(row, size)] = value;
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#LONG}
+   */
+  public void setLong(int row, int column, long value) throws IllegalArgumentException {
+    longColumn(column)[Objects.checkIndex(row, size)] = value;
+  }
+
+  /**
+   * @throws  IllegalArgumentException  if the column is not {@link Type#DOUBLE}
+   */
+  public void setDouble(int row, int column, double value) throws IllegalArgumentException {
+    doubleColumn(column)[Objects.checkIndex(row, size)] = value;
+  }
+
+  /**
+   * Gets a copy of the values of an {@link Type#INT} column.
+   */
+  public int[] toIntArray(int column) throws IllegalArgumentException {
+    return Arrays.copyOf(intColumn(column), size);
+  }
+
+  /**
+   * Gets a copy of the values of a {@link Type#LONG} column.
+   */
+  public long[] toLongArray(int column) throws IllegalArgumentException {
+    return Arrays.copyOf(longColumn(column), size);
+  }
+
+  /**
+   * Gets a copy of the values of a {@link Type#DOUBLE} column.
+   */
+  public double[] toDoubleArray(int column) throws IllegalArgumentException {
+    return Arrays.copyOf(doubleColumn(column), size);
+  }
+
+  /**
+   * Sorts the rows into ascending order of the given column, keeping rows with equal values in
+   * their current order.  The row order is computed by a radix sort of the column, then every
+   * column is reordered in a single pass.  {@link Type#DOUBLE} values are ordered as by
+   * {@link Double#compare(double, double)}.
+   */
+  public void sort(int column) {
+    int n = size;
+    // Map the values to keys whose unsigned order is the order of the column
+    long[] keys = new long[n];
+    Object values = columns[column];
+    switch (types[column]) {
+      case INT: {
+        int[] a = (int[]) values;
+        for (int i = 0; i < n; i++) {
+          keys[i] = (a[i] ^ Integer.MIN_VALUE) & 0xffffffffL;
+        }
+        break;
+      }
+      case LONG: {
+        long[] a = (long[]) values;
+        for (int i = 0; i < n; i++) {
+          keys[i] = a[i] ^ Long.MIN_VALUE;
+        }
+        break;
+      }
+      case DOUBLE: {
+        double[] a = (double[]) values;
+        for (int i = 0; i < n; i++) {
+          long bits = Double.doubleToLongBits(a[i]);
+          keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+        break;
+      }
+      default:
+        throw new AssertionError();
+    }
+    int[] order = sortOrder(keys, n);
+    if (order == null) {
+      // Already sorted
+      return;
+    }
+    for (int c = 0; c < columns.length; c++) {
+      Object array = columns[c];
+      Object sorted = allocate(types[c], capacity);
+      if (array instanceof int[]) {
+        int[] src = (int[]) array;
+        int[] dst = (int[]) sorted;
+        for (int i = 0; i < n; i++) {
+          dst[i] = src[order[i]];
+        }
+      } else if (array instanceof long[]) {
+        long[] src = (long[]) array;
+        long[] dst = (long[]) sorted;
+        for (int i = 0; i < n; i++) {
+          dst[i] = src[order[i]];
+        }
+      } else {
+        double[] src = (double[]) array;
+        double[] dst = (double[]) sorted;
+        for (int i = 0; i < n; i++) {
+          dst[i] = src[order[i]];
+        }
+      }
+      columns[c] = sorted;
+    }
+  }
+
+  /**
+   * Computes the stable order of unsigned keys with a least-significant-digit radix sort, eight
+   * bits per pass, skipping passes where every key has the same digit.
+   *
+   * @return  the original index of each row in sorted order, or {@code null} when already sorted
+   */
+  private static int[] sortOrder(long[] keys, int n) {
+    boolean sorted = true;
+    for (int i = 1; i < n; i++) {
+      if (Long.compareUnsigned(keys[i - 1], keys[i]) > 0) {
+        sorted = false;
+        break;
+      }
+    }
+    if (sorted) {
+      return null;
+    }
+    // Count all digits in a single pass
+    int[] counts = new int[8 * 256];
+    for (int i = 0; i < n; i++) {
+      long key = keys[i];
+      for (int d = 0; d < 8; d++) {
+        counts[(d << 8) | (int) ((key >>> (d << 3)) & 0xff)]++;
+      }
+    }
+    int[] order = new int[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    long[] srcKeys = keys;
+    int[] srcOrder = order;
+    long[] dstKeys = new long[n];
+    int[] dstOrder = new int[n];
+    for (int d = 0; d < 8; d++) {
+      int base = d << 8;
+      int shift = d << 3;
+      if (counts[base | (int) ((srcKeys[0] >>> shift) & 0xff)] == n) {
+        // All the same digit
+        continue;
+      }
+      int sum = 0;
+      for (int b = base, end = base + 256; b < end; b++) {
+        int count = counts[b];
+        counts[b] = sum;
+        sum += count;
+      }
+      for (int i = 0; i < n; i++) {
+        long key = srcKeys[i];
+        int pos = counts[base | (int) ((key >>> shift) & 0xff)]++;
+        dstKeys[pos] = key;
+        dstOrder[pos] = srcOrder[i];
+      }
+      long[] tmpKeys = srcKeys;
+      srcKeys = dstKeys;
+      dstKeys = tmpKeys;
+      int[] tmpOrder = srcOrder;
+      srcOrder = dstOrder;
+      dstOrder = tmpOrder;
+    }
+    return srcOrder;
+  }
+
+  /**
+   * Searches an {@link Type#INT} column, which must be sorted, such as by {@link #sort(int)}.
+   *
+   * @return  the row of the value, or <code>(-(<i>insertion point</i>) - 1)</code> when not found,
+   *          as defined by {@link Arrays#binarySearch(int[], int, int, int)}
+   */
+  public int binarySearchInt(int column, int value) throws IllegalArgumentException {
+    return Arrays.binarySearch(intColumn(column), 0, size, value);
+  }
+
+  /**
+   * Searches a {@link Type#LONG} column, which must be sorted, such as by {@link #sort(int)}.
+   *
+   * @return  the row of the value, or <code>(-(<i>insertion point</i>) - 1)</code> when not found,
+   *          as defined by {@link Arrays#binarySearch(long[], int, int, long)}
+   */
+  public int binarySearchLong(int column, long value) throws IllegalArgumentException {
+    return Arrays.binarySearch(longColumn(column), 0, size, value);
+  }
+
+  /**
+   * Searches a {@link Type#DOUBLE} column, which must be sorted, such as by {@link #sort(int)}.
+   *
+   * @return  the row of the value, or <code>(-(<i>insertion point</i>) - 1)</code> when not found,
+   *          as defined by {@link Arrays#binarySearch(double[], int, int, double)}
+   */
+  public int binarySearchDouble(int column, double value) throws IllegalArgumentException {
+    return Arrays.binarySearch(doubleColumn(column), 0, size, value);
+  }
+
+  /**
+   * Sums an {@link Type#INT} or {@link Type#LONG} column.
+   *
+   * @throws  IllegalArgumentException  if the column is {@link Type#DOUBLE}
+   */
+  public long sumLong(int column) throws IllegalArgumentException {
+    int n = size;
+    long sum = 0;
+    Object values = columns[column];
+    if (values instanceof int[]) {
+      int[] a = (int[]) values;
+      for (int i = 0; i < n; i++) {
+        sum += a[i];
+      }
+    } else {
+      long[] a = longColumn(column);
+      for (int i = 0; i < n; i++) {
+        sum += a[i];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums a {@link Type#DOUBLE} column.
+   */
+  public double sumDouble(int column) throws IllegalArgumentException {
+    int n = size;
+    double[] a = doubleColumn(column);
+    double sum = 0;
+    for (int i = 0; i < n; i++) {
+      sum += a[i];
+    }
+    return sum;
+  }
+
+  /**
+   * Counts the rows of an {@link Type#INT} or {@link Type#LONG} column with values greater than
+   * or equal to {@code fromValue} and less than {@code toValue}.  The count is computed without
+   * branching on the values.
+   *
+   * @throws  IllegalArgumentException  if the column is {@link Type#DOUBLE}
+   */
+  public int countInRange(int column, long fromValue, long toValue) throws IllegalArgumentException {
+    if (toValue <= fromValue) {
+      return 0;
+    }
+    int n = size;
+    int count = 0;
+    // A value is in range when its unsigned distance from fromValue is less than the width
+    long width = toValue - fromValue;
+    Object values = columns[column];
+    if (values instanceof int[]) {
+      int[] a = (int[]) values;
+      for (int i = 0; i < n; i++) {
+        count += Long.compareUnsigned(a[i] - fromValue, width) < 0 ? 1 : 0;
+      }
+    } else {
+      long[] a = longColumn(column);
+      for (int i = 0; i < n; i++) {
+        count += Long.compareUnsigned(a[i] - fromValue, width) < 0 ? 1 : 0;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the rows of an {@link Type#INT} or {@link Type#LONG} column with values greater than or
+   * equal to {@code fromValue} and less than {@code toValue}.
+   *
+   * @return  the rows in ascending order
+   *
+   * @throws  IllegalArgumentException  if the column is {@link Type#DOUBLE}
+   */
+  public IntArrayList selectInRange(int column, long fromValue, long toValue) throws IllegalArgumentException {
+    IntArrayList rows = new IntArrayList();
+    if (toValue > fromValue) {
+      int n = size;
+      long width = toValue - fromValue;
+      Object values = columns[column];
+      if (values instanceof int[]) {
+        int[] a = (int[]) values;
+        for (int i = 0; i < n; i++) {
+          if (Long.compareUnsigned(a[i] - fromValue, width) < 0) {
+            rows.add(i);
+          }
+        }
+      } else {
+        long[] a = longColumn(column);
+        for (int i = 0; i < n; i++) {
+          if (Long.compareUnsigned(a[i] - fromValue, width) < 0) {
+            rows.add(i);
+          }
+        }
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,1444 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed {@link IntSet} partitioned into containers by the high 16 bits of each value, in
+ * the style of Roaring bitmaps.  Each container holds the low 16 bits of its values in whichever
+ * representation is smallest: a sorted array of up to {@link #ARRAY_MAX} values, a bitmap of all
+ * 65536 possible values, or a sorted list of runs of consecutive values.  Sparse values cost
+ * two bytes each, dense values one bit each, and long ranges a few bytes per range, so memory
+ * and the cost of the set operations {@link #and(CompressedIntSet)}, {@link #or(CompressedIntSet)},
+ * and {@link #andNot(CompressedIntSet)} follow the structure of the data instead of the number of
+ * elements.
+ *
+ * <p>Containers are converted between arrays and bitmaps as elements are added and removed, but runs
+ * are only created by {@link #addRange(int, int)}, by the set operations, by bulk additions, and by
+ * {@link #trimToSize()}.  Elements are iterated in ascending numerical order.</p>
+ *
+ * <p>This set is not thread safe.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CompressedIntSet extends AbstractSet<Integer> implements IntSet, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = 7944811586129317468L;
+
+  /**
+   * The maximum number of values in an array container.  An array container of this size uses
+   * the same memory as a bitmap container.
+   */
+  public static final int ARRAY_MAX = 4096;
+
+  /**
+   * The cardinality of a container holding all possible values.
+   */
+  private static final int FULL = 1 << Character.SIZE;
+
+  /**
+   * The number of words in a bitmap container.
+   */
+  private static final int BITMAP_WORDS = FULL / Long.SIZE;
+
+  /**
+   * The number of bytes in a bitmap container.
+   */
+  private static final int BITMAP_BYTES = BITMAP_WORDS * Long.BYTES;
+
+  /**
+   * The maximum number of runs in a run container, beyond which a bitmap container is smaller.
+   */
+  private static final int RUN_MAX = BITMAP_BYTES / (2 * Character.BYTES);
+
+  /**
+   * The high 16 bits of the values in each container, with the sign bit flipped so the unsigned
+   * order of the keys matches the signed order of the values.
+   */
+  private char[] keys;
+
+  private Container[] containers;
+
+  private int containerCount;
+
+  private int size;
+
+  private transient int modCount;
+
+  /**
+   * Constructs an empty set.
+   */
+  public CompressedIntSet() {
+    keys = new char[4];
+    containers = new Container[4];
+  }
+
+  /**
+   * Constructs a set containing the elements of the specified collection.
+   */
+  public CompressedIntSet(IntCollection c) {
+    this();
+    addAll(c);
+  }
+
+  private static char key(int value) {
+    return (char) ((value >>> Character.SIZE) ^ 0x8000);
+  }
+
+  /**
+   * Gets the high 16 bits of the values in the container with the given key.
+   */
+  private static int high(char key) {
+    return (key ^ 0x8000) << Character.SIZE;
+  }
+
+  private int containerIndex(char key) {
+    return Arrays.binarySearch(keys, 0, containerCount, key);
+  }
+
+  private void insertContainer(int index, char key, Container c) {
+    if (containerCount == keys.length) {
+      int newLength = containerCount + (containerCount >> 1) + 1;
+      keys = Arrays.copyOf(keys, newLength);
+      containers = Arrays.copyOf(containers, newLength);
+    }
+    int numMoved = containerCount - index;
+    System.arraycopy(keys, index, keys, index + 1, numMoved);
+    System.arraycopy(containers, index, containers, index + 1, numMoved);
+    keys[index] = key;
+    containers[index] = c;
+    containerCount++;
+  }
+
+  private void removeContainer(int index) {
+    int numMoved = containerCount - index - 1;
+    System.arraycopy(keys, index + 1, keys, index, numMoved);
+    System.arraycopy(containers, index + 1, containers, index, numMoved);
+    containers[--containerCount] = null;
+  }
+
+  /**
+   * Appends a container, which must have a key greater than all existing containers.
+   */
+  private void appendContainer(char key, Container c) {
+    insertContainer(containerCount, key, c);
+    size += c.cardinality();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(int elem) {
+    int i = containerIndex(key(elem));
+    return i >= 0 && containers[i].contains((char) elem);
+  }
+
+  @Override
+  public boolean add(Integer o) {
+    return add(o.intValue());
+  }
+
+  @Override
+  public boolean add(int o) {
+    char key = key(o);
+    int i = containerIndex(key);
+    if (i >= 0) {
+      Container c = containers[i];
+      int cardinality = c.cardinality();
+      c = c.add((char) o);
+      containers[i] = c;
+      if (c.cardinality() == cardinality) {
+        return false;
+      }
+    } else {
+      insertContainer(-(i + 1), key, new ArrayContainer((char) o));
+    }
+    modCount++;
+    size++;
+    return true;
+  }
+
+  /**
+   * Adds all values greater than or equal to {@code fromValue} and less than {@code toValue}.
+   * Each affected container is combined with a single run, so dense ranges of millions of values
+   * are added in time and space proportional to the number of containers.
+   *
+   * @param  fromValue  the low endpoint, inclusive
+   * @param  toValue    the high endpoint, exclusive
+   *
+   * @return  {@code true} if this set changed as a result of the call
+   */
+  public boolean addRange(int fromValue, int toValue) {
+    if (toValue <= fromValue) {
+      return false;
+    }
+    int last = toValue - 1;
+    char lastKey = key(last);
+    CompressedIntSet range = new CompressedIntSet();
+    for (char key = key(fromValue); ; key++) {
+      int start = key == key(fromValue) ? (fromValue & 0xFFFF) : 0;
+      int end = key == lastKey ? (last & 0xFFFF) : 0xFFFF;
+      range.appendContainer(key, new RunContainer(start, end));
+      if (key == lastKey) {
+        break;
+      }
+    }
+    return orInPlace(range, false);
+  }
+
+  /**
+   * Adds all of the elements in the specified collection to this set.  The elements are sorted
+   * and grouped into containers, then combined container by container.
+   */
+  @Override
+  public boolean addAll(IntCollection c) {
+    if (c instanceof CompressedIntSet) {
+      return orInPlace((CompressedIntSet) c, true);
+    }
+    int[] batch = c.toArrayInt();
+    if (!(c instanceof SortedIntArrayList)) {
+      AoArrays.radixSort(batch, 0, batch.length);
+    }
+    return orInPlace(fromSorted(batch, batch.length), false);
+  }
+
+  /**
+   * Adds all of the elements in the specified range of an array to this set.  The elements are
+   * sorted and grouped into containers, then combined container by container.
+   */
+  @Override
+  public boolean addAll(int[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    int[] batch = Arrays.copyOfRange(a, off, off + len);
+    AoArrays.radixSort(batch, 0, len);
+    return orInPlace(fromSorted(batch, len), false);
+  }
+
+  /**
+   * Builds a set from sorted values, which may contain duplicates.
+   */
+  private static CompressedIntSet fromSorted(int[] sorted, int len) {
+    CompressedIntSet set = new CompressedIntSet();
+    int i = 0;
+    while (i < len) {
+      char key = key(sorted[i]);
+      int end = i + 1;
+      while (end < len && key(sorted[end]) == key) {
+        end++;
+      }
+      Container c;
+      if (end - i > ARRAY_MAX) {
+        long[] words = new long[BITMAP_WORDS];
+        for (int j = i; j < end; j++) {
+          int low = sorted[j] & 0xFFFF;
+          words[low >>> 6] |= 1L << low;
+        }
+        c = fromWords(words);
+      } else {
+        char[] values = new char[end - i];
+        int n = 0;
+        for (int j = i; j < end; j++) {
+          char low = (char) sorted[j];
+          if (n == 0 || values[n - 1] != low) {
+            values[n++] = low;
+          }
+        }
+        c = new ArrayContainer(values, n).optimize();
+      }
+      set.appendContainer(key, c);
+      i = end;
+    }
+    return set;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Number) {
+      return removeByValue(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeByValue(int value) {
+    int i = containerIndex(key(value));
+    if (i < 0) {
+      return false;
+    }
+    Container c = containers[i];
+    int cardinality = c.cardinality();
+    c = c.remove((char) value);
+    if (c.cardinality() == cardinality) {
+      return false;
+    }
+    if (c.cardinality() == 0) {
+      removeContainer(i);
+    } else {
+      containers[i] = c;
+    }
+    modCount++;
+    size--;
+    return true;
+  }
+
+  /**
+   * Retains only the elements also in the specified collection.  When it is a
+   * {@link CompressedIntSet}, this is performed container by container as {@link #and(CompressedIntSet)}.
+   */
+  @Override
+  public boolean retainAll(IntCollection c) {
+    if (c instanceof CompressedIntSet) {
+      return assign(and((CompressedIntSet) c));
+    }
+    return IntSet.super.retainAll(c);
+  }
+
+  /**
+   * Removes all of the elements also in the specified collection.  When it is a
+   * {@link CompressedIntSet}, this is performed container by container as {@link #andNot(CompressedIntSet)}.
+   */
+  @Override
+  public boolean removeAll(IntCollection c) {
+    if (c instanceof CompressedIntSet) {
+      return assign(andNot((CompressedIntSet) c));
+    }
+    return IntSet.super.removeAll(c);
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(containers, 0, containerCount, null);
+    containerCount = 0;
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Replaces the contents of this set with the containers of a newly created set.
+   *
+   * @return  {@code true} if this set changed
+   */
+  private boolean assign(CompressedIntSet other) {
+    boolean modified = other.size != size;
+    keys = other.keys;
+    containers = other.containers;
+    containerCount = other.containerCount;
+    size = other.size;
+    if (modified) {
+      modCount++;
+    }
+    return modified;
+  }
+
+  /**
+   * Adds all elements of another set, reusing the containers that exist only in this set.
+   *
+   * @param  copyOther  when the containers that exist only in the other set must be copied
+   *
+   * @return  {@code true} if this set changed
+   */
+  private boolean orInPlace(CompressedIntSet other, boolean copyOther) {
+    int n1 = containerCount;
+    int n2 = other.containerCount;
+    if (n2 == 0) {
+      return false;
+    }
+    char[] newKeys = new char[n1 + n2];
+    Container[] newContainers = new Container[n1 + n2];
+    int newSize = 0;
+    int n = 0;
+    int i = 0;
+    int j = 0;
+    while (i < n1 || j < n2) {
+      char key;
+      Container c;
+      if (j == n2 || (i < n1 && keys[i] < other.keys[j])) {
+        key = keys[i];
+        c = containers[i++];
+      } else if (i == n1 || other.keys[j] < keys[i]) {
+        key = other.keys[j];
+        c = other.containers[j++];
+        if (copyOther) {
+          c = c.copy();
+        }
+      } else {
+        key = keys[i];
+        c = or(containers[i++], other.containers[j++]);
+      }
+      newKeys[n] = key;
+      newContainers[n++] = c;
+      newSize += c.cardinality();
+    }
+    keys = newKeys;
+    containers = newContainers;
+    containerCount = n;
+    if (newSize == size) {
+      return false;
+    }
+    size = newSize;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Gets a new set of the elements in both this set and the other set.
+   */
+  public CompressedIntSet and(CompressedIntSet other) {
+    CompressedIntSet result = new CompressedIntSet();
+    int i = 0;
+    int j = 0;
+    while (i < containerCount && j < other.containerCount) {
+      char key = keys[i];
+      char otherKey = other.keys[j];
+      if (key < otherKey) {
+        i++;
+      } else if (key > otherKey) {
+        j++;
+      } else {
+        Container c = and(containers[i++], other.containers[j++]);
+        if (c != null) {
+          result.appendContainer(key, c);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets a new set of the elements in either this set or the other set.
+   */
+  public CompressedIntSet or(CompressedIntSet other) {
+    CompressedIntSet result = new CompressedIntSet();
+    int i = 0;
+    int j = 0;
+    while (i < containerCount || j < other.containerCount) {
+      if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+        result.appendContainer(keys[i], containers[i++].copy());
+      } else if (i == containerCount || other.keys[j] < keys[i]) {
+        result.appendContainer(other.keys[j], other.containers[j++].copy());
+      } else {
+        result.appendContainer(keys[i], or(containers[i++], other.containers[j++]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets a new set of the elements in this set that are not in the other set.
+   */
+  public CompressedIntSet andNot(CompressedIntSet other) {
+    CompressedIntSet result = new CompressedIntSet();
+    int j = 0;
+    for (int i = 0; i < containerCount; i++) {
+      char key = keys[i];
+      while (j < other.containerCount && other.keys[j] < key) {
+        j++;
+      }
+      Container c;
+      if (j < other.containerCount && other.keys[j] == key) {
+        c = andNot(containers[i], other.containers[j++]);
+      } else {
+        c = containers[i].copy();
+      }
+      if (c != null) {
+        result.appendContainer(key, c);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Counts the elements in both this set and the other set, without creating the intersection.
+   */
+  public int andCardinality(CompressedIntSet other) {
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < containerCount && j < other.containerCount) {
+      char key = keys[i];
+      char otherKey = other.keys[j];
+      if (key < otherKey) {
+        i++;
+      } else if (key > otherKey) {
+        j++;
+      } else {
+        count += andCardinality(containers[i++], other.containers[j++]);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Converts each container to its smallest representation, including runs, and trims the
+   * capacity of all arrays.
+   */
+  public void trimToSize() {
+    for (int i = 0; i < containerCount; i++) {
+      containers[i] = containers[i].optimize();
+    }
+    if (containerCount < keys.length) {
+      keys = Arrays.copyOf(keys, containerCount);
+      containers = Arrays.copyOf(containers, containerCount);
+    }
+  }
+
+  @Override
+  public int[] toArrayInt() {
+    int[] array = new int[size];
+    int pos = 0;
+    for (int i = 0; i < containerCount; i++) {
+      pos = containers[i].toArray(high(keys[i]), array, pos);
+    }
+    assert pos == size;
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    for (int i = 0; i < containerCount; i++) {
+      containers[i].forEach(high(keys[i]), action);
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public IntIterator iterator() {
+    return new Itr();
+  }
+
+  private class Itr implements IntIterator {
+    int index;                  // index of the current container
+    LowIterator lows = containerCount == 0 ? null : containers[0].iterator(0);
+    int remaining = size;       // number of values yet to be returned
+    int lastRet;
+    boolean hasLastRet;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return remaining != 0;
+    }
+
+    @Override
+    public int nextInt() {
+      checkForComodification();
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      while (!lows.hasNext()) {
+        lows = containers[++index].iterator(0);
+      }
+      hasLastRet = true;
+      return lastRet = high(keys[index]) | lows.next();
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      if (!hasLastRet) {
+        throw new IllegalStateException();
+      }
+      hasLastRet = false;
+      CompressedIntSet.this.removeByValue(lastRet);
+      // The container may have been converted or removed
+      int i = containerIndex(key(lastRet));
+      if (i >= 0) {
+        index = i;
+        lows = containers[i].iterator((lastRet & 0xFFFF) + 1);
+      } else {
+        index = -(i + 1);
+        lows = index < containerCount ? containers[index].iterator(0) : null;
+      }
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+   * {@link Spliterator#DISTINCT}, and {@link Spliterator#NONNULL}.</p>
+   */
+  @Override
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(
+        iterator(),
+        size,
+        Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL
+    );
+  }
+
+  /**
+   * Computes the hash code as the sum of {@link Integer#hashCode(int)} of the elements,
+   * as specified by {@link java.util.Set#hashCode()}, without boxing.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    IntIterator iter = iterator();
+    while (iter.hasNext()) {
+      h += Integer.hashCode(iter.nextInt());
+    }
+    return h;
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      CompressedIntSet s = (CompressedIntSet) super.clone();
+      s.keys = keys.clone();
+      s.containers = containers.clone();
+      for (int i = 0; i < containerCount; i++) {
+        s.containers[i] = containers[i].copy();
+      }
+      s.modCount = 0;
+      return s;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  // <editor-fold defaultstate="collapsed" desc="Containers">
+  /**
+   * Iterates the low 16 bits of the values in a container, in ascending order.
+   */
+  private abstract static class LowIterator {
+    abstract boolean hasNext();
+
+    abstract int next();
+  }
+
+  /**
+   * Holds the low 16 bits of the values sharing the same high 16 bits.
+   */
+  private abstract static class Container implements java.io.Serializable {
+
+    private static final long serialVersionUID = 8123379035769509292L;
+
+    abstract int cardinality();
+
+    abstract boolean contains(char low);
+
+    /**
+     * Adds a value, possibly converting to a different container.
+     *
+     * @return  the container now holding the values
+     */
+    abstract Container add(char low);
+
+    /**
+     * Removes a value, possibly converting to a different container.
+     *
+     * @return  the container now holding the values, which may be empty
+     */
+    abstract Container remove(char low);
+
+    /**
+     * Iterates the values greater than or equal to {@code fromLow}, which may be 65536.
+     */
+    abstract LowIterator iterator(int fromLow);
+
+    abstract void forEach(int high, IntConsumer action);
+
+    /**
+     * Stores the values, with the given high bits, into an array.
+     *
+     * @return  the position after the last value stored
+     */
+    abstract int toArray(int high, int[] array, int pos);
+
+    /**
+     * Sets the bits for the values.
+     */
+    abstract void orInto(long[] words);
+
+    /**
+     * Gets the values as a bitmap, which may be shared with this container and must not be modified.
+     */
+    long[] words() {
+      long[] words = new long[BITMAP_WORDS];
+      orInto(words);
+      return words;
+    }
+
+    /**
+     * Gets the smallest representation of the values, with arrays trimmed to size.
+     */
+    abstract Container optimize();
+
+    abstract Container copy();
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private static final long serialVersionUID = 4474217403480618677L;
+
+    private char[] values;
+    private int cardinality;
+
+    private ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    private ArrayContainer(char low) {
+      values = new char[4];
+      values[0] = low;
+      cardinality = 1;
+    }
+
+    private static ArrayContainer fromWords(long[] words, int cardinality) {
+      char[] values = new char[cardinality];
+      int n = 0;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        for (long word = words[i]; word != 0; word &= word - 1) {
+          values[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+        }
+      }
+      return new ArrayContainer(values, cardinality);
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+    }
+
+    @Override
+    Container add(char low) {
+      int i = Arrays.binarySearch(values, 0, cardinality, low);
+      if (i >= 0) {
+        return this;
+      }
+      if (cardinality == ARRAY_MAX) {
+        long[] words = words();
+        words[low >>> 6] |= 1L << low;
+        return new BitmapContainer(words, cardinality + 1);
+      }
+      i = -(i + 1);
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(cardinality + (cardinality >> 1) + 1, ARRAY_MAX));
+      }
+      System.arraycopy(values, i, values, i + 1, cardinality - i);
+      values[i] = low;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(char low) {
+      int i = Arrays.binarySearch(values, 0, cardinality, low);
+      if (i >= 0) {
+        System.arraycopy(values, i + 1, values, i, --cardinality - i);
+      }
+      return this;
+    }
+
+    @Override
+    LowIterator iterator(int fromLow) {
+      int i;
+      if (fromLow > Character.MAX_VALUE) {
+        i = cardinality;
+      } else {
+        i = Arrays.binarySearch(values, 0, cardinality, (char) fromLow);
+        if (i < 0) {
+          i = -(i + 1);
+        }
+      }
+      final int start = i;
+      return new LowIterator() {
+        private int index = start;
+
+        @Override
+        boolean hasNext() {
+          return index < cardinality;
+        }
+
+        @Override
+        int next() {
+          return values[index++];
+        }
+      };
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < cardinality; i++) {
+        action.accept(high | values[i]);
+      }
+    }
+
+    @Override
+    int toArray(int high, int[] array, int pos) {
+      for (int i = 0; i < cardinality; i++) {
+        array[pos++] = high | values[i];
+      }
+      return pos;
+    }
+
+    @Override
+    void orInto(long[] words) {
+      for (int i = 0; i < cardinality; i++) {
+        char low = values[i];
+        words[low >>> 6] |= 1L << low;
+      }
+    }
+
+    @Override
+    Container optimize() {
+      int runCount = cardinality == 0 ? 0 : 1;
+      for (int i = 1; i < cardinality; i++) {
+        if (values[i] != values[i - 1] + 1) {
+          runCount++;
+        }
+      }
+      if (runCount * 2 < cardinality) {
+        return RunContainer.fromSorted(values, cardinality, runCount);
+      }
+      if (cardinality < values.length) {
+        values = Arrays.copyOf(values, cardinality);
+      }
+      return this;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+    }
+
+    /**
+     * Gets the values that are, or are not, in another container.
+     *
+     * @param  keep  {@code true} to keep the values in the other container, or {@code false} to keep the values not
+     *               in the other container
+     *
+     * @return  the matching values or {@code null} when none
+     */
+    private Container filter(Container other, boolean keep) {
+      char[] result = new char[cardinality];
+      int n = 0;
+      if (other instanceof ArrayContainer) {
+        // Merge
+        ArrayContainer o = (ArrayContainer) other;
+        int j = 0;
+        for (int i = 0; i < cardinality; i++) {
+          char value = values[i];
+          while (j < o.cardinality && o.values[j] < value) {
+            j++;
+          }
+          if ((j < o.cardinality && o.values[j] == value) == keep) {
+            result[n++] = value;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          char value = values[i];
+          if (other.contains(value) == keep) {
+            result[n++] = value;
+          }
+        }
+      }
+      return n == 0 ? null : new ArrayContainer(result, n);
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private static final long serialVersionUID = 9154111569930290463L;
+
+    private final long[] words;
+    private int cardinality;
+
+    private BitmapContainer(long[] words, int cardinality) {
+      assert words.length == BITMAP_WORDS;
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    Container add(char low) {
+      int i = low >>> 6;
+      long word = words[i];
+      long newWord = word | (1L << low);
+      if (newWord != word) {
+        words[i] = newWord;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    Container remove(char low) {
+      int i = low >>> 6;
+      long word = words[i];
+      long newWord = word & ~(1L << low);
+      if (newWord != word) {
+        words[i] = newWord;
+        if (--cardinality <= ARRAY_MAX) {
+          return ArrayContainer.fromWords(words, cardinality);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    LowIterator iterator(int fromLow) {
+      return new LowIterator() {
+        private int index = fromLow >>> 6;
+        private long word = fromLow > Character.MAX_VALUE ? 0 : (words[index] & (-1L << fromLow));
+
+        @Override
+        boolean hasNext() {
+          while (word == 0) {
+            if (++index >= BITMAP_WORDS) {
+              return false;
+            }
+            word = words[index];
+          }
+          return true;
+        }
+
+        @Override
+        int next() {
+          int low = (index << 6) + Long.numberOfTrailingZeros(word);
+          word &= word - 1;
+          return low;
+        }
+      };
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        for (long word = words[i]; word != 0; word &= word - 1) {
+          action.accept(high | ((i << 6) + Long.numberOfTrailingZeros(word)));
+        }
+      }
+    }
+
+    @Override
+    int toArray(int high, int[] array, int pos) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        for (long word = words[i]; word != 0; word &= word - 1) {
+          array[pos++] = high | ((i << 6) + Long.numberOfTrailingZeros(word));
+        }
+      }
+      return pos;
+    }
+
+    @Override
+    void orInto(long[] other) {
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        other[i] |= words[i];
+      }
+    }
+
+    @Override
+    long[] words() {
+      return words;
+    }
+
+    @Override
+    Container optimize() {
+      return select(words, cardinality, countRuns(words));
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+  }
+
+  private static final class RunContainer extends Container {
+
+    private static final long serialVersionUID = 8213650137144250961L;
+
+    /**
+     * The start of each run at even indexes, followed by its length minus one.
+     */
+    private char[] runs;
+    private int runCount;
+    private int cardinality;
+
+    private RunContainer(char[] runs, int runCount, int cardinality) {
+      this.runs = runs;
+      this.runCount = runCount;
+      this.cardinality = cardinality;
+    }
+
+    /**
+     * Creates a container with a single run.
+     *
+     * @param  start  the first value, inclusive
+     * @param  end    the last value, inclusive
+     */
+    private RunContainer(int start, int end) {
+      this(new char[] {(char) start, (char) (end - start)}, 1, end - start + 1);
+    }
+
+    private static RunContainer fromSorted(char[] values, int cardinality, int runCount) {
+      char[] runs = new char[runCount * 2];
+      int n = 0;
+      int i = 0;
+      while (i < cardinality) {
+        int start = values[i];
+        int end = start;
+        while (++i < cardinality && values[i] == end + 1) {
+          end++;
+        }
+        runs[n++] = (char) start;
+        runs[n++] = (char) (end - start);
+      }
+      assert n == runs.length;
+      return new RunContainer(runs, runCount, cardinality);
+    }
+
+    private static RunContainer fromWords(long[] words, int cardinality, int runCount) {
+      char[] runs = new char[runCount * 2];
+      int n = 0;
+      int i = 0;
+      long word = words[0];
+      while (true) {
+        while (word == 0 && i < BITMAP_WORDS - 1) {
+          word = words[++i];
+        }
+        if (word == 0) {
+          break;
+        }
+        int start = (i << 6) + Long.numberOfTrailingZeros(word);
+        // Set the bits below the start of the run
+        word |= word - 1;
+        while (word == -1L && i < BITMAP_WORDS - 1) {
+          word = words[++i];
+        }
+        int end;
+        if (word == -1L) {
+          end = FULL;
+          word = 0;
+        } else {
+          end = (i << 6) + Long.numberOfTrailingZeros(~word);
+          // Clear the bits of the run
+          word &= word + 1;
+        }
+        runs[n++] = (char) start;
+        runs[n++] = (char) (end - 1 - start);
+      }
+      assert n == runs.length;
+      return new RunContainer(runs, runCount, cardinality);
+    }
+
+    private int start(int run) {
+      return runs[run << 1];
+    }
+
+    private int end(int run) {
+      return runs[run << 1] + runs[(run << 1) + 1];
+    }
+
+    /**
+     * Finds the last run starting at or before the given value.
+     *
+     * @return  the index of the run or {@code -1} when none
+     */
+    private int find(int low) {
+      int lo = 0;
+      int hi = runCount - 1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        if (runs[mid << 1] <= low) {
+          lo = mid + 1;
+        } else {
+          hi = mid - 1;
+        }
+      }
+      return hi;
+    }
+
+    private void insertRun(int run, int start, int length) {
+      if (runCount << 1 == runs.length) {
+        runs = Arrays.copyOf(runs, (runCount + (runCount >> 1) + 1) << 1);
+      }
+      System.arraycopy(runs, run << 1, runs, (run + 1) << 1, (runCount - run) << 1);
+      runs[run << 1] = (char) start;
+      runs[(run << 1) + 1] = (char) length;
+      runCount++;
+    }
+
+    private void removeRun(int run) {
+      System.arraycopy(runs, (run + 1) << 1, runs, run << 1, (--runCount - run) << 1);
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      int run = find(low);
+      return run >= 0 && low <= end(run);
+    }
+
+    @Override
+    Container add(char low) {
+      int run = find(low);
+      if (run >= 0 && low <= end(run)) {
+        return this;
+      }
+      boolean joinPrevious = run >= 0 && end(run) + 1 == low;
+      boolean joinNext = run + 1 < runCount && start(run + 1) == low + 1;
+      if (joinPrevious && joinNext) {
+        runs[(run << 1) + 1] = (char) (end(run + 1) - start(run));
+        removeRun(run + 1);
+      } else if (joinPrevious) {
+        runs[(run << 1) + 1]++;
+      } else if (joinNext) {
+        runs[(run + 1) << 1]--;
+        runs[((run + 1) << 1) + 1]++;
+      } else if (runCount == RUN_MAX) {
+        long[] words = words();
+        words[low >>> 6] |= 1L << low;
+        return new BitmapContainer(words, cardinality + 1);
+      } else {
+        insertRun(run + 1, low, 0);
+      }
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(char low) {
+      int run = find(low);
+      if (run < 0 || low > end(run)) {
+        return this;
+      }
+      int start = start(run);
+      int end = end(run);
+      if (start == end) {
+        removeRun(run);
+      } else if (low == start) {
+        runs[run << 1]++;
+        runs[(run << 1) + 1]--;
+      } else if (low == end) {
+        runs[(run << 1) + 1]--;
+      } else if (runCount == RUN_MAX) {
+        return new BitmapContainer(words(), cardinality).remove(low);
+      } else {
+        // Split the run
+        insertRun(run + 1, low + 1, end - low - 1);
+        runs[(run << 1) + 1] = (char) (low - 1 - start);
+      }
+      cardinality--;
+      return this;
+    }
+
+    @Override
+    LowIterator iterator(int fromLow) {
+      int first = find(fromLow);
+      int firstValue;
+      if (first >= 0 && fromLow <= end(first)) {
+        firstValue = fromLow;
+      } else {
+        first++;
+        firstValue = first < runCount ? start(first) : 0;
+      }
+      int run0 = first;
+      return new LowIterator() {
+        private int run = run0;
+        private int value = firstValue;
+
+        @Override
+        boolean hasNext() {
+          return run < runCount;
+        }
+
+        @Override
+        int next() {
+          int low = value;
+          if (low == end(run)) {
+            if (++run < runCount) {
+              value = start(run);
+            }
+          } else {
+            value++;
+          }
+          return low;
+        }
+      };
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+      for (int run = 0; run < runCount; run++) {
+        for (int low = start(run), end = end(run); low <= end; low++) {
+          action.accept(high | low);
+        }
+      }
+    }
+
+    @Override
+    int toArray(int high, int[] array, int pos) {
+      for (int run = 0; run < runCount; run++) {
+        for (int low = start(run), end = end(run); low <= end; low++) {
+          array[pos++] = high | low;
+        }
+      }
+      return pos;
+    }
+
+    @Override
+    void orInto(long[] words) {
+      for (int run = 0; run < runCount; run++) {
+        int start = start(run);
+        int end = end(run);
+        int startWord = start >>> 6;
+        int endWord = end >>> 6;
+        long startMask = -1L << start;
+        long endMask = -1L >>> (63 - (end & 63));
+        if (startWord == endWord) {
+          words[startWord] |= startMask & endMask;
+        } else {
+          words[startWord] |= startMask;
+          for (int i = startWord + 1; i < endWord; i++) {
+            words[i] = -1L;
+          }
+          words[endWord] |= endMask;
+        }
+      }
+    }
+
+    @Override
+    Container optimize() {
+      if (runCount * 2 * Character.BYTES >= Math.min(cardinality * Character.BYTES, BITMAP_BYTES)) {
+        long[] words = words();
+        return cardinality <= ARRAY_MAX ? ArrayContainer.fromWords(words, cardinality) : new BitmapContainer(words, cardinality);
+      }
+      if (runCount << 1 < runs.length) {
+        runs = Arrays.copyOf(runs, runCount << 1);
+      }
+      return this;
+    }
+
+    @Override
+    Container copy() {
+      return new RunContainer(Arrays.copyOf(runs, runCount << 1), runCount, cardinality);
+    }
+  }
+
+  /**
+   * Counts the runs of consecutive values in a bitmap.
+   */
+  private static int countRuns(long[] words) {
+    int runCount = 0;
+    long previousTop = 0;
+    for (long word : words) {
+      runCount += Long.bitCount(word & ~((word << 1) | previousTop));
+      previousTop = word >>> 63;
+    }
+    return runCount;
+  }
+
+  /**
+   * Chooses the smallest representation of a bitmap.
+   */
+  private static Container select(long[] words, int cardinality, int runCount) {
+    if (runCount * 2 * Character.BYTES < Math.min(cardinality * Character.BYTES, BITMAP_BYTES)) {
+      return RunContainer.fromWords(words, cardinality, runCount);
+    }
+    if (cardinality <= ARRAY_MAX) {
+      return ArrayContainer.fromWords(words, cardinality);
+    }
+    return new BitmapContainer(words, cardinality);
+  }
+
+  /**
+   * Creates the smallest container for a bitmap, which is owned by the new container.
+   *
+   * @return  the container or {@code null} when empty
+   */
+  private static Container fromWords(long[] words) {
+    int cardinality = 0;
+    for (long word : words) {
+      cardinality += Long.bitCount(word);
+    }
+    return cardinality == 0 ? null : select(words, cardinality, countRuns(words));
+  }
+
+  /**
+   * @return  the intersection or {@code null} when empty
+   */
+  private static Container and(Container a, Container b) {
+    if (a.cardinality() == FULL) {
+      return b.copy();
+    }
+    if (b.cardinality() == FULL) {
+      return a.copy();
+    }
+    if (a instanceof ArrayContainer) {
+      return ((ArrayContainer) a).filter(b, true);
+    }
+    if (b instanceof ArrayContainer) {
+      return ((ArrayContainer) b).filter(a, true);
+    }
+    long[] x = a.words();
+    long[] y = b.words();
+    long[] result = new long[BITMAP_WORDS];
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      result[i] = x[i] & y[i];
+    }
+    return fromWords(result);
+  }
+
+  private static Container or(Container a, Container b) {
+    if (a.cardinality() == FULL) {
+      return a.copy();
+    }
+    if (b.cardinality() == FULL) {
+      return b.copy();
+    }
+    if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+      ArrayContainer x = (ArrayContainer) a;
+      ArrayContainer y = (ArrayContainer) b;
+      if (x.cardinality + y.cardinality <= ARRAY_MAX) {
+        // Merge
+        char[] result = new char[x.cardinality + y.cardinality];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < x.cardinality || j < y.cardinality) {
+          char value;
+          if (j == y.cardinality || (i < x.cardinality && x.values[i] < y.values[j])) {
+            value = x.values[i++];
+          } else {
+            value = y.values[j++];
+            if (i < x.cardinality && x.values[i] == value) {
+              i++;
+            }
+          }
+          result[n++] = value;
+        }
+        return new ArrayContainer(result, n);
+      }
+    }
+    long[] result = new long[BITMAP_WORDS];
+    a.orInto(result);
+    b.orInto(result);
+    return fromWords(result);
+  }
+
+  /**
+   * @return  the difference or {@code null} when empty
+   */
+  private static Container andNot(Container a, Container b) {
+    if (b.cardinality() == FULL) {
+      return null;
+    }
+    if (a instanceof ArrayContainer) {
+      return ((ArrayContainer) a).filter(b, false);
+    }
+    long[] x = a.words();
+    long[] y = b.words();
+    long[] result = new long[BITMAP_WORDS];
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      result[i] = x[i] & ~y[i];
+    }
+    return fromWords(result);
+  }
+
+  private static int andCardinality(Container a, Container b) {
+    if (a.cardinality() == FULL) {
+      return b.cardinality();
+    }
+    if (b.cardinality() == FULL) {
+      return a.cardinality();
+    }
+    if (b instanceof ArrayContainer && !(a instanceof ArrayContainer)) {
+      Container t = a;
+      a = b;
+      b = t;
+    }
+    if (a instanceof ArrayContainer) {
+      Container c = ((ArrayContainer) a).filter(b, true);
+      return c == null ? 0 : c.cardinality();
+    }
+    long[] x = a.words();
+    long[] y = b.words();
+    int count = 0;
+    for (int i = 0; i < BITMAP_WORDS; i++) {
+      count += Long.bitCount(x[i] & y[i]);
+    }
+    return count;
+  }
+  // </editor-fold>
+}
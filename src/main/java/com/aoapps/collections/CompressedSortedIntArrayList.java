@@ -0,0 +1,463 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * A sorted {@link IntList} that stores its elements compressed, for large sets of
+ * mostly-dense values, such as sequentially assigned IDs.  Compared to {@link SortedIntArrayList},
+ * memory use is typically reduced several times over, with correspondingly fewer cache misses
+ * while searching.
+ *
+ * <p>Elements are stored in blocks of {@link #BLOCK_SIZE}.  The first value of each block is stored
+ * uncompressed in a skip index, and the remaining values as the variable-length encoded difference
+ * from the previous value, using seven bits per byte.  {@link #indexOf(int)} and {@link #contains(int)}
+ * perform a binary search of the skip index followed by a sequential decode of a single block.
+ * Access by index also decodes from the start of its block, so sequential access should use
+ * {@link #iterator()} or {@link #forEachInt(IntConsumer)}.</p>
+ *
+ * <p>Elements may only be added in ascending order, and may not be set or removed other than by
+ * {@link #clear()}.  Duplicate values are allowed.</p>
+ *
+ * <p>This list is not thread safe.</p>
+ *
+ * @see  SortedIntArrayList
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CompressedSortedIntArrayList extends AbstractIntList {
+
+  private static final int BLOCK_SHIFT = 7;
+
+  /**
+   * The number of elements per block.
+   */
+  public static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+  private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+  /**
+   * The maximum number of bytes in a single encoded difference.
+   */
+  private static final int MAX_ENCODED_BYTES = (Integer.SIZE + 6) / 7;
+
+  /**
+   * The first value of each block.
+   */
+  private int[] blockFirst;
+
+  /**
+   * The offset in {@link #data} of the encoded differences of each block.
+   */
+  private int[] blockOffset;
+
+  /**
+   * The encoded differences.
+   */
+  private byte[] data;
+
+  /**
+   * The number of bytes used in {@link #data}.
+   */
+  private int dataSize;
+
+  /**
+   * The size of the list (the number of elements it contains).
+   */
+  private int size;
+
+  /**
+   * The last value in the list, undefined when empty.
+   */
+  private int last;
+
+  /**
+   * Constructs an empty list.
+   */
+  public CompressedSortedIntArrayList() {
+    blockFirst = new int[1];
+    blockOffset = new int[1];
+    data = new byte[BLOCK_SIZE];
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified collection, which must be in
+   * ascending order, such as a {@link SortedIntArrayList}.
+   *
+   * @throws  UnsupportedOperationException  if the elements are not in ascending order
+   */
+  public CompressedSortedIntArrayList(IntCollection c) throws UnsupportedOperationException {
+    int blocks = Math.max((c.size() + BLOCK_MASK) >>> BLOCK_SHIFT, 1);
+    blockFirst = new int[blocks];
+    blockOffset = new int[blocks];
+    data = new byte[Math.max(c.size(), BLOCK_SIZE)];
+    c.forEachInt(this::add);
+  }
+
+  /**
+   * Trims the capacity of this list to be the list's current size.
+   */
+  public void trimToSize() {
+    int blocks = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+    if (blocks < blockFirst.length) {
+      blockFirst = Arrays.copyOf(blockFirst, blocks);
+      blockOffset = Arrays.copyOf(blockOffset, blocks);
+    }
+    if (dataSize < data.length) {
+      data = Arrays.copyOf(data, dataSize);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Check if the given index is in range.  If not, throw an appropriate
+   * runtime exception.
+   */
+  private void rangeCheck(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This decodes from the start of the block containing the element.</p>
+   */
+  @Override
+  public int getInt(int index) {
+    rangeCheck(index);
+    int block = index >>> BLOCK_SHIFT;
+    int value = blockFirst[block];
+    int pos = blockOffset[block];
+    for (int i = index & BLOCK_MASK; i > 0; i--) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        delta |= (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      value += delta;
+    }
+    return value;
+  }
+
+  /**
+   * Appends the specified element to the end of this list.
+   *
+   * @throws  UnsupportedOperationException  if the element is less than the last element
+   */
+  @Override
+  public boolean add(int o) throws UnsupportedOperationException {
+    int index = size;
+    if ((index & BLOCK_MASK) == 0) {
+      if (index != 0 && o < last) {
+        throw new UnsupportedOperationException("May only add elements in ascending order.");
+      }
+      modCount++;
+      int block = index >>> BLOCK_SHIFT;
+      if (block == blockFirst.length) {
+        int newLength = block + (block >> 1) + 1;
+        blockFirst = Arrays.copyOf(blockFirst, newLength);
+        blockOffset = Arrays.copyOf(blockOffset, newLength);
+      }
+      blockFirst[block] = o;
+      blockOffset[block] = dataSize;
+    } else {
+      if (o < last) {
+        throw new UnsupportedOperationException("May only add elements in ascending order.");
+      }
+      modCount++;
+      int pos = dataSize;
+      if (pos + MAX_ENCODED_BYTES > data.length) {
+        data = Arrays.copyOf(data, Math.max(pos + MAX_ENCODED_BYTES, pos + (pos >> 1) + 1));
+      }
+      // Unsigned difference, which may exceed the signed range
+      int delta = o - last;
+      while ((delta & ~0x7f) != 0) {
+        data[pos++] = (byte) (delta | 0x80);
+        delta >>>= 7;
+      }
+      data[pos++] = (byte) delta;
+      dataSize = pos;
+    }
+    last = o;
+    size = index + 1;
+    return true;
+  }
+
+  /**
+   * Not allowed to add to specific indexes.
+   */
+  @Override
+  public void add(int index, int element) {
+    throw new UnsupportedOperationException("Not allowed to add to specific indexes");
+  }
+
+  /**
+   * Removes all of the elements from this list.  The capacity is retained.
+   */
+  @Override
+  public void clear() {
+    modCount++;
+    size = 0;
+    dataSize = 0;
+  }
+
+  /**
+   * Finds the first block whose first value is greater than or equal to
+   * (or, when {@code upper}, strictly greater than) the given value.
+   */
+  private int searchBlocks(int value, boolean upper) {
+    int low = 0;
+    int high = (size + BLOCK_MASK) >>> BLOCK_SHIFT;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int midValue = blockFirst[mid];
+      if (midValue < value || (upper && midValue == value)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Searches for the first occurrence of the given value.
+   *
+   * @param   elem   the value
+   * @return  the index of the first occurrence of the argument in this
+   *          list; returns {@code -1} if the object is not found.
+   */
+  @Override
+  public int indexOf(int elem) {
+    int block = searchBlocks(elem, false);
+    // The first occurrence may be in the tail of the previous block, whose first value is less
+    if (block > 0) {
+      int index = (block - 1) << BLOCK_SHIFT;
+      int end = Math.min(index + BLOCK_SIZE, size);
+      int value = blockFirst[block - 1];
+      int pos = blockOffset[block - 1];
+      while (++index < end) {
+        int delta = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data[pos++];
+          delta |= (b & 0x7f) << shift;
+          shift += 7;
+        } while (b < 0);
+        value += delta;
+        if (value >= elem) {
+          return value == elem ? index : -1;
+        }
+      }
+    }
+    if (block < blockFirst.length && (block << BLOCK_SHIFT) < size && blockFirst[block] == elem) {
+      return block << BLOCK_SHIFT;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the last occurrence of the specified object in
+   * this list.
+   *
+   * @param   elem   the desired element.
+   * @return  the index of the last occurrence of the specified object in
+   *          this list; returns -1 if the object is not found.
+   */
+  @Override
+  public int lastIndexOf(int elem) {
+    int block = searchBlocks(elem, true);
+    if (block == 0) {
+      return -1;
+    }
+    // The last occurrence is within the previous block, whose first value is less or equal
+    block--;
+    int index = block << BLOCK_SHIFT;
+    int end = Math.min(index + BLOCK_SIZE, size);
+    int value = blockFirst[block];
+    int lastIndex = value == elem ? index : -1;
+    int pos = blockOffset[block];
+    while (++index < end) {
+      int delta = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[pos++];
+        delta |= (b & 0x7f) << shift;
+        shift += 7;
+      } while (b < 0);
+      value += delta;
+      if (value == elem) {
+        lastIndex = index;
+      } else if (value > elem) {
+        break;
+      }
+    }
+    return lastIndex;
+  }
+
+  @Override
+  public boolean contains(int elem) {
+    return indexOf(elem) != -1;
+  }
+
+  @Override
+  public int[] toArrayInt() {
+    int[] array = new int[size];
+    forEachInt(new IntConsumer() {
+      private int index;
+
+      @Override
+      public void accept(int value) {
+        array[index++] = value;
+      }
+    });
+    return array;
+  }
+
+  /**
+   * Performs the given action for each element of this list, in order, decoding sequentially.
+   *
+   * @param  action  the action to be performed for each element
+   *
+   * @throws  NullPointerException  if the specified action is null
+   * @throws  ConcurrentModificationException  if the list is modified by the action
+   */
+  @Override
+  public void forEachInt(IntConsumer action) {
+    final int expectedModCount = modCount;
+    final int mySize = size;
+    int value = 0;
+    int pos = 0;
+    for (int i = 0; i < mySize && modCount == expectedModCount; i++) {
+      if ((i & BLOCK_MASK) == 0) {
+        int block = i >>> BLOCK_SHIFT;
+        value = blockFirst[block];
+        pos = blockOffset[block];
+      } else {
+        int delta = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data[pos++];
+          delta |= (b & 0x7f) << shift;
+          shift += 7;
+        } while (b < 0);
+        value += delta;
+      }
+      action.accept(value);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The iterator decodes sequentially and does not support {@link IntIterator#remove()}.</p>
+   */
+  @Override
+  public IntIterator iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Sequentially decoding iterator.
+   */
+  private class Itr implements IntIterator {
+    int cursor;       // index of next element to return
+    int pos;          // offset in data of the next encoded difference
+    int value;       // last value returned
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size;
+    }
+
+    @Override
+    public int nextInt() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      int i = cursor;
+      if (i >= size) {
+        throw new NoSuchElementException();
+      }
+      if ((i & BLOCK_MASK) == 0) {
+        int block = i >>> BLOCK_SHIFT;
+        value = blockFirst[block];
+        pos = blockOffset[block];
+      } else {
+        int delta = 0;
+        int shift = 0;
+        byte b;
+        do {
+          b = data[pos++];
+          delta |= (b & 0x7f) << shift;
+          shift += 7;
+        } while (b < 0);
+        value += delta;
+      }
+      cursor = i + 1;
+      return value;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator decodes sequentially, and splits by buffering batches of elements.</p>
+   */
+  @Override
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(
+        iterator(),
+        size,
+        Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL
+    );
+  }
+}
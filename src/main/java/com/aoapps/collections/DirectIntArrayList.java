@@ -0,0 +1,456 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * An {@link IntArrayList} alternative that stores its elements off-heap in a direct
+ * {@link IntBuffer} instead of a <code>int[]</code>.  Because the elements are not part of
+ * the Java heap, very large lists are neither scanned nor copied by the garbage collector,
+ * and do not count toward the maximum heap size.  null values are not supported.
+ *
+ * <p>The backing buffer is in native byte order and is reallocated, with the elements
+ * copied, when the list grows beyond its capacity.  Capacity is limited to
+ * {@link #MAX_CAPACITY} elements, the largest direct buffer that can be allocated.</p>
+ *
+ * <p>Off-heap memory is released only when the backing buffer is reclaimed by the garbage collector.
+ * Call {@link #close()} once the list is no longer needed to drop this list's reference to the
+ * buffer, so it may be collected even while the list itself is still reachable; any further access
+ * to the elements will throw {@link IllegalStateException}.</p>
+ *
+ * <p>This list is not thread safe.</p>
+ *
+ * @see  IntArrayList
+ * @see  ByteBuffer#allocateDirect(int)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DirectIntArrayList extends AbstractIntList implements RandomAccess, AutoCloseable {
+
+  /**
+   * The maximum number of elements that may be stored, limited by the largest direct buffer.
+   */
+  public static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+  /**
+   * The buffer into which the elements of the list are stored.
+   * The capacity of the list is the capacity of this buffer.
+   * {@code null} once closed.
+   */
+  protected IntBuffer elementData;
+
+  /**
+   * The size of the list (the number of elements it contains).
+   */
+  protected int size;
+
+  /**
+   * Allocates a new direct buffer, in native byte order, with the given capacity.
+   */
+  protected static IntBuffer allocate(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+    }
+    return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+  }
+
+  /**
+   * Constructs an empty list with the specified initial capacity.
+   *
+   * @param   initialCapacity   the initial capacity of the list.
+   * @exception IllegalArgumentException if the specified initial capacity
+   *            is negative or greater than {@link #MAX_CAPACITY}
+   */
+  public DirectIntArrayList(int initialCapacity) {
+    this.elementData = allocate(initialCapacity);
+  }
+
+  /**
+   * Constructs an empty list with an initial capacity of ten.
+   */
+  public DirectIntArrayList() {
+    this(10);
+  }
+
+  /**
+   * Constructs a list containing the elements of the specified array.
+   * The list has an initial capacity of 110% the length of the array.
+   *
+   * @param elements the elements to be placed into this list.
+   */
+  public DirectIntArrayList(int[] elements) {
+    this((int) Math.min((elements.length * 110L) / 100, MAX_CAPACITY));
+    addAll(elements, 0, elements.length);
+  }
+
+  /**
+   * Uses the provided buffer as-is, for subclasses that obtain their storage elsewhere.
+   *
+   * @param  elementData  the buffer to store elements into, positioned at zero with limit equal to capacity
+   * @param  size         the number of elements already in the buffer
+   */
+  protected DirectIntArrayList(IntBuffer elementData, int size) {
+    if (size < 0 || size > elementData.capacity()) {
+      throw new IllegalArgumentException("Illegal Size: " + size + ", Capacity: " + elementData.capacity());
+    }
+    this.elementData = elementData;
+    this.size = size;
+  }
+
+  /**
+   * Gets the backing buffer, checking that the list is not closed.
+   *
+   * @throws  IllegalStateException  if the list is closed
+   */
+  protected final IntBuffer buffer() throws IllegalStateException {
+    IntBuffer buf = elementData;
+    if (buf == null) {
+      throw new IllegalStateException("List is closed");
+    }
+    return buf;
+  }
+
+  /**
+   * Gets the current capacity of the backing buffer.
+   */
+  public int capacity() {
+    return buffer().capacity();
+  }
+
+  /**
+   * Gets the maximum number of elements this list may store.
+   * This implementation returns {@link #MAX_CAPACITY}.
+   */
+  protected int getMaxCapacity() {
+    return MAX_CAPACITY;
+  }
+
+  /**
+   * Trims the capacity of this list to be the list's current size.
+   */
+  public void trimToSize() {
+    modCount++;
+    IntBuffer oldData = buffer();
+    if (size < oldData.capacity()) {
+      elementData = reallocate(oldData, size);
+    }
+  }
+
+  /**
+   * Increases the capacity of this list, if necessary, to ensure that it can
+   * hold at least the number of elements specified by the minimum capacity argument.
+   *
+   * @param   minCapacity   the desired minimum capacity.
+   * @exception IllegalArgumentException if the minimum capacity is greater than {@link #getMaxCapacity()}
+   */
+  public void ensureCapacity(int minCapacity) {
+    modCount++;
+    IntBuffer oldData = buffer();
+    int oldCapacity = oldData.capacity();
+    if (minCapacity > oldCapacity) {
+      int maxCapacity = getMaxCapacity();
+      if (minCapacity > maxCapacity) {
+        throw new IllegalArgumentException("Capacity exceeds maximum: " + minCapacity + " > " + maxCapacity);
+      }
+      int newCapacity = (int) Math.min((oldCapacity * 3L) / 2 + 1, maxCapacity);
+      if (newCapacity < minCapacity) {
+        newCapacity = minCapacity;
+      }
+      elementData = reallocate(oldData, newCapacity);
+    }
+  }
+
+  /**
+   * Replaces the backing buffer with one of the given capacity, containing the current elements.
+   * This implementation allocates a new direct buffer and copies the elements.
+   *
+   * @param  oldData      the current buffer
+   * @param  newCapacity  the new capacity, which is at least the current size
+   *
+   * @return  the new buffer
+   */
+  protected IntBuffer reallocate(IntBuffer oldData, int newCapacity) {
+    IntBuffer newData = allocate(newCapacity);
+    IntBuffer src = oldData.duplicate();
+    src.position(0).limit(size);
+    newData.put(src);
+    newData.clear();
+    return newData;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public int indexOf(int elem) {
+    IntBuffer buf = buffer();
+    for (int i = 0; i < size; i++) {
+      if (elem == buf.get(i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(int elem) {
+    IntBuffer buf = buffer();
+    for (int i = size - 1; i >= 0; i--) {
+      if (elem == buf.get(i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int[] toArrayInt() {
+    IntBuffer src = buffer().duplicate();
+    src.position(0).limit(size);
+    int[] result = new int[size];
+    src.get(result);
+    return result;
+  }
+
+  @Override
+  public Object[] toArray() {
+    IntBuffer buf = buffer();
+    Object[] result = new Object[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = buf.get(i);
+    }
+    return result;
+  }
+
+  /**
+   * Check if the given index is in range.  If not, throw an appropriate
+   * runtime exception.
+   */
+  private void rangeCheck(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+
+  @Override
+  public int getInt(int index) {
+    IntBuffer buf = buffer();
+    rangeCheck(index);
+    return buf.get(index);
+  }
+
+  @Override
+  public int set(int index, int element) {
+    IntBuffer buf = buffer();
+    rangeCheck(index);
+    int oldValue = buf.get(index);
+    buf.put(index, element);
+    return oldValue;
+  }
+
+  @Override
+  public boolean add(int o) {
+    ensureCapacity(size + 1);  // Increments modCount!!
+    elementData.put(size++, o);
+    return true;
+  }
+
+  @Override
+  public void add(int index, int element) {
+    if (index > size || index < 0) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    ensureCapacity(size + 1);  // Increments modCount!!
+    IntBuffer buf = elementData;
+    for (int i = size; i > index; i--) {
+      buf.put(i, buf.get(i - 1));
+    }
+    buf.put(index, element);
+    size++;
+  }
+
+  @Override
+  public int removeAtIndex(int index) {
+    IntBuffer buf = buffer();
+    rangeCheck(index);
+    modCount++;
+    int oldValue = buf.get(index);
+    shiftLeft(buf, index + 1, index);
+    return oldValue;
+  }
+
+  /**
+   * Moves the elements from {@code fromIndex} to the end of the list down to {@code toIndex},
+   * updating the size.
+   */
+  private void shiftLeft(IntBuffer buf, int fromIndex, int toIndex) {
+    int numMoved = size - fromIndex;
+    if (numMoved > 0) {
+      // compact() is documented to move the remaining elements to the beginning of the buffer
+      IntBuffer tail = buf.duplicate();
+      tail.position(toIndex);
+      tail = tail.slice();
+      tail.position(fromIndex - toIndex).limit(fromIndex - toIndex + numMoved);
+      tail.compact();
+    }
+    size -= fromIndex - toIndex;
+  }
+
+  @Override
+  public void clear() {
+    buffer();
+    modCount++;
+    size = 0;
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    IntBuffer buf = buffer();
+    modCount++;
+    shiftLeft(buf, toIndex, fromIndex);
+  }
+
+  /**
+   * Appends all of the elements in the specified range of an array to the end of this list.
+   *
+   * @param a the elements to be appended to this list.
+   * @param off the index of the first element to append.
+   * @param len the number of elements to append.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified array is null.
+   * @throws    IndexOutOfBoundsException if the range is out of bounds of the array.
+   */
+  @Override
+  public boolean addAll(int[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    ensureCapacity(size + len);  // Increments modCount
+    IntBuffer dst = elementData.duplicate();
+    dst.position(size);
+    dst.put(a, off, len);
+    size += len;
+    return len != 0;
+  }
+
+  @Override
+  public boolean addAll(IntCollection c) {
+    if (c instanceof IntArrayList) {
+      IntArrayList other = (IntArrayList) c;
+      return addAll(other.elementData, 0, other.size);
+    }
+    int[] a = c.toArrayInt();
+    return addAll(a, 0, a.length);
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    final IntBuffer buf = buffer();
+    final int mySize = size;
+    for (int i = 0; modCount == expectedModCount && i < mySize; i++) {
+      action.accept(buf.get(i));
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Removes all of the elements of this list that satisfy the given predicate.
+   * Tests each element once, marking the elements to remove in a bitset, then compacts the
+   * survivors in a second pass, without boxing.
+   *
+   * @see  IntArrayList#removeIfInt(java.util.function.IntPredicate)
+   */
+  @Override
+  public boolean removeIfInt(IntPredicate filter) {
+    Objects.requireNonNull(filter);
+    final int expectedModCount = modCount;
+    final IntBuffer buf = buffer();
+    final int end = size;
+    int i = 0;
+    // Optimize for initial run of survivors
+    while (i < end && !filter.test(buf.get(i))) {
+      i++;
+    }
+    // Traverse once to find elements to delete, a second pass to physically expunge.
+    if (i < end) {
+      final int beg = i;
+      final long[] deathRow = new long[((end - beg - 1) >> 6) + 1];
+      deathRow[0] = 1L; // set bit 0
+      for (i = beg + 1; i < end; i++) {
+        if (filter.test(buf.get(i))) {
+          deathRow[(i - beg) >> 6] |= 1L << (i - beg);
+        }
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      modCount++;
+      int w = beg;
+      for (i = beg; i < end; i++) {
+        if ((deathRow[(i - beg) >> 6] & (1L << (i - beg))) == 0) {
+          buf.put(w++, buf.get(i));
+        }
+      }
+      size = w;
+      return true;
+    } else {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Drops the reference to the backing buffer, whose memory is freed once the buffer is reclaimed
+   * by the garbage collector.  Any further use of this list, other than {@link #size()} and
+   * {@link #isEmpty()} reporting it empty, will throw {@link IllegalStateException}.
+   * Closing an already closed list has no effect.
+   */
+  @Override
+  public void close() {
+    if (elementData != null) {
+      modCount++;
+      elementData = null;
+      size = 0;
+    }
+  }
+}
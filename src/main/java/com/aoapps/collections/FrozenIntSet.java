@@ -0,0 +1,288 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractSet;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable {@link IntSet} for large, read-only lookup tables, storing its sorted elements in
+ * Eytzinger (breadth-first) order.  Compared to the binary search of {@link SortedIntArrayList},
+ * the first levels of the search share a small number of cache lines that stay cached between
+ * searches, the following levels are adjacent in memory, and each step selects the next position
+ * arithmetically instead of branching on the comparison.  This is much faster for tables larger
+ * than the processor caches.
+ *
+ * <p>Elements are iterated in ascending numerical order.</p>
+ *
+ * @see  SortedIntArrayList
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FrozenIntSet extends AbstractSet<Integer> implements IntSet {
+
+  /**
+   * The minimum size that will load ahead while searching.  Java has no software prefetch, so
+   * a plain load of the descendants {@link #LOOKAHEAD_LEVELS} below the current element is used
+   * instead.  This takes a little extra time for sets that fit in the processor caches, but
+   * overlaps the memory latency of the deeper levels for larger sets.
+   */
+  private static final int LOOKAHEAD_THRESHOLD = 1 << 16;
+
+  /**
+   * The number of levels to load ahead.  The sixteen descendants four levels down are adjacent.
+   */
+  private static final int LOOKAHEAD_LEVELS = 4;
+
+  /**
+   * Compared with the lookahead loads, and rarely written, so the loads are not eliminated as
+   * dead code.  Races are harmless.
+   */
+  private static int lookaheadSink;
+
+  /**
+   * The elements in Eytzinger order, starting at index one.  The children of the element at
+   * index {@code k} are at {@code 2k} and {@code 2k + 1}.
+   */
+  private final int[] tree;
+
+  /**
+   * The number of elements.
+   */
+  private final int size;
+
+  /**
+   * Creates a set of the elements of the given collection.  Sorting is skipped for a
+   * {@link SortedIntArrayList}, and any duplicates are removed.
+   */
+  public FrozenIntSet(IntCollection c) {
+    int[] sorted = c.toArrayInt();
+    if (!(c instanceof SortedIntArrayList)) {
+      AoArrays.radixSort(sorted, 0, sorted.length);
+    }
+    // Remove duplicates
+    int n = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      int value = sorted[i];
+      if (n == 0 || value != sorted[n - 1]) {
+        sorted[n++] = value;
+      }
+    }
+    size = n;
+    tree = new int[n + 1];
+    int filled = fill(sorted, 0, 1);
+    assert filled == n;
+  }
+
+  /**
+   * Fills the subtree at index {@code k} with the sorted elements starting at {@code i}, by in-order traversal.
+   *
+   * @return  the index of the next sorted element
+   */
+  private int fill(int[] sorted, int i, int k) {
+    if (k <= size) {
+      i = fill(sorted, i, k << 1);
+      tree[k] = sorted[i++];
+      i = fill(sorted, i, (k << 1) + 1);
+    }
+    return i;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(int elem) {
+    int[] t = tree;
+    int n = size;
+    int k = 1;
+    if (n < LOOKAHEAD_THRESHOLD) {
+      while (k <= n) {
+        // Descend left or right without branching on the comparison
+        k = (k << 1) + (t[k] < elem ? 1 : 0);
+      }
+    } else {
+      int ahead = 0;
+      while (k <= n) {
+        // Load the descendants four levels down, which share a cache line, in parallel with the comparison
+        ahead ^= t[lookaheadIndex(k, n)];
+        k = (k << 1) + (t[k] < elem ? 1 : 0);
+      }
+      // Keep the lookahead loads from being optimized away
+      if (ahead == lookaheadSink) {
+        lookaheadSink = ahead + 1;
+      }
+    }
+    // Undo the final right turns and one left turn, finding the least element greater than or equal to elem
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return k != 0 && t[k] == elem;
+  }
+
+  /**
+   * Gets the index to load ahead from index {@code k}: its first descendant {@link #LOOKAHEAD_LEVELS}
+   * below, limited to {@code n}.  The shift is performed in {@code long} so it does not overflow
+   * once {@code k} reaches 2<sup>27</sup>.
+   */
+  static int lookaheadIndex(int k, int n) {
+    return (int) Math.min((long) k << LOOKAHEAD_LEVELS, n);
+  }
+
+  /**
+   * Not allowed to modify an immutable set.
+   */
+  @Override
+  public boolean add(int o) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not allowed to modify an immutable set.
+   */
+  @Override
+  public boolean removeByValue(int value) {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Not allowed to modify an immutable set.
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Gets the index of the first element in ascending order, or {@code 0} when empty.
+   */
+  private int first() {
+    int k = 0;
+    for (int next = 1; next <= size; next <<= 1) {
+      k = next;
+    }
+    return k;
+  }
+
+  /**
+   * Gets the index of the element following the element at index {@code k} in ascending order,
+   * or {@code 0} after the last element.
+   */
+  private int successor(int k) {
+    int right = (k << 1) + 1;
+    if (right <= size) {
+      // Leftmost of the right subtree
+      k = right;
+      while ((k << 1) <= size) {
+        k <<= 1;
+      }
+      return k;
+    }
+    // Up past all right turns and one left turn
+    return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+  }
+
+  @Override
+  public int[] toArrayInt() {
+    int[] array = new int[size];
+    int index = 0;
+    for (int k = first(); k != 0; k = successor(k)) {
+      array[index++] = tree[k];
+    }
+    return array;
+  }
+
+  @Override
+  public void forEachInt(IntConsumer action) {
+    for (int k = first(); k != 0; k = successor(k)) {
+      action.accept(tree[k]);
+    }
+  }
+
+  @Override
+  public IntIterator iterator() {
+    return new IntIterator() {
+      private int next = first();
+
+      @Override
+      public boolean hasNext() {
+        return next != 0;
+      }
+
+      @Override
+      public int nextInt() {
+        int k = next;
+        if (k == 0) {
+          throw new NoSuchElementException();
+        }
+        next = successor(k);
+        return tree[k];
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+   * {@link Spliterator#DISTINCT}, {@link Spliterator#NONNULL}, and {@link Spliterator#IMMUTABLE}.</p>
+   */
+  @Override
+  public Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(
+        iterator(),
+        size,
+        Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE
+    );
+  }
+
+  /**
+   * Computes the hash code as the sum of {@link Integer#hashCode(int)} of the elements,
+   * as specified by {@link java.util.Set#hashCode()}, without boxing.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    for (int k = 1; k <= size; k++) {
+      h += Integer.hashCode(tree[k]);
+    }
+    return h;
+  }
+}
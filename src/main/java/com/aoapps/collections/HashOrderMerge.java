@@ -0,0 +1,249 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Single-pass merges between sets stored in hashCode order, for {@link ArraySet} and
+ * {@link UnmodifiableArraySet}.  The sets are walked together by their cached hash codes,
+ * calling <code>equals</code> only within runs of the same hash code, so each merge is O(n + m)
+ * with a good hash code.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class HashOrderMerge {
+
+  /** Make no instances. */
+  private HashOrderMerge() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Elements in hashCode order, unique, along with their hash codes.
+   */
+  static final class Side {
+
+    final List<?> elements;
+    final int[] hashes;
+    final int size;
+
+    Side(List<?> elements, int[] hashes, int size) {
+      this.elements = elements;
+      this.hashes = hashes;
+      this.size = size;
+    }
+  }
+
+  /**
+   * Checks if a collection is already stored in hashCode order with its hash codes cached.
+   */
+  static boolean isHashOrdered(Collection<?> c) {
+    return (c instanceof ArraySet) || (c instanceof UnmodifiableArraySet);
+  }
+
+  /**
+   * Gets the elements of a collection in hashCode order.  Collections not already in hashCode
+   * order are sorted with {@link ArraySetBuilder}, removing any duplicates.
+   */
+  static Side of(Collection<?> c) {
+    if (c instanceof ArraySet) {
+      return ((ArraySet<?>) c).toSide();
+    }
+    if (c instanceof UnmodifiableArraySet) {
+      return ((UnmodifiableArraySet<?>) c).toSide();
+    }
+    ArraySetBuilder.Sorted sorted = ArraySetBuilder.sort(c);
+    return new Side(Arrays.asList(sorted.elements), sorted.hashes, sorted.elements.length);
+  }
+
+  enum Op {
+    /**
+     * The elements in either side.
+     */
+    UNION,
+
+    /**
+     * The elements of the first side that are also in the second side.
+     */
+    INTERSECTION,
+
+    /**
+     * The elements of the first side that are not in the second side.
+     */
+    DIFFERENCE
+  }
+
+  private static boolean containsInRun(List<?> elements, int from, int to, Object o) {
+    for (int i = from; i < to; i++) {
+      if (elements.get(i).equals(o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Merges two sides in hashCode order.  Only elements of the first side are provided to
+   * the output for {@link Op#INTERSECTION} and {@link Op#DIFFERENCE}, in their original order,
+   * so the output may overwrite the first side in-place.
+   *
+   * @param  out  receives each element of the result along with its hash code, in hashCode order,
+   *              or {@code null} to only count the result
+   *
+   * @return  the number of elements in the result
+   */
+  static int merge(Side side1, Side side2, Op op, ObjIntConsumer<Object> out) {
+    final List<?> e1 = side1.elements;
+    final int[] h1 = side1.hashes;
+    final int n1 = side1.size;
+    final List<?> e2 = side2.elements;
+    final int[] h2 = side2.hashes;
+    final int n2 = side2.size;
+    final boolean keepOnly1 = op != Op.INTERSECTION;
+    final boolean keepOnly2 = op == Op.UNION;
+    int count = 0;
+    int i = 0;
+    int j = 0;
+    while (i < n1 && j < n2) {
+      int hash1 = h1[i];
+      int hash2 = h2[j];
+      if (hash1 < hash2) {
+        if (keepOnly1) {
+          if (out != null) {
+            out.accept(e1.get(i), hash1);
+          }
+          count++;
+        }
+        i++;
+      } else if (hash1 > hash2) {
+        if (keepOnly2) {
+          if (out != null) {
+            out.accept(e2.get(j), hash2);
+          }
+          count++;
+        }
+        j++;
+      } else {
+        // Find the runs of the same hashCode
+        int end1 = i + 1;
+        while (end1 < n1 && h1[end1] == hash1) {
+          end1++;
+        }
+        int end2 = j + 1;
+        while (end2 < n2 && h2[end2] == hash2) {
+          end2++;
+        }
+        for (int k = i; k < end1; k++) {
+          Object elem = e1.get(k);
+          if (op == Op.UNION || containsInRun(e2, j, end2, elem) == (op == Op.INTERSECTION)) {
+            if (out != null) {
+              out.accept(elem, hash1);
+            }
+            count++;
+          }
+        }
+        if (keepOnly2) {
+          for (int k = j; k < end2; k++) {
+            Object elem = e2.get(k);
+            if (!containsInRun(e1, i, end1, elem)) {
+              if (out != null) {
+                out.accept(elem, hash2);
+              }
+              count++;
+            }
+          }
+        }
+        i = end1;
+        j = end2;
+      }
+    }
+    if (keepOnly1) {
+      while (i < n1) {
+        if (out != null) {
+          out.accept(e1.get(i), h1[i]);
+        }
+        count++;
+        i++;
+      }
+    }
+    if (keepOnly2) {
+      while (j < n2) {
+        if (out != null) {
+          out.accept(e2.get(j), h2[j]);
+        }
+        count++;
+        j++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Checks if the first side contains all the elements of the second side.
+   */
+  static boolean containsAll(Side side1, Side side2) {
+    final int n1 = side1.size;
+    final int n2 = side2.size;
+    if (n2 > n1) {
+      return false;
+    }
+    final List<?> e1 = side1.elements;
+    final int[] h1 = side1.hashes;
+    final List<?> e2 = side2.elements;
+    final int[] h2 = side2.hashes;
+    int i = 0;
+    int j = 0;
+    while (j < n2) {
+      if (i == n1) {
+        return false;
+      }
+      int hash1 = h1[i];
+      int hash2 = h2[j];
+      if (hash1 < hash2) {
+        i++;
+      } else if (hash1 > hash2) {
+        return false;
+      } else {
+        // Find the runs of the same hashCode
+        int end1 = i + 1;
+        while (end1 < n1 && h1[end1] == hash1) {
+          end1++;
+        }
+        while (j < n2 && h2[j] == hash2) {
+          if (!containsInRun(e1, i, end1, e2.get(j))) {
+            return false;
+          }
+          j++;
+        }
+        i = end1;
+      }
+    }
+    return true;
+  }
+}
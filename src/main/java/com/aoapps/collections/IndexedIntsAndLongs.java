@@ -0,0 +1,62 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+/**
+ * An {@link IntsAndLongs} with a hash index from each int to its first position, built once at
+ * construction.  {@link #contains(int)}, {@link #indexOf(int)}, and
+ * {@link #getLongForInt(int, long)} run in constant time instead of scanning the ints.
+ *
+ * <p>The lists must not be modified after construction, since the index is not updated.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IndexedIntsAndLongs extends IntsAndLongs {
+
+  private final IntIntHashMap index;
+
+  public IndexedIntsAndLongs(IntList ints, LongList longs) {
+    super(ints, longs);
+    int size = ints.size();
+    index = new IntIntHashMap(
+        AoCollections.getHashInitialCapacity(size, IntIntHashMap.DEFAULT_LOAD_FACTOR),
+        IntIntHashMap.DEFAULT_LOAD_FACTOR,
+        -1
+    );
+    // Backward, so the first occurrence of each int is indexed
+    for (int i = size - 1; i >= 0; i--) {
+      index.put(ints.getInt(i), i);
+    }
+  }
+
+  @Override
+  public boolean contains(int value) {
+    return index.containsKey(value);
+  }
+
+  @Override
+  public int indexOf(int value) {
+    return index.get(value);
+  }
+}
@@ -0,0 +1,691 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntIntMap} implemented with open addressing and linear probing over parallel
+ * key and value arrays.  Compared to <code>HashMap&lt;Integer, Integer&gt;</code>, no key object,
+ * value object, or node is allocated per entry.
+ *
+ * <p>The capacity and load factor have the same meaning as for {@link java.util.HashMap}, and
+ * {@link AoCollections#getHashInitialCapacity(int, float)} may be used to size the map for an
+ * expected number of entries.</p>
+ *
+ * <p>This map is not thread safe.</p>
+ *
+ * @see  IntHashSet
+ * @see  AoCollections#newIntIntHashMap(int)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntIntHashMap implements IntIntMap, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = 117328559378719580L;
+
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The initial capacity used when none specified in constructor.
+   */
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * The table of keys, with {@code 0} marking an empty slot.  The key {@code 0} itself is
+   * stored in the extra slot at the end, at index {@code mask + 1}.
+   */
+  private transient int[] keys;
+
+  /**
+   * The values, parallel to {@link #keys}.
+   */
+  private transient int[] values;
+
+  /**
+   * The mask for table positions, one less than the power-of-two table length.
+   */
+  private transient int mask;
+
+  /**
+   * Whether the key {@code 0} is in this map.
+   */
+  private transient boolean containsZeroKey;
+
+  /**
+   * The number of entries in this map, including any zero key.
+   */
+  private transient int size;
+
+  /**
+   * The number of keys in the table at which it will be resized.
+   */
+  private transient int threshold;
+
+  /**
+   * The number of times this map has been structurally modified.
+   */
+  private transient int modCount;
+
+  /**
+   * The load factor of the table.
+   *
+   * @serial
+   */
+  private final float loadFactor;
+
+  /**
+   * The value returned for keys not in this map.
+   *
+   * @serial
+   */
+  private final int noEntryValue;
+
+  private transient IntSet keySetView;
+
+  /**
+   * Constructs an empty map with the specified initial capacity, load factor, and no-entry value.
+   *
+   * @param  initialCapacity  the initial capacity
+   * @param  loadFactor       the load factor, which must be greater than zero and less than one
+   * @param  noEntryValue     the value returned for keys not in this map
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative or the load factor is out of range
+   */
+  public IntIntHashMap(int initialCapacity, float loadFactor, int noEntryValue) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    this.loadFactor = PrimitiveHashing.checkLoadFactor(loadFactor);
+    this.noEntryValue = noEntryValue;
+    allocate(PrimitiveHashing.tableSize(initialCapacity));
+  }
+
+  /**
+   * Constructs an empty map with the specified initial capacity and load factor, and a no-entry value of {@code 0}.
+   *
+   * @param  initialCapacity  the initial capacity
+   * @param  loadFactor       the load factor, which must be greater than zero and less than one
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative or the load factor is out of range
+   */
+  public IntIntHashMap(int initialCapacity, float loadFactor) throws IllegalArgumentException {
+    this(initialCapacity, loadFactor, 0);
+  }
+
+  /**
+   * Constructs an empty map with the specified initial capacity, the default load factor ({@value #DEFAULT_LOAD_FACTOR}),
+   * and a no-entry value of {@code 0}.
+   *
+   * @param  initialCapacity  the initial capacity
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative
+   */
+  public IntIntHashMap(int initialCapacity) throws IllegalArgumentException {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR, 0);
+  }
+
+  /**
+   * Constructs an empty map with the default initial capacity and load factor ({@value #DEFAULT_LOAD_FACTOR}),
+   * and a no-entry value of {@code 0}.
+   */
+  public IntIntHashMap() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR, 0);
+  }
+
+  private void allocate(int length) {
+    keys = new int[length + 1];
+    values = new int[length + 1];
+    mask = length - 1;
+    threshold = PrimitiveHashing.threshold(length, loadFactor);
+  }
+
+  /**
+   * Increases the capacity of this map, if necessary, to hold the given number of entries
+   * without resizing.
+   */
+  public void ensureCapacity(int minCapacity) {
+    int length = PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(minCapacity, loadFactor));
+    if (length > mask + 1) {
+      modCount++;
+      rehash(length);
+    }
+  }
+
+  /**
+   * Moves all entries into a new table of the given length.
+   */
+  private void rehash(int length) {
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    int oldLength = mask + 1;
+    allocate(length);
+    int[] newKeys = keys;
+    int[] newValues = values;
+    int newMask = mask;
+    newValues[newMask + 1] = oldValues[oldLength];
+    for (int j = 0; j < oldLength; j++) {
+      int key = oldKeys[j];
+      if (key != 0) {
+        int i = PrimitiveHashing.mix(key) & newMask;
+        while (newKeys[i] != 0) {
+          i = (i + 1) & newMask;
+        }
+        newKeys[i] = key;
+        newValues[i] = oldValues[j];
+      }
+    }
+  }
+
+  /**
+   * Finds the slot of the given key.
+   *
+   * @return  the slot or {@code -1} when not found
+   */
+  private int find(int key) {
+    if (key == 0) {
+      return containsZeroKey ? (mask + 1) : -1;
+    }
+    int[] k = keys;
+    int m = mask;
+    int i = PrimitiveHashing.mix(key) & m;
+    while (true) {
+      int current = k[i];
+      if (current == key) {
+        return i;
+      }
+      if (current == 0) {
+        return -1;
+      }
+      i = (i + 1) & m;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public int getNoEntryValue() {
+    return noEntryValue;
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    return find(key) != -1;
+  }
+
+  @Override
+  public int get(int key) {
+    int slot = find(key);
+    return slot == -1 ? noEntryValue : values[slot];
+  }
+
+  @Override
+  public int getOrDefault(int key, int defaultValue) {
+    int slot = find(key);
+    return slot == -1 ? defaultValue : values[slot];
+  }
+
+  @Override
+  public int put(int key, int value) {
+    int slot;
+    if (key == 0) {
+      slot = mask + 1;
+      if (containsZeroKey) {
+        int oldValue = values[slot];
+        values[slot] = value;
+        return oldValue;
+      }
+      containsZeroKey = true;
+      values[slot] = value;
+    } else {
+      int[] k = keys;
+      int m = mask;
+      slot = PrimitiveHashing.mix(key) & m;
+      while (true) {
+        int current = k[slot];
+        if (current == key) {
+          int oldValue = values[slot];
+          values[slot] = value;
+          return oldValue;
+        }
+        if (current == 0) {
+          break;
+        }
+        slot = (slot + 1) & m;
+      }
+      k[slot] = key;
+      values[slot] = value;
+      if (size - (containsZeroKey ? 1 : 0) >= threshold) {
+        if (m + 1 == PrimitiveHashing.MAXIMUM_CAPACITY) {
+          k[slot] = 0;
+          throw new IllegalStateException("Map too large");
+        }
+        rehash((m + 1) << 1);
+      }
+    }
+    modCount++;
+    size++;
+    return noEntryValue;
+  }
+
+  @Override
+  public int remove(int key) {
+    int slot = find(key);
+    if (slot == -1) {
+      return noEntryValue;
+    }
+    int oldValue = values[slot];
+    removeSlot(slot, null);
+    return oldValue;
+  }
+
+  /**
+   * Removes the entry at the given slot.
+   *
+   * @param  wrapped  when not {@code null}, receives any keys moved from the start of the table to
+   *                  its end, for {@link KeyIterator} to not miss them
+   */
+  private void removeSlot(int slot, IntArrayList wrapped) {
+    if (slot == mask + 1) {
+      containsZeroKey = false;
+    } else {
+      shiftEntries(slot, wrapped);
+    }
+    modCount++;
+    size--;
+  }
+
+  /**
+   * Empties the given slot, shifting back any following entries whose probe sequence passes through it.
+   */
+  private void shiftEntries(int pos, IntArrayList wrapped) {
+    int[] k = keys;
+    int[] v = values;
+    int m = mask;
+    while (true) {
+      int last = pos;
+      pos = (pos + 1) & m;
+      int current;
+      while (true) {
+        current = k[pos];
+        if (current == 0) {
+          k[last] = 0;
+          return;
+        }
+        int slot = PrimitiveHashing.mix(current) & m;
+        if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+          break;
+        }
+        pos = (pos + 1) & m;
+      }
+      if (wrapped != null && pos < last) {
+        wrapped.add(current);
+      }
+      k[last] = current;
+      v[last] = v[pos];
+    }
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      modCount++;
+      Arrays.fill(keys, 0);
+      containsZeroKey = false;
+      size = 0;
+    }
+  }
+
+  @Override
+  public void forEachEntry(EntryConsumer action) {
+    final int expectedModCount = modCount;
+    int[] k = keys;
+    int[] v = values;
+    int m = mask;
+    if (containsZeroKey) {
+      action.accept(0, v[m + 1]);
+    }
+    for (int i = 0; i <= m && modCount == expectedModCount; i++) {
+      int key = k[i];
+      if (key != 0) {
+        action.accept(key, v[i]);
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Iterates the keys: the zero key first, then the table from its end to its start.
+   * When removal shifts a key from the start of the table past the current position, it is
+   * remembered in a separate list.
+   */
+  private final class KeyIterator implements IntIterator {
+    int pos = mask + 1;         // position of the last key returned from the table
+    int remaining = size;       // number of keys yet to be returned
+    boolean nextZero = containsZeroKey;
+    int lastRet = -1;           // slot of the last key returned, or -1 when none or wrapped
+    IntArrayList wrapped;       // keys shifted from the start of the table past pos
+    int wrappedIndex;
+    int lastWrapped;
+    boolean lastIsWrapped;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return remaining != 0;
+    }
+
+    @Override
+    public int nextInt() {
+      checkForComodification();
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      lastIsWrapped = false;
+      if (nextZero) {
+        nextZero = false;
+        lastRet = mask + 1;
+        return 0;
+      }
+      int[] k = keys;
+      while (pos > 0) {
+        int key = k[--pos];
+        if (key != 0) {
+          lastRet = pos;
+          return key;
+        }
+      }
+      lastIsWrapped = true;
+      lastRet = -1;
+      return lastWrapped = wrapped.getInt(wrappedIndex++);
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      if (lastIsWrapped) {
+        lastIsWrapped = false;
+        IntIntHashMap.this.remove(lastWrapped);
+      } else if (lastRet < 0) {
+        throw new IllegalStateException();
+      } else {
+        if (wrapped == null) {
+          wrapped = new IntArrayList(2);
+        }
+        removeSlot(lastRet, wrapped);
+        lastRet = -1;
+      }
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  @Override
+  public IntSet keySet() {
+    IntSet ks = keySetView;
+    if (ks == null) {
+      ks = new KeySet();
+      keySetView = ks;
+    }
+    return ks;
+  }
+
+  private final class KeySet extends AbstractSet<Integer> implements IntSet {
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (o instanceof Number) {
+        return containsKey(((Number) o).intValue());
+      }
+      return false;
+    }
+
+    @Override
+    public boolean contains(int elem) {
+      return containsKey(elem);
+    }
+
+    @Override
+    public int[] toArrayInt() {
+      int[] array = new int[size];
+      int index = 0;
+      if (containsZeroKey) {
+        index++;
+      }
+      int[] k = keys;
+      for (int i = 0; i <= mask; i++) {
+        int key = k[i];
+        if (key != 0) {
+          array[index++] = key;
+        }
+      }
+      return array;
+    }
+
+    @Override
+    public boolean add(int o) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (o instanceof Number) {
+        return removeByValue(((Number) o).intValue());
+      }
+      return false;
+    }
+
+    @Override
+    public boolean removeByValue(int value) {
+      int slot = find(value);
+      if (slot == -1) {
+        return false;
+      }
+      removeSlot(slot, null);
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      IntIntHashMap.this.clear();
+    }
+
+    @Override
+    public IntIterator iterator() {
+      return new KeyIterator();
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+      forEachEntry((key, value) -> action.accept(key));
+    }
+  }
+
+  /**
+   * Compares the specified object with this map for equality.  Returns {@code true} if the
+   * given object is also a {@link IntIntMap} and the two maps represent the same mappings.
+   * The no-entry values are not compared.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof IntIntMap)) {
+      return false;
+    }
+    IntIntMap other = (IntIntMap) o;
+    if (other.size() != size) {
+      return false;
+    }
+    int[] k = keys;
+    int[] v = values;
+    int m = mask;
+    if (containsZeroKey && (!other.containsKey(0) || other.get(0) != v[m + 1])) {
+      return false;
+    }
+    for (int i = 0; i <= m; i++) {
+      int key = k[i];
+      if (key != 0 && (!other.containsKey(key) || other.get(key) != v[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the hash code as the sum of the hash codes of the entries, as specified by
+   * {@link java.util.Map#hashCode()}, without boxing.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    int[] k = keys;
+    int[] v = values;
+    int m = mask;
+    if (containsZeroKey) {
+      h += Integer.hashCode(v[m + 1]);
+    }
+    for (int i = 0; i <= m; i++) {
+      int key = k[i];
+      if (key != 0) {
+        h += Integer.hashCode(key) ^ Integer.hashCode(v[i]);
+      }
+    }
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append('{');
+    forEachEntry((key, value) -> {
+      if (sb.length() > 1) {
+        sb.append(", ");
+      }
+      sb.append(key).append('=').append(value);
+    });
+    return sb.append('}').toString();
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      IntIntHashMap m = (IntIntHashMap) super.clone();
+      m.keys = keys.clone();
+      m.values = values.clone();
+      m.modCount = 0;
+      m.keySetView = null;
+      return m;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Save the state of the {@link IntIntHashMap} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The number of entries is emitted (int), followed by the key
+   *             and value (each a <code>int</code>) of each entry in no particular order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out load factor, no-entry value, and any hidden stuff
+    s.defaultWriteObject();
+
+    // Write out size
+    s.writeInt(size);
+
+    // Write out all entries
+    if (containsZeroKey) {
+      s.writeInt(0);
+      s.writeInt(values[mask + 1]);
+    }
+    for (int i = 0; i <= mask; i++) {
+      int key = keys[i];
+      if (key != 0) {
+        s.writeInt(key);
+        s.writeInt(values[i]);
+      }
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link IntIntHashMap} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in load factor, no-entry value, and any hidden stuff
+    s.defaultReadObject();
+    PrimitiveHashing.checkLoadFactor(loadFactor);
+
+    // Read in size and allocate table
+    int count = s.readInt();
+    if (count < 0) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    allocate(PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(count, loadFactor)));
+
+    // Read in all entries
+    for (int i = 0; i < count; i++) {
+      int key = s.readInt();
+      put(key, s.readInt());
+    }
+  }
+}
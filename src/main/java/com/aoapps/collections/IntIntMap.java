@@ -0,0 +1,97 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+/**
+ * A map from <code>int</code> keys to <code>int</code> values, stored without boxing.
+ * Because values are primitives, a lookup of a missing key returns the map's
+ * {@linkplain #getNoEntryValue() no-entry value}; use {@link #containsKey(int)} where the
+ * no-entry value is also a valid value.
+ *
+ * @see  java.util.Map
+ */
+public interface IntIntMap {
+
+  /**
+   * Performs an action on a key and its value.
+   */
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(int key, int value);
+  }
+
+  int size();
+
+  boolean isEmpty();
+
+  /**
+   * Gets the value returned for keys that are not in this map.
+   */
+  int getNoEntryValue();
+
+  boolean containsKey(int key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@link #getNoEntryValue()} if there is no mapping for the key
+   */
+  int get(int key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@code defaultValue} if there is no mapping for the key
+   */
+  int getOrDefault(int key, int defaultValue);
+
+  /**
+   * Associates the specified value with the specified key.
+   *
+   * @return  the previous value or {@link #getNoEntryValue()} if there was no mapping for the key
+   */
+  int put(int key, int value);
+
+  /**
+   * Removes the mapping for a key.
+   *
+   * @return  the previous value or {@link #getNoEntryValue()} if there was no mapping for the key
+   */
+  int remove(int key);
+
+  void clear();
+
+  /**
+   * Gets a view of the keys in this map.  Removing from the view removes from the map.
+   * Adding to the view is not supported.
+   */
+  IntSet keySet();
+
+  /**
+   * Performs the given action for each entry in this map, without boxing.
+   *
+   * @throws  java.util.ConcurrentModificationException  if the map is modified by the action
+   */
+  void forEachEntry(EntryConsumer action);
+}
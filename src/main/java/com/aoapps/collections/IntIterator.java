@@ -0,0 +1,37 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * An iterator over primitive <code>int</code> values.  Values are returned by {@link #nextInt()}
+ * without boxing.  Iterators returned by the primitive collections are fail-fast, in the same
+ * manner as {@link java.util.ArrayList#iterator()}.
+ *
+ * @see  IntCollection#intIterator()
+ */
+public interface IntIterator extends PrimitiveIterator.OfInt {
+  // No additional methods
+}
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,13 +24,16 @@
 package com.aoapps.collections;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntUnaryOperator;
 
 /**
  * A List that stores things using <code>int[]</code> instead of <code>Object[]</code>.  null values are not supported.
  *
  * @see  List
  */
-// TODO: Support IntStream
 public interface IntList extends IntCollection, List<Integer> {
 
   int indexOf(int elem);
@@ -44,4 +47,36 @@ public interface IntList extends IntCollection, List<Integer> {
   void add(int index, int element);
 
   int removeAtIndex(int index);
+
+  /**
+   * Replaces each element of this list with the result of applying the operator to that element.
+   * The elements are passed as primitive values, without boxing.
+   *
+   * @param  operator  the operator to apply to each element
+   *
+   * @throws  NullPointerException  if the specified operator is null
+   *
+   * @see  #replaceAll(java.util.function.UnaryOperator)
+   */
+  default void replaceAllInt(IntUnaryOperator operator) {
+    Objects.requireNonNull(operator);
+    for (int i = 0, size = size(); i < size; i++) {
+      set(i, operator.applyAsInt(getInt(i)));
+    }
+  }
+
+  /**
+   * Creates a {@link Spliterator.OfInt} over the elements in this list.
+   * The elements are traversed as primitive values, without boxing.
+   *
+   * <p>The default implementation creates a
+   * <em>late-binding</em> spliterator from the list's {@link IntIterator}.
+   * The spliterator inherits the <em>fail-fast</em> properties of the list's iterator.</p>
+   *
+   * @return  a {@link Spliterator.OfInt} over the elements in this list
+   */
+  @Override
+  default Spliterator.OfInt spliterator() {
+    return Spliterators.spliterator(intIterator(), size(), Spliterator.ORDERED);
+  }
 }
@@ -0,0 +1,830 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntObjectMap} implemented with open addressing and linear probing over parallel
+ * key and value arrays.  Compared to <code>HashMap&lt;Integer, V&gt;</code>, no key object or
+ * node is allocated per entry.  null keys are not supported, but null values are.
+ *
+ * <p>The capacity and load factor have the same meaning as for {@link java.util.HashMap}, and
+ * {@link AoCollections#getHashInitialCapacity(int, float)} may be used to size the map for an
+ * expected number of entries.  The {@link #keySet()} view provides the keys without boxing.</p>
+ *
+ * <p>This map is not thread safe.</p>
+ *
+ * @param  <V>  the type of mapped values
+ *
+ * @see  IntHashSet
+ * @see  AoCollections#newIntObjectHashMap(int)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class IntObjectHashMap<V> extends AbstractMap<Integer, V> implements IntObjectMap<V>, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = -6699063960986012767L;
+
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The initial capacity used when none specified in constructor.
+   */
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * The table of keys, with {@code 0} marking an empty slot.  The key {@code 0} itself is
+   * stored in the extra slot at the end, at index {@code mask + 1}.
+   */
+  private transient int[] keys;
+
+  /**
+   * The values, parallel to {@link #keys}.
+   */
+  private transient Object[] values;
+
+  /**
+   * The mask for table positions, one less than the power-of-two table length.
+   */
+  private transient int mask;
+
+  /**
+   * Whether the key {@code 0} is in this map.
+   */
+  private transient boolean containsZeroKey;
+
+  /**
+   * The number of entries in this map, including any zero key.
+   */
+  private transient int size;
+
+  /**
+   * The number of keys in the table at which it will be resized.
+   */
+  private transient int threshold;
+
+  /**
+   * The number of times this map has been structurally modified.
+   */
+  private transient int modCount;
+
+  /**
+   * The load factor of the table.
+   *
+   * @serial
+   */
+  private final float loadFactor;
+
+  private transient IntSet keySetView;
+  private transient Collection<V> valuesView;
+  private transient Set<Map.Entry<Integer, V>> entrySetView;
+
+  /**
+   * Constructs an empty map with the specified initial capacity and load factor.
+   *
+   * @param  initialCapacity  the initial capacity
+   * @param  loadFactor       the load factor, which must be greater than zero and less than one
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative or the load factor is out of range
+   */
+  public IntObjectHashMap(int initialCapacity, float loadFactor) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    this.loadFactor = PrimitiveHashing.checkLoadFactor(loadFactor);
+    allocate(PrimitiveHashing.tableSize(initialCapacity));
+  }
+
+  /**
+   * Constructs an empty map with the specified initial capacity and the default load factor ({@value #DEFAULT_LOAD_FACTOR}).
+   *
+   * @param  initialCapacity  the initial capacity
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative
+   */
+  public IntObjectHashMap(int initialCapacity) throws IllegalArgumentException {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs an empty map with the default initial capacity and load factor ({@value #DEFAULT_LOAD_FACTOR}).
+   */
+  public IntObjectHashMap() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs a map containing the mappings of the specified map, sized to hold them
+   * without resizing.
+   */
+  public IntObjectHashMap(Map<? extends Integer, ? extends V> m) {
+    this(AoCollections.getHashInitialCapacity(m.size(), DEFAULT_LOAD_FACTOR), DEFAULT_LOAD_FACTOR);
+    putAll(m);
+  }
+
+  private void allocate(int length) {
+    keys = new int[length + 1];
+    values = new Object[length + 1];
+    mask = length - 1;
+    threshold = PrimitiveHashing.threshold(length, loadFactor);
+  }
+
+  /**
+   * Increases the capacity of this map, if necessary, to hold the given number of entries
+   * without resizing.
+   */
+  public void ensureCapacity(int minCapacity) {
+    int length = PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(minCapacity, loadFactor));
+    if (length > mask + 1) {
+      modCount++;
+      rehash(length);
+    }
+  }
+
+  /**
+   * Moves all entries into a new table of the given length.
+   */
+  private void rehash(int length) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    int oldLength = mask + 1;
+    allocate(length);
+    int[] newKeys = keys;
+    Object[] newValues = values;
+    int newMask = mask;
+    newValues[newMask + 1] = oldValues[oldLength];
+    for (int j = 0; j < oldLength; j++) {
+      int key = oldKeys[j];
+      if (key != 0) {
+        int i = PrimitiveHashing.mix(key) & newMask;
+        while (newKeys[i] != 0) {
+          i = (i + 1) & newMask;
+        }
+        newKeys[i] = key;
+        newValues[i] = oldValues[j];
+      }
+    }
+  }
+
+  /**
+   * Finds the slot of the given key.
+   *
+   * @return  the slot or {@code -1} when not found
+   */
+  private int find(int key) {
+    if (key == 0) {
+      return containsZeroKey ? (mask + 1) : -1;
+    }
+    int[] k = keys;
+    int m = mask;
+    int i = PrimitiveHashing.mix(key) & m;
+    while (true) {
+      int current = k[i];
+      if (current == key) {
+        return i;
+      }
+      if (current == 0) {
+        return -1;
+      }
+      i = (i + 1) & m;
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    if (key instanceof Number) {
+      return containsKey(((Number) key).intValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    return find(key) != -1;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    if (containsZeroKey && Objects.equals(value, values[mask + 1])) {
+      return true;
+    }
+    int[] k = keys;
+    Object[] v = values;
+    for (int i = 0; i <= mask; i++) {
+      if (k[i] != 0 && Objects.equals(value, v[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public V get(Object key) {
+    if (key instanceof Number) {
+      return get(((Number) key).intValue());
+    }
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(int key) {
+    int slot = find(key);
+    return slot == -1 ? null : (V) values[slot];
+  }
+
+  @Override
+  public V getOrDefault(Object key, V defaultValue) {
+    if (key instanceof Number) {
+      return getOrDefault(((Number) key).intValue(), defaultValue);
+    }
+    return defaultValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V getOrDefault(int key, V defaultValue) {
+    int slot = find(key);
+    return slot == -1 ? defaultValue : (V) values[slot];
+  }
+
+  @Override
+  public V put(Integer key, V value) {
+    return put(key.intValue(), value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(int key, V value) {
+    int slot;
+    if (key == 0) {
+      slot = mask + 1;
+      if (containsZeroKey) {
+        V oldValue = (V) values[slot];
+        values[slot] = value;
+        return oldValue;
+      }
+      containsZeroKey = true;
+      values[slot] = value;
+    } else {
+      int[] k = keys;
+      int m = mask;
+      slot = PrimitiveHashing.mix(key) & m;
+      while (true) {
+        int current = k[slot];
+        if (current == key) {
+          V oldValue = (V) values[slot];
+          values[slot] = value;
+          return oldValue;
+        }
+        if (current == 0) {
+          break;
+        }
+        slot = (slot + 1) & m;
+      }
+      k[slot] = key;
+      values[slot] = value;
+      if (size - (containsZeroKey ? 1 : 0) >= threshold) {
+        if (m + 1 == PrimitiveHashing.MAXIMUM_CAPACITY) {
+          k[slot] = 0;
+          values[slot] = null;
+          throw new IllegalStateException("Map too large");
+        }
+        rehash((m + 1) << 1);
+      }
+    }
+    modCount++;
+    size++;
+    return null;
+  }
+
+  @Override
+  public V remove(Object key) {
+    if (key instanceof Number) {
+      return remove(((Number) key).intValue());
+    }
+    return null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V remove(int key) {
+    int slot = find(key);
+    if (slot == -1) {
+      return null;
+    }
+    V oldValue = (V) values[slot];
+    removeSlot(slot, null);
+    return oldValue;
+  }
+
+  /**
+   * Removes the entry at the given slot.
+   *
+   * @param  wrapped  when not {@code null}, receives any keys moved from the start of the table to
+   *                  its end, for {@link HashIterator} to not miss them
+   */
+  private void removeSlot(int slot, IntArrayList wrapped) {
+    if (slot == mask + 1) {
+      containsZeroKey = false;
+      values[slot] = null;
+    } else {
+      shiftEntries(slot, wrapped);
+    }
+    modCount++;
+    size--;
+  }
+
+  /**
+   * Empties the given slot, shifting back any following entries whose probe sequence passes through it.
+   */
+  private void shiftEntries(int pos, IntArrayList wrapped) {
+    int[] k = keys;
+    Object[] v = values;
+    int m = mask;
+    while (true) {
+      int last = pos;
+      pos = (pos + 1) & m;
+      int current;
+      while (true) {
+        current = k[pos];
+        if (current == 0) {
+          k[last] = 0;
+          v[last] = null;
+          return;
+        }
+        int slot = PrimitiveHashing.mix(current) & m;
+        if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+          break;
+        }
+        pos = (pos + 1) & m;
+      }
+      if (wrapped != null && pos < last) {
+        wrapped.add(current);
+      }
+      k[last] = current;
+      v[last] = v[pos];
+    }
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      modCount++;
+      Arrays.fill(keys, 0);
+      Arrays.fill(values, null);
+      containsZeroKey = false;
+      size = 0;
+    }
+  }
+
+  /**
+   * Iterates the slots in use: the zero key first, then the table from its end to its start.
+   * When removal shifts a key from the start of the table past the current position, it is
+   * remembered in a separate list.
+   */
+  private abstract class HashIterator {
+    int pos = mask + 1;         // position of the last slot returned from the table
+    int remaining = size;       // number of entries yet to be returned
+    boolean nextZero = containsZeroKey;
+    int lastRet = -1;           // slot of the last entry returned, or -1 when none or wrapped
+    IntArrayList wrapped;       // keys shifted from the start of the table past pos
+    int wrappedIndex;
+    int lastWrapped;
+    boolean lastIsWrapped;
+    int expectedModCount = modCount;
+
+    public boolean hasNext() {
+      return remaining != 0;
+    }
+
+    int nextSlot() {
+      checkForComodification();
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      lastIsWrapped = false;
+      if (nextZero) {
+        nextZero = false;
+        return lastRet = mask + 1;
+      }
+      int[] k = keys;
+      while (pos > 0) {
+        if (k[--pos] != 0) {
+          return lastRet = pos;
+        }
+      }
+      lastIsWrapped = true;
+      lastRet = -1;
+      lastWrapped = wrapped.getInt(wrappedIndex++);
+      return find(lastWrapped);
+    }
+
+    public void remove() {
+      checkForComodification();
+      if (lastIsWrapped) {
+        lastIsWrapped = false;
+        IntObjectHashMap.this.remove(lastWrapped);
+      } else if (lastRet < 0) {
+        throw new IllegalStateException();
+      } else {
+        if (wrapped == null) {
+          wrapped = new IntArrayList(2);
+        }
+        removeSlot(lastRet, wrapped);
+        lastRet = -1;
+      }
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  private final class KeyIterator extends HashIterator implements IntIterator {
+    @Override
+    public int nextInt() {
+      return keys[nextSlot()];
+    }
+  }
+
+  private final class ValueIterator extends HashIterator implements Iterator<V> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      return (V) values[nextSlot()];
+    }
+  }
+
+  private final class EntryIterator extends HashIterator implements Iterator<Map.Entry<Integer, V>> {
+    @Override
+    public Map.Entry<Integer, V> next() {
+      return new Entry(nextSlot());
+    }
+  }
+
+  /**
+   * An entry, writing through to the slot it was returned from.
+   */
+  private final class Entry implements Map.Entry<Integer, V> {
+    private final int slot;
+
+    private Entry(int slot) {
+      this.slot = slot;
+    }
+
+    @Override
+    public Integer getKey() {
+      return keys[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue() {
+      return (V) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V setValue(V value) {
+      V oldValue = (V) values[slot];
+      values[slot] = value;
+      return oldValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Integer.hashCode(keys[slot]) ^ Objects.hashCode(values[slot]);
+    }
+
+    @Override
+    public String toString() {
+      return keys[slot] + "=" + values[slot];
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The view supports removal, but not addition.</p>
+   */
+  @Override
+  public IntSet keySet() {
+    IntSet ks = keySetView;
+    if (ks == null) {
+      ks = new KeySet();
+      keySetView = ks;
+    }
+    return ks;
+  }
+
+  private final class KeySet extends AbstractSet<Integer> implements IntSet {
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return containsKey(o);
+    }
+
+    @Override
+    public boolean contains(int elem) {
+      return containsKey(elem);
+    }
+
+    @Override
+    public int[] toArrayInt() {
+      int[] array = new int[size];
+      int index = 0;
+      if (containsZeroKey) {
+        index++;
+      }
+      int[] k = keys;
+      for (int i = 0; i <= mask; i++) {
+        int key = k[i];
+        if (key != 0) {
+          array[index++] = key;
+        }
+      }
+      return array;
+    }
+
+    @Override
+    public boolean add(int o) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      if (o instanceof Number) {
+        return removeByValue(((Number) o).intValue());
+      }
+      return false;
+    }
+
+    @Override
+    public boolean removeByValue(int value) {
+      int slot = find(value);
+      if (slot == -1) {
+        return false;
+      }
+      removeSlot(slot, null);
+      return true;
+    }
+
+    @Override
+    public void clear() {
+      IntObjectHashMap.this.clear();
+    }
+
+    @Override
+    public IntIterator iterator() {
+      return new KeyIterator();
+    }
+
+    @Override
+    public void forEachInt(IntConsumer action) {
+      final int expectedModCount = modCount;
+      if (containsZeroKey) {
+        action.accept(0);
+      }
+      int[] k = keys;
+      for (int i = 0; i < k.length - 1 && modCount == expectedModCount; i++) {
+        int key = k[i];
+        if (key != 0) {
+          action.accept(key);
+        }
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The view supports removal, but not addition.</p>
+   */
+  @Override
+  public Collection<V> values() {
+    Collection<V> vs = valuesView;
+    if (vs == null) {
+      vs = new AbstractCollection<V>() {
+        @Override
+        public int size() {
+          return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+          IntObjectHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+          return new ValueIterator();
+        }
+      };
+      valuesView = vs;
+    }
+    return vs;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The view supports removal, but not addition.  Entries are created on-demand during
+   * iteration and write through to the map until it is structurally modified.</p>
+   */
+  @Override
+  public Set<Map.Entry<Integer, V>> entrySet() {
+    Set<Map.Entry<Integer, V>> es = entrySetView;
+    if (es == null) {
+      es = new AbstractSet<Map.Entry<Integer, V>>() {
+        @Override
+        public int size() {
+          return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+          if (!(o instanceof Map.Entry)) {
+            return false;
+          }
+          Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+          Object key = e.getKey();
+          if (!(key instanceof Integer)) {
+            return false;
+          }
+          int slot = find((Integer) key);
+          return slot != -1 && Objects.equals(values[slot], e.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+          if (!contains(o)) {
+            return false;
+          }
+          removeSlot(find((Integer) ((Map.Entry<?, ?>) o).getKey()), null);
+          return true;
+        }
+
+        @Override
+        public void clear() {
+          IntObjectHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<Integer, V>> iterator() {
+          return new EntryIterator();
+        }
+      };
+      entrySetView = es;
+    }
+    return es;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Object clone() {
+    try {
+      IntObjectHashMap<V> m = (IntObjectHashMap<V>) super.clone();
+      m.keys = keys.clone();
+      m.values = values.clone();
+      m.modCount = 0;
+      m.keySetView = null;
+      m.valuesView = null;
+      m.entrySetView = null;
+      return m;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Save the state of the {@link IntObjectHashMap} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The number of entries is emitted (int), followed by the key
+   *             (<code>int</code>) and value (Object) of each entry in no particular order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out load factor, and any hidden stuff
+    s.defaultWriteObject();
+
+    // Write out size
+    s.writeInt(size);
+
+    // Write out all entries
+    if (containsZeroKey) {
+      s.writeInt(0);
+      s.writeObject(values[mask + 1]);
+    }
+    for (int i = 0; i <= mask; i++) {
+      int key = keys[i];
+      if (key != 0) {
+        s.writeInt(key);
+        s.writeObject(values[i]);
+      }
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link IntObjectHashMap} instance from a stream (that is,
+   * deserialize it).
+   */
+  @SuppressWarnings("unchecked")
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in load factor, and any hidden stuff
+    s.defaultReadObject();
+    PrimitiveHashing.checkLoadFactor(loadFactor);
+
+    // Read in size and allocate table
+    int count = s.readInt();
+    if (count < 0) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    allocate(PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(count, loadFactor)));
+
+    // Read in all entries
+    for (int i = 0; i < count; i++) {
+      int key = s.readInt();
+      put(key, (V) s.readObject());
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.Map;
+
+/**
+ * A Map with <code>int</code> keys, providing access by primitive key without boxing.
+ * null keys are not supported.
+ *
+ * @param  <V>  the type of mapped values
+ *
+ * @see  Map
+ */
+public interface IntObjectMap<V> extends Map<Integer, V> {
+
+  boolean containsKey(int key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@code null} if there is no mapping for the key
+   *
+   * @see  #get(java.lang.Object)
+   */
+  V get(int key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@code defaultValue} if there is no mapping for the key
+   *
+   * @see  #getOrDefault(java.lang.Object, java.lang.Object)
+   */
+  V getOrDefault(int key, V defaultValue);
+
+  /**
+   * Associates the specified value with the specified key.
+   *
+   * @return  the previous value or {@code null} if there was no mapping for the key
+   *
+   * @see  #put(java.lang.Object, java.lang.Object)
+   */
+  V put(int key, V value);
+
+  /**
+   * Removes the mapping for a key.
+   *
+   * @return  the previous value or {@code null} if there was no mapping for the key
+   *
+   * @see  #remove(java.lang.Object)
+   */
+  V remove(int key);
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The keys are also available without boxing.</p>
+   */
+  @Override
+  IntSet keySet();
+}
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -26,6 +26,9 @@ package com.aoapps.collections;
 /**
  * Provides access to an associated list of int's and long's.
  *
+ * @see  IndexedIntsAndLongs
+ * @see  ColumnTable
+ *
  * @author  AO Industries, Inc.
  */
 public class IntsAndLongs {
@@ -60,4 +63,16 @@ public class IntsAndLongs {
   public int indexOf(int value) {
     return ints.indexOf(value);
   }
+
+  /**
+   * Gets the long associated with the first occurrence of an int.
+   *
+   * @return  the long or {@code noEntryValue} when the int is not found
+   *
+   * @see  #indexOf(int)
+   */
+  public long getLongForInt(int value, long noEntryValue) {
+    int index = indexOf(value);
+    return index == -1 ? noEntryValue : longs.getLong(index);
+  }
 }
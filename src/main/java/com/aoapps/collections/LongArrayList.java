@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2013, 2016, 2020, 2021, 2022, 2024  AO Industries, Inc.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2013, 2016, 2020, 2021, 2022, 2024, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,18 +23,33 @@
 
 package com.aoapps.collections;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
 
 /**
  * An ArrayList that stores things using <code>long[]</code> instead of <code>Object[]</code>.  null values are not supported.
  *
  * @see  java.util.ArrayList
  */
-// TODO: Support LongStream
 public class LongArrayList extends AbstractList<Long>
     implements LongList, RandomAccess, Cloneable, java.io.Serializable {
   private static final long serialVersionUID = -1395562938435931403L;
@@ -223,12 +238,7 @@ public class LongArrayList extends AbstractList<Long>
    */
   @Override
   public int indexOf(long elem) {
-    for (int i = 0; i < size; i++) {
-      if (elem == elementData[i]) {
-        return i;
-      }
-    }
-    return -1;
+    return AoArrays.indexOf(elementData, elem, 0, size);
   }
 
   /**
@@ -260,12 +270,7 @@ public class LongArrayList extends AbstractList<Long>
    */
   @Override
   public int lastIndexOf(long elem) {
-    for (int i = size - 1; i >= 0; i--) {
-      if (elem == elementData[i]) {
-        return i;
-      }
-    }
-    return -1;
+    return AoArrays.lastIndexOf(elementData, elem, size - 1);
   }
 
   /**
@@ -609,6 +614,9 @@ public class LongArrayList extends AbstractList<Long>
    */
   @Override
   public boolean addAll(Collection<? extends Long> c) {
+    if (c instanceof LongCollection) {
+      return addAll((LongCollection) c);
+    }
     int numNew = c.size();
     ensureCapacity(size + numNew);  // Increments modCount
     Iterator<? extends Long> iter = c.iterator();
@@ -658,6 +666,165 @@ public class LongArrayList extends AbstractList<Long>
     return numNew != 0;
   }
 
+  /**
+   * Appends all of the elements in the specified array to the end of this list.
+   *
+   * @param a the elements to be appended to this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified array is null.
+   */
+  @Override
+  public boolean addAll(long[] a) {
+    return addAll(a, 0, a.length);
+  }
+
+  /**
+   * Appends all of the elements in the specified range of an array to the end of this list.
+   *
+   * @param a the elements to be appended to this list.
+   * @param off the index of the first element to append.
+   * @param len the number of elements to append.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified array is null.
+   * @throws    IndexOutOfBoundsException if the range is out of bounds of the array.
+   */
+  @Override
+  public boolean addAll(long[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    ensureCapacity(size + len);  // Increments modCount
+    System.arraycopy(a, off, elementData, size, len);
+    size += len;
+    return len != 0;
+  }
+
+  /**
+   * Appends all of the elements in the specified collection to the end of
+   * this list, in the order that they are returned by the
+   * specified collection's iterator.  Copies directly from the backing
+   * array when the collection is also a {@link LongArrayList}.
+   *
+   * @param c the elements to be appended to this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified collection is null.
+   */
+  @Override
+  public boolean addAll(LongCollection c) {
+    if (c instanceof LongArrayList) {
+      LongArrayList other = (LongArrayList) c;
+      int numNew = other.size;
+      ensureCapacity(size + numNew);  // Increments modCount
+      System.arraycopy(other.elementData, 0, elementData, size, numNew);
+      size += numNew;
+      return numNew != 0;
+    }
+    long[] a = c.toArrayLong();
+    return addAll(a, 0, a.length);
+  }
+
+  /**
+   * The number of elements at which the membership tests of bulk operations
+   * switch from calling {@link LongCollection#contains(long)} to a binary search
+   * over a sorted copy of the elements.
+   */
+  private static final int BULK_SEARCH_THRESHOLD = 16;
+
+  /**
+   * Gets a membership test for the given collection to be used for the given
+   * number of lookups.  When both are large, and the collection does not
+   * already provide a fast search, the elements are copied and sorted once
+   * so each lookup is {@code O(log m)} instead of a linear scan.
+   */
+  private static LongPredicate membership(LongCollection c, int lookups) {
+    if (
+        lookups < BULK_SEARCH_THRESHOLD
+            || c.size() < BULK_SEARCH_THRESHOLD
+            || c instanceof SortedLongArrayList
+            || c instanceof LongHashSet
+    ) {
+      return c::contains;
+    }
+    long[] sorted = c.toArrayLong();
+    Arrays.sort(sorted);
+    return value -> Arrays.binarySearch(sorted, value) >= 0;
+  }
+
+  /**
+   * Checks if this list contains all of the elements in the specified
+   * collection.  When both are large, a sorted copy of this list is searched,
+   * avoiding the quadratic behavior of repeated linear scans.
+   *
+   * @param c collection to be checked for containment in this list.
+   * @return {@code true} if this list contains all of the elements in the specified collection.
+   * @throws    NullPointerException if the specified collection is null.
+   */
+  @Override
+  public boolean containsAll(LongCollection c) {
+    LongPredicate contains = membership(this, c.size());
+    LongIterator iter = c.longIterator();
+    while (iter.hasNext()) {
+      if (!contains.test(iter.nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    if (c instanceof LongCollection) {
+      return containsAll((LongCollection) c);
+    }
+    return super.containsAll(c);
+  }
+
+  /**
+   * Removes from this list all of its elements that are contained in the
+   * specified collection.  The remaining elements are compacted in a single
+   * pass, and a sorted copy of a large collection is searched, avoiding the
+   * quadratic behavior of repeated linear scans and array shifts.
+   *
+   * @param c collection containing elements to be removed from this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified collection is null.
+   */
+  @Override
+  public boolean removeAll(LongCollection c) {
+    return removeIfLong(membership(c, size));
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    if (c instanceof LongCollection) {
+      return removeAll((LongCollection) c);
+    }
+    Objects.requireNonNull(c);
+    return removeIfLong(c::contains);
+  }
+
+  /**
+   * Retains only the elements in this list that are contained in the
+   * specified collection.  The remaining elements are compacted in a single
+   * pass, and a sorted copy of a large collection is searched, avoiding the
+   * quadratic behavior of repeated linear scans and array shifts.
+   *
+   * @param c collection containing elements to be retained in this list.
+   * @return {@code true} if this list changed as a result of the call.
+   * @throws    NullPointerException if the specified collection is null.
+   */
+  @Override
+  public boolean retainAll(LongCollection c) {
+    return removeIfLong(membership(c, size).negate());
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    if (c instanceof LongCollection) {
+      return retainAll((LongCollection) c);
+    }
+    Objects.requireNonNull(c);
+    return removeIfLong(value -> !c.contains(value));
+  }
+
   /**
    * Removes from this List all of the elements whose index is between
    * fromIndex, inclusive and toIndex, exclusive.  Shifts any succeeding
@@ -695,6 +862,467 @@ public class LongArrayList extends AbstractList<Long>
     }
   }
 
+  /**
+   * Returns an iterator over the elements in this list in proper sequence.
+   * The elements may be traversed as primitive values, without boxing, by {@link LongIterator#nextLong()}.
+   *
+   * <p>The returned iterator is <em>fail-fast</em>.</p>
+   *
+   * @return an iterator over the elements in this list in proper sequence
+   */
+  @Override
+  public LongIterator iterator() {
+    return new Itr();
+  }
+
+  /**
+   * An optimized version of AbstractList.Itr that does not box.
+   *
+   * @see  java.util.ArrayList#iterator()
+   */
+  private class Itr implements LongIterator {
+    private int cursor; // index of next element to return
+    private int lastRet = -1; // index of last element returned; -1 if no such
+    private int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return cursor != size;
+    }
+
+    @Override
+    public long nextLong() {
+      checkForComodification();
+      int i = cursor;
+      if (i >= size) {
+        throw new NoSuchElementException();
+      }
+      long[] a = elementData;
+      if (i >= a.length) {
+        throw new ConcurrentModificationException();
+      }
+      cursor = i + 1;
+      lastRet = i;
+      return a[i];
+    }
+
+    @Override
+    public void remove() {
+      if (lastRet < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification();
+
+      try {
+        removeAtIndex(lastRet);
+        cursor = lastRet;
+        lastRet = -1;
+        expectedModCount = modCount;
+      } catch (IndexOutOfBoundsException ex) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      Objects.requireNonNull(action);
+      final int mySize = size;
+      int i = cursor;
+      if (i < mySize) {
+        final long[] a = elementData;
+        if (i >= a.length) {
+          throw new ConcurrentModificationException();
+        }
+        while (i < mySize && modCount == expectedModCount) {
+          action.accept(a[i++]);
+        }
+        // update once at end to reduce heap write traffic
+        cursor = i;
+        lastRet = i - 1;
+        checkForComodification();
+      }
+    }
+
+    private void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * Performs the given action for each element of this list until all elements
+   * have been processed or the action throws an exception.
+   * The elements are passed as primitive values, without boxing.
+   *
+   * @param  action  The action to be performed for each element
+   *
+   * @throws  NullPointerException  if the specified action is null
+   * @throws  ConcurrentModificationException  if the list is structurally modified by the action
+   */
+  @Override
+  public void forEachLong(LongConsumer action) {
+    Objects.requireNonNull(action);
+    final int expectedModCount = modCount;
+    final long[] a = elementData;
+    final int mySize = size;
+    for (int i = 0; modCount == expectedModCount && i < mySize; i++) {
+      action.accept(a[i]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Removes all of the elements of this list that satisfy the given predicate.
+   * Tests each element once, marking the elements to remove in a bitset, then compacts the
+   * survivors in a second pass, without boxing.  This is unlike the default iterator-based
+   * implementation that shifts the array once per removed element.
+   *
+   * @param  filter  a predicate which returns {@code true} for elements to be removed
+   *
+   * @return  {@code true} if any elements were removed
+   *
+   * @throws  NullPointerException  if the specified filter is null
+   * @throws  ConcurrentModificationException  if the list is structurally modified by the filter
+   */
+  @Override
+  public boolean removeIfLong(LongPredicate filter) {
+    Objects.requireNonNull(filter);
+    final int expectedModCount = modCount;
+    final long[] a = elementData;
+    final int end = size;
+    int i = 0;
+    // Optimize for initial run of survivors
+    while (i < end && !filter.test(a[i])) {
+      i++;
+    }
+    // Tolerate predicates that reentrantly access the collection for
+    // read (but writers still get CME), so traverse once to find
+    // elements to delete, a second pass to physically expunge.
+    if (i < end) {
+      final int beg = i;
+      final long[] deathRow = new long[((end - beg - 1) >> 6) + 1];
+      deathRow[0] = 1L; // set bit 0
+      for (i = beg + 1; i < end; i++) {
+        if (filter.test(a[i])) {
+          deathRow[(i - beg) >> 6] |= 1L << (i - beg);
+        }
+      }
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      modCount++;
+      int w = beg;
+      for (i = beg; i < end; i++) {
+        if ((deathRow[(i - beg) >> 6] & (1L << (i - beg))) == 0) {
+          a[w++] = a[i];
+        }
+      }
+      // Let gc do its work
+      for (i = w; i < end; i++) {
+        a[i] = 0;
+      }
+      size = w;
+      return true;
+    } else {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Removes all of the elements of this list that satisfy the given predicate.
+   * Performs the removal in two passes, without shifting the array once per removed element.
+   *
+   * @see  #removeIfLong(java.util.function.LongPredicate)
+   */
+  @Override
+  public boolean removeIf(Predicate<? super Long> filter) {
+    Objects.requireNonNull(filter);
+    return removeIfLong(filter::test);
+  }
+
+  /**
+   * Replaces each element of this list with the result of applying the operator to that element.
+   * The elements are passed as primitive values, without boxing.
+   *
+   * @param  operator  the operator to apply to each element
+   *
+   * @throws  NullPointerException  if the specified operator is null
+   * @throws  ConcurrentModificationException  if the list is structurally modified by the operator
+   */
+  @Override
+  public void replaceAllLong(LongUnaryOperator operator) {
+    Objects.requireNonNull(operator);
+    final int expectedModCount = modCount;
+    final long[] a = elementData;
+    final int mySize = size;
+    for (int i = 0; modCount == expectedModCount && i < mySize; i++) {
+      a[i] = operator.applyAsLong(a[i]);
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+    modCount++;
+  }
+
+  /**
+   * Sorts this list into ascending numerical order.
+   *
+   * @see  Arrays#sort(long[], int, int)
+   */
+  public void sort() {
+    Arrays.sort(elementData, 0, size);
+    modCount++;
+  }
+
+  /**
+   * Sorts this list into ascending numerical order, using multiple threads for large lists.
+   *
+   * @see  Arrays#parallelSort(long[], int, int)
+   */
+  public void parallelSort() {
+    Arrays.parallelSort(elementData, 0, size);
+    modCount++;
+  }
+
+  /**
+   * Sorts this list into ascending numerical order with a linear-time radix sort,
+   * which is typically faster than {@link #sort()} for large lists of random values.
+   *
+   * @see  AoArrays#radixSort(long[], int, int)
+   */
+  public void radixSort() {
+    AoArrays.radixSort(elementData, 0, size);
+    modCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the comparator is {@code null}, sorts by {@link #sort()} without boxing.</p>
+   */
+  @Override
+  public void sort(Comparator<? super Long> c) {
+    if (c == null) {
+      sort();
+    } else {
+      super.sort(c);
+    }
+  }
+
+  /**
+   * Creates a <em>late-binding</em>
+   * and <em>fail-fast</em> {@link Spliterator.OfLong} over the elements in this
+   * list.  The spliterator splits directly over the backing array and
+   * traverses primitive values without boxing.
+   *
+   * <p>The {@code Spliterator} reports {@link Spliterator#SIZED},
+   * {@link Spliterator#SUBSIZED}, and {@link Spliterator#ORDERED}.</p>
+   *
+   * @return a {@code Spliterator} over the elements in this list
+   */
+  @Override
+  public Spliterator.OfLong spliterator() {
+    return new LongArrayListSpliterator(0, -1, 0);
+  }
+
+  /**
+   * Index-based split-by-two, lazily initialized Spliterator.
+   *
+   * @see  java.util.ArrayList#spliterator()
+   */
+  private final class LongArrayListSpliterator implements Spliterator.OfLong {
+    private int index; // current index, modified on advance/split
+    private int fence; // -1 until used; then one past last index
+    private int expectedModCount; // initialized when fence set
+
+    /**
+     * Creates new spliterator covering the given range.
+     */
+    LongArrayListSpliterator(int origin, int fence, int expectedModCount) {
+      this.index = origin;
+      this.fence = fence;
+      this.expectedModCount = expectedModCount;
+    }
+
+    /**
+     * Initializes fence to size on first use.
+     */
+    private int getFence() {
+      int hi = fence;
+      if (hi < 0) {
+        expectedModCount = modCount;
+        hi = size;
+        fence = hi;
+      }
+      return hi;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+      int hi = getFence();
+      int lo = index;
+      int mid = (lo + hi) >>> 1;
+      if (lo >= mid) {
+        // Too small to divide
+        return null;
+      }
+      index = mid;
+      return new LongArrayListSpliterator(lo, mid, expectedModCount);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (action == null) {
+        throw new NullPointerException();
+      }
+      int hi = getFence();
+      int i = index;
+      if (i < hi) {
+        index = i + 1;
+        action.accept(elementData[i]);
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      if (action == null) {
+        throw new NullPointerException();
+      }
+      // Hoist accesses and checks from loop
+      long[] a = elementData;
+      int hi = fence;
+      int mc;
+      if (hi < 0) {
+        mc = modCount;
+        hi = size;
+      } else {
+        mc = expectedModCount;
+      }
+      int i = index;
+      if (i >= 0 && hi <= a.length) {
+        index = hi;
+        for (; i < hi; i++) {
+          action.accept(a[i]);
+        }
+        if (modCount == mc) {
+          return;
+        }
+      }
+      throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public long estimateSize() {
+      return (long) getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+  }
+
+  /**
+   * The number of elements written or read per block in serialization.
+   */
+  private static final int SERIAL_BLOCK_ELEMENTS = 1024;
+
+  /**
+   * The size of the buffer for {@link #writeTo(WritableByteChannel)} and {@link #readFrom(ReadableByteChannel)}.
+   * The buffers are direct, so the channel does not copy through a temporary direct buffer of its own.
+   */
+  private static final int CHANNEL_BUFFER_BYTES = 1 << 16;
+
+  /**
+   * Writes the elements to a channel in a compact binary format: the size as a little-endian
+   * <code>long</code>, followed by the elements as little-endian <code>long</code> values.
+   * The elements are copied to the channel in large blocks, so writing is limited by the channel
+   * instead of per-element overhead.
+   * This is the file format of {@link MappedLongArrayList}.
+   *
+   * @throws  IOException  if an I/O error occurs
+   *
+   * @see  #readFrom(ReadableByteChannel)
+   */
+  public void writeTo(WritableByteChannel out) throws IOException {
+    final int expectedModCount = modCount;
+    // No larger than needed for small lists
+    ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(CHANNEL_BUFFER_BYTES, Long.BYTES + (long) size * Long.BYTES))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putLong(size);
+    int pos = 0;
+    while (true) {
+      LongBuffer view = buffer.asLongBuffer();
+      int count = Math.min(size - pos, view.remaining());
+      view.put(elementData, pos, count);
+      pos += count;
+      buffer.position(buffer.position() + count * Long.BYTES);
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        out.write(buffer);
+      }
+      if (pos == size) {
+        break;
+      }
+      buffer.clear();
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reads a list from a blocking channel in the format written by {@link #writeTo(WritableByteChannel)}.
+   * The elements are copied from the channel in large blocks.
+   *
+   * @throws  EOFException  if the channel ends before the complete list is read
+   * @throws  IOException  if an I/O error occurs or the size is invalid
+   */
+  public static LongArrayList readFrom(ReadableByteChannel in) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(CHANNEL_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.limit(Long.BYTES);
+    readFully(in, buffer);
+    buffer.flip();
+    long size = buffer.getLong();
+    if (size < 0 || size > Integer.MAX_VALUE - 8) {
+      throw new IOException("Illegal size: " + size);
+    }
+    long[] a = new long[(int) size];
+    int pos = 0;
+    while (pos < size) {
+      buffer.clear();
+      buffer.limit((int) Math.min(CHANNEL_BUFFER_BYTES, (size - pos) * Long.BYTES));
+      readFully(in, buffer);
+      buffer.flip();
+      int count = buffer.remaining() / Long.BYTES;
+      buffer.asLongBuffer().get(a, pos, count);
+      pos += count;
+    }
+    LongArrayList list = new LongArrayList(0);
+    list.elementData = a;
+    list.size = a.length;
+    return list;
+  }
+
+  private static void readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (in.read(buffer) == -1) {
+        throw new EOFException();
+      }
+    }
+  }
+
   /**
    * Save the state of the {@link LongArrayList} instance to a stream (that
    * is, serialize it).
@@ -712,9 +1340,15 @@ public class LongArrayList extends AbstractList<Long>
     // Write out array length
     s.writeInt(elementData.length);
 
-    // Write out all elements in the proper order.
-    for (int i = 0; i < size; i++) {
-      s.writeLong(elementData[i]);
+    // Write out all elements in the proper order, in blocks of the same bytes as writeLong
+    byte[] block = new byte[Math.min(size, SERIAL_BLOCK_ELEMENTS) * Long.BYTES];
+    LongBuffer view = ByteBuffer.wrap(block).asLongBuffer();
+    for (int i = 0; i < size; ) {
+      int count = Math.min(size - i, view.capacity());
+      view.clear();
+      view.put(elementData, i, count);
+      s.write(block, 0, count * Long.BYTES);
+      i += count;
     }
 
     if (modCount != expectedModCount) {
@@ -736,9 +1370,15 @@ public class LongArrayList extends AbstractList<Long>
     long[] a = new long[arrayLength];
     elementData = a;
 
-    // Read in all elements in the proper order.
-    for (int i = 0; i < size; i++) {
-      a[i] = s.readLong();
+    // Read in all elements in the proper order, in blocks
+    byte[] block = new byte[Math.min(size, SERIAL_BLOCK_ELEMENTS) * Long.BYTES];
+    LongBuffer view = ByteBuffer.wrap(block).asLongBuffer();
+    for (int i = 0; i < size; ) {
+      int count = Math.min(size - i, view.capacity());
+      s.readFully(block, 0, count * Long.BYTES);
+      view.clear();
+      view.get(a, i, count);
+      i += count;
     }
   }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2013, 2016, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2013, 2016, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,13 +24,20 @@
 package com.aoapps.collections;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * A primitive collection.
  *
  * @see  Collection
  */
-// TODO: Support LongStream
 public interface LongCollection extends Collection<Long> {
 
   boolean contains(long elem);
@@ -40,4 +47,235 @@ public interface LongCollection extends Collection<Long> {
   boolean add(long o);
 
   boolean removeByValue(long value);
+
+  /**
+   * Adds all of the elements in the specified array to this collection.
+   *
+   * @param  a  the elements to be added to this collection
+   *
+   * @return  {@code true} if this collection changed as a result of the call
+   *
+   * @throws  NullPointerException  if the specified array is null
+   *
+   * @see  #addAll(long[], int, int)
+   */
+  default boolean addAll(long[] a) {
+    return addAll(a, 0, a.length);
+  }
+
+  /**
+   * Adds all of the elements in the specified range of an array to this collection.
+   *
+   * @param  a    the elements to be added to this collection
+   * @param  off  the index of the first element to add
+   * @param  len  the number of elements to add
+   *
+   * @return  {@code true} if this collection changed as a result of the call
+   *
+   * @throws  NullPointerException  if the specified array is null
+   * @throws  IndexOutOfBoundsException  if the range is out of bounds of the array
+   */
+  default boolean addAll(long[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    boolean modified = false;
+    for (int end = off + len; off < end; off++) {
+      if (add(a[off])) {
+        modified = true;
+      }
+    }
+    return modified;
+  }
+
+  /**
+   * Adds all of the elements in the specified collection to this collection, without boxing.
+   *
+   * @param  c  the collection containing elements to be added to this collection
+   *
+   * @return  {@code true} if this collection changed as a result of the call
+   *
+   * @throws  NullPointerException  if the specified collection is null
+   *
+   * @see  #addAll(java.util.Collection)
+   */
+  default boolean addAll(LongCollection c) {
+    boolean modified = false;
+    LongIterator iter = c.longIterator();
+    while (iter.hasNext()) {
+      if (add(iter.nextLong())) {
+        modified = true;
+      }
+    }
+    return modified;
+  }
+
+  /**
+   * Checks if this collection contains all of the elements in the specified collection, without boxing.
+   *
+   * @param  c  collection to be checked for containment in this collection
+   *
+   * @return  {@code true} if this collection contains all of the elements in the specified collection
+   *
+   * @throws  NullPointerException  if the specified collection is null
+   *
+   * @see  #containsAll(java.util.Collection)
+   */
+  default boolean containsAll(LongCollection c) {
+    LongIterator iter = c.longIterator();
+    while (iter.hasNext()) {
+      if (!contains(iter.nextLong())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Removes all of this collection's elements that are also contained in the specified collection,
+   * without boxing.
+   *
+   * @param  c  collection containing elements to be removed from this collection
+   *
+   * @return  {@code true} if this collection changed as a result of the call
+   *
+   * @throws  NullPointerException  if the specified collection is null
+   *
+   * @see  #removeAll(java.util.Collection)
+   */
+  default boolean removeAll(LongCollection c) {
+    Objects.requireNonNull(c);
+    return removeIfLong(c::contains);
+  }
+
+  /**
+   * Retains only the elements in this collection that are contained in the specified collection,
+   * without boxing.
+   *
+   * @param  c  collection containing elements to be retained in this collection
+   *
+   * @return  {@code true} if this collection changed as a result of the call
+   *
+   * @throws  NullPointerException  if the specified collection is null
+   *
+   * @see  #retainAll(java.util.Collection)
+   */
+  default boolean retainAll(LongCollection c) {
+    Objects.requireNonNull(c);
+    return removeIfLong(value -> !c.contains(value));
+  }
+
+  /**
+   * Returns an iterator over the elements in this collection.
+   * The elements may be traversed as primitive values, without boxing, by {@link LongIterator#nextLong()}.
+   *
+   * <p>The default implementation returns the collection's {@link #iterator()} when it is already
+   * a {@link LongIterator}, as it is for the primitive collections of this package, otherwise
+   * wraps it, unboxing each element.</p>
+   *
+   * @return  a {@link LongIterator} over the elements in this collection
+   */
+  default LongIterator longIterator() {
+    Iterator<Long> iter = iterator();
+    if (iter instanceof LongIterator) {
+      return (LongIterator) iter;
+    }
+    return new LongIterator() {
+      @Override
+      public boolean hasNext() {
+        return iter.hasNext();
+      }
+
+      @Override
+      public long nextLong() {
+        return iter.next();
+      }
+
+      @Override
+      public void remove() {
+        iter.remove();
+      }
+    };
+  }
+
+  /**
+   * Performs the given action for each element of this collection until all elements
+   * have been processed or the action throws an exception.
+   * The elements are passed as primitive values, without boxing.
+   *
+   * @param  action  The action to be performed for each element
+   *
+   * @throws  NullPointerException  if the specified action is null
+   *
+   * @see  #forEach(java.util.function.Consumer)
+   */
+  default void forEachLong(LongConsumer action) {
+    Objects.requireNonNull(action);
+    LongIterator iter = longIterator();
+    while (iter.hasNext()) {
+      action.accept(iter.nextLong());
+    }
+  }
+
+  /**
+   * Removes all of the elements of this collection that satisfy the given predicate.
+   * The elements are tested as primitive values, without boxing.
+   *
+   * @param  filter  a predicate which returns {@code true} for elements to be removed
+   *
+   * @return  {@code true} if any elements were removed
+   *
+   * @throws  NullPointerException  if the specified filter is null
+   *
+   * @see  #removeIf(java.util.function.Predicate)
+   */
+  default boolean removeIfLong(LongPredicate filter) {
+    Objects.requireNonNull(filter);
+    boolean removed = false;
+    LongIterator each = longIterator();
+    while (each.hasNext()) {
+      if (filter.test(each.nextLong())) {
+        each.remove();
+        removed = true;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Creates a {@link Spliterator.OfLong} over the elements in this collection.
+   * The elements are traversed as primitive values, without boxing.
+   *
+   * <p>The default implementation creates a
+   * <em>late-binding</em> spliterator from the collection's {@link #longIterator()}.
+   * The spliterator inherits the <em>fail-fast</em> properties of the collection's iterator.</p>
+   *
+   * @return  a {@link Spliterator.OfLong} over the elements in this collection
+   */
+  @Override
+  default Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(longIterator(), size(), 0);
+  }
+
+  /**
+   * Returns a sequential {@link LongStream} with this collection as its source.
+   * The elements are streamed as primitive values, without boxing.
+   *
+   * @return  a sequential {@link LongStream} over the elements in this collection
+   *
+   * @see  #spliterator()
+   */
+  default LongStream longStream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  /**
+   * Returns a possibly parallel {@link LongStream} with this collection as its source.
+   * The elements are streamed as primitive values, without boxing.
+   *
+   * @return  a possibly parallel {@link LongStream} over the elements in this collection
+   *
+   * @see  #spliterator()
+   */
+  default LongStream parallelLongStream() {
+    return StreamSupport.longStream(spliterator(), true);
+  }
 }
@@ -0,0 +1,544 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link LongSet} of <code>long</code> values implemented with open addressing and linear
+ * probing over a primitive table.  Compared to <code>HashSet&lt;Long&gt;</code>, no objects are
+ * allocated per element, using a small fraction of the memory, and lookups touch only the table.
+ * null values are not supported.
+ *
+ * <p>The capacity and load factor have the same meaning as for {@link java.util.HashSet}, and
+ * {@link AoCollections#getHashInitialCapacity(int, float)} may be used to size the set for an
+ * expected number of elements.  Removal shifts the following probe sequence back, so the
+ * table never accumulates deleted markers.</p>
+ *
+ * <p>This set is not thread safe.</p>
+ *
+ * @see  AoCollections#newLongHashSet(int)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class LongHashSet extends AbstractSet<Long> implements LongSet, Cloneable, java.io.Serializable {
+
+  private static final long serialVersionUID = -1940164072735634121L;
+
+  /**
+   * The load factor used when none specified in constructor.
+   */
+  public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The initial capacity used when none specified in constructor.
+   */
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * The table of values, with {@code 0} marking an empty slot.  The length is always a power of two.
+   */
+  private transient long[] table;
+
+  /**
+   * Whether the value {@code 0}, which cannot be stored in the table, is in this set.
+   */
+  private transient boolean containsZero;
+
+  /**
+   * The number of elements in this set, including any zero.
+   */
+  private transient int size;
+
+  /**
+   * The number of elements in the table at which it will be resized.
+   */
+  private transient int threshold;
+
+  /**
+   * The number of times this set has been structurally modified.
+   */
+  private transient int modCount;
+
+  /**
+   * The load factor of the table.
+   *
+   * @serial
+   */
+  private final float loadFactor;
+
+  /**
+   * Constructs an empty set with the specified initial capacity and load factor.
+   *
+   * @param  initialCapacity  the initial capacity
+   * @param  loadFactor       the load factor, which must be greater than zero and less than one
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative or the load factor is out of range
+   */
+  public LongHashSet(int initialCapacity, float loadFactor) throws IllegalArgumentException {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+    }
+    this.loadFactor = PrimitiveHashing.checkLoadFactor(loadFactor);
+    allocate(PrimitiveHashing.tableSize(initialCapacity));
+  }
+
+  /**
+   * Constructs an empty set with the specified initial capacity and the default load factor ({@value #DEFAULT_LOAD_FACTOR}).
+   *
+   * @param  initialCapacity  the initial capacity
+   *
+   * @throws  IllegalArgumentException  if the initial capacity is negative
+   */
+  public LongHashSet(int initialCapacity) throws IllegalArgumentException {
+    this(initialCapacity, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs an empty set with the default initial capacity and load factor ({@value #DEFAULT_LOAD_FACTOR}).
+   */
+  public LongHashSet() {
+    this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Constructs a set containing the elements of the specified collection, sized to hold
+   * them without resizing.
+   */
+  public LongHashSet(LongCollection c) {
+    this(AoCollections.getHashInitialCapacity(c.size(), DEFAULT_LOAD_FACTOR), DEFAULT_LOAD_FACTOR);
+    addAll(c);
+  }
+
+  private void allocate(int length) {
+    table = new long[length];
+    threshold = PrimitiveHashing.threshold(length, loadFactor);
+  }
+
+  /**
+   * Increases the capacity of this set, if necessary, to hold the given number of elements
+   * without resizing.
+   */
+  public void ensureCapacity(int minCapacity) {
+    int length = PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(minCapacity, loadFactor));
+    if (length > table.length) {
+      modCount++;
+      rehash(length);
+    }
+  }
+
+  /**
+   * Moves all values into a new table of the given length.
+   */
+  private void rehash(int length) {
+    long[] oldTable = table;
+    allocate(length);
+    long[] newTable = table;
+    int mask = length - 1;
+    for (long value : oldTable) {
+      if (value != 0) {
+        int i = PrimitiveHashing.mix(value) & mask;
+        while (newTable[i] != 0) {
+          i = (i + 1) & mask;
+        }
+        newTable[i] = value;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o instanceof Number) {
+      return contains(((Number) o).longValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean contains(long elem) {
+    if (elem == 0) {
+      return containsZero;
+    }
+    long[] tab = table;
+    int mask = tab.length - 1;
+    int i = PrimitiveHashing.mix(elem) & mask;
+    while (true) {
+      long value = tab[i];
+      if (value == elem) {
+        return true;
+      }
+      if (value == 0) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+  }
+
+  @Override
+  public boolean add(Long o) {
+    return add(o.longValue());
+  }
+
+  @Override
+  public boolean add(long o) {
+    if (o == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+    } else {
+      long[] tab = table;
+      int mask = tab.length - 1;
+      int i = PrimitiveHashing.mix(o) & mask;
+      while (true) {
+        long value = tab[i];
+        if (value == o) {
+          return false;
+        }
+        if (value == 0) {
+          break;
+        }
+        i = (i + 1) & mask;
+      }
+      tab[i] = o;
+      if (size - (containsZero ? 1 : 0) >= threshold) {
+        if (tab.length == PrimitiveHashing.MAXIMUM_CAPACITY) {
+          tab[i] = 0;
+          throw new IllegalStateException("Set too large");
+        }
+        rehash(tab.length << 1);
+      }
+    }
+    modCount++;
+    size++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o instanceof Number) {
+      return removeByValue(((Number) o).longValue());
+    }
+    return false;
+  }
+
+  @Override
+  public boolean removeByValue(long value) {
+    if (value == 0) {
+      if (!containsZero) {
+        return false;
+      }
+      containsZero = false;
+    } else {
+      long[] tab = table;
+      int mask = tab.length - 1;
+      int i = PrimitiveHashing.mix(value) & mask;
+      while (true) {
+        long current = tab[i];
+        if (current == value) {
+          break;
+        }
+        if (current == 0) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      shiftValues(i, null);
+    }
+    modCount++;
+    size--;
+    return true;
+  }
+
+  /**
+   * Empties the given slot, shifting back any following values whose probe sequence passes through it.
+   *
+   * @param  wrapped  when not {@code null}, receives any values moved from the start of the table to
+   *                  its end, for {@link Itr} to not miss them
+   */
+  private void shiftValues(int pos, LongArrayList wrapped) {
+    long[] tab = table;
+    int mask = tab.length - 1;
+    while (true) {
+      int last = pos;
+      pos = (pos + 1) & mask;
+      long current;
+      while (true) {
+        current = tab[pos];
+        if (current == 0) {
+          tab[last] = 0;
+          return;
+        }
+        int slot = PrimitiveHashing.mix(current) & mask;
+        if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) {
+          break;
+        }
+        pos = (pos + 1) & mask;
+      }
+      if (wrapped != null && pos < last) {
+        wrapped.add(current);
+      }
+      tab[last] = current;
+    }
+  }
+
+  @Override
+  public void clear() {
+    if (size > 0) {
+      modCount++;
+      Arrays.fill(table, 0);
+      containsZero = false;
+      size = 0;
+    }
+  }
+
+  @Override
+  public long[] toArrayLong() {
+    long[] array = new long[size];
+    int index = 0;
+    if (containsZero) {
+      index++;
+    }
+    for (long value : table) {
+      if (value != 0) {
+        array[index++] = value;
+      }
+    }
+    return array;
+  }
+
+  /**
+   * Performs the given action for each element of this set, without boxing.
+   *
+   * @param  action  the action to be performed for each element
+   *
+   * @throws  NullPointerException  if the specified action is null
+   * @throws  ConcurrentModificationException  if the set is modified by the action
+   */
+  @Override
+  public void forEachLong(LongConsumer action) {
+    final int expectedModCount = modCount;
+    if (containsZero) {
+      action.accept(0);
+    }
+    long[] tab = table;
+    for (int i = 0; i < tab.length && modCount == expectedModCount; i++) {
+      long value = tab[i];
+      if (value != 0) {
+        action.accept(value);
+      }
+    }
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  @Override
+  public LongIterator iterator() {
+    return new Itr();
+  }
+
+  /**
+   * Iterates zero first, then the table from its end to its start.  When removal shifts a value
+   * from the start of the table past the current position, it is remembered in a separate list.
+   */
+  private class Itr implements LongIterator {
+    int pos = table.length;     // position of the last value returned from the table
+    int remaining = size;       // number of values yet to be returned
+    boolean nextZero = containsZero;
+    int lastRet = -1;           // -1 when none, table.length for zero, or a position in table
+    LongArrayList wrapped;       // values shifted from the start of the table past pos
+    int wrappedIndex;
+    long lastWrapped;
+    boolean lastIsWrapped;
+    int expectedModCount = modCount;
+
+    @Override
+    public boolean hasNext() {
+      return remaining != 0;
+    }
+
+    @Override
+    public long nextLong() {
+      checkForComodification();
+      if (remaining == 0) {
+        throw new NoSuchElementException();
+      }
+      remaining--;
+      lastIsWrapped = false;
+      if (nextZero) {
+        nextZero = false;
+        lastRet = table.length;
+        return 0;
+      }
+      long[] tab = table;
+      while (pos > 0) {
+        long value = tab[--pos];
+        if (value != 0) {
+          lastRet = pos;
+          return value;
+        }
+      }
+      lastIsWrapped = true;
+      lastRet = -1;
+      return lastWrapped = wrapped.getLong(wrappedIndex++);
+    }
+
+    @Override
+    public void remove() {
+      checkForComodification();
+      if (lastIsWrapped) {
+        lastIsWrapped = false;
+        LongHashSet.this.removeByValue(lastWrapped);
+      } else if (lastRet < 0) {
+        throw new IllegalStateException();
+      } else {
+        if (lastRet == table.length) {
+          containsZero = false;
+        } else {
+          if (wrapped == null) {
+            wrapped = new LongArrayList(2);
+          }
+          shiftValues(lastRet, wrapped);
+        }
+        lastRet = -1;
+        modCount++;
+        size--;
+      }
+      expectedModCount = modCount;
+    }
+
+    final void checkForComodification() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#DISTINCT} and {@link Spliterator#NONNULL}.</p>
+   */
+  @Override
+  public Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL);
+  }
+
+  /**
+   * Computes the hash code as the sum of {@link Long#hashCode(long)} of the elements,
+   * as specified by {@link java.util.Set#hashCode()}, without boxing.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    for (long value : table) {
+      h += Long.hashCode(value);
+    }
+    return h;
+  }
+
+  @Override
+  public Object clone() {
+    try {
+      LongHashSet s = (LongHashSet) super.clone();
+      s.table = table.clone();
+      s.modCount = 0;
+      return s;
+    } catch (CloneNotSupportedException e) {
+      // this shouldn't happen, since we are Cloneable
+      throw new InternalError();
+    }
+  }
+
+  /**
+   * Save the state of the {@link LongHashSet} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The number of elements is emitted (int), followed by all of
+   *             its elements (each a <code>long</code>) in no particular order.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    final int expectedModCount = modCount;
+    // Write out load factor, and any hidden stuff
+    s.defaultWriteObject();
+
+    // Write out size
+    s.writeInt(size);
+
+    // Write out all elements
+    if (containsZero) {
+      s.writeLong(0);
+    }
+    for (long value : table) {
+      if (value != 0) {
+        s.writeLong(value);
+      }
+    }
+
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * Reconstitute the {@link LongHashSet} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    // Read in load factor, and any hidden stuff
+    s.defaultReadObject();
+    PrimitiveHashing.checkLoadFactor(loadFactor);
+
+    // Read in size and allocate table
+    int count = s.readInt();
+    if (count < 0) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    allocate(PrimitiveHashing.tableSize(AoCollections.getHashInitialCapacity(count, loadFactor)));
+
+    // Read in all elements
+    for (int i = 0; i < count; i++) {
+      add(s.readLong());
+    }
+  }
+}
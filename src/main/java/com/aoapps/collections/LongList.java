@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2006, 2007, 2008, 2009, 2010, 2011, 2016, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,13 +24,16 @@
 package com.aoapps.collections;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongUnaryOperator;
 
 /**
  * A List that stores things using <code>long[]</code> instead of <code>Object[]</code>.  null values are not supported.
  *
  * @see  java.util.ArrayList
  */
-// TODO: Support LongStream
 public interface LongList extends LongCollection, List<Long> {
 
   int indexOf(long elem);
@@ -44,4 +47,36 @@ public interface LongList extends LongCollection, List<Long> {
   void add(int index, long element);
 
   long removeAtIndex(int index);
+
+  /**
+   * Replaces each element of this list with the result of applying the operator to that element.
+   * The elements are passed as primitive values, without boxing.
+   *
+   * @param  operator  the operator to apply to each element
+   *
+   * @throws  NullPointerException  if the specified operator is null
+   *
+   * @see  #replaceAll(java.util.function.UnaryOperator)
+   */
+  default void replaceAllLong(LongUnaryOperator operator) {
+    Objects.requireNonNull(operator);
+    for (int i = 0, size = size(); i < size; i++) {
+      set(i, operator.applyAsLong(getLong(i)));
+    }
+  }
+
+  /**
+   * Creates a {@link Spliterator.OfLong} over the elements in this list.
+   * The elements are traversed as primitive values, without boxing.
+   *
+   * <p>The default implementation creates a
+   * <em>late-binding</em> spliterator from the list's {@link LongIterator}.
+   * The spliterator inherits the <em>fail-fast</em> properties of the list's iterator.</p>
+   *
+   * @return  a {@link Spliterator.OfLong} over the elements in this list
+   */
+  @Override
+  default Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(longIterator(), size(), Spliterator.ORDERED);
+  }
 }
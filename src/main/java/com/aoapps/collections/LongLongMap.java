@@ -0,0 +1,97 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+/**
+ * A map from <code>long</code> keys to <code>long</code> values, stored without boxing.
+ * Because values are primitives, a lookup of a missing key returns the map's
+ * {@linkplain #getNoEntryValue() no-entry value}; use {@link #containsKey(long)} where the
+ * no-entry value is also a valid value.
+ *
+ * @see  java.util.Map
+ */
+public interface LongLongMap {
+
+  /**
+   * Performs an action on a key and its value.
+   */
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(long key, long value);
+  }
+
+  int size();
+
+  boolean isEmpty();
+
+  /**
+   * Gets the value returned for keys that are not in this map.
+   */
+  long getNoEntryValue();
+
+  boolean containsKey(long key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@link #getNoEntryValue()} if there is no mapping for the key
+   */
+  long get(long key);
+
+  /**
+   * Gets the value to which the specified key is mapped.
+   *
+   * @return  the value or {@code defaultValue} if there is no mapping for the key
+   */
+  long getOrDefault(long key, long defaultValue);
+
+  /**
+   * Associates the specified value with the specified key.
+   *
+   * @return  the previous value or {@link #getNoEntryValue()} if there was no mapping for the key
+   */
+  long put(long key, long value);
+
+  /**
+   * Removes the mapping for a key.
+   *
+   * @return  the previous value or {@link #getNoEntryValue()} if there was no mapping for the key
+   */
+  long remove(long key);
+
+  void clear();
+
+  /**
+   * Gets a view of the keys in this map.  Removing from the view removes from the map.
+   * Adding to the view is not supported.
+   */
+  LongSet keySet();
+
+  /**
+   * Performs the given action for each entry in this map, without boxing.
+   *
+   * @throws  java.util.ConcurrentModificationException  if the map is modified by the action
+   */
+  void forEachEntry(EntryConsumer action);
+}
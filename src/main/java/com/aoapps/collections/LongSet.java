@@ -0,0 +1,51 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A Set that stores <code>long</code> values without boxing.  null values are not supported.
+ *
+ * @see  Set
+ */
+public interface LongSet extends LongCollection, Set<Long> {
+
+  /**
+   * Creates a {@link Spliterator.OfLong} over the elements in this set.
+   * The elements are traversed as primitive values, without boxing.
+   *
+   * <p>The default implementation creates a spliterator from the set's {@link LongIterator},
+   * reporting {@link Spliterator#DISTINCT}.
+   * The spliterator inherits the <em>fail-fast</em> properties of the set's iterator.</p>
+   *
+   * @return  a {@link Spliterator.OfLong} over the elements in this set
+   */
+  @Override
+  default Spliterator.OfLong spliterator() {
+    return Spliterators.spliterator(longIterator(), size(), Spliterator.DISTINCT);
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link LongList} persisted in a memory-mapped file.  Opening an existing file maps it
+ * without reading or copying any elements, so large lists are available immediately, and the
+ * elements live in the operating system page cache instead of the Java heap.
+ *
+ * <p>The file consists of the number of elements, as a little-endian <code>long</code>, followed
+ * by the elements as little-endian <code>long</code> values.  Any bytes past the last element are
+ * unused capacity.  The list grows by extending the file and remapping it, without copying
+ * the elements.  Capacity is limited to {@link #MAX_CAPACITY} elements, the largest single
+ * mapping.</p>
+ *
+ * <p>Changes to the elements are written to the file by the operating system.  The number of
+ * elements is written on {@link #flush()}, {@link #close()}, and whenever the file is grown.
+ * Always {@link #close()} the list to release the file.</p>
+ *
+ * <p>This list is not thread safe, and the file must not be modified by other processes while open.</p>
+ *
+ * @see  MappedSortedLongArrayList
+ * @see  FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedLongArrayList extends DirectLongArrayList {
+
+  /**
+   * The number of bytes in the file header, which holds the number of elements.
+   */
+  public static final int HEADER_BYTES = Long.BYTES;
+
+  /**
+   * The maximum number of elements that may be stored, limited by the largest single mapping.
+   */
+  public static final int MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_BYTES) / Long.BYTES;
+
+  /**
+   * The byte order of the file.
+   */
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  /**
+   * The capacity of a newly created file.
+   */
+  private static final int DEFAULT_CAPACITY = 10;
+
+  /**
+   * Opens the file, creating it when missing.
+   *
+   * @param  path  the file, which will be created when missing or empty
+   *
+   * @throws  IOException  when unable to open or map the file, or the file is not in the expected format
+   */
+  public static MappedLongArrayList open(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(
+        path,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE
+    );
+    try {
+      return new MappedLongArrayList(channel, map(channel, false));
+    } catch (Throwable t) {
+      try {
+        channel.close();
+      } catch (Throwable t2) {
+        t.addSuppressed(t2);
+      }
+      throw t;
+    }
+  }
+
+  /**
+   * Maps the entire file, validating its header.  An empty file is initialized with the
+   * default capacity when not read-only.
+   */
+  static MappedByteBuffer map(FileChannel channel, boolean readOnly) throws IOException {
+    long fileSize = channel.size();
+    long capacity;
+    if (fileSize == 0 && !readOnly) {
+      capacity = DEFAULT_CAPACITY;
+    } else {
+      if (fileSize < HEADER_BYTES) {
+        throw new IOException("File too short for header: " + fileSize);
+      }
+      capacity = (fileSize - HEADER_BYTES) / Long.BYTES;
+      if (capacity > MAX_CAPACITY) {
+        throw new IOException("File too large to map: " + fileSize);
+      }
+    }
+    MappedByteBuffer mapped = channel.map(
+        readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE,
+        0,
+        HEADER_BYTES + capacity * Long.BYTES
+    );
+    mapped.order(BYTE_ORDER);
+    long size = mapped.getLong(0);
+    if (size < 0 || size > capacity) {
+      throw new IOException("Invalid size in header: " + size + ", capacity: " + capacity);
+    }
+    return mapped;
+  }
+
+  /**
+   * Gets a view of the elements of a mapped file.
+   */
+  private static LongBuffer elements(MappedByteBuffer mapped) {
+    ByteBuffer elements = mapped.duplicate();
+    elements.position(HEADER_BYTES);
+    return elements.slice().order(BYTE_ORDER).asLongBuffer();
+  }
+
+  private final FileChannel channel;
+  private MappedByteBuffer mapped;
+
+  /**
+   * Uses the already opened and mapped file.
+   *
+   * @param  channel  the channel of the file, which will be closed by {@link #close()}
+   * @param  mapped   a mapping of the entire file, with a validated header
+   */
+  protected MappedLongArrayList(FileChannel channel, MappedByteBuffer mapped) {
+    super(elements(mapped), (int) mapped.getLong(0));
+    this.channel = channel;
+    this.mapped = mapped;
+  }
+
+  /**
+   * Checks if this list was opened read-only.
+   */
+  public boolean isReadOnly() {
+    return mapped.isReadOnly();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation returns {@link #MAX_CAPACITY}.</p>
+   */
+  @Override
+  protected int getMaxCapacity() {
+    return MAX_CAPACITY;
+  }
+
+  /**
+   * Extends (or shrinks the mapping of) the file to the given capacity and remaps it.
+   * The elements are not copied.
+   *
+   * @throws  UncheckedIOException  when unable to remap the file
+   */
+  @Override
+  protected LongBuffer reallocate(LongBuffer oldData, int newCapacity) throws UncheckedIOException {
+    if (isReadOnly()) {
+      throw new UnsupportedOperationException("List is read-only");
+    }
+    try {
+      mapped.putLong(0, size);
+      MappedByteBuffer newMapped = channel.map(
+          FileChannel.MapMode.READ_WRITE,
+          0,
+          HEADER_BYTES + (long) newCapacity * Long.BYTES
+      );
+      newMapped.order(BYTE_ORDER);
+      mapped = newMapped;
+      return elements(newMapped);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the number of elements to the file header and forces any changes to storage.
+   *
+   * @throws  IllegalStateException  if the list is closed
+   *
+   * @see  MappedByteBuffer#force()
+   */
+  public void flush() throws IllegalStateException {
+    buffer();
+    if (!isReadOnly()) {
+      mapped.putLong(0, size);
+      mapped.force();
+    }
+  }
+
+  /**
+   * Writes the number of elements to the file header, forces any changes to storage,
+   * and closes the file.  Any further use of this list will throw {@link IllegalStateException}.
+   * Closing an already closed list has no effect.
+   *
+   * @throws  UncheckedIOException  when unable to close the file
+   */
+  @Override
+  public void close() throws UncheckedIOException {
+    if (elementData != null) {
+      try {
+        flush();
+        channel.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        super.close();
+      }
+    }
+  }
+}
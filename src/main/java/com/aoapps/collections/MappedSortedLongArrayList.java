@@ -0,0 +1,316 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A read-only {@link MappedLongArrayList} whose elements are in numerical order, providing the same
+ * means of quickly locating values as {@link SortedLongArrayList}.  This allows a large sorted index
+ * to be built once, with {@link #create(java.nio.file.Path, com.aoapps.collections.SortedLongArrayList)},
+ * then mapped on later startups instead of being rebuilt.
+ *
+ * <p>The sort order is only checked with assertions enabled.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public class MappedSortedLongArrayList extends MappedLongArrayList {
+
+  /**
+   * May more forcefully disable asserts for benchmarking.
+   */
+  private static final boolean ASSERTIONS_ENABLED = true;
+
+  /**
+   * Opens an existing file read-only.  The file must have been written in numerical order.
+   *
+   * @throws  IOException  when unable to open or map the file, or the file is not in the expected format
+   */
+  public static MappedSortedLongArrayList open(Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new MappedSortedLongArrayList(channel, map(channel, true));
+    } catch (Throwable t) {
+      try {
+        channel.close();
+      } catch (Throwable t2) {
+        t.addSuppressed(t2);
+      }
+      throw t;
+    }
+  }
+
+  /**
+   * Writes the given sorted elements to a file, replacing any existing file, then opens it read-only.
+   *
+   * @throws  IOException  when unable to write, open, or map the file
+   */
+  public static MappedSortedLongArrayList create(Path path, SortedLongArrayList elements) throws IOException {
+    try (
+        FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )
+    ) {
+      // Extend the file to the exact capacity, avoiding remapping during add
+      channel.map(
+          FileChannel.MapMode.READ_WRITE,
+          0,
+          HEADER_BYTES + (long) elements.size() * Long.BYTES
+      );
+      try (MappedLongArrayList writer = new MappedLongArrayList(channel, map(channel, false))) {
+        writer.addAll(elements);
+      }
+    }
+    return open(path);
+  }
+
+  private static boolean isSorted(LongBuffer elements, int size) {
+    for (int i = 1; i < size; i++) {
+      if (elements.get(i) < elements.get(i - 1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Uses the already opened and read-only mapped file.
+   *
+   * @param  channel  the channel of the file, which will be closed by {@link #close()}
+   * @param  mapped   a read-only mapping of the entire file, with a validated header
+   */
+  protected MappedSortedLongArrayList(FileChannel channel, MappedByteBuffer mapped) {
+    super(channel, mapped);
+    if (!mapped.isReadOnly()) {
+      throw new IllegalArgumentException("Mapping is not read-only");
+    }
+    if (ASSERTIONS_ENABLED) {
+      assert isSorted(elementData, size) : "elements not sorted";
+    }
+  }
+
+  /**
+   * Performs a binary search for the provide value.
+   * It will return any matching element, not necessarily
+   * the first or the last.
+   */
+  protected int binarySearch(long value) {
+    LongBuffer buf = buffer();
+    int left = 0;
+    int right = size - 1;
+    while (left <= right) {
+      int mid = (left + right) >>> 1;
+      long midValue = buf.get(mid);
+      if (value == midValue) {
+        return mid;
+      }
+      if (value < midValue) {
+        right = mid - 1;
+      } else {
+        left = mid + 1;
+      }
+    }
+    return -(left + 1);
+  }
+
+  /**
+   * Searches for the first occurrence of the given value.
+   *
+   * @param   elem   the value
+   * @return  the index of the first occurrence of the argument in this
+   *          list; returns {@code -1} if the object is not found.
+   */
+  @Override
+  public int indexOf(long elem) {
+    // Find the location to insert the object at
+    int pos = binarySearch(elem);
+
+    // Not found
+    if (pos < 0) {
+      return -1;
+    }
+
+    // Found one, iterate backwards to the first one
+    LongBuffer buf = elementData;
+    while (pos > 0 && buf.get(pos - 1) == elem) {
+      pos--;
+    }
+    return pos;
+  }
+
+  /**
+   * Returns the index of the last occurrence of the specified object in
+   * this list.
+   *
+   * @param   elem   the desired element.
+   * @return  the index of the last occurrence of the specified object in
+   *          this list; returns -1 if the object is not found.
+   */
+  @Override
+  public int lastIndexOf(long elem) {
+    // Find the location to insert the object at
+    int pos = binarySearch(elem);
+
+    // Not found
+    if (pos < 0) {
+      return -1;
+    }
+
+    // Found one, iterate forwards to the last one
+    LongBuffer buf = elementData;
+    while (pos < (size - 1) && buf.get(pos + 1) == elem) {
+      pos++;
+    }
+    return pos;
+  }
+
+  @Override
+  public boolean contains(long elem) {
+    return binarySearch(elem) >= 0;
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public long set(int index, long element) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean add(long o) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public void add(int index, long element) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public long removeAtIndex(int index) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean removeByValue(long value) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean addAll(long[] a, int off, int len) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean addAll(LongCollection c) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean addAll(Collection<? extends Long> c) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public boolean removeIfLong(LongPredicate filter) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public void replaceAllLong(LongUnaryOperator operator) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public void ensureCapacity(int minCapacity) {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+
+  /**
+   * Not allowed to modify a read-only list.
+   */
+  @Override
+  public void trimToSize() {
+    throw new UnsupportedOperationException("List is read-only");
+  }
+}
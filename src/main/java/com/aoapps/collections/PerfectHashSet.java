@@ -0,0 +1,517 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.EmptyArrays;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An immutable <code>Set</code> for large, read-only lookup tables, locating elements with a
+ * minimal perfect hash function built by the CHD (compress, hash, and displace) algorithm.
+ * Each distinct hash code maps to its own slot, so {@link #contains(java.lang.Object)} takes one
+ * probe of a small displacement table and one probe of the slots, instead of the O(log n) search
+ * of {@link UnmodifiableArraySet}.  Compared to <code>HashSet</code>, no objects are allocated per
+ * element.
+ *
+ * <p>The hash codes are distributed into buckets of about {@value #BUCKET_SIZE} hash codes each.
+ * The buckets are placed largest first, each finding a displacement that moves all of its hash codes
+ * into free slots.  Each slot holds the element along with its hash code, which is compared before
+ * <code>equals</code>.  Elements sharing a hash code share a slot.</p>
+ *
+ * <p>Elements are iterated in no particular order.  This set does not support null values.</p>
+ *
+ * <p>This set is thread safe.</p>
+ *
+ * @see  AoCollections#frozenCopySet(java.util.Collection)
+ *
+ * @author  AO Industries, Inc.
+ */
+public class PerfectHashSet<E> extends AbstractSet<E> implements Serializable {
+
+  private static final long serialVersionUID = 6442068805570174100L;
+
+  /**
+   * The average number of hash codes per bucket, which is also the number of slots per displacement.
+   */
+  private static final int BUCKET_SIZE = 5;
+
+  /**
+   * The number of first displacements tried for a bucket before starting over with another seed.
+   */
+  private static final int MAX_FIRST_DISPLACEMENTS = 256;
+
+  /**
+   * The elements sharing a single hash code, in a slot.
+   */
+  private static final class Collision {
+
+    private final Object[] elements;
+
+    private Collision(Object[] elements) {
+      this.elements = elements;
+    }
+  }
+
+  /**
+   * The seed of the hash functions.
+   */
+  private transient int seed;
+
+  /**
+   * The displacement of each bucket, with the first displacement multiplied by the number of slots
+   * and added to the second displacement.
+   */
+  private transient int[] displacements;
+
+  /**
+   * The hash code of the element(s) in each slot.
+   */
+  private transient int[] hashes;
+
+  /**
+   * The element in each slot, or a {@link Collision} when more than one element has the same hash code.
+   */
+  private transient Object[] slots;
+
+  /**
+   * The number of elements, including those sharing a hash code.
+   */
+  private transient int size;
+
+  /**
+   * Creates a set of the elements of the given collection, removing any duplicates.
+   *
+   * @throws  NullPointerException  if any element is null
+   */
+  public PerfectHashSet(Collection<? extends E> c) throws NullPointerException {
+    build(c);
+  }
+
+  /**
+   * Mixes the hash code with the seed, spreading all bits.
+   */
+  private static long mix(int hash, int seed) {
+    // SplitMix64 finalizer
+    long z = ((long) hash << 32 | (seed & 0xffffffffL)) + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Maps the high 32 bits of a mixed hash to a bucket.
+   */
+  private static int bucket(long mixed, int numBuckets) {
+    return (int) (((mixed >>> 32) * numBuckets) >>> 32);
+  }
+
+  /**
+   * Maps the low 32 bits of a mixed hash to the first of the two slot functions.
+   */
+  private static int f1(long mixed, int numSlots) {
+    return (int) (((mixed & 0xffffffffL) * numSlots) >>> 32);
+  }
+
+  /**
+   * Remixes the mixed hash to the second of the two slot functions.
+   */
+  private static int f2(long mixed, int numSlots) {
+    long z = mixed * 0xD6E8FEB86659FD93L;
+    return (int) (((z >>> 32) * numSlots) >>> 32);
+  }
+
+  /**
+   * Finds the slot for a hash code.
+   */
+  private static int slot(long mixed, int displacement, int numSlots) {
+    int f1 = f1(mixed, numSlots);
+    if (displacement < numSlots) {
+      // First displacement of zero, by far the most common
+      int pos = f1 + displacement;
+      return pos >= numSlots ? pos - numSlots : pos;
+    }
+    int d0 = displacement / numSlots;
+    int d1 = displacement - d0 * numSlots;
+    return (int) ((f1 + (long) d0 * f2(mixed, numSlots) + d1) % numSlots);
+  }
+
+  private void build(Collection<?> c) {
+    // Sort once, which removes duplicates and groups hash codes
+    ArraySetBuilder.Sorted sorted = ArraySetBuilder.sort(c);
+    Object[] elements = sorted.elements;
+    int[] elementHashes = sorted.hashes;
+    int numElements = elements.length;
+    // Group elements by distinct hash code
+    int numSlots = 0;
+    for (int i = 0; i < numElements; i++) {
+      if (i == 0 || elementHashes[i] != elementHashes[i - 1]) {
+        numSlots++;
+      }
+    }
+    int[] slotHashes = numSlots == 0 ? EmptyArrays.EMPTY_INT_ARRAY : new int[numSlots];
+    Object[] slotValues = numSlots == 0 ? EmptyArrays.EMPTY_OBJECT_ARRAY : new Object[numSlots];
+    for (int i = 0, slot = 0; i < numElements; slot++) {
+      int hash = elementHashes[i];
+      int end = i + 1;
+      while (end < numElements && elementHashes[end] == hash) {
+        end++;
+      }
+      slotHashes[slot] = hash;
+      if (end - i == 1) {
+        slotValues[slot] = elements[i];
+      } else {
+        Object[] collisions = new Object[end - i];
+        System.arraycopy(elements, i, collisions, 0, collisions.length);
+        slotValues[slot] = new Collision(collisions);
+      }
+      i = end;
+    }
+    this.size = numElements;
+    if (numSlots == 0) {
+      this.seed = 0;
+      this.displacements = new int[1];
+      this.hashes = slotHashes;
+      this.slots = slotValues;
+      return;
+    }
+    int numBuckets = (numSlots + BUCKET_SIZE - 1) / BUCKET_SIZE;
+    int[] positions = new int[numSlots];
+    for (int attempt = 0; ; attempt++) {
+      int newSeed = (int) mix(attempt, 0x5EED);
+      int[] newDisplacements = place(slotHashes, newSeed, numBuckets, positions);
+      if (newDisplacements != null) {
+        int[] newHashes = new int[numSlots];
+        Object[] newSlots = new Object[numSlots];
+        for (int i = 0; i < numSlots; i++) {
+          int pos = positions[i];
+          newHashes[pos] = slotHashes[i];
+          newSlots[pos] = slotValues[i];
+        }
+        this.seed = newSeed;
+        this.displacements = newDisplacements;
+        this.hashes = newHashes;
+        this.slots = newSlots;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Places each distinct hash code into its own slot.
+   *
+   * @param  positions  receives the slot of each hash code
+   *
+   * @return  the displacements or {@code null} when a bucket cannot be placed with this seed
+   */
+  private static int[] place(int[] slotHashes, int seed, int numBuckets, int[] positions) {
+    final int numSlots = slotHashes.length;
+    // Compute the hashes and count the bucket sizes
+    long[] mixed = new long[numSlots];
+    int[] bucketOf = new int[numSlots];
+    int[] bucketStart = new int[numBuckets + 1];
+    for (int i = 0; i < numSlots; i++) {
+      long m = mix(slotHashes[i], seed);
+      mixed[i] = m;
+      int b = bucket(m, numBuckets);
+      bucketOf[i] = b;
+      bucketStart[b + 1]++;
+    }
+    int maxBucketSize = 0;
+    for (int b = 0; b < numBuckets; b++) {
+      maxBucketSize = Math.max(maxBucketSize, bucketStart[b + 1]);
+      bucketStart[b + 1] += bucketStart[b];
+    }
+    // Group by bucket
+    int[] members = new int[numSlots];
+    int[] fill = new int[numBuckets];
+    for (int i = 0; i < numSlots; i++) {
+      int b = bucketOf[i];
+      members[bucketStart[b] + fill[b]++] = i;
+    }
+    // Order buckets by descending size
+    int[] sizeStart = new int[maxBucketSize + 2];
+    for (int b = 0; b < numBuckets; b++) {
+      sizeStart[maxBucketSize - (bucketStart[b + 1] - bucketStart[b]) + 1]++;
+    }
+    for (int s = 0; s <= maxBucketSize; s++) {
+      sizeStart[s + 1] += sizeStart[s];
+    }
+    int[] bucketOrder = new int[numBuckets];
+    for (int b = 0; b < numBuckets; b++) {
+      bucketOrder[sizeStart[maxBucketSize - (bucketStart[b + 1] - bucketStart[b])]++] = b;
+    }
+    // The free slots, with the index of each slot in the list for removal
+    int[] free = new int[numSlots];
+    int[] freeIndex = new int[numSlots];
+    for (int i = 0; i < numSlots; i++) {
+      free[i] = i;
+      freeIndex[i] = i;
+    }
+    int numFree = numSlots;
+    boolean[] occupied = new boolean[numSlots];
+    int[] displacements = new int[numBuckets];
+    int[] base = new int[maxBucketSize];
+    for (int b : bucketOrder) {
+      final int start = bucketStart[b];
+      final int bucketSize = bucketStart[b + 1] - start;
+      if (bucketSize == 0) {
+        // All remaining buckets are empty
+        break;
+      }
+      int displacement = -1;
+      SEARCH:
+      for (int d0 = 0; d0 < MAX_FIRST_DISPLACEMENTS; d0++) {
+        if (d0 > 0 && (long) d0 * numSlots + numSlots > Integer.MAX_VALUE) {
+          break;
+        }
+        // Positions before the second displacement, which must be distinct
+        for (int j = 0; j < bucketSize; j++) {
+          long m = mixed[members[start + j]];
+          int pos = (int) ((f1(m, numSlots) + (long) d0 * f2(m, numSlots)) % numSlots);
+          for (int k = 0; k < j; k++) {
+            if (base[k] == pos) {
+              continue SEARCH;
+            }
+          }
+          base[j] = pos;
+        }
+        // Try the second displacement that moves the first hash code into each free slot
+        for (int f = 0; f < numFree; f++) {
+          int d1 = free[f] - base[0];
+          if (d1 < 0) {
+            d1 += numSlots;
+          }
+          boolean fits = true;
+          for (int j = 1; j < bucketSize; j++) {
+            int pos = base[j] + d1;
+            if (pos >= numSlots) {
+              pos -= numSlots;
+            }
+            if (occupied[pos]) {
+              fits = false;
+              break;
+            }
+          }
+          if (fits) {
+            displacement = d0 * numSlots + d1;
+            for (int j = 0; j < bucketSize; j++) {
+              int pos = base[j] + d1;
+              if (pos >= numSlots) {
+                pos -= numSlots;
+              }
+              occupied[pos] = true;
+              positions[members[start + j]] = pos;
+              // Remove from free list
+              int index = freeIndex[pos];
+              int last = free[--numFree];
+              free[index] = last;
+              freeIndex[last] = index;
+            }
+            break SEARCH;
+          }
+        }
+      }
+      if (displacement == -1) {
+        return null;
+      }
+      displacements[b] = displacement;
+    }
+    return displacements;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o == null) {
+      return false;
+    }
+    int[] hs = hashes; // Local fast reference
+    int numSlots = hs.length;
+    if (numSlots == 0) {
+      return false;
+    }
+    int hash = o.hashCode();
+    long mixed = mix(hash, seed);
+    int[] disp = displacements; // Local fast reference
+    int pos = slot(mixed, disp[bucket(mixed, disp.length)], numSlots);
+    if (hs[pos] != hash) {
+      return false;
+    }
+    Object slot = slots[pos];
+    if (slot instanceof Collision) {
+      for (Object elem : ((Collision) slot).elements) {
+        if (elem.equals(o)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    return slot.equals(o);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<>() {
+      private final Object[] s = slots; // Local fast reference
+      private int pos;
+      private Object[] collisions;
+      private int collisionIndex;
+
+      @Override
+      public boolean hasNext() {
+        return collisions != null || pos < s.length;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public E next() throws NoSuchElementException {
+        if (collisions != null) {
+          Object elem = collisions[collisionIndex++];
+          if (collisionIndex == collisions.length) {
+            collisions = null;
+          }
+          return (E) elem;
+        }
+        if (pos >= s.length) {
+          throw new NoSuchElementException();
+        }
+        Object slot = s[pos++];
+        if (slot instanceof Collision) {
+          collisions = ((Collision) slot).elements;
+          collisionIndex = 1;
+          return (E) collisions[0];
+        }
+        return (E) slot;
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator reports {@link Spliterator#DISTINCT}, {@link Spliterator#NONNULL}, and {@link Spliterator#IMMUTABLE}.</p>
+   */
+  @Override
+  public Spliterator<E> spliterator() {
+    return Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+  }
+
+  /**
+   * Computes the hash code from the cached hash codes of the elements.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    int[] hs = hashes; // Local fast reference
+    Object[] s = slots; // Local fast reference
+    for (int i = 0; i < hs.length; i++) {
+      Object slot = s[i];
+      h += hs[i] * (slot instanceof Collision ? ((Collision) slot).elements.length : 1);
+    }
+    return h;
+  }
+
+  @Override
+  public boolean add(E e) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Save the state of the {@link PerfectHashSet} instance to a stream (that
+   * is, serialize it).
+   *
+   * @serialData The number of elements is emitted (int), followed by all of
+   *             its elements (each an <code>Object</code>) in no particular order.
+   *             The hash function is rebuilt when deserialized, since hash codes
+   *             may differ between virtual machines.
+   */
+  private void writeObject(java.io.ObjectOutputStream s)
+      throws java.io.IOException {
+    s.defaultWriteObject();
+    s.writeInt(size);
+    for (E elem : this) {
+      s.writeObject(elem);
+    }
+  }
+
+  /**
+   * Reconstitute the {@link PerfectHashSet} instance from a stream (that is,
+   * deserialize it).
+   */
+  private void readObject(java.io.ObjectInputStream s)
+      throws java.io.IOException, ClassNotFoundException {
+    s.defaultReadObject();
+    int count = s.readInt();
+    if (count < 0) {
+      throw new java.io.InvalidObjectException("Illegal size: " + count);
+    }
+    Object[] elements = new Object[count];
+    for (int i = 0; i < count; i++) {
+      elements[i] = s.readObject();
+    }
+    build(Arrays.asList(elements));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+/**
+ * Hashing utilities shared by the primitive hash-based collections.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class PrimitiveHashing {
+
+  /** Make no instances. */
+  private PrimitiveHashing() {
+    throw new AssertionError();
+  }
+
+  /**
+   * The maximum table length, which must be a power of two.
+   */
+  static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  /**
+   * Spreads the bits of a value so sequential and patterned values are distributed across the table.
+   */
+  static int mix(int value) {
+    int h = value * 0x9e3779b9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Spreads the bits of a value so sequential and patterned values are distributed across the table.
+   */
+  static int mix(long value) {
+    long h = value * 0x9e3779b97f4a7c15L;
+    h ^= h >>> 32;
+    return (int) (h ^ (h >>> 16));
+  }
+
+  /**
+   * Checks a load factor, which must be greater than zero and less than one so that
+   * probing always finds an empty slot.
+   *
+   * @return  the load factor
+   *
+   * @throws  IllegalArgumentException  when the load factor is out of range
+   */
+  static float checkLoadFactor(float loadFactor) throws IllegalArgumentException {
+    if (!(loadFactor > 0 && loadFactor < 1)) {
+      throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+    }
+    return loadFactor;
+  }
+
+  /**
+   * Gets the table length for the given capacity: the smallest power of two at least the
+   * capacity, between two and {@link #MAXIMUM_CAPACITY}.
+   */
+  static int tableSize(int capacity) {
+    if (capacity <= 2) {
+      return 2;
+    }
+    if (capacity >= MAXIMUM_CAPACITY) {
+      return MAXIMUM_CAPACITY;
+    }
+    return Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  /**
+   * Gets the number of values a table may hold before being resized, always leaving at least
+   * one empty slot.
+   */
+  static int threshold(int tableLength, float loadFactor) {
+    return Math.min((int) (tableLength * loadFactor), tableLength - 1);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks the value of a {@link Number} against the primitive element types, so searching a
+ * primitive list by an object does not match an element by narrowing or rounding.
+ *
+ * @author  AO Industries, Inc.
+ */
+final class PrimitiveValues {
+
+  /** Make no instances. */
+  private PrimitiveValues() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Checks if {@link Number#doubleValue()} is exactly the value of the given number.
+   * Types not known to this method are trusted to convert exactly.
+   */
+  static boolean isDouble(Number n) {
+    if (
+        n instanceof Double
+            || n instanceof Float
+            || n instanceof Integer
+            || n instanceof Short
+            || n instanceof Byte
+            || n instanceof AtomicInteger
+    ) {
+      return true;
+    }
+    if (n instanceof Long || n instanceof AtomicLong) {
+      long value = n.longValue();
+      double d = value;
+      // 2^63 converts back to Long.MAX_VALUE, so is excluded
+      return d != 0x1p63 && (long) d == value;
+    }
+    if (n instanceof BigInteger) {
+      double d = n.doubleValue();
+      return Double.isFinite(d) && new BigDecimal(d).compareTo(new BigDecimal((BigInteger) n)) == 0;
+    }
+    if (n instanceof BigDecimal) {
+      double d = n.doubleValue();
+      return Double.isFinite(d) && new BigDecimal(d).compareTo((BigDecimal) n) == 0;
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the value of the given number is exactly a <code>float</code>.
+   */
+  static boolean isFloat(Number n) {
+    if (n instanceof Float || n instanceof Short || n instanceof Byte) {
+      return true;
+    }
+    double d = n.doubleValue();
+    return ((float) d == d || Double.isNaN(d)) && isDouble(n);
+  }
+
+  /**
+   * Checks if the value of the given number is exactly a <code>short</code>.
+   */
+  static boolean isShort(Number n) {
+    if (n instanceof Short || n instanceof Byte) {
+      return true;
+    }
+    double d = n.doubleValue();
+    return (short) d == d && isDouble(n);
+  }
+
+  /**
+   * Checks if the value of the given number is exactly a <code>byte</code>.
+   */
+  static boolean isByte(Number n) {
+    if (n instanceof Byte) {
+      return true;
+    }
+    double d = n.doubleValue();
+    return (byte) d == d && isDouble(n);
+  }
+}
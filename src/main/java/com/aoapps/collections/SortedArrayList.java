@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2000, 2001, 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -24,8 +24,8 @@
 package com.aoapps.collections;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * A <code>SortedArrayList</code> stores its elements in hashCode order and provides means of quickly
@@ -283,19 +283,43 @@ public class SortedArrayList<E> extends ArrayList<E> {
   }
 
   /**
-   * Adds all of the elements in the specified Collection and sorts during
-   * the add.  This may operate slowly as it is the same as individual
-   * calls to the add method.
+   * Adds all of the elements in the specified Collection.  The elements are
+   * sorted by hashCode, then merged into this list in a single pass.  As with
+   * {@link #add(java.lang.Object)}, elements are added after any existing
+   * elements with the same hashCode, in the order returned by the collection's iterator.
    */
   @Override
+  @SuppressWarnings("unchecked")
   public boolean addAll(Collection<? extends E> c) {
-    Iterator<? extends E> iter = c.iterator();
-    boolean didOne = false;
-    while (iter.hasNext()) {
-      add(iter.next());
-      didOne = true;
+    Object[] batch = c.toArray();
+    int len = batch.length;
+    if (len == 0) {
+      return false;
+    }
+    // Sort by hashCode then original position, calling hashCode once per element
+    long[] order = new long[len];
+    for (int i = 0; i < len; i++) {
+      order[i] = ((long) batch[i].hashCode() << 32) | i;
     }
-    return didOne;
+    Arrays.sort(order);
+    // Grow by appending, then merge from the end backward, moving each existing element at most once
+    int i = size() - 1;
+    super.addAll(Arrays.asList((E[]) batch));
+    int k = i + len;
+    int existingHash = (i >= 0) ? get(i).hashCode() : 0;
+    for (int j = len - 1; j >= 0; ) {
+      long entry = order[j];
+      if (i >= 0 && existingHash > (int) (entry >> 32)) {
+        super.set(k--, get(i--));
+        if (i >= 0) {
+          existingHash = get(i).hashCode();
+        }
+      } else {
+        super.set(k--, (E) batch[(int) entry]);
+        j--;
+      }
+    }
+    return true;
   }
 
   /**
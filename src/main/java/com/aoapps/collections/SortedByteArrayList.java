@@ -0,0 +1,224 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+// Generated from SortedPrimitiveArrayList.java.template by src/main/template/GeneratePrimitiveArrayLists.java; edit the template instead.
+
+package com.aoapps.collections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * A <code>SortedByteArrayList</code> stores is elements in numerical order and provides means of quickly
+ * locating objects.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class SortedByteArrayList extends ByteArrayList implements Cloneable, Serializable {
+
+  private static final long serialVersionUID = 4809520082626186589L;
+
+  /**
+   * Constructs an empty list with the specified initial capacity.
+   *
+   * @param   initialCapacity   the initial capacity of the list.
+   * @exception IllegalArgumentException if the specified initial capacity
+   *            is negative
+   */
+  public SortedByteArrayList(int initialCapacity) {
+    super(initialCapacity);
+  }
+
+  /**
+   * Constructs an empty list with an initial capacity of ten.
+   */
+  public SortedByteArrayList() {
+    super();
+  }
+
+  /**
+   * Constructs a sorted list containing the elements of the specified collection.
+   */
+  public SortedByteArrayList(Collection<? extends Number> c) {
+    super(c);
+    Arrays.sort(elementData, 0, size);
+  }
+
+  /**
+   * Constructs a sorted list containing a copy of the elements of the specified array.
+   */
+  public SortedByteArrayList(byte[] elements) {
+    super(elements);
+    Arrays.sort(elementData, 0, size);
+  }
+
+  /**
+   * Performs a binary search on the sorted list.
+   *
+   * @return  the index of a matching element, or <code>-(<i>insertion point</i>) - 1</code> when not found
+   *
+   * @see  Arrays#binarySearch(byte[], int, int, byte)
+   */
+  protected int binarySearch(byte value) {
+    return Arrays.binarySearch(elementData, 0, size, value);
+  }
+
+  /**
+   * Searches for the first occurrence of the given value using a binary search.
+   */
+  @Override
+  public int indexOf(byte elem) {
+    // Find the location to insert the object at
+    int pos = binarySearch(elem);
+
+    // Not found
+    if (pos < 0) {
+      return -1;
+    }
+
+    // Found one, iterate backwards to the first one
+    while (pos > 0 && elementData[pos - 1] == elem) {
+      pos--;
+    }
+    return pos;
+  }
+
+  /**
+   * Searches for the last occurrence of the given value using a binary search.
+   */
+  @Override
+  public int lastIndexOf(byte elem) {
+    // Find the location to insert the object at
+    int pos = binarySearch(elem);
+
+    // Not found
+    if (pos < 0) {
+      return -1;
+    }
+
+    // Found one, iterate forwards to the last one
+    while (pos < (size - 1) && elementData[pos + 1] == elem) {
+      pos++;
+    }
+    return pos;
+  }
+
+  /**
+   * Not allowed to set specific indexes.
+   */
+  @Override
+  public byte set(int index, byte element) {
+    throw new RuntimeException("Not allowed to set specific indexes");
+  }
+
+  /**
+   * Adds the specified element in sorted position within this list.  When
+   * two elements have the same value, the element will be added after the existing element.
+   */
+  @Override
+  public boolean add(byte o) {
+    // Shortcut for empty and for adding to end (makes imports of already-sorted data operate at constant-time instead of logarithmic complexity)
+    int mySize = size;
+    if (mySize == 0 || Byte.compare(o, elementData[mySize - 1]) >= 0) {
+      super.add(o);
+    } else {
+      int index = binarySearch(o);
+      if (index < 0) {
+        // Not found in list
+        super.add(-(index + 1), o);
+      } else {
+        // Add after existing
+        while (index < mySize - 1 && Byte.compare(elementData[index + 1], o) == 0) {
+          index++;
+        }
+        super.add(index + 1, o);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds all of the elements in the specified range of an array, sorting once after appending.
+   */
+  @Override
+  public boolean addAll(byte[] a, int off, int len) {
+    boolean modified = super.addAll(a, off, len);
+    if (modified) {
+      Arrays.sort(elementData, 0, size);
+    }
+    return modified;
+  }
+
+  /**
+   * Adds all of the elements in the specified collection, sorting once after appending.
+   */
+  @Override
+  public boolean addAll(Collection<? extends Byte> c) {
+    ensureCapacity(size + c.size());
+    int oldSize = size;
+    for (Byte value : c) {
+      elementData[size++] = value;
+    }
+    if (size == oldSize) {
+      return false;
+    }
+    Arrays.sort(elementData, 0, size);
+    return true;
+  }
+
+  /**
+   * Not allowed to add to specific indexes.
+   */
+  @Override
+  public void add(int index, byte element) {
+    throw new RuntimeException("Not allowed to add to specific indexes");
+  }
+
+  /**
+   * Not allowed to add to specific indexes.
+   */
+  @Override
+  public boolean addAll(int index, Collection<? extends Byte> c) {
+    throw new RuntimeException("Not allowed to add to specific indexes");
+  }
+
+  /**
+   * Already sorted.
+   */
+  @Override
+  public void sort() {
+    // Already sorted
+  }
+
+  /**
+   * Already sorted in natural order, so may only be called with a {@code null} comparator.
+   */
+  @Override
+  public void sort(Comparator<? super Byte> c) {
+    if (c != null) {
+      throw new RuntimeException("Not allowed to sort by comparator");
+    }
+  }
+}
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2020, 2021, 2022  AO Industries, Inc.
+ * Copyright (C) 2002, 2003, 2004, 2005, 2006, 2007, 2008, 2009, 2010, 2011, 2020, 2021, 2022, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -23,8 +23,14 @@
 
 package com.aoapps.collections;
 
+import com.aoapps.lang.EmptyArrays;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.LongUnaryOperator;
 
 /**
  * A <code>SortedLongArrayList</code> stores is elements in numerical order and provides means of quickly
@@ -54,6 +60,26 @@ public class SortedLongArrayList extends LongArrayList implements Cloneable, jav
     super();
   }
 
+  /**
+   * Creates a sorted list from the elements of the given list, sorting them in place with
+   * {@link AoArrays#radixSort(long[], int, int)} and taking ownership of its backing array.
+   * This avoids both copying and adding one element at a time.  The given list is left empty.
+   *
+   * @param  list  the list, which is cleared and may continue to be used
+   */
+  public static SortedLongArrayList adopt(LongArrayList list) {
+    long[] data = list.elementData;
+    int n = list.size;
+    AoArrays.radixSort(data, 0, n);
+    list.elementData = EmptyArrays.EMPTY_LONG_ARRAY;
+    list.size = 0;
+    list.clear();
+    SortedLongArrayList sorted = new SortedLongArrayList(0);
+    sorted.elementData = data;
+    sorted.size = n;
+    return sorted;
+  }
+
   @Override
   public Object clone() {
     return super.clone();
@@ -170,6 +196,54 @@ public class SortedLongArrayList extends LongArrayList implements Cloneable, jav
     return true;
   }
 
+  /**
+   * Replaces each element of this list with the result of applying the operator to that element,
+   * then restores sorted order.  The elements are passed as primitive values, without boxing.
+   *
+   * @param  operator  the operator to apply to each element
+   *
+   * @throws  NullPointerException  if the specified operator is null
+   */
+  @Override
+  public void replaceAllLong(LongUnaryOperator operator) {
+    super.replaceAllLong(operator);
+    Arrays.sort(elementData, 0, size);
+  }
+
+  /**
+   * Already sorted, does nothing.
+   */
+  @Override
+  public void sort() {
+    // Already sorted
+  }
+
+  /**
+   * Already sorted, does nothing.
+   */
+  @Override
+  public void parallelSort() {
+    // Already sorted
+  }
+
+  /**
+   * Already sorted, does nothing.
+   */
+  @Override
+  public void radixSort() {
+    // Already sorted
+  }
+
+  /**
+   * Already sorted when the comparator is {@code null}, otherwise not allowed to change the order.
+   */
+  @Override
+  public void sort(Comparator<? super Long> c) {
+    if (c != null) {
+      throw new RuntimeException("Not allowed to sort by comparator");
+    }
+  }
+
   /**
    * Not allowed to add to specific indexes.
    */
@@ -202,19 +276,75 @@ public class SortedLongArrayList extends LongArrayList implements Cloneable, jav
   }
 
   /**
-   * Adds all of the elements in the specified Collection and sorts during
-   * the add.  This may operate slowly as it is the same as individual
-   * calls to the add method.
+   * Adds all of the elements in the specified Collection.  The elements are
+   * copied and sorted, then merged into this list in a single pass.
    */
   @Override
   public boolean addAll(Collection<? extends Long> c) {
-    Iterator<? extends Long> iter = c.iterator();
-    boolean didOne = false;
-    while (iter.hasNext()) {
-      add(iter.next().longValue());
-      didOne = true;
+    if (c instanceof LongCollection) {
+      return addAll((LongCollection) c);
+    }
+    long[] batch = new long[c.size()];
+    int len = 0;
+    for (Long value : c) {
+      batch[len++] = value;
+    }
+    AoArrays.radixSort(batch, 0, len);
+    return merge(batch, len);
+  }
+
+  /**
+   * Adds all of the elements in the specified range of an array.  The elements
+   * are copied and sorted, then merged into this list in a single pass.
+   */
+  @Override
+  public boolean addAll(long[] a, int off, int len) {
+    Objects.checkFromIndexSize(off, len, a.length);
+    long[] batch = Arrays.copyOfRange(a, off, off + len);
+    AoArrays.radixSort(batch, 0, len);
+    return merge(batch, len);
+  }
+
+  /**
+   * Adds all of the elements in the specified collection.  The elements are
+   * copied and, unless already sorted, sorted, then merged into this list in a single pass.
+   */
+  @Override
+  public boolean addAll(LongCollection c) {
+    long[] batch = c.toArrayLong();
+    if (!(c instanceof SortedLongArrayList)) {
+      AoArrays.radixSort(batch, 0, batch.length);
+    }
+    return merge(batch, batch.length);
+  }
+
+  /**
+   * Merges the sorted elements into this list from the end backward, moving each
+   * existing element at most once.  Elements equal to existing elements are added
+   * after them, the same as {@link #add(long)}.
+   *
+   * @param  batch  the sorted elements to add
+   * @param  len    the number of elements in the batch
+   */
+  private boolean merge(long[] batch, int len) {
+    if (len == 0) {
+      return false;
+    }
+    int i = size - 1;
+    ensureCapacity(size + len); // Increments modCount!!
+    long[] data = elementData;
+    int j = len - 1;
+    int k = i + len;
+    // Only the existing elements greater than the smallest new element move
+    while (j >= 0) {
+      if (i >= 0 && data[i] > batch[j]) {
+        data[k--] = data[i--];
+      } else {
+        data[k--] = batch[j--];
+      }
     }
-    return didOne;
+    size += len;
+    return true;
   }
 
   /**
@@ -224,4 +354,490 @@ public class SortedLongArrayList extends LongArrayList implements Cloneable, jav
   public boolean addAll(int index, Collection<? extends Long> c) {
     throw new RuntimeException("Not allowed to add to a specific index");
   }
+
+  /**
+   * The ratio of sizes at which set operations switch from a linear merge to
+   * galloping (exponential) search of the larger list for each element of the smaller.
+   */
+  private static final int GALLOP_RATIO = 32;
+
+  /**
+   * Wraps the given array without copying.
+   */
+  private static SortedLongArrayList wrap(long[] data, int size) {
+    SortedLongArrayList list = new SortedLongArrayList(0);
+    list.elementData = data;
+    list.size = size;
+    return list;
+  }
+
+  /**
+   * Wraps the given array of a result sized to its upper bound, first trimming it when the result
+   * is smaller than the array by more than the growth of {@link #ensureCapacity(int)}, so a small
+   * result does not keep a large array alive.
+   */
+  private static SortedLongArrayList wrapTrimmed(long[] data, int size) {
+    if (size + (size >> 1) + 1 < data.length) {
+      data = Arrays.copyOf(data, size);
+    }
+    return wrap(data, size);
+  }
+
+  /**
+   * Finds the first index within a range whose element is greater than or equal to the given key,
+   * or {@code to} when none.  Searches exponentially increasing distances from {@code from}, then
+   * performs a binary search, so finding an element {@code d} positions away is {@code O(log d)}.
+   */
+  private static int gallop(long[] a, int from, int to, long key) {
+    int lo = from;
+    int hi = from;
+    int step = 1;
+    while (hi < to && a[hi] < key) {
+      lo = hi + 1;
+      hi = (to - hi > step) ? (hi + step) : to;
+      step <<= 1;
+    }
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (a[mid] < key) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * Computes the intersection of two sorted lists as a new sorted list.  Duplicate values are
+   * treated as a multiset: each value appears the lesser number of times it appears in either list.
+   * Lists of similar size are merged in a single linear pass, otherwise each element of the smaller
+   * list is found in the larger by galloping search.
+   *
+   * @see  #intersectionSize(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public static SortedLongArrayList intersect(SortedLongArrayList a, SortedLongArrayList b) {
+    if (a.size > b.size) {
+      SortedLongArrayList t = a;
+      a = b;
+      b = t;
+    }
+    long[] x = a.elementData;
+    int n = a.size;
+    long[] y = b.elementData;
+    int m = b.size;
+    // Counted first so the result is allocated at its exact size
+    int count = intersectionSize(a, b);
+    long[] out = new long[count];
+    int k = 0;
+    if ((long) n * GALLOP_RATIO < m) {
+      int j = 0;
+      for (int i = 0; k < count; i++) {
+        long value = x[i];
+        j = gallop(y, j, m, value);
+        if (j < m && y[j] == value) {
+          out[k++] = value;
+          j++;
+        }
+      }
+    } else {
+      int i = 0;
+      int j = 0;
+      // Stops once all matches are found, so the unconditional write is always in bounds
+      while (k < count) {
+        long xv = x[i];
+        long yv = y[j];
+        // Written unconditionally, kept only on match, avoiding unpredictable branches
+        out[k] = xv;
+        k += (xv == yv) ? 1 : 0;
+        i += (xv <= yv) ? 1 : 0;
+        j += (xv >= yv) ? 1 : 0;
+      }
+    }
+    assert k == count;
+    return wrap(out, k);
+  }
+
+  /**
+   * Computes the intersection of this list and another sorted list as a new sorted list.
+   *
+   * @see  #intersect(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public SortedLongArrayList intersect(SortedLongArrayList other) {
+    return intersect(this, other);
+  }
+
+  /**
+   * Counts the elements in the intersection of two sorted lists, without creating it.
+   *
+   * @see  #intersect(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public static int intersectionSize(SortedLongArrayList a, SortedLongArrayList b) {
+    if (a.size > b.size) {
+      SortedLongArrayList t = a;
+      a = b;
+      b = t;
+    }
+    long[] x = a.elementData;
+    int n = a.size;
+    long[] y = b.elementData;
+    int m = b.size;
+    int count = 0;
+    if ((long) n * GALLOP_RATIO < m) {
+      int j = 0;
+      for (int i = 0; i < n && j < m; i++) {
+        long value = x[i];
+        j = gallop(y, j, m, value);
+        if (j < m && y[j] == value) {
+          count++;
+          j++;
+        }
+      }
+    } else {
+      int i = 0;
+      int j = 0;
+      while (i < n && j < m) {
+        long xv = x[i];
+        long yv = y[j];
+        count += (xv == yv) ? 1 : 0;
+        i += (xv <= yv) ? 1 : 0;
+        j += (xv >= yv) ? 1 : 0;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Counts the elements in the intersection of this list and another sorted list, without creating it.
+   *
+   * @see  #intersectionSize(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public int intersectionSize(SortedLongArrayList other) {
+    return intersectionSize(this, other);
+  }
+
+  /**
+   * Computes the union of two sorted lists as a new sorted list.  Duplicate values are
+   * treated as a multiset: each value appears the greater number of times it appears in either list.
+   * Lists of similar size are merged in a single linear pass, otherwise runs of the larger list
+   * between the elements of the smaller are found by galloping search and copied in bulk.
+   */
+  public static SortedLongArrayList union(SortedLongArrayList a, SortedLongArrayList b) {
+    if (a.size > b.size) {
+      SortedLongArrayList t = a;
+      a = b;
+      b = t;
+    }
+    long[] x = a.elementData;
+    int n = a.size;
+    long[] y = b.elementData;
+    int m = b.size;
+    long[] out = new long[n + m];
+    int k = 0;
+    int i = 0;
+    int j = 0;
+    if ((long) n * GALLOP_RATIO < m) {
+      for (; i < n; i++) {
+        long value = x[i];
+        int end = gallop(y, j, m, value);
+        System.arraycopy(y, j, out, k, end - j);
+        k += end - j;
+        j = end;
+        out[k++] = value;
+        if (j < m && y[j] == value) {
+          j++;
+        }
+      }
+    } else {
+      while (i < n && j < m) {
+        long xv = x[i];
+        long yv = y[j];
+        if (xv < yv) {
+          out[k++] = xv;
+          i++;
+        } else if (xv > yv) {
+          out[k++] = yv;
+          j++;
+        } else {
+          out[k++] = xv;
+          i++;
+          j++;
+        }
+      }
+      System.arraycopy(x, i, out, k, n - i);
+      k += n - i;
+    }
+    System.arraycopy(y, j, out, k, m - j);
+    k += m - j;
+    return wrapTrimmed(out, k);
+  }
+
+  /**
+   * Computes the union of this list and another sorted list as a new sorted list.
+   *
+   * @see  #union(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public SortedLongArrayList union(SortedLongArrayList other) {
+    return union(this, other);
+  }
+
+  /**
+   * Computes the elements of one sorted list that are not in another, as a new sorted list.
+   * Duplicate values are treated as a multiset: each value appears the number of times it
+   * appears in {@code a} less the number of times it appears in {@code b}.
+   * Lists of similar size are merged in a single linear pass, otherwise galloping search is
+   * used over the larger list.
+   */
+  public static SortedLongArrayList difference(SortedLongArrayList a, SortedLongArrayList b) {
+    long[] x = a.elementData;
+    int n = a.size;
+    long[] y = b.elementData;
+    int m = b.size;
+    long[] out = new long[n];
+    int k = 0;
+    int i = 0;
+    if ((long) n * GALLOP_RATIO < m) {
+      // Find each element of a in the larger b
+      int j = 0;
+      for (; i < n; i++) {
+        long value = x[i];
+        j = gallop(y, j, m, value);
+        if (j < m && y[j] == value) {
+          j++;
+        } else {
+          out[k++] = value;
+        }
+      }
+    } else if ((long) m * GALLOP_RATIO < n) {
+      // Copy the runs of a between the elements of the smaller b
+      for (int j = 0; j < m && i < n; j++) {
+        long value = y[j];
+        int end = gallop(x, i, n, value);
+        System.arraycopy(x, i, out, k, end - i);
+        k += end - i;
+        i = (end < n && x[end] == value) ? (end + 1) : end;
+      }
+    } else {
+      int j = 0;
+      while (i < n && j < m) {
+        long xv = x[i];
+        long yv = y[j];
+        if (xv < yv) {
+          out[k++] = xv;
+          i++;
+        } else {
+          if (xv == yv) {
+            i++;
+          }
+          j++;
+        }
+      }
+    }
+    System.arraycopy(x, i, out, k, n - i);
+    k += n - i;
+    return wrapTrimmed(out, k);
+  }
+
+  /**
+   * Computes the elements of this list that are not in another sorted list, as a new sorted list.
+   *
+   * @see  #difference(com.aoapps.collections.SortedLongArrayList, com.aoapps.collections.SortedLongArrayList)
+   */
+  public SortedLongArrayList difference(SortedLongArrayList other) {
+    return difference(this, other);
+  }
+
+  /**
+   * Finds the first index within a range whose element is greater than or equal to
+   * (or, when {@code upper}, strictly greater than) the given value, or {@code to} when none.
+   */
+  private int bound(long value, int from, int to, boolean upper) {
+    long[] data = elementData;
+    int lo = from;
+    int hi = to;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      long midValue = data[mid];
+      if (midValue < value || (upper && midValue == value)) {
+        lo = mid + 1;
+      } else {
+        hi = mid;
+      }
+    }
+    return lo;
+  }
+
+  /**
+   * Gets the index of the greatest element less than or equal to the given value.
+   * When there are duplicates, this is the last of them.
+   *
+   * @return  the index or {@code -1} when there is no such element
+   */
+  public int floorIndex(long value) {
+    return bound(value, 0, size, true) - 1;
+  }
+
+  /**
+   * Gets the index of the least element greater than or equal to the given value.
+   * When there are duplicates, this is the first of them.
+   *
+   * @return  the index or {@code -1} when there is no such element
+   */
+  public int ceilingIndex(long value) {
+    int index = bound(value, 0, size, false);
+    return index == size ? -1 : index;
+  }
+
+  /**
+   * Gets the index of the greatest element strictly less than the given value.
+   * When there are duplicates, this is the last of them.
+   *
+   * @return  the index or {@code -1} when there is no such element
+   */
+  public int lowerIndex(long value) {
+    return bound(value, 0, size, false) - 1;
+  }
+
+  /**
+   * Gets the index of the least element strictly greater than the given value.
+   * When there are duplicates, this is the first of them.
+   *
+   * @return  the index or {@code -1} when there is no such element
+   */
+  public int higherIndex(long value) {
+    int index = bound(value, 0, size, true);
+    return index == size ? -1 : index;
+  }
+
+  /**
+   * Counts the elements greater than or equal to {@code fromValue} and less than {@code toValue}
+   * with two binary searches.
+   *
+   * @param  fromValue  the low endpoint, inclusive
+   * @param  toValue    the high endpoint, exclusive
+   *
+   * @return  the number of elements in the range or {@code 0} when {@code toValue <= fromValue}
+   *
+   * @see  #countInRange(long, boolean, long, boolean)
+   */
+  public int countInRange(long fromValue, long toValue) {
+    return countInRange(fromValue, true, toValue, false);
+  }
+
+  /**
+   * Counts the elements between {@code fromValue} and {@code toValue} with two binary searches.
+   * Either endpoint may be inclusive, in the manner of
+   * {@link java.util.NavigableSet#subSet(java.lang.Object, boolean, java.lang.Object, boolean)},
+   * so a range may end at {@link Long#MAX_VALUE}.
+   *
+   * @param  fromValue      the low endpoint
+   * @param  fromInclusive  {@code true} if the low endpoint is to be included
+   * @param  toValue        the high endpoint
+   * @param  toInclusive    {@code true} if the high endpoint is to be included
+   *
+   * @return  the number of elements in the range or {@code 0} when the range is empty
+   */
+  public int countInRange(long fromValue, boolean fromInclusive, long toValue, boolean toInclusive) {
+    if (isEmptyRange(fromValue, fromInclusive, toValue, toInclusive)) {
+      return 0;
+    }
+    int from = bound(fromValue, 0, size, !fromInclusive);
+    return bound(toValue, from, size, toInclusive) - from;
+  }
+
+  /**
+   * Gets a read-only view of the elements greater than or equal to {@code fromValue} and less than
+   * {@code toValue}, located with two binary searches.  The view shares the backing array of
+   * this list without copying, and supports the same sorted searches.  Any structural modification
+   * of this list invalidates the view, causing it to throw {@link ConcurrentModificationException}.
+   *
+   * @param  fromValue  the low endpoint, inclusive
+   * @param  toValue    the high endpoint, exclusive
+   *
+   * @see  #subRange(long, boolean, long, boolean)
+   */
+  public LongList subRange(long fromValue, long toValue) {
+    return subRange(fromValue, true, toValue, false);
+  }
+
+  /**
+   * Gets a read-only view of the elements between {@code fromValue} and {@code toValue}, as
+   * {@link #subRange(long, long)}, where either endpoint may be inclusive in the manner of
+   * {@link java.util.NavigableSet#subSet(java.lang.Object, boolean, java.lang.Object, boolean)}.
+   *
+   * @param  fromValue      the low endpoint
+   * @param  fromInclusive  {@code true} if the low endpoint is to be included
+   * @param  toValue        the high endpoint
+   * @param  toInclusive    {@code true} if the high endpoint is to be included
+   */
+  public LongList subRange(long fromValue, boolean fromInclusive, long toValue, boolean toInclusive) {
+    if (isEmptyRange(fromValue, fromInclusive, toValue, toInclusive)) {
+      return new SubRange(0, 0);
+    }
+    int from = bound(fromValue, 0, size, !fromInclusive);
+    return new SubRange(from, bound(toValue, from, size, toInclusive));
+  }
+
+  /**
+   * Checks if a range can contain no values, without searching.
+   */
+  private static boolean isEmptyRange(long fromValue, boolean fromInclusive, long toValue, boolean toInclusive) {
+    return fromValue > toValue || (fromValue == toValue && !(fromInclusive && toInclusive));
+  }
+
+  /**
+   * A read-only view of a range of indexes.
+   */
+  private final class SubRange extends AbstractLongList implements RandomAccess {
+    private final int offset;
+    private final int rangeSize;
+    private final int expectedModCount = SortedLongArrayList.this.modCount;
+
+    private SubRange(int fromIndex, int toIndex) {
+      this.offset = fromIndex;
+      this.rangeSize = toIndex - fromIndex;
+    }
+
+    private void checkForComodification() {
+      if (SortedLongArrayList.this.modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+
+    @Override
+    public int size() {
+      checkForComodification();
+      return rangeSize;
+    }
+
+    @Override
+    public long getLong(int index) {
+      checkForComodification();
+      if (index < 0 || index >= rangeSize) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rangeSize);
+      }
+      return elementData[offset + index];
+    }
+
+    @Override
+    public int indexOf(long elem) {
+      checkForComodification();
+      int end = offset + rangeSize;
+      int index = bound(elem, offset, end, false);
+      return (index < end && elementData[index] == elem) ? (index - offset) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(long elem) {
+      checkForComodification();
+      int index = bound(elem, offset, offset + rangeSize, true) - 1;
+      return (index >= offset && elementData[index] == elem) ? (index - offset) : -1;
+    }
+
+    @Override
+    public long[] toArrayLong() {
+      checkForComodification();
+      return Arrays.copyOfRange(elementData, offset, offset + rangeSize);
+    }
+  }
 }
@@ -1,6 +1,6 @@
 /*
  * ao-collections - Collections and related utilities for Java.
- * Copyright (C) 2010, 2011, 2014, 2016, 2019, 2020, 2021, 2022, 2024, 2025  AO Industries, Inc.
+ * Copyright (C) 2010, 2011, 2014, 2016, 2019, 2020, 2021, 2022, 2024, 2025, 2026  AO Industries, Inc.
  *     support@aoindustries.com
  *     7262 Bull Pen Cir
  *     Mobile, AL 36695
@@ -35,6 +35,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.ObjIntConsumer;
 
 /**
  * An unmodifiable compact <code>Set</code> implementation that stores the elements in hashCode order.
@@ -46,9 +47,18 @@ import java.util.NoSuchElementException;
  * <p>This set will generally operate at O(log n) due to binary search.  In general, it will
  * not be as fast as the O(1) behavior of HashSet.  Here we give up speed to save space.</p>
  *
+ * <p>The hash codes of the elements are cached in a parallel <code>int[]</code>, so searches
+ * only touch the elements for <code>equals</code> on matching hash codes.</p>
+ *
+ * <p>When the other collection is also an {@link UnmodifiableArraySet} or {@link ArraySet},
+ * {@link #containsAll(java.util.Collection)}, {@link #equals(java.lang.Object)}, {@link #union(java.util.Collection)},
+ * {@link #intersection(java.util.Collection)}, and {@link #difference(java.util.Collection)} walk both sets
+ * together in hashCode order in O(n + m).</p>
+ *
  * <p>This set is not thread safe.</p>
  *
  * @see  HashCodeComparator to properly sort objects before adding to the set
+ * @see  ArraySetBuilder to build from elements in any order
  *
  * @author  AO Industries, Inc.
  */
@@ -60,12 +70,39 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
   private static final boolean ASSERTIONS_ENABLED = true;
 
   /**
-   * The number of elements at which a linear search switches to a binary search.
+   * The default number of elements at which a linear search switches to a binary search.
    */
   private static final int BINARY_SEARCH_THRESHOLD = 22; // The point where the O(n) line and O(log n) curves intersect.
 
+  private static int resolveBinarySearchThreshold(int binarySearchThreshold) {
+    return ArraySetTuning.checkBinarySearchThreshold(binarySearchThreshold) == 0 ? BINARY_SEARCH_THRESHOLD : binarySearchThreshold;
+  }
+
   private E[] elements;
 
+  /**
+   * The hash codes of the elements, in the same order.
+   */
+  private int[] hashes;
+
+  /**
+   * The number of elements at which a linear search switches to a binary search.
+   * Not serialized, deserialized sets use the default.
+   */
+  private int binarySearchThreshold;
+
+  private static int[] computeHashes(Object[] elements) {
+    int size = elements.length;
+    if (size == 0) {
+      return EmptyArrays.EMPTY_INT_ARRAY;
+    }
+    int[] newHashes = new int[size];
+    for (int i = 0; i < size; i++) {
+      newHashes[i] = elements[i].hashCode();
+    }
+    return newHashes;
+  }
+
   private static boolean inOrderAndUnique(Object[] elements) {
     // Make sure all elements are in hashCode order and unique
     int size = elements.length;
@@ -104,6 +141,9 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
   /**
    * Uses the provided elements, which must already be sorted in hashCode order and unique.
    *
+   * <p>The array is not copied and must not be modified afterward, since the hash codes of the
+   * elements are cached.</p>
+   *
    * <p>The sort order and uniqueness is only checked with assertions enabled.</p>
    *
    * @see  HashCodeComparator to properly sort objects before adding to the set
@@ -115,6 +155,8 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
       assert inOrderAndUnique(elements);
     }
     this.elements = elements;
+    this.hashes = computeHashes(elements);
+    this.binarySearchThreshold = BINARY_SEARCH_THRESHOLD;
   }
 
   /**
@@ -130,6 +172,36 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
     this((E[]) elements.toArray());
   }
 
+  /**
+   * Uses the provided elements collection, which must already be sorted in hashCode order and unique.
+   * A defensive copy is made.
+   *
+   * <p>The sort order and uniqueness is only checked with assertions enabled.</p>
+   *
+   * @param  binarySearchThreshold  the number of elements at which a linear search switches to a binary search,
+   *                                or {@code 0} for the default
+   *
+   * @throws  IllegalArgumentException  if the threshold is negative
+   *
+   * @see  HashCodeComparator to properly sort objects before adding to the set
+   * @see  ArraySetTuning
+   */
+  @SuppressWarnings("unchecked")
+  public UnmodifiableArraySet(Collection<E> elements, int binarySearchThreshold) throws IllegalArgumentException {
+    this((E[]) elements.toArray());
+    this.binarySearchThreshold = resolveBinarySearchThreshold(binarySearchThreshold);
+  }
+
+  /**
+   * Uses the already sorted and unique elements from {@link ArraySetBuilder}.
+   */
+  @SuppressWarnings("unchecked")
+  UnmodifiableArraySet(ArraySetBuilder.Sorted sorted, int binarySearchThreshold) {
+    this.elements = (E[]) sorted.elements;
+    this.hashes = sorted.hashes;
+    this.binarySearchThreshold = resolveBinarySearchThreshold(binarySearchThreshold);
+  }
+
   /**
    * @deprecated  Only required for implementation, do not use directly.
    *
@@ -140,16 +212,20 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
     // Do nothing
   }
 
-  private static int binarySearch(Object[] elements, int objHash) {
-    return binarySearch0(elements, 0, elements.length, objHash);
+  HashOrderMerge.Side toSide() {
+    return new HashOrderMerge.Side(Arrays.asList(elements), hashes, elements.length);
+  }
+
+  private static int binarySearch(int[] hashes, int objHash) {
+    return binarySearch0(hashes, 0, hashes.length, objHash);
   }
 
-  private static int binarySearch0(Object[] elements, int fromIndex, int toIndex, int objHash) {
+  private static int binarySearch0(int[] hashes, int fromIndex, int toIndex, int objHash) {
     int low = fromIndex;
     int high = toIndex - 1;
     while (low <= high) {
       int mid = (low + high) >>> 1;
-      int midHash = elements[mid].hashCode();
+      int midHash = hashes[mid];
       if (midHash < objHash) {
         low = mid + 1;
       } else if (midHash > objHash) {
@@ -172,48 +248,41 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public boolean contains(Object o) {
     E[] elems = this.elements; // Local fast reference
     int size = elems.length;
     if (size == 0 || o == null) {
       return false;
     }
-    if (size < BINARY_SEARCH_THRESHOLD) {
+    int[] hs = this.hashes; // Local fast reference
+    int objHash = o.hashCode();
+    if (size < binarySearchThreshold) {
+      ArraySetTuning.countSearch(false);
       // Simple search
       for (int i = 0; i < size; i++) {
-        if (elems[i].equals(o)) {
+        if (hs[i] == objHash && elems[i].equals(o)) {
           return true;
         }
       }
     } else {
-      int index = binarySearch(elems, o.hashCode());
+      ArraySetTuning.countSearch(true);
+      int index = binarySearch(hs, objHash);
       if (index < 0) {
         return false;
       }
       // Matches at index?
-      E elem = elems[index];
-      if (elem.equals(o)) {
+      if (elems[index].equals(o)) {
         return true;
       }
       // Look forward until different hashCode
-      int objHash = o.hashCode();
-      for (int i = index + 1; i < size; i++) {
-        elem = elems[i];
-        if (elem.hashCode() != objHash) {
-          break;
-        }
-        if (elem.equals(o)) {
+      for (int i = index + 1; i < size && hs[i] == objHash; i++) {
+        if (elems[i].equals(o)) {
           return true;
         }
       }
       // Look backward until different hashCode
-      for (int i = index - 1; i >= 0; i--) {
-        elem = elems[i];
-        if (elem.hashCode() != objHash) {
-          break;
-        }
-        if (elem.equals(o)) {
+      for (int i = index - 1; i >= 0 && hs[i] == objHash; i--) {
+        if (elems[i].equals(o)) {
           return true;
         }
       }
@@ -274,7 +343,9 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
   @Override
   @SuppressWarnings("element-type-mismatch")
   public boolean containsAll(Collection<?> c) {
-    // Could do a nifty single-pass merge if the other collection is also an UnmodifiableArraySet and contains a large number of elements
+    if (HashOrderMerge.isHashOrdered(c)) {
+      return HashOrderMerge.containsAll(toSide(), HashOrderMerge.of(c));
+    }
     for (Object o : c) {
       if (!contains(o)) {
         return false;
@@ -303,6 +374,67 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Merges with the given collection into a new set, allocating its storage exactly once.
+   */
+  private <T> UnmodifiableArraySet<T> merge(Collection<?> c, HashOrderMerge.Op op) {
+    HashOrderMerge.Side side1 = toSide();
+    HashOrderMerge.Side side2 = HashOrderMerge.of(c);
+    int count = HashOrderMerge.merge(side1, side2, op, null);
+    if (count == 0) {
+      return new UnmodifiableArraySet<>(new ArraySetBuilder.Sorted(EmptyArrays.EMPTY_OBJECT_ARRAY, EmptyArrays.EMPTY_INT_ARRAY), binarySearchThreshold);
+    }
+    Object[] newElements = new Object[count];
+    int[] newHashes = new int[count];
+    HashOrderMerge.merge(side1, side2, op, new ObjIntConsumer<Object>() {
+      private int index;
+
+      @Override
+      public void accept(Object elem, int hash) {
+        newElements[index] = elem;
+        newHashes[index] = hash;
+        index++;
+      }
+    });
+    return new UnmodifiableArraySet<>(new ArraySetBuilder.Sorted(newElements, newHashes), binarySearchThreshold);
+  }
+
+  /**
+   * Gets a new set of the elements in either this set or the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  public UnmodifiableArraySet<E> union(Collection<? extends E> c) {
+    return merge(c, HashOrderMerge.Op.UNION);
+  }
+
+  /**
+   * Gets a new set of the elements in both this set and the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  public UnmodifiableArraySet<E> intersection(Collection<?> c) {
+    return merge(c, HashOrderMerge.Op.INTERSECTION);
+  }
+
+  /**
+   * Gets a new set of the elements in this set that are not in the given collection.
+   * A collection not already in hashCode order is first sorted with {@link ArraySetBuilder}.
+   */
+  public UnmodifiableArraySet<E> difference(Collection<?> c) {
+    return merge(c, HashOrderMerge.Op.DIFFERENCE);
+  }
+
+  /**
+   * Computes the hash code from the cached hash codes of the elements.
+   */
+  @Override
+  public int hashCode() {
+    int h = 0;
+    for (int hash : hashes) {
+      h += hash;
+    }
+    return h;
+  }
+
   // <editor-fold defaultstate="collapsed" desc="Externalizable">
   private static final long serialVersionUID = 5725680713634634667L;
 
@@ -329,11 +461,13 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
     if (elements != null) {
       throw new IllegalStateException();
     }
+    binarySearchThreshold = BINARY_SEARCH_THRESHOLD;
     FastObjectInput fastIn = FastObjectInput.wrap(in);
     try {
       final int len = fastIn.readInt();
       if (len == 0) {
         elements = (E[]) EmptyArrays.EMPTY_OBJECT_ARRAY;
+        hashes = EmptyArrays.EMPTY_INT_ARRAY;
       } else {
         E[] newElements = (E[]) new Object[len];
         for (int i = 0; i < len; i++) {
@@ -343,6 +477,7 @@ public class UnmodifiableArraySet<E> extends AbstractSet<E> implements Externali
           assert inOrderAndUnique(newElements);
         }
         UnmodifiableArraySet.this.elements = newElements;
+        UnmodifiableArraySet.this.hashes = computeHashes(newElements);
       }
     } finally {
       fastIn.unwrap();
@@ -0,0 +1,216 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the <code>byte</code>, <code>short</code>, <code>char</code>, <code>float</code>, and
+ * <code>double</code> array lists from the templates in <code>src/main/template</code>.  The generated
+ * sources are checked in under <code>src/main/java</code>, so this is only run after changing a template:
+ *
+ * <pre>java src/main/template/GeneratePrimitiveArrayLists.java [--check]</pre>
+ *
+ * <p>Run from the project directory.  With <code>--check</code>, nothing is written and the exit status is
+ * non-zero when any checked-in source differs from its template.</p>
+ *
+ * <p>Templates substitute <code>${Type}</code>, <code>${type}</code>, <code>${Boxed}</code>,
+ * <code>${Source}</code>, <code>${toBits}</code>, <code>${suffix}</code>, and <code>${serialVersionUID}</code>.
+ * Lines <code>//#if <i>flag</i></code>, <code>//#if !<i>flag</i></code>, <code>//#else</code>, and
+ * <code>//#endif</code> select lines by the flags <code>byte</code>, <code>char</code>, and
+ * <code>floating</code>; other lines starting with <code>//#</code> are template comments.</p>
+ *
+ * @author  AO Industries, Inc.
+ */
+public final class GeneratePrimitiveArrayLists {
+
+  /** Make no instances. */
+  private GeneratePrimitiveArrayLists() {
+    throw new AssertionError();
+  }
+
+  private static final Path TEMPLATE_DIR = Paths.get("src/main/template/com/aoapps/collections");
+  private static final Path SOURCE_DIR = Paths.get("src/main/java/com/aoapps/collections");
+
+  private static final class Variant {
+    private final String type;
+    private final String boxed;
+    private final String toBits;
+    private final String suffix;
+    private final long listSerialVersionUID;
+    private final long sortedSerialVersionUID;
+
+    private Variant(String type, String boxed, String toBits, String suffix, long listSerialVersionUID, long sortedSerialVersionUID) {
+      this.type = type;
+      this.boxed = boxed;
+      this.toBits = toBits;
+      this.suffix = suffix;
+      this.listSerialVersionUID = listSerialVersionUID;
+      this.sortedSerialVersionUID = sortedSerialVersionUID;
+    }
+
+    private String capitalized() {
+      return Character.toUpperCase(type.charAt(0)) + type.substring(1);
+    }
+
+    private boolean isFlag(String flag) {
+      switch (flag) {
+        case "byte":
+          return "byte".equals(type);
+        case "char":
+          return "char".equals(type);
+        case "floating":
+          return toBits != null;
+        default:
+          throw new IllegalArgumentException("Unknown flag: " + flag);
+      }
+    }
+
+    private Map<String, String> substitutions(long serialVersionUID) {
+      return Map.of(
+          "${Type}", capitalized(),
+          "${type}", type,
+          "${Boxed}", boxed,
+          "${Source}", "char".equals(type) ? "Character" : "Number",
+          "${toBits}", toBits == null ? "" : toBits,
+          "${suffix}", suffix == null ? "" : suffix,
+          "${serialVersionUID}", serialVersionUID + "L"
+      );
+    }
+  }
+
+  // serialVersionUID values are fixed to keep the serialized forms of the checked-in classes.
+  private static final List<Variant> VARIANTS = List.of(
+      new Variant("byte", "Byte", null, null, 8800214238196106982L, 4809520082626186589L),
+      new Variant("short", "Short", null, null, 4252476160844234759L, -5609309077098098547L),
+      new Variant("char", "Character", null, null, 2957421096834848430L, 3892389179056387262L),
+      new Variant("float", "Float", "floatToIntBits", "f", -4165136827557158270L, -3849032252967617709L),
+      new Variant("double", "Double", "doubleToLongBits", "d", 9164271903138975068L, 3684908363866115784L)
+  );
+
+  private static final Set<String> DIRECTIVES = Set.of("//#if", "//#else", "//#endif");
+
+  /**
+   * Expands a template for one variant.
+   */
+  static String generate(String template, Variant variant, long serialVersionUID) {
+    Map<String, String> substitutions = variant.substitutions(serialVersionUID);
+    StringBuilder out = new StringBuilder(template.length());
+    // Each entry is whether the lines within the current //#if or //#else are selected
+    Deque<Boolean> selected = new ArrayDeque<>();
+    int lineNum = 0;
+    for (String line : template.split("\n", -1)) {
+      lineNum++;
+      if (line.startsWith("//#")) {
+        String directive = line.split(" ", 2)[0];
+        if (!DIRECTIVES.contains(directive)) {
+          // Template comment
+          continue;
+        }
+        switch (directive) {
+          case "//#if": {
+            String flag = line.substring(directive.length()).trim();
+            boolean negate = flag.startsWith("!");
+            boolean value = variant.isFlag(negate ? flag.substring(1) : flag) != negate;
+            selected.push(value && !selected.contains(false));
+            break;
+          }
+          case "//#else": {
+            if (selected.isEmpty()) {
+              throw new IllegalStateException(lineNum + ": //#else without //#if");
+            }
+            boolean wasSelected = selected.pop();
+            selected.push(!wasSelected && !selected.contains(false));
+            break;
+          }
+          case "//#endif": {
+            if (selected.isEmpty()) {
+              throw new IllegalStateException(lineNum + ": //#endif without //#if");
+            }
+            selected.pop();
+            break;
+          }
+          default:
+            throw new AssertionError(directive);
+        }
+        continue;
+      }
+      if (selected.contains(false)) {
+        continue;
+      }
+      for (Map.Entry<String, String> entry : substitutions.entrySet()) {
+        line = line.replace(entry.getKey(), entry.getValue());
+      }
+      out.append(line).append('\n');
+    }
+    if (!selected.isEmpty()) {
+      throw new IllegalStateException("Missing //#endif");
+    }
+    // split(-1) leaves a trailing empty line for the final newline
+    out.setLength(out.length() - 1);
+    return out.toString();
+  }
+
+  public static void main(String[] args) throws IOException {
+    boolean check = args.length == 1 && "--check".equals(args[0]);
+    if (args.length != 0 && !check) {
+      System.err.println("usage: java src/main/template/GeneratePrimitiveArrayLists.java [--check]");
+      System.exit(2);
+    }
+    String listTemplate = Files.readString(TEMPLATE_DIR.resolve("PrimitiveArrayList.java.template"), StandardCharsets.UTF_8);
+    String sortedTemplate = Files.readString(TEMPLATE_DIR.resolve("SortedPrimitiveArrayList.java.template"), StandardCharsets.UTF_8);
+    int outdated = 0;
+    for (Variant variant : VARIANTS) {
+      String name = variant.capitalized() + "ArrayList";
+      outdated += write(SOURCE_DIR.resolve(name + ".java"), generate(listTemplate, variant, variant.listSerialVersionUID), check);
+      outdated += write(SOURCE_DIR.resolve("Sorted" + name + ".java"), generate(sortedTemplate, variant, variant.sortedSerialVersionUID), check);
+    }
+    if (check && outdated != 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Writes the generated source when it has changed.
+   *
+   * @return  {@code 1} when the file was (or, when checking, would be) changed, otherwise {@code 0}
+   */
+  private static int write(Path file, String source, boolean check) throws IOException {
+    if (Files.exists(file) && Files.readString(file, StandardCharsets.UTF_8).equals(source)) {
+      return 0;
+    }
+    System.err.println((check ? "Outdated: " : "Generated: ") + file);
+    if (!check) {
+      Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+    return 1;
+  }
+}
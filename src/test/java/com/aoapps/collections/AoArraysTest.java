@@ -0,0 +1,118 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class AoArraysTest extends TestCase {
+
+  public AoArraysTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(AoArraysTest.class);
+  }
+
+  /**
+   * Compares the block-based searches to element-by-element searches over all
+   * starting positions of a small alphabet, so matches fall on every offset within blocks.
+   */
+  public void testIndexOfMatchesLinearSearch() {
+    Random random = new Random(0);
+    for (int length = 0; length < 70; length++) {
+      byte[] bytes = new byte[length];
+      short[] shorts = new short[length];
+      int[] ints = new int[length];
+      long[] longs = new long[length];
+      char[] chars = new char[length];
+      for (int i = 0; i < length; i++) {
+        // Include values with high bits set to check for sign and borrow errors
+        int value = random.nextInt(12) - 6;
+        bytes[i] = (byte) (value * 0x21);
+        shorts[i] = (short) value;
+        ints[i] = value;
+        longs[i] = value * 0x100000001L;
+        chars[i] = (char) value;
+      }
+      for (int value = -6; value < 6; value++) {
+        for (int from = 0; from <= length; from++) {
+          int first = -1;
+          for (int i = from; i < length; i++) {
+            if (ints[i] == value) {
+              first = i;
+              break;
+            }
+          }
+          assertEquals(first, AoArrays.indexOf(bytes, (byte) (value * 0x21), from));
+          assertEquals(first, AoArrays.indexOf(shorts, (short) value, from));
+          assertEquals(first, AoArrays.indexOf(ints, value, from));
+          assertEquals(first, AoArrays.indexOf(longs, value * 0x100000001L, from));
+          assertEquals(first, AoArrays.indexOf(chars, (char) value, from));
+          int last = -1;
+          for (int i = from - 1; i >= 0; i--) {
+            if (ints[i] == value) {
+              last = i;
+              break;
+            }
+          }
+          assertEquals(last, AoArrays.lastIndexOf(bytes, (byte) (value * 0x21), from - 1));
+          assertEquals(last, AoArrays.lastIndexOf(shorts, (short) value, from - 1));
+          assertEquals(last, AoArrays.lastIndexOf(ints, value, from - 1));
+          assertEquals(last, AoArrays.lastIndexOf(longs, value * 0x100000001L, from - 1));
+          assertEquals(last, AoArrays.lastIndexOf(chars, (char) value, from - 1));
+        }
+      }
+    }
+  }
+
+  public void testRadixSort() {
+    Random random = new Random(0);
+    for (int length : new int[]{0, 1, 100, 5000, 100000}) {
+      int[] ints = new int[length];
+      long[] longs = new long[length];
+      for (int i = 0; i < length; i++) {
+        ints[i] = (i % 3 == 0) ? random.nextInt(100) : random.nextInt();
+        longs[i] = (i % 3 == 0) ? random.nextInt(100) : random.nextLong();
+      }
+      int from = length / 10;
+      int to = length - length / 10;
+      int[] expectedInts = ints.clone();
+      Arrays.sort(expectedInts, from, to);
+      AoArrays.radixSort(ints, from, to);
+      assertTrue(Arrays.equals(expectedInts, ints));
+      long[] expectedLongs = longs.clone();
+      Arrays.sort(expectedLongs, from, to);
+      AoArrays.radixSort(longs, from, to);
+      assertTrue(Arrays.equals(expectedLongs, longs));
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class ArraySetBuilderTest extends TestCase {
+
+  public ArraySetBuilderTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(ArraySetBuilderTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  /**
+   * A key with few distinct hash codes, to exercise collision runs.
+   */
+  private static final class Colliding {
+
+    private final int value;
+
+    private Colliding(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return (obj instanceof Colliding) && ((Colliding) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value % 7 - 3;
+    }
+  }
+
+  private static void assertSorted(Set<?> set) {
+    int prevHash = Integer.MIN_VALUE;
+    for (Object o : set) {
+      int hash = o.hashCode();
+      assertTrue(hash >= prevHash);
+      prevHash = hash;
+    }
+  }
+
+  public void testEmpty() {
+    ArraySetBuilder<String> builder = new ArraySetBuilder<>();
+    assertTrue(builder.buildArraySet().isEmpty());
+    assertTrue(builder.buildUnmodifiableArraySet().isEmpty());
+  }
+
+  public void testDuplicatesAndCollisions() {
+    ArraySetBuilder<Colliding> builder = new ArraySetBuilder<>(0);
+    Set<Colliding> expected = new HashSet<>();
+    for (int i = 0; i < 5000; i++) {
+      Colliding c = new Colliding(fastRandom.nextInt(500));
+      builder.add(c);
+      expected.add(c);
+    }
+    assertEquals(5000, builder.size());
+    ArraySet<Colliding> arraySet = builder.buildArraySet();
+    assertEquals(expected, arraySet);
+    assertEquals(expected.size(), arraySet.size());
+    assertSorted(arraySet);
+    UnmodifiableArraySet<Colliding> unmodifiable = builder.buildUnmodifiableArraySet();
+    assertEquals(expected, unmodifiable);
+    assertSorted(unmodifiable);
+    for (int i = 0; i < 600; i++) {
+      Colliding c = new Colliding(i);
+      assertEquals(expected.contains(c), arraySet.contains(c));
+      assertEquals(expected.contains(c), unmodifiable.contains(c));
+    }
+  }
+
+  public void testKeepsFirstAdded() {
+    String first = new String("value");
+    String second = new String("value");
+    ArraySet<String> set = new ArraySetBuilder<String>().add(first).add("other").add(second).buildArraySet();
+    assertEquals(2, set.size());
+    for (String s : set) {
+      if (s.equals(first)) {
+        assertSame(first, s);
+      }
+    }
+  }
+
+  public void testResultRemainsAppendable() {
+    ArraySet<Integer> set = new ArraySetBuilder<Integer>().addAll(Arrays.asList(3, 1, 2, 1)).buildArraySet();
+    assertEquals(3, set.size());
+    assertTrue(set.add(4));
+    assertFalse(set.add(2));
+    assertTrue(set.contains(4));
+    assertTrue(set.remove(4));
+    Iterator<Integer> iter = set.iterator();
+    assertEquals(Integer.valueOf(1), iter.next());
+    iter.remove();
+    assertEquals(Arrays.asList(2, 3), new ArrayList<>(set));
+  }
+
+  public void testNull() {
+    ArraySetBuilder<String> builder = new ArraySetBuilder<>();
+    try {
+      builder.add(null);
+      fail();
+    } catch (NullPointerException e) {
+      // Expected
+    }
+    try {
+      builder.addAll(Arrays.asList("a", null));
+      fail();
+    } catch (NullPointerException e) {
+      // Expected
+    }
+    assertEquals(0, builder.size());
+  }
+
+  @SuppressWarnings("deprecation")
+  public void testUnsortedCollectionConstructor() {
+    List<Integer> values = Arrays.asList(5, -1, 3, 5, 0, -1);
+    ArraySet<Integer> set = new ArraySet<>(new HashSet<>(values));
+    assertEquals(new HashSet<>(values), set);
+    set = new ArraySet<>((java.util.Collection<Integer>) values);
+    assertEquals(new HashSet<>(values), set);
+    assertSorted(set);
+  }
+
+  public void testPerformance() {
+    final int numElements = 200000;
+    List<Integer> randomList = new ArrayList<>(numElements);
+    for (int i = 0; i < numElements; i++) {
+      randomList.add(fastRandom.nextInt());
+    }
+    long startNanos = System.nanoTime();
+    ArrayList<Integer> list = new ArrayList<>(new HashSet<>(randomList));
+    java.util.Collections.sort(list, HashCodeComparator.getInstance());
+    ArraySet<Integer> sortedSet = new ArraySet<>(list);
+    long timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": Created ArraySet with HashSet and Collections.sort in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    startNanos = System.nanoTime();
+    ArraySet<Integer> builtSet = new ArraySetBuilder<Integer>(numElements).addAll(randomList).buildArraySet();
+    timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": Created ArraySet with ArraySetBuilder in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    assertEquals(sortedSet, builtSet);
+  }
+}
@@ -24,10 +24,17 @@
 package com.aoapps.collections;
 
 import com.aoapps.lang.io.IoUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -103,6 +110,128 @@ public class ArraySetTest extends TestCase {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  /**
+   * Strings in hashCode order, including runs of equal hash codes ("Aa" and "BB" collide).
+   * The four-character strings have the highest hash code, and six-character strings of "Aa" and "BB"
+   * are higher still, so they may be added at the end.
+   */
+  private static ArrayList<String> sortedStrings(int count) {
+    Set<String> values = new HashSet<>();
+    for (int i = 0; i < count; i++) {
+      values.add("v" + i);
+    }
+    values.add("Aa");
+    values.add("BB");
+    values.add("AaAa");
+    values.add("AaBB");
+    values.add("BBAa");
+    values.add("BBBB");
+    ArrayList<String> list = new ArrayList<>(values);
+    Collections.sort(list, HashCodeComparator.getInstance());
+    return list;
+  }
+
+  /**
+   * Checks the lookups and hash code, which both depend on the cached hash codes matching the elements.
+   */
+  private static void assertMatches(Set<String> expected, ArraySet<String> set) {
+    assertEquals(expected.size(), set.size());
+    for (String value : expected) {
+      assertTrue(value, set.contains(value));
+    }
+    for (int i = -1; i >= -20; i--) {
+      assertFalse(set.contains("v" + i));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected, set);
+    assertEquals(set, expected);
+  }
+
+  public void testIteratorRemoveKeepsHashes() {
+    for (int threshold : new int[] {1, 0}) {
+      ArrayList<String> list = sortedStrings(100);
+      Set<String> expected = new HashSet<>(list);
+      ArraySet<String> set = new ArraySet<>(list, threshold);
+      int i = 0;
+      for (Iterator<String> iter = set.iterator(); iter.hasNext(); i++) {
+        String value = iter.next();
+        if (i % 3 == 0 || "Aa".equals(value) || "BBBB".equals(value)) {
+          iter.remove();
+          assertTrue(expected.remove(value));
+        }
+      }
+      assertMatches(expected, set);
+      // Appending relies on the remaining hashes being in place
+      for (String value : new String[] {"BBBB", "AaAaAa", "BBBBBB"}) {
+        assertTrue(set.add(value));
+        assertTrue(expected.add(value));
+        assertFalse(set.add(value));
+      }
+      assertMatches(expected, set);
+      // Remove everything
+      for (Iterator<String> iter = set.iterator(); iter.hasNext(); ) {
+        expected.remove(iter.next());
+        iter.remove();
+      }
+      assertMatches(expected, set);
+    }
+  }
+
+  public void testTrimToSize() {
+    ArrayList<String> list = sortedStrings(100);
+    Set<String> expected = new HashSet<>(list);
+    ArraySet<String> set = new ArraySet<>(list, 1);
+    // Grow the hashes past the size
+    for (String value : new String[] {"AaAaAa", "AaAaBB", "AaBBAa", "AaBBBB", "BBAaAa", "BBAaBB", "BBBBAa"}) {
+      assertTrue(set.add(value));
+      assertTrue(expected.add(value));
+    }
+    assertTrue(set.removeIf(value -> value.endsWith("7") || "AaBBAa".equals(value)));
+    assertTrue(expected.removeIf(value -> value.endsWith("7") || "AaBBAa".equals(value)));
+    set.trimToSize();
+    assertMatches(expected, set);
+    assertTrue(set.add("AaBBAa"));
+    assertTrue(expected.add("AaBBAa"));
+    assertMatches(expected, set);
+    set.clear();
+    expected.clear();
+    set.trimToSize();
+    assertMatches(expected, set);
+    assertTrue(set.add("Aa"));
+    assertTrue(expected.add("Aa"));
+    assertMatches(expected, set);
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    ArrayList<String> list = sortedStrings(100);
+    Set<String> expected = new HashSet<>(list);
+    ArraySet<String> set = new ArraySet<>(list, 1);
+    assertTrue(set.add("AaAaAa"));
+    assertTrue(expected.add("AaAaAa"));
+    assertTrue(set.removeIf(value -> value.startsWith("v1")));
+    assertTrue(expected.removeIf(value -> value.startsWith("v1")));
+    ArraySet<String> copy = roundTrip(set);
+    assertMatches(expected, copy);
+    // The rebuilt hashes are used by further modifications
+    assertTrue(copy.add("BBBBBB"));
+    assertTrue(copy.remove("BBBBBB"));
+    assertTrue(copy.add("AaBBAa"));
+    assertTrue(expected.add("AaBBAa"));
+    assertMatches(expected, copy);
+    assertMatches(Collections.emptySet(), roundTrip(new ArraySet<>(new ArrayList<String>())));
+  }
+
   /**
    * Used to find {@link ArraySet#BINARY_SEARCH_THRESHOLD}.
    */
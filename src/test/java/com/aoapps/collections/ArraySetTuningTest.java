@@ -0,0 +1,121 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class ArraySetTuningTest extends TestCase {
+
+  public ArraySetTuningTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(ArraySetTuningTest.class);
+  }
+
+  private static List<String> sample(int size) {
+    List<String> sample = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      sample.add("key-" + i + "-" + (i * 31));
+    }
+    return sample;
+  }
+
+  public void testCalibrate() {
+    try {
+      ArraySetTuning.calibrate(sample(10));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    try {
+      int threshold = ArraySetTuning.calibrate(sample(1000));
+      assertTrue(threshold >= 1);
+      assertTrue(threshold <= 129);
+      assertEquals(threshold, ArraySetTuning.getBinarySearchThreshold(String.class));
+    } finally {
+      ArraySetTuning.setBinarySearchThreshold(String.class, 0);
+    }
+    assertEquals(0, ArraySetTuning.getBinarySearchThreshold(String.class));
+  }
+
+  public void testThresholds() {
+    try {
+      new ArraySetBuilder<String>().setBinarySearchThreshold(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    List<String> sample = sample(100);
+    for (int threshold : new int[]{0, 1, 2, 50, 100, 101, Integer.MAX_VALUE}) {
+      ArraySetBuilder<String> builder = new ArraySetBuilder<String>().addAll(sample).setBinarySearchThreshold(threshold);
+      ArraySet<String> arraySet = builder.buildArraySet();
+      UnmodifiableArraySet<String> unmodifiable = builder.buildUnmodifiableArraySet();
+      ArraySet<String> adopted = new ArraySet<>(new ArrayList<>(arraySet), threshold);
+      UnmodifiableArraySet<String> copied = new UnmodifiableArraySet<>(arraySet, threshold);
+      for (String s : sample) {
+        assertTrue(arraySet.contains(s));
+        assertTrue(unmodifiable.contains(s));
+        assertTrue(adopted.contains(s));
+        assertTrue(copied.contains(s));
+        assertFalse(arraySet.contains(s + "x"));
+        assertFalse(unmodifiable.contains(s + "x"));
+        assertFalse(adopted.contains(s + "x"));
+        assertFalse(copied.contains(s + "x"));
+      }
+    }
+  }
+
+  public void testStatistics() {
+    List<String> sample = sample(100);
+    ArraySetBuilder<String> builder = new ArraySetBuilder<String>().addAll(sample);
+    UnmodifiableArraySet<String> linear = builder.setBinarySearchThreshold(101).buildUnmodifiableArraySet();
+    UnmodifiableArraySet<String> binary = builder.setBinarySearchThreshold(100).buildUnmodifiableArraySet();
+    boolean wasEnabled = ArraySetTuning.isStatisticsEnabled();
+    try {
+      ArraySetTuning.setStatisticsEnabled(true);
+      ArraySetTuning.resetStatistics();
+      linear.contains("key-1-31");
+      linear.contains("missing");
+      binary.contains("key-1-31");
+      assertEquals(2, ArraySetTuning.getLinearSearches());
+      assertEquals(1, ArraySetTuning.getBinarySearches());
+      ArraySetTuning.setStatisticsEnabled(false);
+      binary.contains("key-1-31");
+      assertEquals(1, ArraySetTuning.getBinarySearches());
+    } finally {
+      ArraySetTuning.setStatisticsEnabled(wasEnabled);
+      ArraySetTuning.resetStatistics();
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class BigLongArrayListTest extends TestCase {
+
+  private static final int SEGMENT_SIZE = BigLongArrayList.SEGMENT_SIZE;
+
+  public BigLongArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(BigLongArrayListTest.class);
+  }
+
+  public void testAcrossSegments() {
+    int count = SEGMENT_SIZE * 2 + 100;
+    BigLongArrayList list = new BigLongArrayList();
+    for (int i = 0; i < count; i++) {
+      list.add(i);
+    }
+    assertEquals(count, list.size64());
+    for (long i = 0; i < count; i += 997) {
+      assertEquals(i, list.getLong(i));
+    }
+    assertEquals(SEGMENT_SIZE, list.indexOf(SEGMENT_SIZE));
+    assertEquals(count - 1, list.lastIndexOf(count - 1));
+    assertEquals(-1, list.indexOf(-5));
+    // Copy across a segment boundary
+    long[] copy = new long[10];
+    list.getElements(SEGMENT_SIZE - 5, copy, 0, 10);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(SEGMENT_SIZE - 5 + i, copy[i]);
+    }
+    long[] replacement = new long[10];
+    Arrays.fill(replacement, -1);
+    list.setElements(SEGMENT_SIZE - 5, replacement, 0, 10);
+    assertEquals(SEGMENT_SIZE - 6, list.getLong(SEGMENT_SIZE - 6));
+    assertEquals(-1, list.getLong(SEGMENT_SIZE - 5));
+    assertEquals(-1, list.getLong(SEGMENT_SIZE + 4));
+    assertEquals(SEGMENT_SIZE + 5, list.getLong(SEGMENT_SIZE + 5));
+    list.fill(SEGMENT_SIZE - 5, SEGMENT_SIZE + 5, 7);
+    assertEquals(7, list.getLong(SEGMENT_SIZE - 5));
+    assertEquals(7, list.getLong(SEGMENT_SIZE + 4));
+    // Remove shifts across both segment boundaries
+    assertEquals(3, list.removeAtIndex(3));
+    assertEquals(count - 1, list.size64());
+    assertEquals(4, list.getLong(3));
+    assertEquals(7, list.getLong(SEGMENT_SIZE - 1));
+    assertEquals(SEGMENT_SIZE + 5, list.getLong(SEGMENT_SIZE + 4));
+    assertEquals(SEGMENT_SIZE * 2, list.getLong(SEGMENT_SIZE * 2 - 1));
+    assertEquals(count - 1, list.getLong(count - 2));
+    // Compaction
+    assertTrue(list.removeIfLong(value -> (value & 1) != 0));
+    long expected = 0;
+    LongIterator iter = list.iterator();
+    while (iter.hasNext()) {
+      long value = iter.nextLong();
+      assertEquals(0, value & 1);
+      expected++;
+    }
+    assertEquals(expected, list.size64());
+    list.trimToSize();
+    assertEquals(expected, list.toArrayLong().length);
+    // Values beyond the range of int, at the last index of a segment
+    list.set(SEGMENT_SIZE - 1, Long.MAX_VALUE);
+    list.set(SEGMENT_SIZE, Long.MIN_VALUE);
+    assertEquals(Long.MAX_VALUE, list.getLong(SEGMENT_SIZE - 1));
+    assertEquals(Long.MIN_VALUE, list.getLong(SEGMENT_SIZE));
+    assertEquals(SEGMENT_SIZE - 1, list.indexOf(Long.MAX_VALUE));
+  }
+
+  public void testLastIndexOf() {
+    BigLongArrayList list = new BigLongArrayList();
+    assertEquals(-1, list.lastIndexOf(0));
+    // Exactly two full segments
+    for (int i = 0; i < SEGMENT_SIZE * 2; i++) {
+      list.add(i % 1000);
+    }
+    assertEquals(SEGMENT_SIZE * 2L - 1, list.lastIndexOf((SEGMENT_SIZE * 2 - 1) % 1000));
+    assertEquals((SEGMENT_SIZE * 2L - 1) / 1000 * 1000, list.lastIndexOf(0));
+    assertEquals(-1, list.lastIndexOf(1000));
+    // Only in the first segment
+    list.set(5, -1);
+    list.set(SEGMENT_SIZE - 1, -1);
+    assertEquals(SEGMENT_SIZE - 1, list.lastIndexOf(-1));
+    // In the last, partly used segment
+    list.add(-1);
+    list.add(-2);
+    assertEquals(SEGMENT_SIZE * 2L, list.lastIndexOf(-1));
+    assertEquals(SEGMENT_SIZE * 2L + 1, list.lastIndexOf(-2));
+    // Values past the size are not found
+    assertEquals(-2, list.removeAtIndex(SEGMENT_SIZE * 2L + 1));
+    assertEquals(-1, list.lastIndexOf(-2));
+    assertEquals(-1, list.removeAtIndex(SEGMENT_SIZE * 2L));
+    assertEquals(SEGMENT_SIZE - 1, list.lastIndexOf(-1));
+    list.clear();
+    assertEquals(-1, list.lastIndexOf(-1));
+    assertEquals(-1, list.lastIndexOf(0));
+  }
+
+  public void testSmall() {
+    BigLongArrayList list = new BigLongArrayList(0);
+    assertTrue(list.isEmpty());
+    list.addAll(new long[] {5, 6, 7, 8});
+    assertTrue(list.removeByValue(6));
+    assertFalse(list.removeByValue(6));
+    assertTrue(Arrays.equals(new long[] {5, 7, 8}, list.toArrayLong()));
+    LongIterator iter = list.iterator();
+    iter.nextLong();
+    iter.remove();
+    assertEquals(7, iter.nextLong());
+    assertTrue(Arrays.equals(new long[] {7, 8}, list.toArrayLong()));
+    BigLongArrayList clone = (BigLongArrayList) list.clone();
+    clone.set(0, 9);
+    assertEquals(7, list.getLong(0));
+    list.trimToSize();
+    list.clear();
+    list.trimToSize();
+    list.add(1);
+    assertEquals(1, list.getLong(0));
+    try {
+      list.getLong(1);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    BigLongArrayList list = new BigLongArrayList();
+    for (int i = 0; i < SEGMENT_SIZE + 10; i++) {
+      list.add(Long.MIN_VALUE + i * 3L);
+    }
+    list.set(SEGMENT_SIZE, Long.MAX_VALUE);
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(list);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      BigLongArrayList copy = (BigLongArrayList) in.readObject();
+      assertTrue(Arrays.equals(list.toArrayLong(), copy.toArrayLong()));
+      copy.add(1);
+      assertEquals(SEGMENT_SIZE + 11, copy.size64());
+    }
+  }
+}
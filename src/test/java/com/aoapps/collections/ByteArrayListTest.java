@@ -0,0 +1,179 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link ByteArrayList} and {@link SortedByteArrayList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ByteArrayListTest extends TestCase {
+
+  public ByteArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(ByteArrayListTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    ByteArrayList list = new ByteArrayList();
+    List<Byte> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      byte value = (byte) (random.nextInt(40) - 20);
+      list.add(value);
+      expected.add(value);
+    }
+    assertEquals(expected, list);
+    assertEquals(list, expected);
+    assertEquals(expected.hashCode(), list.hashCode());
+    for (int v = -25; v <= 25; v++) {
+      byte value = (byte) v;
+      assertEquals(expected.contains(value), list.contains(value));
+      assertEquals(expected.contains(value), list.contains((Byte) value));
+      assertEquals(expected.indexOf(value), list.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+    }
+    assertEquals(expected.remove(10), list.remove(10));
+    byte first = list.getByte(0);
+    assertEquals(expected.remove((Byte) first), list.remove((Byte) first));
+    list.subList(100, 200).clear();
+    expected.subList(100, 200).clear();
+    assertEquals(expected, list);
+    list.sort();
+    byte[] sorted = list.toArrayByte();
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Byte.compare(sorted[i - 1], sorted[i]) <= 0);
+    }
+  }
+
+  public void testSorted() {
+    Random random = new Random();
+    SortedByteArrayList list = new SortedByteArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add((byte) (random.nextInt(40) - 20));
+    }
+    list.addAll(new byte[] {(byte) 3, (byte) 1, (byte) 2});
+    list.addAll(Arrays.asList((Byte) (byte) 4, (Byte) (byte) 0));
+    byte[] elements = list.toArrayByte();
+    byte[] expected = elements.clone();
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, elements));
+    for (int v = -25; v <= 25; v++) {
+      byte value = (byte) v;
+      int first = -1;
+      int last = -1;
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == value) {
+          if (first == -1) {
+            first = i;
+          }
+          last = i;
+        }
+      }
+      assertEquals(first, list.indexOf(value));
+      assertEquals(last, list.lastIndexOf(value));
+      assertEquals(first != -1, list.contains(value));
+    }
+    try {
+      list.set(0, (byte) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+    try {
+      list.add(0, (byte) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  public void testSearchOtherTypes() {
+    ByteArrayList list = new ByteArrayList(new byte[] {(byte) 44, (byte) -1, (byte) 127});
+    assertTrue(list.contains(Integer.valueOf(44)));
+    assertTrue(list.contains(Long.valueOf(-1)));
+    assertTrue(list.contains(Double.valueOf(127)));
+    // Wider values must not match by narrowing
+    assertFalse(list.contains(300));
+    assertFalse(list.contains(-1L + (1L << 32)));
+    assertFalse(list.contains(44.5));
+    assertFalse(list.contains(Double.NaN));
+    assertFalse(list.contains(java.math.BigInteger.ONE.shiftLeft(64).add(java.math.BigInteger.valueOf(44))));
+    assertFalse(list.contains(new java.math.BigDecimal("44.0000000000000000001")));
+    assertEquals(-1, list.indexOf(300));
+    assertEquals(-1, list.lastIndexOf(300));
+    assertFalse(list.remove((Object) 300));
+    assertEquals(3, list.size());
+    assertEquals(0, list.indexOf(44));
+    assertEquals(2, list.lastIndexOf(127L));
+    assertTrue(list.remove((Object) 44));
+    assertEquals(2, list.size());
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    ByteArrayList list = new ByteArrayList(new byte[] {-128, 0, 127, 5});
+    ByteArrayList copy = roundTrip(list);
+    assertEquals(list, copy);
+    assertTrue(Arrays.equals(list.toArrayByte(), copy.toArrayByte()));
+    copy.add((byte) 9);
+    assertEquals(list.size() + 1, copy.size());
+    assertEquals(new ByteArrayList(), roundTrip(new ByteArrayList()));
+    SortedByteArrayList sorted = new SortedByteArrayList(new byte[] {-128, 0, 127, 5});
+    SortedByteArrayList sortedCopy = roundTrip(sorted);
+    assertEquals(sorted, sortedCopy);
+    sortedCopy.add((byte) 3);
+    byte[] expected = list.toArrayByte();
+    expected = Arrays.copyOf(expected, expected.length + 1);
+    expected[expected.length - 1] = (byte) 3;
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, sortedCopy.toArrayByte()));
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link CharArrayList} and {@link SortedCharArrayList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class CharArrayListTest extends TestCase {
+
+  public CharArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(CharArrayListTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    CharArrayList list = new CharArrayList();
+    List<Character> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      char value = (char) ('a' + random.nextInt(26));
+      list.add(value);
+      expected.add(value);
+    }
+    assertEquals(expected, list);
+    assertEquals(list, expected);
+    assertEquals(expected.hashCode(), list.hashCode());
+    for (int v = 'a' - 2; v <= 'z' + 2; v++) {
+      char value = (char) v;
+      assertEquals(expected.contains(value), list.contains(value));
+      assertEquals(expected.contains(value), list.contains((Character) value));
+      assertEquals(expected.indexOf(value), list.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+    }
+    assertEquals(expected.remove(10), list.remove(10));
+    char first = list.getChar(0);
+    assertEquals(expected.remove((Character) first), list.remove((Character) first));
+    list.subList(100, 200).clear();
+    expected.subList(100, 200).clear();
+    assertEquals(expected, list);
+    list.sort();
+    char[] sorted = list.toArrayChar();
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Character.compare(sorted[i - 1], sorted[i]) <= 0);
+    }
+  }
+
+  public void testSorted() {
+    Random random = new Random();
+    SortedCharArrayList list = new SortedCharArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add((char) ('a' + random.nextInt(26)));
+    }
+    list.addAll(new char[] {(char) 3, (char) 1, (char) 2});
+    list.addAll(Arrays.asList((Character) (char) 4, (Character) (char) 0));
+    char[] elements = list.toArrayChar();
+    char[] expected = elements.clone();
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, elements));
+    for (int v = 'a' - 2; v <= 'z' + 2; v++) {
+      char value = (char) v;
+      int first = -1;
+      int last = -1;
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == value) {
+          if (first == -1) {
+            first = i;
+          }
+          last = i;
+        }
+      }
+      assertEquals(first, list.indexOf(value));
+      assertEquals(last, list.lastIndexOf(value));
+      assertEquals(first != -1, list.contains(value));
+    }
+    try {
+      list.set(0, (char) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+    try {
+      list.add(0, (char) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  public void testSearchOtherTypes() {
+    CharArrayList list = new CharArrayList("sensor".toCharArray());
+    assertTrue(list.contains((Object) 's'));
+    assertFalse(list.contains((Object) (int) 's'));
+    assertEquals(-1, list.indexOf((Object) "s"));
+    assertEquals(-1, list.lastIndexOf((Object) (int) 's'));
+    assertFalse(list.remove((Object) (int) 's'));
+    assertTrue(list.remove((Object) 's'));
+    assertTrue(Arrays.equals("ensor".toCharArray(), list.toArrayChar()));
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    CharArrayList list = new CharArrayList(new char[] {Character.MIN_VALUE, 'a', Character.MAX_VALUE, 'b'});
+    CharArrayList copy = roundTrip(list);
+    assertEquals(list, copy);
+    assertTrue(Arrays.equals(list.toArrayChar(), copy.toArrayChar()));
+    copy.add((char) 9);
+    assertEquals(list.size() + 1, copy.size());
+    assertEquals(new CharArrayList(), roundTrip(new CharArrayList()));
+    SortedCharArrayList sorted = new SortedCharArrayList(new char[] {Character.MIN_VALUE, 'a', Character.MAX_VALUE, 'b'});
+    SortedCharArrayList sortedCopy = roundTrip(sorted);
+    assertEquals(sorted, sortedCopy);
+    sortedCopy.add((char) 3);
+    char[] expected = list.toArrayChar();
+    expected = Arrays.copyOf(expected, expected.length + 1);
+    expected[expected.length - 1] = (char) 3;
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, sortedCopy.toArrayChar()));
+  }
+}
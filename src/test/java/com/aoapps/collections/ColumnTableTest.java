@@ -0,0 +1,165 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class ColumnTableTest extends TestCase {
+
+  public ColumnTableTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(ColumnTableTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  private static final int ID = 0;
+  private static final int TIME = 1;
+  private static final int AMOUNT = 2;
+
+  private static ColumnTable randomTable(int size, int range) {
+    ColumnTable table = new ColumnTable(0, ColumnTable.Type.INT, ColumnTable.Type.LONG, ColumnTable.Type.DOUBLE);
+    for (int i = 0; i < size; i++) {
+      int row = table.addRow();
+      assertEquals(i, row);
+      table.setInt(row, ID, fastRandom.nextInt(range) - range / 2);
+      table.setLong(row, TIME, fastRandom.nextLong() % range);
+      table.setDouble(row, AMOUNT, fastRandom.nextInt(range) - range / 2 + (fastRandom.nextBoolean() ? 0.5 : -0.0));
+    }
+    return table;
+  }
+
+  private static Object[] rows(ColumnTable table) {
+    Object[] rows = new Object[table.size()];
+    for (int row = 0; row < rows.length; row++) {
+      rows[row] = new Object[] {table.getInt(row, ID), table.getLong(row, TIME), table.getDouble(row, AMOUNT)};
+    }
+    return rows;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void doTestSort(int column, Comparator<Object[]> comparator) {
+    for (int size : new int[] {0, 1, 2, 10, 1000, 5000}) {
+      for (int range : new int[] {3, 1000, Integer.MAX_VALUE}) {
+        ColumnTable table = randomTable(size, range);
+        Object[] expected = rows(table);
+        // Arrays.sort is stable for objects
+        Arrays.sort(expected, (Comparator<Object>) (Comparator<?>) comparator);
+        table.sort(column);
+        assertTrue(Arrays.deepEquals(expected, rows(table)));
+      }
+    }
+  }
+
+  public void testSortInt() {
+    doTestSort(ID, Comparator.comparingInt(row -> (Integer) row[ID]));
+  }
+
+  public void testSortLong() {
+    doTestSort(TIME, Comparator.comparingLong(row -> (Long) row[TIME]));
+  }
+
+  public void testSortDouble() {
+    doTestSort(AMOUNT, (r1, r2) -> Double.compare((Double) r1[AMOUNT], (Double) r2[AMOUNT]));
+  }
+
+  public void testBinarySearch() {
+    ColumnTable table = randomTable(2000, 100000);
+    table.sort(TIME);
+    for (int row = 0; row < table.size(); row++) {
+      long time = table.getLong(row, TIME);
+      int found = table.binarySearchLong(TIME, time);
+      assertEquals(time, table.getLong(found, TIME));
+    }
+    table.sort(ID);
+    int[] ids = table.toIntArray(ID);
+    for (int i = 0; i < 1000; i++) {
+      int id = fastRandom.nextInt(100000) - 50000;
+      assertEquals(Arrays.binarySearch(ids, id) >= 0, table.binarySearchInt(ID, id) >= 0);
+    }
+  }
+
+  public void testScans() {
+    ColumnTable table = randomTable(10000, 1000);
+    long idSum = 0;
+    long timeSum = 0;
+    double amountSum = 0;
+    int count = 0;
+    IntArrayList selected = new IntArrayList();
+    for (int row = 0; row < table.size(); row++) {
+      int id = table.getInt(row, ID);
+      idSum += id;
+      timeSum += table.getLong(row, TIME);
+      amountSum += table.getDouble(row, AMOUNT);
+      if (id >= -100 && id < 250) {
+        count++;
+        selected.add(row);
+      }
+    }
+    assertEquals(idSum, table.sumLong(ID));
+    assertEquals(timeSum, table.sumLong(TIME));
+    assertEquals(amountSum, table.sumDouble(AMOUNT), 0.0);
+    assertEquals(count, table.countInRange(ID, -100, 250));
+    assertEquals(selected, table.selectInRange(ID, -100, 250));
+    assertEquals(table.size(), table.countInRange(TIME, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertEquals(0, table.countInRange(ID, 5, 5));
+    try {
+      table.sumLong(AMOUNT);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  public void testClearThenAddRow() {
+    ColumnTable table = new ColumnTable(ColumnTable.Type.INT, ColumnTable.Type.LONG, ColumnTable.Type.DOUBLE);
+    int row = table.addRow();
+    table.setInt(row, ID, 42);
+    table.setLong(row, TIME, 7);
+    table.setDouble(row, AMOUNT, 3.5);
+    table.clear();
+    assertEquals(0, table.size());
+    row = table.addRow();
+    assertEquals(0, row);
+    assertEquals(0, table.getInt(row, ID));
+    assertEquals(0, table.getLong(row, TIME));
+    assertEquals(0.0, table.getDouble(row, AMOUNT), 0.0);
+  }
+}
@@ -0,0 +1,245 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class CompressedIntSetTest extends TestCase {
+
+  public CompressedIntSetTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(CompressedIntSetTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  /**
+   * Picks values near a few container boundaries, sometimes dense enough for bitmaps and runs.
+   */
+  private static int randomValue(int density) {
+    int key = fastRandom.nextInt(5) - 2;
+    return (key << 16) + (fastRandom.nextInt(density) * (0x10000 / density));
+  }
+
+  private static void assertSame(TreeSet<Integer> expected, CompressedIntSet set) {
+    assertEquals(expected.size(), set.size());
+    int[] array = set.toArrayInt();
+    assertEquals(expected.size(), array.length);
+    Iterator<Integer> iter = expected.iterator();
+    IntIterator setIter = set.iterator();
+    for (int value : array) {
+      int e = iter.next();
+      assertEquals(e, value);
+      assertEquals(e, setIter.nextInt());
+    }
+    assertFalse(setIter.hasNext());
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected, set);
+  }
+
+  private CompressedIntSet randomSet(TreeSet<Integer> expected) {
+    CompressedIntSet set = new CompressedIntSet();
+    int density = 1 << fastRandom.nextInt(17);
+    int count = fastRandom.nextInt(20000);
+    for (int i = 0; i < count; i++) {
+      int value = randomValue(density);
+      assertEquals(expected.add(value), set.add(value));
+    }
+    if (fastRandom.nextBoolean()) {
+      int from = randomValue(0x10000);
+      int to = from + fastRandom.nextInt(200000);
+      for (int value = from; value < to; value++) {
+        expected.add(value);
+      }
+      set.addRange(from, to);
+    }
+    if (fastRandom.nextBoolean()) {
+      set.trimToSize();
+    }
+    return set;
+  }
+
+  public void testAddRemove() {
+    for (int test = 0; test < 50; test++) {
+      TreeSet<Integer> expected = new TreeSet<>();
+      CompressedIntSet set = randomSet(expected);
+      assertSame(expected, set);
+      int density = 1 << fastRandom.nextInt(17);
+      for (int i = 0; i < 20000; i++) {
+        int value = randomValue(density);
+        assertEquals(expected.contains(value), set.contains(value));
+        if (fastRandom.nextBoolean()) {
+          assertEquals(expected.add(value), set.add(value));
+        } else {
+          assertEquals(expected.remove(value), set.removeByValue(value));
+        }
+      }
+      assertSame(expected, set);
+      set.trimToSize();
+      assertSame(expected, set);
+    }
+  }
+
+  public void testSetOperations() {
+    for (int test = 0; test < 50; test++) {
+      TreeSet<Integer> a = new TreeSet<>();
+      TreeSet<Integer> b = new TreeSet<>();
+      CompressedIntSet x = randomSet(a);
+      CompressedIntSet y = randomSet(b);
+      TreeSet<Integer> and = new TreeSet<>(a);
+      and.retainAll(b);
+      TreeSet<Integer> or = new TreeSet<>(a);
+      or.addAll(b);
+      TreeSet<Integer> andNot = new TreeSet<>(a);
+      andNot.removeAll(b);
+      assertSame(and, x.and(y));
+      assertEquals(and.size(), x.andCardinality(y));
+      assertSame(or, x.or(y));
+      assertSame(andNot, x.andNot(y));
+      CompressedIntSet z = (CompressedIntSet) x.clone();
+      z.addAll((IntCollection) y);
+      assertSame(or, z);
+      z = (CompressedIntSet) x.clone();
+      z.addAll(y.toArrayInt());
+      assertSame(or, z);
+      z = (CompressedIntSet) x.clone();
+      z.retainAll((IntCollection) y);
+      assertSame(and, z);
+      z = (CompressedIntSet) x.clone();
+      z.removeAll((IntCollection) y);
+      assertSame(andNot, z);
+      // Unchanged
+      assertSame(a, x);
+      assertSame(b, y);
+    }
+  }
+
+  public void testExtremes() {
+    CompressedIntSet set = new CompressedIntSet();
+    set.add(Integer.MIN_VALUE);
+    set.add(Integer.MAX_VALUE);
+    set.add(-1);
+    set.add(0);
+    set.addRange(Integer.MAX_VALUE - 70000, Integer.MAX_VALUE);
+    assertEquals(70004, set.size());
+    int[] array = set.toArrayInt();
+    assertEquals(Integer.MIN_VALUE, array[0]);
+    assertEquals(-1, array[1]);
+    assertEquals(0, array[2]);
+    assertEquals(Integer.MAX_VALUE - 70000, array[3]);
+    assertEquals(Integer.MAX_VALUE, array[array.length - 1]);
+    assertFalse(set.addRange(Integer.MAX_VALUE - 10, Integer.MAX_VALUE));
+    assertTrue(set.removeByValue(Integer.MAX_VALUE - 5));
+    assertFalse(set.contains(Integer.MAX_VALUE - 5));
+    assertTrue(set.contains(Integer.MAX_VALUE - 4));
+    assertTrue(set.contains(Integer.MAX_VALUE - 6));
+  }
+
+  public void testContainerConversions() {
+    TreeSet<Integer> expected = new TreeSet<>();
+    CompressedIntSet set = new CompressedIntSet();
+    // Array to bitmap
+    for (int value = 0; value < 20000; value += 2) {
+      expected.add(value);
+      set.add(value);
+    }
+    assertSame(expected, set);
+    // Bitmap to array
+    for (int value = 0; value < 14000; value += 2) {
+      expected.remove(value);
+      set.removeByValue(value);
+    }
+    assertSame(expected, set);
+    // Full run, split and rejoined
+    for (int value = 0; value < 0x10000; value++) {
+      expected.add(value);
+    }
+    set.addRange(0, 0x10000);
+    assertSame(expected, set);
+    for (int value = 1; value < 0x10000; value += 3) {
+      expected.remove(value);
+      set.removeByValue(value);
+    }
+    assertSame(expected, set);
+    for (int value = 0x10000 - 1; value > 0; value -= 7) {
+      expected.add(value);
+      set.add(value);
+    }
+    assertSame(expected, set);
+    set.trimToSize();
+    assertSame(expected, set);
+  }
+
+  public void testIteratorRemove() {
+    TreeSet<Integer> expected = new TreeSet<>();
+    CompressedIntSet set = randomSet(expected);
+    IntIterator iter = set.iterator();
+    Iterator<Integer> expectedIter = expected.iterator();
+    while (iter.hasNext()) {
+      int value = iter.nextInt();
+      assertEquals(expectedIter.next().intValue(), value);
+      if (fastRandom.nextInt(3) != 0) {
+        iter.remove();
+        expectedIter.remove();
+      }
+    }
+    assertSame(expected, set);
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    TreeSet<Integer> expected = new TreeSet<>();
+    CompressedIntSet set = randomSet(expected);
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(set);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      CompressedIntSet copy = (CompressedIntSet) in.readObject();
+      assertSame(expected, copy);
+      copy.add(12345);
+      assertTrue(copy.contains(12345));
+    }
+  }
+}
@@ -0,0 +1,227 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class CompressedSortedIntArrayListTest extends TestCase {
+
+  private static final int BLOCK_SIZE = CompressedSortedIntArrayList.BLOCK_SIZE;
+
+  public CompressedSortedIntArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(CompressedSortedIntArrayListTest.class);
+  }
+
+  public void testCompressedSorted() {
+    Random random = new Random(0);
+    SortedIntArrayList sorted = new SortedIntArrayList();
+    for (int i = 0; i < 10000; i++) {
+      int gap = random.nextInt(10);
+      sorted.add(gap == 0 ? random.nextInt() : random.nextInt(100000) * gap);
+    }
+    sorted.add(Integer.MIN_VALUE);
+    sorted.add(Integer.MAX_VALUE);
+    CompressedSortedIntArrayList compressed = new CompressedSortedIntArrayList(sorted);
+    assertEquals(sorted.size(), compressed.size());
+    assertTrue(Arrays.equals(sorted.toArrayInt(), compressed.toArrayInt()));
+    assertEquals(sorted, compressed);
+    for (int i = 0; i < sorted.size(); i += 7) {
+      int value = sorted.getInt(i);
+      assertEquals(value, compressed.getInt(i));
+      assertEquals(sorted.indexOf(value), compressed.indexOf(value));
+      assertEquals(sorted.lastIndexOf(value), compressed.lastIndexOf(value));
+      assertEquals(sorted.contains(value + 1), compressed.contains(value + 1));
+    }
+    assertEquals(-1, compressed.indexOf(1234567891));
+    try {
+      compressed.add(0);
+      fail("May only add elements in ascending order.");
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    CompressedSortedIntArrayList dups = new CompressedSortedIntArrayList();
+    for (int i = 0; i < 1000; i++) {
+      dups.add(i / 300);
+    }
+    assertEquals(300, dups.indexOf(1));
+    assertEquals(599, dups.lastIndexOf(1));
+    assertEquals(999, dups.lastIndexOf(3));
+    assertEquals(-1, dups.indexOf(4));
+  }
+
+  /**
+   * The full range, where the difference between neighbors exceeds the signed range.
+   */
+  public void testExtremeValues() {
+    int[] values = {Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, Integer.MAX_VALUE};
+    CompressedSortedIntArrayList compressed = new CompressedSortedIntArrayList();
+    for (int value : values) {
+      assertTrue(compressed.add(value));
+    }
+    assertTrue(Arrays.equals(values, compressed.toArrayInt()));
+    for (int i = 0; i < values.length; i++) {
+      assertEquals(values[i], compressed.getInt(i));
+    }
+    assertEquals(0, compressed.indexOf(Integer.MIN_VALUE));
+    assertEquals(1, compressed.lastIndexOf(Integer.MIN_VALUE));
+    assertEquals(6, compressed.indexOf(Integer.MAX_VALUE));
+    assertEquals(7, compressed.lastIndexOf(Integer.MAX_VALUE));
+    assertEquals(-1, compressed.indexOf(2));
+    assertEquals(-1, compressed.lastIndexOf(Integer.MAX_VALUE - 2));
+    // Only the minimum and maximum, each a block apart
+    CompressedSortedIntArrayList blocks = new CompressedSortedIntArrayList();
+    for (int i = 0; i < BLOCK_SIZE * 3; i++) {
+      blocks.add(i < BLOCK_SIZE * 3 / 2 ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+    }
+    assertEquals(0, blocks.indexOf(Integer.MIN_VALUE));
+    assertEquals(BLOCK_SIZE * 3 / 2 - 1, blocks.lastIndexOf(Integer.MIN_VALUE));
+    assertEquals(BLOCK_SIZE * 3 / 2, blocks.indexOf(Integer.MAX_VALUE));
+    assertEquals(BLOCK_SIZE * 3 - 1, blocks.lastIndexOf(Integer.MAX_VALUE));
+    assertEquals(-1, blocks.indexOf(0));
+  }
+
+  /**
+   * Runs of duplicates starting and ending on and around block boundaries.
+   */
+  public void testDuplicatesAcrossBlocks() {
+    SortedIntArrayList sorted = new SortedIntArrayList();
+    CompressedSortedIntArrayList compressed = new CompressedSortedIntArrayList();
+    int value = -1000;
+    for (int run : new int[] {1, BLOCK_SIZE - 1, 1, BLOCK_SIZE, BLOCK_SIZE + 1, 2, BLOCK_SIZE * 3, 1, 5}) {
+      for (int i = 0; i < run; i++) {
+        sorted.add(value);
+        compressed.add(value);
+      }
+      value += 3;
+    }
+    assertEquals(sorted, compressed);
+    for (int v = -1001; v <= value; v++) {
+      assertEquals(sorted.indexOf(v), compressed.indexOf(v));
+      assertEquals(sorted.lastIndexOf(v), compressed.lastIndexOf(v));
+      assertEquals(sorted.contains(v), compressed.contains(v));
+    }
+  }
+
+  public void testIteration() {
+    Random random = new Random(1);
+    CompressedSortedIntArrayList compressed = new CompressedSortedIntArrayList();
+    List<Integer> expected = new ArrayList<>();
+    int value = 0;
+    for (int i = 0; i < BLOCK_SIZE * 5 + 3; i++) {
+      value += random.nextInt(1000);
+      compressed.add(value);
+      expected.add(value);
+    }
+    List<Integer> iterated = new ArrayList<>();
+    for (IntIterator iter = compressed.iterator(); iter.hasNext(); ) {
+      iterated.add(iter.nextInt());
+    }
+    assertEquals(expected, iterated);
+    List<Integer> forEach = new ArrayList<>();
+    compressed.forEachInt(forEach::add);
+    assertEquals(expected, forEach);
+    assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), compressed.intStream().sum());
+    assertEquals(expected.size(), compressed.intStream().parallel().count());
+    IntIterator iter = compressed.iterator();
+    try {
+      iter.remove();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    compressed.add(value);
+    try {
+      iter.nextInt();
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+    try {
+      compressed.forEachInt(v -> compressed.add(Integer.MAX_VALUE));
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+    CompressedSortedIntArrayList empty = new CompressedSortedIntArrayList();
+    try {
+      empty.iterator().nextInt();
+      fail();
+    } catch (NoSuchElementException e) {
+      // Expected
+    }
+    try {
+      empty.getInt(0);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      // Expected
+    }
+  }
+
+  public void testTrimAndClear() {
+    CompressedSortedIntArrayList compressed = new CompressedSortedIntArrayList();
+    for (int i = 0; i < BLOCK_SIZE * 4 + 1; i++) {
+      compressed.add(i * 1000);
+    }
+    int[] before = compressed.toArrayInt();
+    compressed.trimToSize();
+    assertTrue(Arrays.equals(before, compressed.toArrayInt()));
+    // Appending after trimming grows again
+    compressed.add(Integer.MAX_VALUE);
+    assertEquals(Integer.MAX_VALUE, compressed.getInt(before.length));
+    assertEquals(before.length, compressed.indexOf(Integer.MAX_VALUE));
+    compressed.clear();
+    assertTrue(compressed.isEmpty());
+    assertEquals(-1, compressed.indexOf(0));
+    assertEquals(-1, compressed.lastIndexOf(0));
+    assertFalse(compressed.iterator().hasNext());
+    compressed.trimToSize();
+    // Any first value is allowed after clearing
+    compressed.add(-5);
+    compressed.add(-5);
+    compressed.add(7);
+    assertTrue(Arrays.equals(new int[] {-5, -5, 7}, compressed.toArrayInt()));
+    assertEquals(1, compressed.lastIndexOf(-5));
+    try {
+      compressed.add(0, 1);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link DirectIntArrayList} and the iteration of {@link AbstractIntList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DirectIntArrayListTest extends TestCase {
+
+  public DirectIntArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(DirectIntArrayListTest.class);
+  }
+
+  public void testGrowth() {
+    try (DirectIntArrayList list = new DirectIntArrayList(0)) {
+      assertEquals(0, list.capacity());
+      for (int i = 0; i < 10000; i++) {
+        list.add(i * 3);
+        assertTrue(list.capacity() >= list.size());
+      }
+      assertEquals(10000, list.size());
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(i * 3, list.getInt(i));
+      }
+      list.trimToSize();
+      assertEquals(10000, list.capacity());
+      list.ensureCapacity(20000);
+      assertTrue(list.capacity() >= 20000);
+      assertEquals(10000, list.size());
+      assertEquals(9999 * 3, list.getInt(9999));
+    }
+    try {
+      new DirectIntArrayList(-1).close();
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    try (DirectIntArrayList list = new DirectIntArrayList()) {
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int value = random.nextInt(200) - 100;
+        list.add(value);
+        expected.add(value);
+      }
+      assertEquals(expected, list);
+      assertEquals(list, expected);
+      assertEquals(expected.hashCode(), list.hashCode());
+      for (int i = 0; i < 100; i++) {
+        int index = random.nextInt(list.size());
+        int value = random.nextInt(200) - 100;
+        assertEquals(expected.set(index, value).intValue(), list.set(index, value));
+        index = random.nextInt(list.size() + 1);
+        expected.add(index, value);
+        list.add(index, value);
+        index = random.nextInt(list.size());
+        assertEquals(expected.remove(index).intValue(), list.removeAtIndex(index));
+      }
+      assertEquals(expected, list);
+      for (int value = -105; value <= 105; value++) {
+        assertEquals(expected.indexOf(value), list.indexOf(value));
+        assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+        assertEquals(expected.contains(value), list.contains(value));
+        assertEquals(expected.remove((Integer) value), list.removeByValue(value));
+      }
+      assertEquals(expected, list);
+      list.subList(100, 200).clear();
+      expected.subList(100, 200).clear();
+      assertEquals(expected, list);
+      list.removeIfInt(value -> value % 3 == 0);
+      expected.removeIf(value -> value % 3 == 0);
+      assertEquals(expected, list);
+      list.addAll(new int[] {1, 2, 3}, 1, 2);
+      expected.add(2);
+      expected.add(3);
+      assertEquals(expected, list);
+      list.clear();
+      assertTrue(list.isEmpty());
+      try {
+        list.getInt(0);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testIterator() {
+    try (DirectIntArrayList list = new DirectIntArrayList(new int[] {1, 2, 3, 4, 5})) {
+      IntIterator iter = list.iterator();
+      int sum = 0;
+      while (iter.hasNext()) {
+        int value = iter.nextInt();
+        sum += value;
+        if (value % 2 == 0) {
+          iter.remove();
+        }
+      }
+      assertEquals(15, sum);
+      assertEquals(List.of(1, 3, 5), list);
+      try {
+        iter.nextInt();
+        fail();
+      } catch (NoSuchElementException e) {
+        // Expected
+      }
+      iter = list.iterator();
+      iter.nextInt();
+      list.add(7);
+      try {
+        iter.nextInt();
+        fail();
+      } catch (ConcurrentModificationException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testSpliterator() {
+    try (DirectIntArrayList list = new DirectIntArrayList(0)) {
+      for (int i = 0; i < 1000; i++) {
+        list.add(i);
+      }
+      Spliterator.OfInt spliterator = list.spliterator();
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+      assertEquals(1000, spliterator.estimateSize());
+      Spliterator.OfInt prefix = spliterator.trySplit();
+      assertEquals(500, prefix.estimateSize());
+      assertEquals(500, spliterator.estimateSize());
+      IntArrayList seen = new IntArrayList();
+      assertTrue(prefix.tryAdvance((IntConsumer) seen::add));
+      prefix.forEachRemaining((IntConsumer) seen::add);
+      assertFalse(prefix.tryAdvance((IntConsumer) seen::add));
+      spliterator.forEachRemaining((IntConsumer) seen::add);
+      assertEquals(list, seen);
+      assertEquals(999 * 1000 / 2, list.intStream().sum());
+      assertEquals(999 * 1000 / 2, list.parallelIntStream().sum());
+      spliterator = list.spliterator();
+      spliterator.tryAdvance((IntConsumer) value -> { });
+      list.add(1000);
+      try {
+        spliterator.tryAdvance((IntConsumer) value -> { });
+        fail();
+      } catch (ConcurrentModificationException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testClose() {
+    DirectIntArrayList list = new DirectIntArrayList(new int[] {1, 2, 3});
+    list.close();
+    // Closing again has no effect
+    list.close();
+    assertEquals(0, list.size());
+    Runnable[] uses = {
+      () -> list.getInt(0),
+      () -> list.set(0, 1),
+      () -> list.add(1),
+      () -> list.add(0, 1),
+      () -> list.removeAtIndex(0),
+      () -> list.indexOf(1),
+      () -> list.lastIndexOf(1),
+      () -> list.toArrayInt(),
+      () -> list.addAll(new int[] {1}, 0, 1),
+      () -> list.forEachInt(value -> { }),
+      () -> list.removeIfInt(value -> true),
+      () -> list.clear(),
+      () -> list.capacity(),
+      () -> list.trimToSize(),
+      () -> list.ensureCapacity(100)
+    };
+    for (Runnable use : uses) {
+      try {
+        use.run();
+        fail();
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+    }
+  }
+}
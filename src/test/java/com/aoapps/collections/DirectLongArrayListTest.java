@@ -0,0 +1,223 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link DirectLongArrayList} and the iteration of {@link AbstractLongList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DirectLongArrayListTest extends TestCase {
+
+  public DirectLongArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(DirectLongArrayListTest.class);
+  }
+
+  public void testGrowth() {
+    try (DirectLongArrayList list = new DirectLongArrayList(0)) {
+      assertEquals(0, list.capacity());
+      for (int i = 0; i < 10000; i++) {
+        list.add((long) i * 3);
+        assertTrue(list.capacity() >= list.size());
+      }
+      assertEquals(10000, list.size());
+      for (int i = 0; i < 10000; i++) {
+        assertEquals((long) i * 3, list.getLong(i));
+      }
+      list.trimToSize();
+      assertEquals(10000, list.capacity());
+      list.ensureCapacity(20000);
+      assertTrue(list.capacity() >= 20000);
+      assertEquals(10000, list.size());
+      assertEquals(9999L * 3, list.getLong(9999));
+    }
+    try {
+      new DirectLongArrayList(-1).close();
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    try (DirectLongArrayList list = new DirectLongArrayList()) {
+      List<Long> expected = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        long value = random.nextInt(200) - 100;
+        list.add(value);
+        expected.add(value);
+      }
+      assertEquals(expected, list);
+      assertEquals(list, expected);
+      assertEquals(expected.hashCode(), list.hashCode());
+      for (int i = 0; i < 100; i++) {
+        int index = random.nextInt(list.size());
+        long value = random.nextInt(200) - 100;
+        assertEquals(expected.set(index, value).longValue(), list.set(index, value));
+        index = random.nextInt(list.size() + 1);
+        expected.add(index, value);
+        list.add(index, value);
+        index = random.nextInt(list.size());
+        assertEquals(expected.remove(index).longValue(), list.removeAtIndex(index));
+      }
+      assertEquals(expected, list);
+      for (long value = -105; value <= 105; value++) {
+        assertEquals(expected.indexOf(value), list.indexOf(value));
+        assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+        assertEquals(expected.contains(value), list.contains(value));
+        assertEquals(expected.remove((Long) value), list.removeByValue(value));
+      }
+      assertEquals(expected, list);
+      list.subList(100, 200).clear();
+      expected.subList(100, 200).clear();
+      assertEquals(expected, list);
+      list.removeIfLong(value -> value % 3 == 0);
+      expected.removeIf(value -> value % 3 == 0);
+      assertEquals(expected, list);
+      list.addAll(new long[] {1, 2, 3}, 1, 2);
+      expected.add((long) 2);
+      expected.add((long) 3);
+      assertEquals(expected, list);
+      list.clear();
+      assertTrue(list.isEmpty());
+      try {
+        list.getLong(0);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testIterator() {
+    try (DirectLongArrayList list = new DirectLongArrayList(new long[] {1, 2, 3, 4, 5})) {
+      LongIterator iter = list.iterator();
+      long sum = 0;
+      while (iter.hasNext()) {
+        long value = iter.nextLong();
+        sum += value;
+        if (value % 2 == 0) {
+          iter.remove();
+        }
+      }
+      assertEquals(15, sum);
+      assertEquals(List.of((long) 1, (long) 3, (long) 5), list);
+      try {
+        iter.nextLong();
+        fail();
+      } catch (NoSuchElementException e) {
+        // Expected
+      }
+      iter = list.iterator();
+      iter.nextLong();
+      list.add(7);
+      try {
+        iter.nextLong();
+        fail();
+      } catch (ConcurrentModificationException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testSpliterator() {
+    try (DirectLongArrayList list = new DirectLongArrayList(0)) {
+      for (int i = 0; i < 1000; i++) {
+        list.add(i);
+      }
+      Spliterator.OfLong spliterator = list.spliterator();
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+      assertEquals(1000, spliterator.estimateSize());
+      Spliterator.OfLong prefix = spliterator.trySplit();
+      assertEquals(500, prefix.estimateSize());
+      assertEquals(500, spliterator.estimateSize());
+      LongArrayList seen = new LongArrayList();
+      assertTrue(prefix.tryAdvance((LongConsumer) seen::add));
+      prefix.forEachRemaining((LongConsumer) seen::add);
+      assertFalse(prefix.tryAdvance((LongConsumer) seen::add));
+      spliterator.forEachRemaining((LongConsumer) seen::add);
+      assertEquals(list, seen);
+      assertEquals(999L * 1000 / 2, list.longStream().sum());
+      assertEquals(999L * 1000 / 2, list.parallelLongStream().sum());
+      spliterator = list.spliterator();
+      spliterator.tryAdvance((LongConsumer) value -> { });
+      list.add(1000);
+      try {
+        spliterator.tryAdvance((LongConsumer) value -> { });
+        fail();
+      } catch (ConcurrentModificationException e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testClose() {
+    DirectLongArrayList list = new DirectLongArrayList(new long[] {1, 2, 3});
+    list.close();
+    // Closing again has no effect
+    list.close();
+    assertEquals(0, list.size());
+    Runnable[] uses = {
+      () -> list.getLong(0),
+      () -> list.set(0, 1),
+      () -> list.add(1),
+      () -> list.add(0, 1),
+      () -> list.removeAtIndex(0),
+      () -> list.indexOf(1),
+      () -> list.lastIndexOf(1),
+      () -> list.toArrayLong(),
+      () -> list.addAll(new long[] {1}, 0, 1),
+      () -> list.forEachLong(value -> { }),
+      () -> list.removeIfLong(value -> true),
+      () -> list.clear(),
+      () -> list.capacity(),
+      () -> list.trimToSize(),
+      () -> list.ensureCapacity(100)
+    };
+    for (Runnable use : uses) {
+      try {
+        use.run();
+        fail();
+      } catch (IllegalStateException e) {
+        // Expected
+      }
+    }
+  }
+}
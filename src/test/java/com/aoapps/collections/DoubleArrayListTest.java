@@ -0,0 +1,187 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link DoubleArrayList} and the other lists generated from the same template.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class DoubleArrayListTest extends TestCase {
+
+  public DoubleArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(DoubleArrayListTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    DoubleArrayList list = new DoubleArrayList();
+    List<Double> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      double value = random.nextInt(100) / 4.0;
+      list.add(value);
+      expected.add(value);
+    }
+    list.add(Double.NaN);
+    expected.add(Double.NaN);
+    list.add(3, -0.0);
+    expected.add(3, -0.0);
+    assertEquals(expected, list);
+    assertEquals(list, expected);
+    assertEquals(expected.hashCode(), list.hashCode());
+    for (int i = 0; i < 120; i++) {
+      double value = i / 4.0;
+      assertEquals(expected.indexOf(value), list.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+    }
+    assertEquals(expected.size() - 1, list.indexOf(Double.NaN));
+    assertEquals(3, list.indexOf(-0.0));
+    assertEquals(expected.remove(10), list.remove(10));
+    assertEquals(expected.remove((Object) 5.0), list.remove((Object) 5.0));
+    list.subList(100, 200).clear();
+    expected.subList(100, 200).clear();
+    assertEquals(expected, list);
+    list.sort();
+    double[] sorted = list.toArrayDouble();
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Double.compare(sorted[i - 1], sorted[i]) <= 0);
+    }
+  }
+
+  public void testSorted() {
+    Random random = new Random();
+    SortedDoubleArrayList list = new SortedDoubleArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add(random.nextInt(50) - 25.0);
+    }
+    list.add(Double.NaN);
+    list.add(0.0);
+    list.add(-0.0);
+    list.addAll(new double[] {1.5, -1.5, 99});
+    double[] elements = list.toArrayDouble();
+    double[] expected = elements.clone();
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, elements));
+    assertEquals(Double.NaN, elements[elements.length - 1]);
+    for (double value = -30; value <= 30; value += 0.5) {
+      int index = list.indexOf(value);
+      int linear = -1;
+      for (int i = 0; i < elements.length; i++) {
+        if (Double.compare(elements[i], value) == 0) {
+          linear = i;
+          break;
+        }
+      }
+      assertEquals(linear, index);
+    }
+    assertEquals(elements.length - 1, list.indexOf(Double.NaN));
+    try {
+      list.set(0, 1.0);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  public void testSearchOtherTypes() {
+    double big = 0x1p53;
+    DoubleArrayList list = new DoubleArrayList(new double[] {0.5, 3, big, 0x1p63, Double.NaN});
+    assertTrue(list.contains(Long.valueOf(1L << 53)));
+    // Wider values must not match by rounding
+    assertFalse(list.contains(Long.valueOf((1L << 53) + 1)));
+    assertEquals(-1, list.indexOf(Long.valueOf((1L << 53) + 1)));
+    assertEquals(-1, list.lastIndexOf(new AtomicLong((1L << 53) + 1)));
+    assertFalse(list.remove((Object) ((1L << 53) + 1)));
+    assertFalse(list.contains(Long.valueOf(Long.MAX_VALUE)));
+    assertTrue(list.contains(BigInteger.ONE.shiftLeft(63)));
+    assertFalse(list.contains(BigInteger.ONE.shiftLeft(63).add(BigInteger.ONE)));
+    assertTrue(list.contains(new BigDecimal("0.5")));
+    assertFalse(list.contains(new BigDecimal("0.5000000000000000000001")));
+    assertEquals(1, list.indexOf(Integer.valueOf(3)));
+    assertEquals(1, list.indexOf(3.0f));
+    assertEquals(4, list.indexOf(Float.NaN));
+    assertEquals(5, list.size());
+    assertTrue(list.remove((Object) (1L << 53)));
+    assertEquals(4, list.size());
+  }
+
+  public void testOtherTypes() throws IOException, ClassNotFoundException {
+    SortedCharArrayList chars = new SortedCharArrayList();
+    for (char ch : "sensor".toCharArray()) {
+      chars.add(ch);
+    }
+    assertTrue(Arrays.equals("enorss".toCharArray(), chars.toArrayChar()));
+    assertEquals(4, chars.indexOf('s'));
+    assertEquals(5, chars.lastIndexOf('s'));
+    ByteArrayList bytes = new ByteArrayList(new byte[] {1, -2, 3});
+    assertTrue(bytes.contains((byte) -2));
+    assertTrue(bytes.contains(Integer.valueOf(3)));
+    ShortArrayList shorts = new ShortArrayList(Arrays.asList(1, 2, 3));
+    assertEquals(Arrays.asList((short) 1, (short) 2, (short) 3), shorts);
+    FloatArrayList floats = new FloatArrayList();
+    for (int i = 0; i < 3000; i++) {
+      floats.add(i * 0.5f);
+    }
+    assertEquals(bytes, roundTrip(bytes));
+    assertEquals(chars, roundTrip(chars));
+    assertEquals(shorts, roundTrip(shorts));
+    assertEquals(floats, roundTrip(floats));
+    SortedDoubleArrayList doubles = new SortedDoubleArrayList(new double[] {3, 1, 2});
+    SortedDoubleArrayList copy = roundTrip(doubles);
+    assertEquals(doubles, copy);
+    copy.add(1.5);
+    assertTrue(Arrays.equals(new double[] {1, 1.5, 2, 3}, copy.toArrayDouble()));
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link FloatArrayList} and {@link SortedFloatArrayList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class FloatArrayListTest extends TestCase {
+
+  public FloatArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(FloatArrayListTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    FloatArrayList list = new FloatArrayList();
+    List<Float> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      float value = random.nextInt(100) / 4.0f - 10;
+      list.add(value);
+      expected.add(value);
+    }
+    assertEquals(expected, list);
+    assertEquals(list, expected);
+    assertEquals(expected.hashCode(), list.hashCode());
+    for (float v = -12; v <= 16; v += 0.25f) {
+      float value = v;
+      assertEquals(expected.contains(value), list.contains(value));
+      assertEquals(expected.contains(value), list.contains((Float) value));
+      assertEquals(expected.indexOf(value), list.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+    }
+    assertEquals(expected.remove(10), list.remove(10));
+    float first = list.getFloat(0);
+    assertEquals(expected.remove((Float) first), list.remove((Float) first));
+    list.subList(100, 200).clear();
+    expected.subList(100, 200).clear();
+    assertEquals(expected, list);
+    list.sort();
+    float[] sorted = list.toArrayFloat();
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Float.compare(sorted[i - 1], sorted[i]) <= 0);
+    }
+  }
+
+  public void testSorted() {
+    Random random = new Random();
+    SortedFloatArrayList list = new SortedFloatArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add(random.nextInt(100) / 4.0f - 10);
+    }
+    list.addAll(new float[] {(float) 3, (float) 1, (float) 2});
+    list.addAll(Arrays.asList((Float) (float) 4, (Float) (float) 0));
+    float[] elements = list.toArrayFloat();
+    float[] expected = elements.clone();
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, elements));
+    for (float v = -12; v <= 16; v += 0.25f) {
+      float value = v;
+      int first = -1;
+      int last = -1;
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == value) {
+          if (first == -1) {
+            first = i;
+          }
+          last = i;
+        }
+      }
+      assertEquals(first, list.indexOf(value));
+      assertEquals(last, list.lastIndexOf(value));
+      assertEquals(first != -1, list.contains(value));
+    }
+    try {
+      list.set(0, (float) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+    try {
+      list.add(0, (float) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  public void testSearchOtherTypes() {
+    FloatArrayList list = new FloatArrayList(new float[] {0.1f, 0.5f, 3, Float.NaN, 16777216, 0x1p60f});
+    assertTrue(list.contains(Float.valueOf(0.1f)));
+    assertFalse(list.contains(0.1));
+    assertEquals(-1, list.indexOf(0.1));
+    assertTrue(list.contains(0.5));
+    assertEquals(1, list.indexOf(0.5));
+    assertEquals(2, list.lastIndexOf(Long.valueOf(3)));
+    assertEquals(3, list.indexOf(Double.NaN));
+    assertTrue(list.contains(Integer.valueOf(16777216)));
+    assertFalse(list.contains(Integer.valueOf(16777217)));
+    assertFalse(list.contains(Long.valueOf((1L << 24) + 1)));
+    assertFalse(list.contains(new java.math.BigDecimal("0.1")));
+    assertFalse(list.remove((Object) 16777217));
+    assertFalse(list.remove((Object) 0.1));
+    assertFalse(list.contains("3"));
+    assertTrue(list.contains(Long.valueOf(1L << 60)));
+    assertFalse(list.contains(Long.valueOf((1L << 60) + 1)));
+    assertEquals(6, list.size());
+    assertTrue(list.remove((Object) 3));
+    assertEquals(5, list.size());
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    FloatArrayList list = new FloatArrayList(new float[] {-1.5f, 0, Float.NaN, 5});
+    FloatArrayList copy = roundTrip(list);
+    assertEquals(list, copy);
+    assertTrue(Arrays.equals(list.toArrayFloat(), copy.toArrayFloat()));
+    copy.add((float) 9);
+    assertEquals(list.size() + 1, copy.size());
+    assertEquals(new FloatArrayList(), roundTrip(new FloatArrayList()));
+    SortedFloatArrayList sorted = new SortedFloatArrayList(new float[] {-1.5f, 0, Float.NaN, 5});
+    SortedFloatArrayList sortedCopy = roundTrip(sorted);
+    assertEquals(sorted, sortedCopy);
+    sortedCopy.add((float) 3);
+    float[] expected = list.toArrayFloat();
+    expected = Arrays.copyOf(expected, expected.length + 1);
+    expected[expected.length - 1] = (float) 3;
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, sortedCopy.toArrayFloat()));
+  }
+}
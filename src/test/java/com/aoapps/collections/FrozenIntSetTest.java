@@ -0,0 +1,187 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class FrozenIntSetTest extends TestCase {
+
+  private static final int NUM_TESTS = 1;
+
+  public FrozenIntSetTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(FrozenIntSetTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  public void testMatchesSortedList() {
+    for (int size = 0; size <= 300; size++) {
+      IntArrayList values = new IntArrayList(size);
+      for (int i = 0; i < size; i++) {
+        values.add(fastRandom.nextInt(size * 2 + 1) - size);
+      }
+      SortedIntArrayList sorted = SortedIntArrayList.adopt(new IntArrayList(values));
+      FrozenIntSet frozen = new FrozenIntSet(values);
+      int[] expected = Arrays.stream(sorted.toArrayInt()).distinct().toArray();
+      assertEquals(expected.length, frozen.size());
+      assertTrue(Arrays.equals(expected, frozen.toArrayInt()));
+      IntArrayList iterated = new IntArrayList(size);
+      for (IntIterator iter = frozen.iterator(); iter.hasNext(); ) {
+        iterated.add(iter.nextInt());
+      }
+      assertTrue(Arrays.equals(expected, iterated.toArrayInt()));
+      assertEquals(new java.util.HashSet<>(sorted), frozen);
+      assertEquals(new java.util.HashSet<>(sorted).hashCode(), frozen.hashCode());
+      for (int value = -size - 2; value <= size + 2; value++) {
+        assertEquals(sorted.contains(value), frozen.contains(value));
+      }
+      assertEquals(sorted.contains(Integer.MIN_VALUE), frozen.contains(Integer.MIN_VALUE));
+      assertEquals(sorted.contains(Integer.MAX_VALUE), frozen.contains(Integer.MAX_VALUE));
+    }
+  }
+
+  public void testLong() {
+    LongArrayList values = new LongArrayList();
+    values.add(Long.MIN_VALUE);
+    values.add(Long.MAX_VALUE);
+    values.add(0);
+    values.add(1L << 40);
+    values.add(0);
+    FrozenLongSet frozen = new FrozenLongSet(values);
+    assertEquals(4, frozen.size());
+    assertTrue(Arrays.equals(new long[] {Long.MIN_VALUE, 0, 1L << 40, Long.MAX_VALUE}, frozen.toArrayLong()));
+    assertTrue(frozen.contains(1L << 40));
+    assertTrue(frozen.contains(Long.MIN_VALUE));
+    assertFalse(frozen.contains(1));
+    assertFalse(frozen.contains((Object) "1"));
+  }
+
+  public void testLookahead() {
+    int size = 100000;
+    IntArrayList intValues = new IntArrayList(size);
+    LongArrayList longValues = new LongArrayList(size);
+    for (int i = 0; i < size; i++) {
+      intValues.add(i * 3);
+      longValues.add(i * 3L);
+    }
+    FrozenIntSet frozenInt = new FrozenIntSet(intValues);
+    FrozenLongSet frozenLong = new FrozenLongSet(longValues);
+    for (int value = -3; value < size * 3 + 3; value++) {
+      boolean expected = value >= 0 && value < size * 3 && value % 3 == 0;
+      assertEquals(expected, frozenInt.contains(value));
+      assertEquals(expected, frozenLong.contains((long) value));
+    }
+  }
+
+  public void testLookaheadIndexOverflow() {
+    // Sets of 2^27 elements or more would overflow an int shift
+    int n = Integer.MAX_VALUE - 8;
+    for (int k = 1; k > 0 && k <= n; k = (k << 1) + 1) {
+      int expected = (int) Math.min(k * 16L, n);
+      assertEquals(expected, FrozenIntSet.lookaheadIndex(k, n));
+      assertEquals(expected, FrozenLongSet.lookaheadIndex(k, n));
+    }
+    assertEquals(n, FrozenIntSet.lookaheadIndex(1 << 27, n));
+    assertEquals(n, FrozenLongSet.lookaheadIndex(n, n));
+    assertEquals(1 << 28, FrozenIntSet.lookaheadIndex(1 << 24, 1 << 28));
+  }
+
+  public void testImmutable() {
+    FrozenIntSet frozen = new FrozenIntSet(new IntArrayList(new int[] {1, 2, 3}));
+    try {
+      frozen.add(4);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    try {
+      frozen.clear();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+  }
+
+  private void doTestPerformance() {
+    final int endTestSize = 10000000;
+    final int numSearches = 1000000;
+    int[] searches = new int[numSearches];
+    for (int testSize = 10; testSize <= endTestSize; testSize *= 10) {
+      IntArrayList values = new IntArrayList(testSize);
+      for (int i = 0; i < testSize; i++) {
+        values.add(fastRandom.nextInt());
+      }
+      for (int i = 0; i < numSearches; i++) {
+        searches[i] = (i & 1) == 0 ? values.getInt(fastRandom.nextInt(testSize)) : fastRandom.nextInt();
+      }
+      SortedIntArrayList sorted = SortedIntArrayList.adopt(new IntArrayList(values));
+      long startNanos = System.nanoTime();
+      FrozenIntSet frozen = new FrozenIntSet(sorted);
+      long timeNanos = System.nanoTime() - startNanos;
+      System.out.println(testSize + ": Created FrozenIntSet in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+      int found = 0;
+      startNanos = System.nanoTime();
+      for (int search : searches) {
+        if (sorted.contains(search)) {
+          found++;
+        }
+      }
+      timeNanos = System.nanoTime() - startNanos;
+      System.out.println(testSize + ": SortedIntArrayList contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+      startNanos = System.nanoTime();
+      for (int search : searches) {
+        if (frozen.contains(search)) {
+          found--;
+        }
+      }
+      timeNanos = System.nanoTime() - startNanos;
+      System.out.println(testSize + ": FrozenIntSet contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+      assertEquals(0, found);
+    }
+  }
+
+  public void testPerformance() {
+    for (int c = 0; c < NUM_TESTS; c++) {
+      doTestPerformance();
+    }
+  }
+}
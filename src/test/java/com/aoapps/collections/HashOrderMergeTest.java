@@ -0,0 +1,236 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests the hashCode-order merges of {@link ArraySet} and {@link UnmodifiableArraySet}.
+ *
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class HashOrderMergeTest extends TestCase {
+
+  public HashOrderMergeTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(HashOrderMergeTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  /**
+   * A key with few distinct hash codes, to exercise collision runs.
+   */
+  private static final class Colliding {
+
+    private final int value;
+
+    private Colliding(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return (obj instanceof Colliding) && ((Colliding) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value % 11 - 5;
+    }
+
+    @Override
+    public String toString() {
+      return Integer.toString(value);
+    }
+  }
+
+  private static Set<Colliding> randomSet(int maxSize, int range) {
+    Set<Colliding> set = new HashSet<>();
+    int size = fastRandom.nextInt(maxSize + 1);
+    for (int i = 0; i < size; i++) {
+      set.add(new Colliding(fastRandom.nextInt(range)));
+    }
+    return set;
+  }
+
+  private static ArraySet<Colliding> arraySet(Set<Colliding> set) {
+    return new ArraySetBuilder<Colliding>().addAll(set).buildArraySet();
+  }
+
+  private static UnmodifiableArraySet<Colliding> unmodifiableArraySet(Set<Colliding> set) {
+    return new ArraySetBuilder<Colliding>().addAll(set).buildUnmodifiableArraySet();
+  }
+
+  private static void assertSorted(Set<?> set) {
+    int prevHash = Integer.MIN_VALUE;
+    for (Object o : set) {
+      int hash = o.hashCode();
+      assertTrue(hash >= prevHash);
+      prevHash = hash;
+    }
+  }
+
+  private static void assertSetEquals(Set<Colliding> expected, Set<Colliding> actual) {
+    assertSorted(actual);
+    assertEquals(expected.size(), actual.size());
+    assertTrue(expected.containsAll(actual));
+    assertEquals(expected.hashCode(), actual.hashCode());
+  }
+
+  public void testMerges() {
+    for (int test = 0; test < 1000; test++) {
+      final int range = 1 + fastRandom.nextInt(100);
+      Set<Colliding> a = randomSet(50, range);
+      Set<Colliding> b = randomSet(50, range);
+      Set<Colliding> union = new HashSet<>(a);
+      union.addAll(b);
+      Set<Colliding> intersection = new HashSet<>(a);
+      intersection.retainAll(b);
+      Set<Colliding> difference = new HashSet<>(a);
+      difference.removeAll(b);
+
+      ArraySet<Colliding> arrayA = arraySet(a);
+      UnmodifiableArraySet<Colliding> unmodifiableA = unmodifiableArraySet(a);
+      // Hash-ordered, mixed, and unordered other collections
+      List<Set<Colliding>> others = new ArrayList<>();
+      others.add(arraySet(b));
+      others.add(unmodifiableArraySet(b));
+      others.add(b);
+      for (Set<Colliding> other : others) {
+        assertSetEquals(union, arrayA.union(other));
+        assertSetEquals(intersection, arrayA.intersection(other));
+        assertSetEquals(difference, arrayA.difference(other));
+        assertSetEquals(union, unmodifiableA.union(other));
+        assertSetEquals(intersection, unmodifiableA.intersection(other));
+        assertSetEquals(difference, unmodifiableA.difference(other));
+        assertEquals(a.containsAll(b), arrayA.containsAll(other));
+        assertEquals(a.containsAll(b), unmodifiableA.containsAll(other));
+        assertEquals(a.equals(b), arrayA.equals(other));
+        assertEquals(a.equals(b), unmodifiableA.equals(other));
+
+        ArraySet<Colliding> retained = arraySet(a);
+        assertEquals(!intersection.equals(a), retained.retainAll(other));
+        assertSetEquals(intersection, retained);
+        for (Colliding c : a) {
+          assertEquals(intersection.contains(c), retained.contains(c));
+        }
+        ArraySet<Colliding> removed = arraySet(a);
+        assertEquals(!difference.equals(a), removed.removeAll(other));
+        assertSetEquals(difference, removed);
+        for (Colliding c : a) {
+          assertEquals(difference.contains(c), removed.contains(c));
+        }
+      }
+      assertTrue(arrayA.equals(unmodifiableA));
+      assertTrue(unmodifiableA.equals(arrayA));
+      assertTrue(arrayA.containsAll(arrayA));
+      assertFalse(arrayA.retainAll(arrayA));
+    }
+  }
+
+  public void testRetainedRemainsAppendable() {
+    ArraySet<Integer> set = new ArraySetBuilder<Integer>().add(1).add(2).add(3).add(4).buildArraySet();
+    assertTrue(set.retainAll(new ArraySetBuilder<Integer>().add(2).add(3).buildArraySet()));
+    assertEquals(2, set.size());
+    assertTrue(set.add(5));
+    assertTrue(set.contains(5));
+    assertFalse(set.contains(4));
+    assertTrue(set.removeAll(set));
+    assertTrue(set.isEmpty());
+  }
+
+  public void testNullInCollection() {
+    ArraySet<String> set = new ArraySetBuilder<String>().add("a").add("b").add("c").buildArraySet();
+    assertTrue(set.removeAll(Arrays.asList(null, "c")));
+    assertEquals(new HashSet<>(Arrays.asList("a", "b")), set);
+    assertFalse(set.removeAll(Collections.singleton(null)));
+    assertTrue(set.retainAll(Arrays.asList("a", null)));
+    assertEquals(Collections.singleton("a"), set);
+    assertTrue(set.add("d"));
+    assertTrue(set.contains("d"));
+  }
+
+  public void testComparatorCollection() {
+    Set<String> upper = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    upper.addAll(Arrays.asList("A", "B", "C"));
+    ArraySet<String> retained = new ArraySetBuilder<String>().add("a").add("b").add("c").add("d").buildArraySet();
+    // Membership is by the comparator of the given collection
+    assertTrue(retained.retainAll(upper));
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), retained);
+    assertFalse(retained.retainAll(upper));
+    ArraySet<String> removed = new ArraySetBuilder<String>().add("a").add("b").add("c").add("d").buildArraySet();
+    assertTrue(removed.removeAll(upper));
+    assertEquals(Collections.singleton("d"), removed);
+    assertTrue(removed.contains("d"));
+    assertFalse(removed.contains("a"));
+  }
+
+  public void testPerformance() {
+    final int numElements = 100000;
+    ArraySetBuilder<Integer> builderA = new ArraySetBuilder<>(numElements);
+    ArraySetBuilder<Integer> builderB = new ArraySetBuilder<>(numElements);
+    for (int i = 0; i < numElements; i++) {
+      int value = fastRandom.nextInt();
+      builderA.add(value);
+      builderB.add(value);
+    }
+    UnmodifiableArraySet<Integer> a = builderA.buildUnmodifiableArraySet();
+    UnmodifiableArraySet<Integer> b = builderB.buildUnmodifiableArraySet();
+    List<Integer> bList = new ArrayList<>(b);
+    long startNanos = System.nanoTime();
+    for (Integer value : bList) {
+      if (!a.contains(value)) {
+        throw new AssertionError();
+      }
+    }
+    long timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": containsAll by contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    startNanos = System.nanoTime();
+    assertTrue(a.containsAll(b));
+    timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": containsAll by merge in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+  }
+}
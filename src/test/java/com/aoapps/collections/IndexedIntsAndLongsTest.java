@@ -0,0 +1,69 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.security.SecureRandom;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class IndexedIntsAndLongsTest extends TestCase {
+
+  public IndexedIntsAndLongsTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(IndexedIntsAndLongsTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  public void testMatchesLinear() {
+    for (int size : new int[] {0, 1, 10, 1000}) {
+      IntArrayList ints = new IntArrayList(size);
+      LongArrayList longs = new LongArrayList(size);
+      for (int i = 0; i < size; i++) {
+        // Include duplicates and zero
+        ints.add(fastRandom.nextInt(size + 1) - size / 2);
+        longs.add(fastRandom.nextLong());
+      }
+      IntsAndLongs linear = new IntsAndLongs(ints, longs);
+      IndexedIntsAndLongs indexed = new IndexedIntsAndLongs(ints, longs);
+      for (int value = -size - 1; value <= size + 1; value++) {
+        assertEquals(linear.contains(value), indexed.contains(value));
+        assertEquals(linear.indexOf(value), indexed.indexOf(value));
+        assertEquals(linear.getLongForInt(value, -1), indexed.getLongForInt(value, -1));
+      }
+    }
+  }
+}
@@ -0,0 +1,569 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+import java.util.Spliterator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class IntArrayListTest extends TestCase {
+
+  public IntArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(IntArrayListTest.class);
+  }
+
+  private static IntArrayList newList(int size) {
+    IntArrayList list = new IntArrayList(size);
+    for (int i = 0; i < size; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  public void testIntStream() {
+    IntArrayList list = newList(100000);
+    long expected = 100000L * (100000 - 1) / 2;
+    assertEquals(expected, list.intStream().asLongStream().sum());
+    assertEquals(expected, list.parallelIntStream().asLongStream().sum());
+    assertEquals(expected, list.stream().mapToLong(Integer::longValue).sum());
+    assertEquals(50000, list.parallelIntStream().filter(i -> (i & 1) == 0).count());
+  }
+
+  public void testSpliteratorSplits() {
+    IntArrayList list = newList(1000);
+    Spliterator.OfInt spliterator = list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+    assertEquals(1000, spliterator.getExactSizeIfKnown());
+    Spliterator.OfInt prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(500, prefix.getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+    int[] first = new int[1];
+    assertTrue(spliterator.tryAdvance((int i) -> first[0] = i));
+    assertEquals(500, first[0]);
+  }
+
+  public void testSpliteratorFailFast() {
+    IntArrayList list = newList(10);
+    try {
+      list.intStream().forEach(i -> list.add(i));
+      fail("ConcurrentModificationException expected");
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+  }
+
+  public void testIterator() {
+    IntArrayList list = newList(10);
+    IntIterator iter = list.iterator();
+    int expected = 0;
+    while (iter.hasNext()) {
+      int value = iter.nextInt();
+      assertEquals(expected++, value);
+      if ((value & 1) == 1) {
+        iter.remove();
+      }
+    }
+    assertTrue(Arrays.equals(new int[]{0, 2, 4, 6, 8}, list.toArrayInt()));
+  }
+
+  /**
+   * An implementation outside of this package, with a boxed iterator.
+   */
+  private static class BoxedIntCollection extends java.util.AbstractCollection<Integer> implements IntCollection {
+    private final java.util.List<Integer> values = new java.util.ArrayList<>();
+
+    @Override
+    public java.util.Iterator<Integer> iterator() {
+      return values.iterator();
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+
+    @Override
+    public boolean contains(int elem) {
+      return values.contains(elem);
+    }
+
+    @Override
+    public int[] toArrayInt() {
+      return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public boolean add(int o) {
+      return values.add(o);
+    }
+
+    @Override
+    public boolean removeByValue(int value) {
+      return values.remove((Integer) value);
+    }
+  }
+
+  public void testIntIterator() {
+    IntArrayList list = newList(10);
+    IntIterator listIter = list.iterator();
+    assertEquals(listIter.getClass(), list.intIterator().getClass());
+    BoxedIntCollection boxed = new BoxedIntCollection();
+    boxed.addAll(new int[] {1, 2, 3, 4});
+    IntIterator iter = boxed.intIterator();
+    assertEquals(1, iter.nextInt());
+    iter.remove();
+    assertTrue(Arrays.equals(new int[] {2, 3, 4}, boxed.toArrayInt()));
+    assertTrue(boxed.removeIfInt(value -> value == 3));
+    assertEquals(6, boxed.intStream().sum());
+    assertTrue(boxed.containsAll(new IntArrayList(new int[] {2, 4})));
+    assertFalse(boxed.containsAll((IntCollection) list));
+  }
+
+  public void testForEachInt() {
+    IntArrayList list = newList(100);
+    long[] sum = new long[1];
+    list.forEachInt(i -> sum[0] += i);
+    assertEquals(4950, sum[0]);
+  }
+
+  public void testRemoveIfInt() {
+    IntArrayList list = newList(200);
+    assertTrue(list.removeIfInt(i -> i % 3 != 0));
+    assertEquals(67, list.size());
+    for (int i = 0; i < list.size(); i++) {
+      assertEquals(i * 3, list.getInt(i));
+    }
+    assertFalse(list.removeIfInt(i -> i < 0));
+    assertEquals(67, list.size());
+  }
+
+  public void testReplaceAllInt() {
+    IntArrayList list = newList(5);
+    list.replaceAllInt(i -> i * 10);
+    assertTrue(Arrays.equals(new int[]{0, 10, 20, 30, 40}, list.toArrayInt()));
+  }
+
+  public void testSortedReplaceAllInt() {
+    SortedIntArrayList list = new SortedIntArrayList();
+    for (int i = 0; i < 5; i++) {
+      list.add(i);
+    }
+    list.replaceAllInt(i -> -i);
+    assertTrue(Arrays.equals(new int[]{-4, -3, -2, -1, 0}, list.toArrayInt()));
+  }
+
+  public void testAddAllArray() {
+    IntArrayList list = newList(3);
+    assertTrue(list.addAll(new int[]{7, 8, 9, 10}, 1, 2));
+    assertFalse(list.addAll(new int[0]));
+    assertTrue(Arrays.equals(new int[]{0, 1, 2, 8, 9}, list.toArrayInt()));
+    assertTrue(list.addAll(list));
+    assertEquals(10, list.size());
+    assertEquals(9, list.getInt(9));
+  }
+
+  public void testBulkMembership() {
+    IntArrayList list = newList(1000);
+    IntArrayList evens = new IntArrayList();
+    for (int i = 998; i >= 0; i -= 2) {
+      evens.add(i);
+    }
+    assertTrue(list.containsAll(evens));
+    evens.add(-1);
+    assertFalse(list.containsAll(evens));
+    assertTrue(list.removeAll(evens));
+    assertEquals(500, list.size());
+    for (int i = 0; i < list.size(); i++) {
+      assertEquals(i * 2 + 1, list.getInt(i));
+    }
+    IntArrayList small = new IntArrayList(new int[]{1, 3, 5, 2000});
+    assertTrue(list.retainAll(small));
+    assertTrue(Arrays.equals(new int[]{1, 3, 5}, list.toArrayInt()));
+  }
+
+  public void testSortedAddAll() {
+    SortedIntArrayList list = new SortedIntArrayList();
+    list.addAll(new int[]{5, 3, 9, 1});
+    list.addAll(new IntArrayList(new int[]{4, 2}));
+    assertTrue(Arrays.equals(new int[]{1, 2, 3, 4, 5, 9}, list.toArrayInt()));
+  }
+
+  public void testAdoptSorted() {
+    IntArrayList list = new IntArrayList();
+    for (int i = 0; i < 10000; i++) {
+      list.add((i * 7919) % 10007 - 5000);
+    }
+    int[] expected = list.toArrayInt();
+    Arrays.sort(expected);
+    IntArrayList copy = new IntArrayList(list.toArrayInt());
+    copy.radixSort();
+    assertTrue(Arrays.equals(expected, copy.toArrayInt()));
+    SortedIntArrayList sorted = SortedIntArrayList.adopt(list);
+    assertTrue(list.isEmpty());
+    assertTrue(Arrays.equals(expected, sorted.toArrayInt()));
+    sorted.add(-10000);
+    assertEquals(-10000, sorted.getInt(0));
+    list.add(1);
+    assertEquals(10001, sorted.size());
+  }
+
+  public void testSortedMergeAddAll() {
+    Random random = new Random(0);
+    SortedIntArrayList merged = new SortedIntArrayList();
+    SortedIntArrayList sequential = new SortedIntArrayList();
+    for (int round = 0; round < 20; round++) {
+      int[] batch = new int[random.nextInt(500)];
+      for (int i = 0; i < batch.length; i++) {
+        batch[i] = random.nextInt(1000) - 500;
+      }
+      assertEquals(batch.length != 0, merged.addAll(batch));
+      for (int value : batch) {
+        sequential.add(value);
+      }
+      assertTrue(Arrays.equals(sequential.toArrayInt(), merged.toArrayInt()));
+    }
+    merged.addAll(Arrays.asList(-1000, 1000, 0));
+    merged.addAll(new IntArrayList(new int[]{7, -7}));
+    for (int value : new int[]{-1000, 1000, 0, 7, -7}) {
+      sequential.add(value);
+    }
+    assertTrue(Arrays.equals(sequential.toArrayInt(), merged.toArrayInt()));
+  }
+
+  private static SortedIntArrayList randomSorted(Random random, int size, int range) {
+    SortedIntArrayList list = new SortedIntArrayList();
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextInt(range) - range / 2);
+    }
+    return list;
+  }
+
+  public void testSetAlgebra() {
+    Random random = new Random(0);
+    // Sizes cover both linear merge and galloping in either direction
+    int[][] sizes = {{0, 0}, {0, 10}, {10, 10}, {100, 1000}, {5, 5000}, {5000, 5}, {1000, 1000}};
+    for (int[] size : sizes) {
+      SortedIntArrayList a = randomSorted(random, size[0], 2000);
+      SortedIntArrayList b = randomSorted(random, size[1], 2000);
+      // Expected results by counting multiplicities
+      IntArrayList intersection = new IntArrayList();
+      IntArrayList union = new IntArrayList();
+      IntArrayList difference = new IntArrayList();
+      for (int value = -1000; value < 1000; value++) {
+        int countA = 0;
+        int countB = 0;
+        for (int i = a.indexOf(value); i != -1 && i < a.size() && a.getInt(i) == value; i++) {
+          countA++;
+        }
+        for (int i = b.indexOf(value); i != -1 && i < b.size() && b.getInt(i) == value; i++) {
+          countB++;
+        }
+        for (int i = Math.min(countA, countB); i > 0; i--) {
+          intersection.add(value);
+        }
+        for (int i = Math.max(countA, countB); i > 0; i--) {
+          union.add(value);
+        }
+        for (int i = countA - countB; i > 0; i--) {
+          difference.add(value);
+        }
+      }
+      assertTrue(Arrays.equals(intersection.toArrayInt(), a.intersect(b).toArrayInt()));
+      assertTrue(Arrays.equals(intersection.toArrayInt(), SortedIntArrayList.intersect(b, a).toArrayInt()));
+      assertEquals(intersection.size(), a.intersectionSize(b));
+      assertEquals(intersection.size(), SortedIntArrayList.intersectionSize(b, a));
+      assertTrue(Arrays.equals(union.toArrayInt(), a.union(b).toArrayInt()));
+      assertTrue(Arrays.equals(union.toArrayInt(), SortedIntArrayList.union(b, a).toArrayInt()));
+      assertTrue(Arrays.equals(difference.toArrayInt(), a.difference(b).toArrayInt()));
+    }
+  }
+
+  public void testSetAlgebraResultCapacity() {
+    SortedIntArrayList evens = new SortedIntArrayList(100000);
+    SortedIntArrayList odds = new SortedIntArrayList(100000);
+    SortedLongArrayList evenLongs = new SortedLongArrayList(100000);
+    SortedLongArrayList oddLongs = new SortedLongArrayList(100000);
+    for (int i = 0; i < 100000; i++) {
+      evens.add(i * 2);
+      odds.add(i * 2 + 1);
+      evenLongs.add(i * 2L);
+      oddLongs.add(i * 2L + 1);
+    }
+    odds.add(0);
+    odds.add(10);
+    oddLongs.add(0);
+    oddLongs.add(10);
+    // Small results from large lists do not keep an array at the upper bound
+    SortedIntArrayList intersection = evens.intersect(odds);
+    assertTrue(Arrays.equals(new int[] {0, 10}, intersection.toArrayInt()));
+    assertEquals(2, intersection.elementData.length);
+    SortedLongArrayList longIntersection = evenLongs.intersect(oddLongs);
+    assertTrue(Arrays.equals(new long[] {0, 10}, longIntersection.toArrayLong()));
+    assertEquals(2, longIntersection.elementData.length);
+    evens.removeAtIndex(evens.size() - 1);
+    evenLongs.removeAtIndex(evenLongs.size() - 1);
+    SortedIntArrayList difference = odds.difference(evens);
+    assertEquals(odds.size() - 2, difference.size());
+    SortedIntArrayList smallDifference = evens.difference(SortedIntArrayList.adopt(new IntArrayList(evens.toArrayInt())));
+    assertEquals(0, smallDifference.size());
+    assertEquals(0, smallDifference.elementData.length);
+    SortedLongArrayList smallLongDifference = evenLongs.difference(SortedLongArrayList.adopt(new LongArrayList(evenLongs.toArrayLong())));
+    assertEquals(0, smallLongDifference.elementData.length);
+    // A union of mostly equal lists is trimmed from the sum of their sizes
+    SortedIntArrayList union = evens.union(SortedIntArrayList.adopt(new IntArrayList(evens.toArrayInt())));
+    assertEquals(evens, union);
+    assertEquals(evens.size(), union.elementData.length);
+  }
+
+  public void testRangeQueries() {
+    SortedIntArrayList list = new SortedIntArrayList();
+    list.addAll(new int[]{10, 20, 20, 20, 30, 40});
+    assertEquals(-1, list.floorIndex(9));
+    assertEquals(0, list.floorIndex(10));
+    assertEquals(3, list.floorIndex(25));
+    assertEquals(3, list.floorIndex(20));
+    assertEquals(1, list.ceilingIndex(20));
+    assertEquals(1, list.ceilingIndex(11));
+    assertEquals(-1, list.ceilingIndex(41));
+    assertEquals(0, list.lowerIndex(20));
+    assertEquals(-1, list.lowerIndex(10));
+    assertEquals(4, list.higherIndex(20));
+    assertEquals(-1, list.higherIndex(40));
+    assertEquals(4, list.countInRange(20, 31));
+    assertEquals(0, list.countInRange(31, 20));
+    assertEquals(6, list.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    IntList range = list.subRange(15, 31);
+    assertTrue(Arrays.equals(new int[]{20, 20, 20, 30}, range.toArrayInt()));
+    assertEquals(0, range.indexOf(20));
+    assertEquals(2, range.lastIndexOf(20));
+    assertEquals(-1, range.indexOf(10));
+    assertEquals(-1, range.indexOf(40));
+    assertEquals(90, range.intStream().sum());
+    assertTrue(list.subRange(50, 60).isEmpty());
+    list.add(25);
+    try {
+      range.size();
+      fail("ConcurrentModificationException expected");
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+  }
+
+  public void testInclusiveRangeQueries() {
+    SortedIntArrayList list = new SortedIntArrayList();
+    list.addAll(new int[]{Integer.MIN_VALUE, 10, 20, 20, 30, Integer.MAX_VALUE, Integer.MAX_VALUE});
+    // The exclusive upper bound can not reach MAX_VALUE
+    assertEquals(5, list.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertEquals(7, list.countInRange(Integer.MIN_VALUE, true, Integer.MAX_VALUE, true));
+    assertEquals(6, list.countInRange(Integer.MIN_VALUE, false, Integer.MAX_VALUE, true));
+    assertEquals(2, list.countInRange(Integer.MAX_VALUE, true, Integer.MAX_VALUE, true));
+    assertEquals(0, list.countInRange(Integer.MAX_VALUE, false, Integer.MAX_VALUE, true));
+    assertEquals(0, list.countInRange(20, true, 20, false));
+    assertEquals(2, list.countInRange(20, true, 20, true));
+    assertEquals(0, list.countInRange(30, true, 20, true));
+    assertTrue(Arrays.equals(new int[]{30, Integer.MAX_VALUE, Integer.MAX_VALUE},
+        list.subRange(20, false, Integer.MAX_VALUE, true).toArrayInt()));
+    assertTrue(Arrays.equals(new int[]{20, 20}, list.subRange(10, false, 30, false).toArrayInt()));
+    assertTrue(list.subRange(20, false, 20, true).isEmpty());
+    SortedLongArrayList longs = new SortedLongArrayList();
+    longs.addAll(new long[]{Long.MIN_VALUE, 10, 20, 20, 30, Long.MAX_VALUE});
+    assertEquals(5, longs.countInRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    assertEquals(6, longs.countInRange(Long.MIN_VALUE, true, Long.MAX_VALUE, true));
+    assertEquals(1, longs.countInRange(Long.MAX_VALUE, true, Long.MAX_VALUE, true));
+    assertEquals(0, longs.countInRange(20, true, 20, false));
+    assertTrue(Arrays.equals(new long[]{30, Long.MAX_VALUE}, longs.subRange(20, false, Long.MAX_VALUE, true).toArrayLong()));
+    assertTrue(Arrays.equals(new long[]{Long.MIN_VALUE, 10}, longs.subRange(Long.MIN_VALUE, true, 20, false).toArrayLong()));
+    // Against a linear count, for every combination of endpoints
+    Random random = new Random(0);
+    SortedIntArrayList small = new SortedIntArrayList();
+    for (int i = 0; i < 50; i++) {
+      small.add(random.nextInt(20));
+    }
+    for (int from = -1; from <= 20; from++) {
+      for (int to = -1; to <= 20; to++) {
+        for (boolean fromInclusive : new boolean[]{false, true}) {
+          for (boolean toInclusive : new boolean[]{false, true}) {
+            int count = 0;
+            for (int i = 0; i < small.size(); i++) {
+              int value = small.getInt(i);
+              if ((fromInclusive ? value >= from : value > from) && (toInclusive ? value <= to : value < to)) {
+                count++;
+              }
+            }
+            assertEquals(count, small.countInRange(from, fromInclusive, to, toInclusive));
+            assertEquals(count, small.subRange(from, fromInclusive, to, toInclusive).size());
+          }
+        }
+      }
+    }
+  }
+
+  public void testChannelCodec() throws IOException {
+    Random random = new Random();
+    for (int size : new int[] {0, 1, 1000, 100000}) {
+      IntArrayList ints = new IntArrayList(size);
+      LongArrayList longs = new LongArrayList(size);
+      for (int i = 0; i < size; i++) {
+        ints.add(random.nextInt());
+        longs.add(random.nextLong());
+      }
+      ByteArrayOutputStream bout = new ByteArrayOutputStream();
+      ints.writeTo(Channels.newChannel(bout));
+      byte[] bytes = bout.toByteArray();
+      assertEquals(Long.BYTES + size * Integer.BYTES, bytes.length);
+      assertEquals(ints, IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+      bout.reset();
+      longs.writeTo(Channels.newChannel(bout));
+      bytes = bout.toByteArray();
+      assertEquals(longs, LongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes))));
+      if (size > 0) {
+        try {
+          LongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes, 0, bytes.length - 1)));
+          fail();
+        } catch (EOFException e) {
+          // Expected
+        }
+      }
+    }
+  }
+
+  public void testChannelCodecMapped() throws IOException {
+    LongArrayList longs = new LongArrayList();
+    for (long i = 0; i < 1000; i++) {
+      longs.add(i * i - 5000);
+    }
+    Path path = Files.createTempFile("IntArrayListTest", ".longs");
+    try {
+      try (FileChannel channel = FileChannel.open(path, java.nio.file.StandardOpenOption.WRITE)) {
+        longs.writeTo(channel);
+      }
+      try (MappedLongArrayList mapped = MappedLongArrayList.open(path)) {
+        assertEquals(longs, mapped);
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    IntArrayList ints = newList(5000);
+    LongArrayList longs = new LongArrayList();
+    for (long i = 0; i < 5000; i++) {
+      longs.add(i << 33);
+    }
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(ints);
+      out.writeObject(longs);
+      out.writeObject(new IntArrayList());
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      assertEquals(ints, in.readObject());
+      assertEquals(longs, in.readObject());
+      assertEquals(new IntArrayList(), in.readObject());
+    }
+  }
+
+  /**
+   * Checks the serialized form of a list ends with the given data written in block-data mode,
+   * then the end of the object's block data.
+   *
+   * @param  perElement  writes the array length then each element, as done before the elements were written in blocks
+   */
+  private static void assertSerializedAs(Object list, ObjectOutputStreamWriter perElement) throws IOException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(list);
+    }
+    byte[] serialized = bout.toByteArray();
+    // Top-level primitive data is also written in block-data mode, after the four-byte stream header
+    ByteArrayOutputStream expectedOut = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(expectedOut)) {
+      perElement.write(out);
+    }
+    byte[] expected = expectedOut.toByteArray();
+    int dataLength = expected.length - 4;
+    assertTrue(serialized.length > dataLength);
+    assertEquals(0x78, serialized[serialized.length - 1]); // TC_ENDBLOCKDATA
+    assertTrue(Arrays.equals(
+        Arrays.copyOfRange(expected, 4, expected.length),
+        Arrays.copyOfRange(serialized, serialized.length - 1 - dataLength, serialized.length - 1)));
+  }
+
+  @FunctionalInterface
+  private static interface ObjectOutputStreamWriter {
+    void write(ObjectOutputStream out) throws IOException;
+  }
+
+  /**
+   * The elements are written in blocks, but must be the same bytes as writing each with writeInt or writeLong.
+   */
+  public void testSerializedFormMatchesPerElement() throws IOException {
+    Random random = new Random(0);
+    // Around the serialization block size of 1024 elements, and the 1024 byte block-data records
+    for (int size : new int[] {0, 1, 255, 256, 1023, 1024, 1025, 5000}) {
+      IntArrayList ints = new IntArrayList(size + 7);
+      LongArrayList longs = new LongArrayList(size + 3);
+      for (int i = 0; i < size; i++) {
+        ints.add(random.nextInt());
+        longs.add(random.nextLong());
+      }
+      assertSerializedAs(ints, out -> {
+        out.writeInt(ints.elementData.length);
+        for (int i = 0; i < ints.size(); i++) {
+          out.writeInt(ints.getInt(i));
+        }
+      });
+      assertSerializedAs(longs, out -> {
+        out.writeInt(longs.elementData.length);
+        for (int i = 0; i < longs.size(); i++) {
+          out.writeLong(longs.getLong(i));
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class IntHashSetTest extends TestCase {
+
+  public IntHashSetTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(IntHashSetTest.class);
+  }
+
+  public void testRandomOperations() {
+    Random random = new Random(0);
+    IntHashSet set = new IntHashSet();
+    Set<Integer> expected = new HashSet<>();
+    for (int i = 0; i < 100000; i++) {
+      // Small range forces collisions, removals, and re-adds
+      int value = random.nextInt(2000) - 1000;
+      if (random.nextBoolean()) {
+        assertEquals(expected.add(value), set.add(value));
+      } else {
+        assertEquals(expected.remove(value), set.removeByValue(value));
+      }
+      assertEquals(expected.size(), set.size());
+    }
+    for (int value = -1000; value < 1000; value++) {
+      assertEquals(expected.contains(value), set.contains(value));
+    }
+    assertEquals(expected, set);
+    assertEquals(set, expected);
+    assertEquals(expected.hashCode(), set.hashCode());
+    int[] array = set.toArrayInt();
+    Arrays.sort(array);
+    assertEquals(expected.size(), array.length);
+    assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), set.intStream().sum());
+  }
+
+  public void testIteratorRemove() {
+    Random random = new Random(1);
+    for (int round = 0; round < 100; round++) {
+      IntHashSet set = new IntHashSet(4);
+      Set<Integer> expected = new HashSet<>();
+      for (int i = 0; i < 200; i++) {
+        int value = random.nextInt(1000);
+        set.add(value);
+        expected.add(value);
+      }
+      Set<Integer> original = new HashSet<>(expected);
+      Set<Integer> seen = new HashSet<>();
+      IntIterator iter = set.iterator();
+      while (iter.hasNext()) {
+        int value = iter.nextInt();
+        assertTrue(seen.add(value));
+        if ((value & 1) == 0) {
+          iter.remove();
+          expected.remove(value);
+        }
+      }
+      assertEquals(original, seen);
+      assertEquals(expected, set);
+      assertTrue(set.removeIfInt(value -> value % 3 == 0));
+      expected.removeIf(value -> value % 3 == 0);
+      assertEquals(expected, set);
+    }
+  }
+
+  public void testSerialize() throws Exception {
+    IntHashSet set = new IntHashSet();
+    for (int i = -100; i <= 100; i++) {
+      set.add(i * 31);
+    }
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(set);
+    }
+    Object copy;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      copy = in.readObject();
+    }
+    assertEquals(set, copy);
+    assertEquals(set, set.clone());
+  }
+}
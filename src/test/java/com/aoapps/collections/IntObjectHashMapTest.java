@@ -0,0 +1,108 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class IntObjectHashMapTest extends TestCase {
+
+  public IntObjectHashMapTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(IntObjectHashMapTest.class);
+  }
+
+  public void testRandomOperations() {
+    Random random = new Random(0);
+    IntObjectHashMap<String> map = new IntObjectHashMap<>();
+    IntIntHashMap counts = new IntIntHashMap(16, 0.5f, -1);
+    Map<Integer, String> expected = new HashMap<>();
+    for (int i = 0; i < 100000; i++) {
+      // Small range forces collisions, removals, and re-adds
+      int key = random.nextInt(2000) - 1000;
+      if (random.nextBoolean()) {
+        String value = Integer.toString(i);
+        assertEquals(expected.put(key, value), map.put(key, value));
+        counts.put(key, i);
+      } else {
+        assertEquals(expected.remove(key), map.remove(key));
+        counts.remove(key);
+      }
+      assertEquals(expected.size(), map.size());
+      assertEquals(expected.size(), counts.size());
+    }
+    for (int key = -1000; key < 1000; key++) {
+      String value = expected.get(key);
+      assertEquals(value, map.get(key));
+      assertEquals(value == null ? -1 : Integer.parseInt(value), counts.get(key));
+    }
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.keySet(), map.keySet());
+    assertEquals(map.keySet(), counts.keySet());
+    assertEquals(expected.keySet().hashCode(), counts.keySet().hashCode());
+  }
+
+  public void testIteratorRemove() {
+    Random random = new Random(1);
+    for (int round = 0; round < 100; round++) {
+      IntObjectHashMap<String> map = new IntObjectHashMap<>(4);
+      IntIntHashMap primitive = new IntIntHashMap(4);
+      Map<Integer, String> expected = new HashMap<>();
+      for (int i = 0; i < 200; i++) {
+        int key = random.nextInt(1000);
+        map.put(key, Integer.toString(i));
+        primitive.put(key, i);
+        expected.put(key, Integer.toString(i));
+      }
+      Map<Integer, String> seen = new HashMap<>();
+      Iterator<Map.Entry<Integer, String>> iter = map.entrySet().iterator();
+      while (iter.hasNext()) {
+        Map.Entry<Integer, String> entry = iter.next();
+        assertNull(seen.put(entry.getKey(), entry.getValue()));
+        if ((entry.getKey() & 1) == 0) {
+          iter.remove();
+        }
+      }
+      assertEquals(expected, seen);
+      expected.keySet().removeIf(key -> (key & 1) == 0);
+      assertEquals(expected, map);
+      assertTrue(primitive.keySet().removeIfInt(key -> (key & 1) == 0));
+      assertEquals(expected.keySet(), primitive.keySet());
+      primitive.forEachEntry((key, value) -> assertEquals(Integer.parseInt(expected.get(key)), value));
+    }
+  }
+}
@@ -0,0 +1,384 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class LongLongHashMapTest extends TestCase {
+
+  public LongLongHashMapTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(LongLongHashMapTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  private static void assertMatches(Map<Long, Long> expected, LongLongHashMap map) {
+    assertEquals(expected.size(), map.size());
+    assertEquals(expected.isEmpty(), map.isEmpty());
+    for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+      long key = entry.getKey();
+      assertTrue(map.containsKey(key));
+      assertEquals(entry.getValue().longValue(), map.get(key));
+      assertEquals(entry.getValue().longValue(), map.getOrDefault(key, ~entry.getValue()));
+    }
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.keySet(), map.keySet());
+    assertEquals(map.keySet(), expected.keySet());
+    Map<Long, Long> entries = new HashMap<>();
+    map.forEachEntry((key, value) -> assertNull(entries.put(key, value)));
+    assertEquals(expected, entries);
+    long[] keys = map.keySet().toArrayLong();
+    assertEquals(expected.size(), keys.length);
+    Set<Long> keySet = new HashSet<>();
+    for (long key : keys) {
+      assertTrue(keySet.add(key));
+    }
+    assertEquals(expected.keySet(), keySet);
+  }
+
+  public void testRandomOperations() {
+    Random random = new Random(0);
+    LongLongHashMap map = new LongLongHashMap(0, 0.5f, Long.MIN_VALUE);
+    Map<Long, Long> expected = new HashMap<>();
+    for (int i = 0; i < 100000; i++) {
+      // Small range forces collisions, removals, and re-adds; the multiplier uses the high bits
+      long key = (random.nextInt(2000) - 1000) * 0x1_0000_0001L;
+      if (random.nextBoolean()) {
+        long value = random.nextLong();
+        Long old = expected.put(key, value);
+        assertEquals(old == null ? Long.MIN_VALUE : old, map.put(key, value));
+      } else {
+        Long old = expected.remove(key);
+        assertEquals(old == null ? Long.MIN_VALUE : old, map.remove(key));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    assertMatches(expected, map);
+  }
+
+  public void testNoEntryValue() {
+    LongLongHashMap map = new LongLongHashMap();
+    assertEquals(0, map.getNoEntryValue());
+    map = new LongLongHashMap(16, 0.75f, -1);
+    assertEquals(-1, map.getNoEntryValue());
+    assertEquals(-1, map.get(0));
+    assertEquals(-1, map.get(5));
+    assertEquals(7, map.getOrDefault(5, 7));
+    assertEquals(-1, map.remove(5));
+    // A value equal to the no-entry value is still a mapping
+    assertEquals(-1, map.put(5, -1));
+    assertTrue(map.containsKey(5));
+    assertEquals(-1, map.get(5));
+    assertEquals(-1, map.getOrDefault(5, 7));
+    assertEquals(-1, map.put(5, 10));
+    assertEquals(10, map.put(5, 11));
+    assertEquals(11, map.remove(5));
+    assertFalse(map.containsKey(5));
+    assertTrue(map.isEmpty());
+  }
+
+  public void testZeroKey() {
+    LongLongHashMap map = new LongLongHashMap(16, 0.75f, -1);
+    Map<Long, Long> expected = new HashMap<>();
+    assertFalse(map.containsKey(0));
+    assertEquals(-1, map.put(0, 0));
+    expected.put(0L, 0L);
+    assertTrue(map.containsKey(0));
+    assertEquals(0, map.get(0));
+    assertMatches(expected, map);
+    assertEquals(0, map.put(0, 100));
+    expected.put(0L, 100L);
+    for (long key : new long[] {Long.MIN_VALUE, Long.MAX_VALUE, -1, 1, 1L << 32, 1L << 63}) {
+      Long old = expected.put(key, ~key);
+      assertEquals(old == null ? -1 : old, map.put(key, ~key));
+    }
+    assertMatches(expected, map);
+    assertEquals("{0=100", map.toString().substring(0, 6));
+    // The zero key is iterated first
+    LongIterator iter = map.keySet().longIterator();
+    assertEquals(0, iter.nextLong());
+    iter.remove();
+    expected.remove(0L);
+    assertFalse(map.containsKey(0));
+    assertEquals(-1, map.get(0));
+    assertMatches(expected, map);
+    assertEquals(-1, map.put(0, 5));
+    expected.put(0L, 5L);
+    assertTrue(map.keySet().contains(0L));
+    assertTrue(map.keySet().contains(0));
+    assertMatches(expected, map);
+    assertEquals(5, map.remove(0));
+    expected.remove(0L);
+    assertMatches(expected, map);
+  }
+
+  public void testBackwardShiftDeletion() {
+    long[] pool = LongObjectHashMapTest.wrappingKeys();
+    Random random = new Random(2);
+    for (int round = 0; round < 2000; round++) {
+      // Stays at or below the threshold of 12 so the table length remains 16
+      LongLongHashMap map = new LongLongHashMap(16, 0.75f, -1);
+      Map<Long, Long> expected = new HashMap<>();
+      List<Long> keys = new ArrayList<>();
+      for (long key : pool) {
+        keys.add(key);
+      }
+      Collections.shuffle(keys, random);
+      int count = 1 + random.nextInt(12);
+      for (long key : keys.subList(0, count)) {
+        map.put(key, ~key);
+        expected.put(key, ~key);
+      }
+      List<Long> toRemove = new ArrayList<>(expected.keySet());
+      Collections.shuffle(toRemove, random);
+      for (long key : toRemove) {
+        assertEquals(~key, map.remove(key));
+        assertEquals(-1, map.remove(key));
+        expected.remove(key);
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+          assertEquals(entry.getValue().longValue(), map.get(entry.getKey()));
+        }
+      }
+      assertMatches(expected, map);
+    }
+  }
+
+  /**
+   * Removes keys while iterating the colliding keys that wrap around the end of the table,
+   * where a removal may shift a not-yet-returned key from the start of the table past the iterator.
+   */
+  public void testIteratorRemoveWrapped() {
+    long[] pool = LongObjectHashMapTest.wrappingKeys();
+    Random random = new Random(3);
+    for (int round = 0; round < 2000; round++) {
+      LongLongHashMap map = new LongLongHashMap(16);
+      Map<Long, Long> expected = new HashMap<>();
+      List<Long> keys = new ArrayList<>();
+      for (long key : pool) {
+        keys.add(key);
+      }
+      Collections.shuffle(keys, random);
+      for (long key : keys.subList(0, 12)) {
+        map.put(key, ~key);
+        expected.put(key, ~key);
+      }
+      Set<Long> seen = new HashSet<>();
+      for (LongIterator iter = map.keySet().longIterator(); iter.hasNext(); ) {
+        long key = iter.nextLong();
+        assertTrue(seen.add(key));
+        if (random.nextBoolean()) {
+          iter.remove();
+          expected.remove(key);
+          try {
+            iter.remove();
+            fail();
+          } catch (IllegalStateException e) {
+            // Expected
+          }
+        }
+      }
+      assertEquals(12, seen.size());
+      assertMatches(expected, map);
+    }
+  }
+
+  public void testRehash() {
+    Random random = new Random(4);
+    LongLongHashMap map = new LongLongHashMap(0);
+    Map<Long, Long> expected = new HashMap<>();
+    for (int i = 0; i < 10000; i++) {
+      // Patterned keys differing only in high bits, and random keys
+      long key = (i & 1) == 0 ? (long) i << 40 : random.nextLong();
+      map.put(key, i);
+      expected.put(key, (long) i);
+      if ((i & (i - 1)) == 0) {
+        assertMatches(expected, map);
+      }
+    }
+    assertMatches(expected, map);
+    map.ensureCapacity(100000);
+    assertMatches(expected, map);
+    map.clear();
+    expected.clear();
+    assertMatches(expected, map);
+    map.put(1, 1);
+    expected.put(1L, 1L);
+    assertMatches(expected, map);
+  }
+
+  public void testConstructorChecks() {
+    for (float loadFactor : new float[] {0, 1, -0.5f, Float.NaN}) {
+      try {
+        new LongLongHashMap(16, loadFactor);
+        fail();
+      } catch (IllegalArgumentException e) {
+        // Expected
+      }
+    }
+    try {
+      new LongLongHashMap(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+  }
+
+  public void testEquals() {
+    LongLongHashMap map1 = new LongLongHashMap(0, 0.5f, -1);
+    LongLongHashMap map2 = new LongLongHashMap(1000, 0.9f, 0);
+    assertEquals(map1, map2);
+    // Different capacities and insertion orders
+    for (long key = 0; key < 100; key++) {
+      map1.put(key * 7, key);
+      map2.put((99 - key) * 7, 99 - key);
+    }
+    assertEquals(map1, map2);
+    assertEquals(map2, map1);
+    assertEquals(map1.hashCode(), map2.hashCode());
+    map2.put(0, 1);
+    assertFalse(map1.equals(map2));
+    assertFalse(map2.equals(map1));
+    map2.put(0, 0);
+    assertEquals(map1, map2);
+    map2.remove(7);
+    map2.put(8, 1);
+    assertFalse(map1.equals(map2));
+    map2.remove(8);
+    assertFalse(map1.equals(map2));
+    assertFalse(map1.equals(new HashMap<Long, Long>()));
+  }
+
+  public void testKeySet() {
+    LongLongHashMap map = new LongLongHashMap();
+    Map<Long, Long> expected = new HashMap<>();
+    for (long key = -10; key <= 10; key++) {
+      map.put(key, key * key);
+      expected.put(key, key * key);
+    }
+    LongSet keys = map.keySet();
+    assertTrue(keys.remove(-10L));
+    assertTrue(keys.removeByValue(-9));
+    assertFalse(keys.removeByValue(-9));
+    assertFalse(keys.remove("-8"));
+    expected.remove(-10L);
+    expected.remove(-9L);
+    assertMatches(expected, map);
+    try {
+      keys.add(100);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    List<Long> forEach = new ArrayList<>();
+    keys.forEachLong(forEach::add);
+    assertEquals(expected.keySet(), new HashSet<>(forEach));
+    assertEquals(expected.size(), forEach.size());
+    keys.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(keys.iterator().hasNext());
+  }
+
+  public void testConcurrentModification() {
+    LongLongHashMap map = new LongLongHashMap();
+    for (long key = 0; key < 10; key++) {
+      map.put(key, key);
+    }
+    LongIterator iter = map.keySet().longIterator();
+    iter.nextLong();
+    map.put(100, 100);
+    try {
+      iter.nextLong();
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+    // Replacing a value is not a structural modification
+    iter = map.keySet().longIterator();
+    iter.nextLong();
+    map.put(100, 101);
+    iter.nextLong();
+    try {
+      map.forEachEntry((key, value) -> map.remove(key));
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+  }
+
+  public void testCloneAndSerialization() throws IOException, ClassNotFoundException {
+    LongLongHashMap map = new LongLongHashMap(16, 0.75f, -1);
+    Map<Long, Long> expected = new HashMap<>();
+    for (long key : LongObjectHashMapTest.wrappingKeys()) {
+      map.put(key, ~key);
+      expected.put(key, ~key);
+    }
+    map.put(0, 0);
+    expected.put(0L, 0L);
+    LongLongHashMap clone = (LongLongHashMap) map.clone();
+    assertMatches(expected, clone);
+    assertEquals(-1, clone.getNoEntryValue());
+    LongLongHashMap copy = roundTrip(map);
+    assertMatches(expected, copy);
+    assertEquals(-1, copy.getNoEntryValue());
+    assertEquals(-1, copy.get(12345));
+    // Independent of the original
+    clone.remove(0);
+    copy.clear();
+    assertMatches(expected, map);
+    assertEquals(-1, clone.put(0, 1));
+    assertMatches(Collections.emptyMap(), roundTrip(new LongLongHashMap()));
+  }
+}
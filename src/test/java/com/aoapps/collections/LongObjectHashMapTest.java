@@ -0,0 +1,455 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class LongObjectHashMapTest extends TestCase {
+
+  public LongObjectHashMapTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(LongObjectHashMapTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  /**
+   * Finds non-zero keys whose probe sequence starts at the given slot of a table of the given length.
+   */
+  static long[] keysWithHome(int home, int length, int count) {
+    long[] keys = new long[count];
+    int found = 0;
+    for (long key = 1; found < count; key++) {
+      if ((PrimitiveHashing.mix(key) & (length - 1)) == home) {
+        keys[found++] = key;
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Keys that collide around the end of a table of length 16, so that probing and backward-shift
+   * deletion wrap from the end of the table to its start.
+   */
+  static long[] wrappingKeys() {
+    List<Long> keys = new ArrayList<>();
+    for (int home : new int[] {13, 14, 15, 0, 1}) {
+      for (long key : keysWithHome(home, 16, 4)) {
+        keys.add(key);
+      }
+    }
+    long[] array = new long[keys.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = keys.get(i);
+    }
+    return array;
+  }
+
+  private static void assertMatches(Map<Long, String> expected, LongObjectHashMap<String> map) {
+    assertEquals(expected.size(), map.size());
+    assertEquals(expected.isEmpty(), map.isEmpty());
+    for (Map.Entry<Long, String> entry : expected.entrySet()) {
+      long key = entry.getKey();
+      assertTrue(map.containsKey(key));
+      assertEquals(entry.getValue(), map.get(key));
+    }
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.keySet(), map.keySet());
+    long[] keys = map.keySet().toArrayLong();
+    assertEquals(expected.size(), keys.length);
+    Set<Long> keySet = new HashSet<>();
+    for (long key : keys) {
+      assertTrue(keySet.add(key));
+    }
+    assertEquals(expected.keySet(), keySet);
+  }
+
+  public void testRandomOperations() {
+    Random random = new Random(0);
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    LongLongHashMap counts = new LongLongHashMap(16, 0.5f, -1);
+    Map<Long, String> expected = new HashMap<>();
+    for (int i = 0; i < 100000; i++) {
+      // Small range forces collisions, removals, and re-adds; the multiplier uses the high bits
+      long key = (random.nextInt(2000) - 1000) * 0x1_0000_0001L;
+      if (random.nextBoolean()) {
+        String value = Integer.toString(i);
+        assertEquals(expected.put(key, value), map.put(key, value));
+        counts.put(key, i);
+      } else {
+        assertEquals(expected.remove(key), map.remove(key));
+        counts.remove(key);
+      }
+      assertEquals(expected.size(), map.size());
+      assertEquals(expected.size(), counts.size());
+    }
+    for (long i = -1000; i < 1000; i++) {
+      long key = i * 0x1_0000_0001L;
+      String value = expected.get(key);
+      assertEquals(value, map.get(key));
+      assertEquals(value == null ? -1 : Long.parseLong(value), counts.get(key));
+    }
+    assertMatches(expected, map);
+    assertEquals(map.keySet(), counts.keySet());
+    assertEquals(expected.keySet().hashCode(), counts.keySet().hashCode());
+  }
+
+  public void testZeroKey() {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    Map<Long, String> expected = new HashMap<>();
+    assertFalse(map.containsKey(0));
+    assertNull(map.get(0));
+    assertNull(map.remove(0));
+    // A null value is still a mapping
+    assertNull(map.put(0, null));
+    expected.put(0L, null);
+    assertTrue(map.containsKey(0));
+    assertTrue(map.containsKey(Long.valueOf(0)));
+    assertTrue(map.containsValue(null));
+    assertEquals("default", map.getOrDefault(1, "default"));
+    assertNull(map.getOrDefault(0, "default"));
+    assertMatches(expected, map);
+    assertNull(map.put(0, "zero"));
+    expected.put(0L, "zero");
+    for (long key : new long[] {Long.MIN_VALUE, Long.MAX_VALUE, -1, 1, 1L << 32, 1L << 63}) {
+      String value = Long.toString(key);
+      assertEquals(expected.put(key, value), map.put(key, value));
+    }
+    assertMatches(expected, map);
+    // The zero key is iterated first
+    LongIterator iter = map.keySet().longIterator();
+    assertEquals(0, iter.nextLong());
+    iter.remove();
+    expected.remove(0L);
+    assertFalse(map.containsKey(0));
+    assertMatches(expected, map);
+    assertNull(map.put(0L, "again"));
+    expected.put(0L, "again");
+    assertTrue(map.entrySet().contains(new AbstractMap.SimpleEntry<>(0L, "again")));
+    assertFalse(map.entrySet().contains(new AbstractMap.SimpleEntry<>(0L, "other")));
+    assertTrue(map.keySet().contains(0L));
+    assertTrue(map.values().contains("again"));
+    assertMatches(expected, map);
+    assertTrue(map.entrySet().remove(new AbstractMap.SimpleEntry<>(0L, "again")));
+    expected.remove(0L);
+    assertMatches(expected, map);
+  }
+
+  public void testBackwardShiftDeletion() {
+    long[] pool = wrappingKeys();
+    Random random = new Random(2);
+    for (int round = 0; round < 2000; round++) {
+      // Stays at or below the threshold of 12 so the table length remains 16
+      LongObjectHashMap<String> map = new LongObjectHashMap<>(16);
+      Map<Long, String> expected = new HashMap<>();
+      int count = 1 + random.nextInt(12);
+      long[] shuffled = pool.clone();
+      for (int i = shuffled.length - 1; i > 0; i--) {
+        int j = random.nextInt(i + 1);
+        long t = shuffled[i];
+        shuffled[i] = shuffled[j];
+        shuffled[j] = t;
+      }
+      for (int i = 0; i < count; i++) {
+        String value = Integer.toString(i);
+        map.put(shuffled[i], value);
+        expected.put(shuffled[i], value);
+      }
+      // Remove in another order, checking every remaining key is still found
+      List<Long> toRemove = new ArrayList<>(expected.keySet());
+      Collections.shuffle(toRemove, random);
+      for (long key : toRemove) {
+        assertEquals(expected.remove(key), map.remove(key));
+        assertNull(map.remove(key));
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+          assertEquals(entry.getValue(), map.get(entry.getKey().longValue()));
+        }
+        // The slots freed by deletion are reused
+        if (random.nextInt(4) == 0) {
+          long readd = shuffled[count + random.nextInt(shuffled.length - count)];
+          if (expected.size() < 12 && !expected.containsKey(readd)) {
+            assertNull(map.put(readd, "readd"));
+            expected.put(readd, "readd");
+          }
+        }
+      }
+      assertMatches(expected, map);
+    }
+  }
+
+  public void testIteratorRemove() {
+    Random random = new Random(1);
+    for (int round = 0; round < 100; round++) {
+      LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+      LongLongHashMap primitive = new LongLongHashMap(4);
+      Map<Long, String> expected = new HashMap<>();
+      for (int i = 0; i < 200; i++) {
+        long key = random.nextInt(1000);
+        map.put(key, Integer.toString(i));
+        primitive.put(key, i);
+        expected.put(key, Integer.toString(i));
+      }
+      Map<Long, String> seen = new HashMap<>();
+      Iterator<Map.Entry<Long, String>> iter = map.entrySet().iterator();
+      while (iter.hasNext()) {
+        Map.Entry<Long, String> entry = iter.next();
+        assertNull(seen.put(entry.getKey(), entry.getValue()));
+        if ((entry.getKey() & 1) == 0) {
+          iter.remove();
+        }
+      }
+      assertEquals(expected, seen);
+      expected.keySet().removeIf(key -> (key & 1) == 0);
+      assertEquals(expected, map);
+      assertTrue(primitive.keySet().removeIfLong(key -> (key & 1) == 0));
+      assertEquals(expected.keySet(), primitive.keySet());
+      primitive.forEachEntry((key, value) -> assertEquals(Long.parseLong(expected.get(key)), value));
+    }
+  }
+
+  /**
+   * Removes every key while iterating the colliding keys that wrap around the end of the table,
+   * where a removal may shift a not-yet-returned key from the start of the table past the iterator.
+   */
+  public void testIteratorRemoveWrapped() {
+    long[] pool = wrappingKeys();
+    Random random = new Random(3);
+    for (int round = 0; round < 2000; round++) {
+      LongObjectHashMap<String> map = new LongObjectHashMap<>(16);
+      Map<Long, String> expected = new HashMap<>();
+      List<Long> keys = new ArrayList<>();
+      for (long key : pool) {
+        keys.add(key);
+      }
+      Collections.shuffle(keys, random);
+      for (long key : keys.subList(0, 12)) {
+        map.put(key, Long.toString(key));
+        expected.put(key, Long.toString(key));
+      }
+      Set<Long> seen = new HashSet<>();
+      for (Iterator<String> iter = map.values().iterator(); iter.hasNext(); ) {
+        String value = iter.next();
+        assertTrue(seen.add(Long.parseLong(value)));
+        if (random.nextBoolean()) {
+          iter.remove();
+          expected.remove(Long.parseLong(value));
+          try {
+            iter.remove();
+            fail();
+          } catch (IllegalStateException e) {
+            // Expected
+          }
+        }
+      }
+      assertEquals(12, seen.size());
+      assertMatches(expected, map);
+    }
+  }
+
+  public void testRehash() {
+    Random random = new Random(4);
+    LongObjectHashMap<String> map = new LongObjectHashMap<>(0);
+    Map<Long, String> expected = new HashMap<>();
+    for (int i = 0; i < 10000; i++) {
+      // Patterned keys differing only in high bits, and random keys
+      long key = (i & 1) == 0 ? (long) i << 40 : random.nextLong();
+      String value = Integer.toString(i);
+      assertEquals(expected.put(key, value), map.put(key, value));
+      if ((i & (i - 1)) == 0) {
+        assertMatches(expected, map);
+      }
+    }
+    assertMatches(expected, map);
+    map.ensureCapacity(100000);
+    assertMatches(expected, map);
+    LongObjectHashMap<String> copy = new LongObjectHashMap<>(expected);
+    assertMatches(expected, copy);
+    map.clear();
+    expected.clear();
+    assertMatches(expected, map);
+    assertNull(map.put(1, "one"));
+    expected.put(1L, "one");
+    assertMatches(expected, map);
+  }
+
+  public void testConstructorChecks() {
+    for (float loadFactor : new float[] {0, 1, -0.5f, Float.NaN}) {
+      try {
+        new LongObjectHashMap<String>(16, loadFactor);
+        fail();
+      } catch (IllegalArgumentException e) {
+        // Expected
+      }
+    }
+    try {
+      new LongObjectHashMap<String>(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // Expected
+    }
+    // A load factor near one still leaves an empty slot for probing to stop
+    LongObjectHashMap<String> map = new LongObjectHashMap<>(2, 0.99f);
+    Map<Long, String> expected = new HashMap<>();
+    for (long key = 1; key <= 100; key++) {
+      map.put(key, "v");
+      expected.put(key, "v");
+      assertFalse(map.containsKey(-key));
+    }
+    assertMatches(expected, map);
+  }
+
+  public void testViews() {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    Map<Long, String> expected = new HashMap<>();
+    for (long key = -10; key <= 10; key++) {
+      String value = key == 5 ? null : Long.toString(key);
+      map.put(key, value);
+      expected.put(key, value);
+    }
+    assertEquals(expected.values().size(), map.values().size());
+    assertEquals(new HashSet<>(expected.values()), new HashSet<>(map.values()));
+    assertTrue(map.values().contains(null));
+    assertFalse(map.values().contains("11"));
+    // Entries write through
+    for (Map.Entry<Long, String> entry : map.entrySet()) {
+      if (entry.getKey() < 0) {
+        String value = "neg" + entry.getKey();
+        assertEquals(expected.put(entry.getKey(), value), entry.setValue(value));
+        assertEquals(value, entry.getValue());
+      }
+      assertEquals(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue()), entry);
+      assertEquals(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue()).hashCode(), entry.hashCode());
+      assertEquals(entry.getKey() + "=" + entry.getValue(), entry.toString());
+    }
+    assertMatches(expected, map);
+    // Removal through each view
+    assertTrue(map.keySet().remove(-10L));
+    assertTrue(map.keySet().removeByValue(-9));
+    assertFalse(map.keySet().removeByValue(-9));
+    assertFalse(map.keySet().remove("-8"));
+    assertTrue(map.values().remove("8"));
+    assertTrue(map.entrySet().remove(new AbstractMap.SimpleEntry<>(9L, "9")));
+    assertFalse(map.entrySet().remove(new AbstractMap.SimpleEntry<>(10L, "wrong")));
+    expected.keySet().removeAll(Arrays.asList(-10L, -9L, 8L, 9L));
+    assertMatches(expected, map);
+    try {
+      map.keySet().add(100);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    List<Long> forEach = new ArrayList<>();
+    map.keySet().forEachLong(forEach::add);
+    assertEquals(expected.keySet(), new HashSet<>(forEach));
+    assertEquals(expected.size(), forEach.size());
+    map.keySet().clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.values().iterator().hasNext());
+  }
+
+  public void testConcurrentModification() {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    for (long key = 0; key < 10; key++) {
+      map.put(key, "v");
+    }
+    LongIterator iter = map.keySet().longIterator();
+    iter.nextLong();
+    map.put(100, "v");
+    try {
+      iter.nextLong();
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+    // Replacing a value is not a structural modification
+    iter = map.keySet().longIterator();
+    iter.nextLong();
+    map.put(100, "other");
+    iter.nextLong();
+    try {
+      map.keySet().forEachLong(key -> map.remove(key));
+      fail();
+    } catch (ConcurrentModificationException e) {
+      // Expected
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testCloneAndSerialization() throws IOException, ClassNotFoundException {
+    LongObjectHashMap<String> map = new LongObjectHashMap<>();
+    Map<Long, String> expected = new HashMap<>();
+    for (long key : wrappingKeys()) {
+      map.put(key, Long.toString(key));
+      expected.put(key, Long.toString(key));
+    }
+    map.put(0, null);
+    expected.put(0L, null);
+    LongObjectHashMap<String> clone = (LongObjectHashMap<String>) map.clone();
+    assertMatches(expected, clone);
+    LongObjectHashMap<String> copy = roundTrip(map);
+    assertMatches(expected, copy);
+    // Independent of the original
+    clone.remove(0);
+    copy.clear();
+    assertMatches(expected, map);
+    assertNull(clone.put(0, "clone"));
+    assertMatches(Collections.emptyMap(), roundTrip(new LongObjectHashMap<String>()));
+  }
+}
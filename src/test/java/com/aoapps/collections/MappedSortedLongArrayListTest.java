@@ -0,0 +1,209 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.aoapps.collections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class MappedSortedLongArrayListTest extends TestCase {
+
+  public MappedSortedLongArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(MappedSortedLongArrayListTest.class);
+  }
+
+  private Path path;
+
+  @Override
+  protected void setUp() throws IOException {
+    path = Files.createTempFile("MappedSortedLongArrayListTest", ".longs");
+  }
+
+  @Override
+  protected void tearDown() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  private static SortedLongArrayList randomSorted(int size) {
+    Random random = new Random();
+    SortedLongArrayList sorted = new SortedLongArrayList(size);
+    for (int i = 0; i < size; i++) {
+      sorted.add((random.nextInt(size) - size / 2) * 1000000007L);
+    }
+    sorted.add(Long.MIN_VALUE);
+    sorted.add(Long.MAX_VALUE);
+    return sorted;
+  }
+
+  /**
+   * Checks the searches of a mapped list against the in-memory list it was created from.
+   */
+  private static void assertSearches(SortedLongArrayList expected, MappedSortedLongArrayList mapped) {
+    assertEquals(expected, mapped);
+    for (int i = -5; i < expected.size() + 5; i++) {
+      long value = (i - expected.size() / 2) * 1000000007L;
+      int index = expected.indexOf(value);
+      assertEquals(index, mapped.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), mapped.lastIndexOf(value));
+      assertEquals(index != -1, mapped.contains(value));
+      int pos = mapped.binarySearch(value);
+      if (index == -1) {
+        assertTrue(pos < 0);
+        int insert = -(pos + 1);
+        assertTrue(insert == 0 || mapped.getLong(insert - 1) < value);
+        assertTrue(insert == mapped.size() || mapped.getLong(insert) > value);
+      } else {
+        assertEquals(value, mapped.getLong(pos));
+      }
+    }
+    assertEquals(expected.indexOf(Long.MIN_VALUE), mapped.indexOf(Long.MIN_VALUE));
+    assertEquals(expected.lastIndexOf(Long.MAX_VALUE), mapped.lastIndexOf(Long.MAX_VALUE));
+  }
+
+  public void testCreateAndReopen() throws IOException {
+    for (int size : new int[] {0, 1, 10, 1000, 100000}) {
+      SortedLongArrayList sorted = randomSorted(size);
+      try (MappedSortedLongArrayList mapped = MappedSortedLongArrayList.create(path, sorted)) {
+        assertTrue(mapped.isReadOnly());
+        assertSearches(sorted, mapped);
+      }
+      assertEquals(MappedLongArrayList.HEADER_BYTES + (long) sorted.size() * Long.BYTES, Files.size(path));
+      try (MappedSortedLongArrayList reopened = MappedSortedLongArrayList.open(path)) {
+        assertSearches(sorted, reopened);
+      }
+    }
+  }
+
+  public void testAppendAndReopen() throws IOException {
+    SortedLongArrayList sorted = randomSorted(1000);
+    MappedSortedLongArrayList.create(path, sorted).close();
+    // Append, in order, through a writable list on the same file
+    try (MappedLongArrayList writer = MappedLongArrayList.open(path)) {
+      assertFalse(writer.isReadOnly());
+      assertEquals(sorted, writer);
+      // Remove Long.MAX_VALUE so the appended values stay in order
+      writer.removeAtIndex(writer.size() - 1);
+      sorted.removeAtIndex(sorted.size() - 1);
+      for (long value = 1L << 60; value < (1L << 60) + 5000; value += 3) {
+        writer.add(value);
+        sorted.add(value);
+      }
+    }
+    try (MappedSortedLongArrayList reopened = MappedSortedLongArrayList.open(path)) {
+      assertSearches(sorted, reopened);
+      assertEquals(sorted.size() - 1, reopened.indexOf((1L << 60) + 4998));
+      assertEquals(-1, reopened.indexOf((1L << 60) + 4999));
+    }
+  }
+
+  public void testReadOnly() throws IOException {
+    try (MappedSortedLongArrayList mapped = MappedSortedLongArrayList.create(path, SortedLongArrayList.adopt(new LongArrayList(new long[] {1, 2, 3})))) {
+      Runnable[] modifications = {
+        () -> mapped.add(4),
+        () -> mapped.add(0, 0),
+        () -> mapped.removeAtIndex(0),
+        () -> mapped.removeByValue(1),
+        () -> mapped.addAll(new long[] {4}, 0, 1),
+        () -> mapped.clear(),
+        () -> mapped.ensureCapacity(10)
+      };
+      for (Runnable modification : modifications) {
+        try {
+          modification.run();
+          fail();
+        } catch (UnsupportedOperationException e) {
+          // Expected
+        }
+      }
+      assertTrue(Arrays.equals(new long[] {1, 2, 3}, mapped.toArrayLong()));
+    }
+  }
+
+  public void testClose() throws IOException {
+    MappedSortedLongArrayList mapped = MappedSortedLongArrayList.create(path, SortedLongArrayList.adopt(new LongArrayList(new long[] {1, 2, 3})));
+    mapped.close();
+    // Closing again has no effect
+    mapped.close();
+    try {
+      mapped.indexOf(2);
+      fail();
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+    try {
+      mapped.getLong(0);
+      fail();
+    } catch (IllegalStateException e) {
+      // Expected
+    }
+    // The file is intact after close
+    try (MappedSortedLongArrayList reopened = MappedSortedLongArrayList.open(path)) {
+      assertTrue(Arrays.equals(new long[] {1, 2, 3}, reopened.toArrayLong()));
+    }
+  }
+
+  public void testRejectsUnsorted() throws IOException {
+    try (MappedLongArrayList writer = MappedLongArrayList.open(path)) {
+      writer.addAll(new long[] {1, 3, 2}, 0, 3);
+    }
+    // The sort order is only checked with assertions enabled
+    if (MappedSortedLongArrayList.class.desiredAssertionStatus()) {
+      try {
+        MappedSortedLongArrayList.open(path).close();
+        fail();
+      } catch (AssertionError e) {
+        // Expected
+      }
+    }
+  }
+
+  public void testRejectsInvalidFile() throws IOException {
+    Files.write(path, new byte[] {1, 2, 3});
+    try {
+      MappedSortedLongArrayList.open(path).close();
+      fail();
+    } catch (IOException e) {
+      // Expected
+    }
+    // Header size larger than the file
+    Files.write(path, new byte[] {5, 0, 0, 0, 0, 0, 0, 0});
+    try {
+      MappedSortedLongArrayList.open(path).close();
+      fail();
+    } catch (IOException e) {
+      // Expected
+    }
+  }
+}
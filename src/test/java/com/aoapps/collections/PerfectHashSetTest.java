@@ -0,0 +1,226 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+
+package com.aoapps.collections;
+
+import com.aoapps.lang.io.IoUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public class PerfectHashSetTest extends TestCase {
+
+  public PerfectHashSetTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(PerfectHashSetTest.class);
+  }
+
+  /**
+   * A fast pseudo-random number generator for non-cryptographic purposes.
+   */
+  private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
+
+  private static void assertSameSet(Set<?> expected, Set<?> actual) {
+    assertEquals(expected.size(), actual.size());
+    assertEquals(expected, actual);
+    assertEquals(actual, expected);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    Set<Object> iterated = new HashSet<>();
+    for (Object o : actual) {
+      assertTrue(iterated.add(o));
+    }
+    assertEquals(expected, iterated);
+    assertEquals(expected.size(), actual.stream().count());
+  }
+
+  public void testEmpty() {
+    PerfectHashSet<String> set = new PerfectHashSet<>(Collections.emptySet());
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains("a"));
+    assertFalse(set.iterator().hasNext());
+  }
+
+  public void testRandom() {
+    for (int size : new int[]{1, 2, 3, 10, 100, 1000, 100000}) {
+      Set<Integer> expected = new HashSet<>();
+      while (expected.size() < size) {
+        expected.add(fastRandom.nextInt());
+      }
+      List<Integer> withDuplicates = new ArrayList<>(expected);
+      withDuplicates.addAll(expected);
+      PerfectHashSet<Integer> set = new PerfectHashSet<>(withDuplicates);
+      assertSameSet(expected, set);
+      for (Integer value : expected) {
+        assertTrue(set.contains(value));
+      }
+      for (int i = 0; i < 1000; i++) {
+        Integer value = fastRandom.nextInt();
+        assertEquals(expected.contains(value), set.contains(value));
+      }
+      assertFalse(set.contains(null));
+      assertFalse(set.contains("not an integer"));
+    }
+  }
+
+  public void testCollisions() {
+    // "Aa" and "BB" have the same hash code, as do their concatenations
+    List<String> values = new ArrayList<>();
+    String[] parts = {"Aa", "BB"};
+    for (String a : parts) {
+      for (String b : parts) {
+        for (String c : parts) {
+          values.add(a + b + c);
+        }
+      }
+    }
+    for (int i = 0; i < 100; i++) {
+      values.add("value" + i);
+    }
+    Set<String> expected = new HashSet<>(values);
+    PerfectHashSet<String> set = new PerfectHashSet<>(values);
+    assertSameSet(expected, set);
+    for (String value : values) {
+      assertTrue(set.contains(value));
+    }
+    assertFalse(set.contains("AaAaAa" + "x"));
+  }
+
+  public void testUnmodifiable() {
+    PerfectHashSet<String> set = new PerfectHashSet<>(Arrays.asList("a", "b"));
+    try {
+      set.add("c");
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+    try {
+      set.iterator().remove();
+      fail();
+    } catch (UnsupportedOperationException e) {
+      // Expected
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      values.add("value" + i);
+    }
+    values.add("Aa");
+    values.add("BB");
+    PerfectHashSet<String> set = new PerfectHashSet<>(values);
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(set);
+    }
+    PerfectHashSet<String> copy;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      copy = (PerfectHashSet<String>) in.readObject();
+    }
+    assertSameSet(set, copy);
+    for (String value : values) {
+      assertTrue(copy.contains(value));
+    }
+  }
+
+  public void testFrozenCopySet() {
+    assertNull(AoCollections.frozenCopySet(null));
+    assertSame(Collections.emptySet(), AoCollections.frozenCopySet(Collections.emptyList()));
+    assertEquals(Collections.singleton("a"), AoCollections.frozenCopySet(Arrays.asList("a", "a")));
+    Set<String> frozen = AoCollections.frozenCopySet(Arrays.asList("a", "b", "c"));
+    assertTrue(frozen instanceof PerfectHashSet);
+    assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), frozen);
+    assertSame(frozen, AoCollections.optimalUnmodifiableSet(frozen));
+  }
+
+  public void testPerformance() {
+    final int numElements = 1000000;
+    Set<String> randomValues = AoCollections.newHashSet(numElements);
+    while (randomValues.size() < numElements) {
+      randomValues.add(Long.toString(fastRandom.nextLong(), 36));
+    }
+    List<String> randomList = new ArrayList<>(randomValues);
+    Collections.shuffle(randomList, fastRandom);
+    long startNanos = System.nanoTime();
+    HashSet<String> hashSet = new HashSet<>(randomList);
+    long timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": Created HashSet in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    startNanos = System.nanoTime();
+    UnmodifiableArraySet<String> arraySet = new ArraySetBuilder<String>(numElements).addAll(randomList).buildUnmodifiableArraySet();
+    timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": Created UnmodifiableArraySet in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    startNanos = System.nanoTime();
+    PerfectHashSet<String> perfectHashSet = new PerfectHashSet<>(randomList);
+    timeNanos = System.nanoTime() - startNanos;
+    System.out.println(numElements + ": Created PerfectHashSet in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    for (int pass = 0; pass < 3; pass++) {
+      startNanos = System.nanoTime();
+      for (String value : randomList) {
+        if (!hashSet.contains(value)) {
+          throw new AssertionError();
+        }
+      }
+      timeNanos = System.nanoTime() - startNanos;
+      System.out.println(numElements + ": HashSet contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+      startNanos = System.nanoTime();
+      for (String value : randomList) {
+        if (!arraySet.contains(value)) {
+          throw new AssertionError();
+        }
+      }
+      timeNanos = System.nanoTime() - startNanos;
+      System.out.println(numElements + ": UnmodifiableArraySet contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+      startNanos = System.nanoTime();
+      for (String value : randomList) {
+        if (!perfectHashSet.contains(value)) {
+          throw new AssertionError();
+        }
+      }
+      timeNanos = System.nanoTime() - startNanos;
+      System.out.println(numElements + ": PerfectHashSet contains in " + BigDecimal.valueOf(timeNanos / 1000, 3) + " ms");
+    }
+  }
+}
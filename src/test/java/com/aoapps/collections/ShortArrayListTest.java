@@ -0,0 +1,177 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Tests {@link ShortArrayList} and {@link SortedShortArrayList}.
+ *
+ * @author  AO Industries, Inc.
+ */
+public class ShortArrayListTest extends TestCase {
+
+  public ShortArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(ShortArrayListTest.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  public void testMatchesArrayList() {
+    Random random = new Random();
+    ShortArrayList list = new ShortArrayList();
+    List<Short> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      short value = (short) (random.nextInt(2000) - 1000);
+      list.add(value);
+      expected.add(value);
+    }
+    assertEquals(expected, list);
+    assertEquals(list, expected);
+    assertEquals(expected.hashCode(), list.hashCode());
+    for (int v = -1005; v <= 1005; v++) {
+      short value = (short) v;
+      assertEquals(expected.contains(value), list.contains(value));
+      assertEquals(expected.contains(value), list.contains((Short) value));
+      assertEquals(expected.indexOf(value), list.indexOf(value));
+      assertEquals(expected.lastIndexOf(value), list.lastIndexOf(value));
+    }
+    assertEquals(expected.remove(10), list.remove(10));
+    short first = list.getShort(0);
+    assertEquals(expected.remove((Short) first), list.remove((Short) first));
+    list.subList(100, 200).clear();
+    expected.subList(100, 200).clear();
+    assertEquals(expected, list);
+    list.sort();
+    short[] sorted = list.toArrayShort();
+    for (int i = 1; i < sorted.length; i++) {
+      assertTrue(Short.compare(sorted[i - 1], sorted[i]) <= 0);
+    }
+  }
+
+  public void testSorted() {
+    Random random = new Random();
+    SortedShortArrayList list = new SortedShortArrayList();
+    for (int i = 0; i < 1000; i++) {
+      list.add((short) (random.nextInt(2000) - 1000));
+    }
+    list.addAll(new short[] {(short) 3, (short) 1, (short) 2});
+    list.addAll(Arrays.asList((Short) (short) 4, (Short) (short) 0));
+    short[] elements = list.toArrayShort();
+    short[] expected = elements.clone();
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, elements));
+    for (int v = -1005; v <= 1005; v++) {
+      short value = (short) v;
+      int first = -1;
+      int last = -1;
+      for (int i = 0; i < elements.length; i++) {
+        if (elements[i] == value) {
+          if (first == -1) {
+            first = i;
+          }
+          last = i;
+        }
+      }
+      assertEquals(first, list.indexOf(value));
+      assertEquals(last, list.lastIndexOf(value));
+      assertEquals(first != -1, list.contains(value));
+    }
+    try {
+      list.set(0, (short) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+    try {
+      list.add(0, (short) 1);
+      fail();
+    } catch (RuntimeException e) {
+      // Expected
+    }
+  }
+
+  public void testSearchOtherTypes() {
+    ShortArrayList list = new ShortArrayList(new short[] {(short) 4464, (short) -1, (short) 32767});
+    assertTrue(list.contains(Integer.valueOf(4464)));
+    assertTrue(list.contains(Long.valueOf(-1)));
+    assertTrue(list.contains(Double.valueOf(32767)));
+    // Wider values must not match by narrowing
+    assertFalse(list.contains(70000));
+    assertFalse(list.contains(-1L + (1L << 32)));
+    assertFalse(list.contains(4464.5));
+    assertFalse(list.contains(Double.NaN));
+    assertEquals(-1, list.indexOf(70000));
+    assertEquals(-1, list.lastIndexOf(70000));
+    assertFalse(list.remove((Object) 70000));
+    assertEquals(3, list.size());
+    assertEquals(0, list.indexOf(4464));
+    assertEquals(2, list.lastIndexOf(32767L));
+    assertTrue(list.remove((Object) 4464));
+    assertEquals(2, list.size());
+  }
+
+  public void testSerialization() throws IOException, ClassNotFoundException {
+    ShortArrayList list = new ShortArrayList(new short[] {-32768, 0, 32767, 5});
+    ShortArrayList copy = roundTrip(list);
+    assertEquals(list, copy);
+    assertTrue(Arrays.equals(list.toArrayShort(), copy.toArrayShort()));
+    copy.add((short) 9);
+    assertEquals(list.size() + 1, copy.size());
+    assertEquals(new ShortArrayList(), roundTrip(new ShortArrayList()));
+    SortedShortArrayList sorted = new SortedShortArrayList(new short[] {-32768, 0, 32767, 5});
+    SortedShortArrayList sortedCopy = roundTrip(sorted);
+    assertEquals(sorted, sortedCopy);
+    sortedCopy.add((short) 3);
+    short[] expected = list.toArrayShort();
+    expected = Arrays.copyOf(expected, expected.length + 1);
+    expected[expected.length - 1] = (short) 3;
+    Arrays.sort(expected);
+    assertTrue(Arrays.equals(expected, sortedCopy.toArrayShort()));
+  }
+}
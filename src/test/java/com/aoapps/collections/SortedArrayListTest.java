@@ -0,0 +1,82 @@
+/*
+ * ao-collections - Collections and related utilities for Java.
+ * Copyright (C) 2026  AO Industries, Inc.
+ *     support@aoindustries.com
+ *     7262 Bull Pen Cir
+ *     Mobile, AL 36695
+ *
+ * This file is part of ao-collections.
+ *
+ * ao-collections is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * ao-collections is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ao-collections.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.aoapps.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * @author  AO Industries, Inc.
+ */
+public class SortedArrayListTest extends TestCase {
+
+  public SortedArrayListTest(String testName) {
+    super(testName);
+  }
+
+  public static Test suite() {
+    return new TestSuite(SortedArrayListTest.class);
+  }
+
+  /**
+   * A value with a limited range of hashCodes, to check the order of equal hashCodes.
+   */
+  private static final class Value {
+    private final int id;
+
+    private Value(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+      return (id % 50) - 25;
+    }
+  }
+
+  public void testMergeAddAllMatchesAdd() {
+    Random random = new Random(0);
+    SortedArrayList<Value> merged = new SortedArrayList<>();
+    SortedArrayList<Value> sequential = new SortedArrayList<>();
+    int id = 0;
+    for (int round = 0; round < 20; round++) {
+      List<Value> batch = new ArrayList<>();
+      for (int i = random.nextInt(200); i > 0; i--) {
+        batch.add(new Value(id++ * 7919 % 100003));
+      }
+      assertEquals(!batch.isEmpty(), merged.addAll(batch));
+      for (Value value : batch) {
+        sequential.add(value);
+      }
+      assertEquals(sequential.size(), merged.size());
+      for (int i = 0; i < sequential.size(); i++) {
+        assertSame(sequential.get(i), merged.get(i));
+      }
+    }
+  }
+}
@@ -24,10 +24,18 @@
 package com.aoapps.collections;
 
 import com.aoapps.lang.io.IoUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -53,6 +61,63 @@ public class UnmodifiableArraySetTest extends TestCase {
    */
   private static final Random fastRandom = new Random(IoUtils.bufferToLong(new SecureRandom().generateSeed(Long.BYTES)));
 
+  @SuppressWarnings("unchecked")
+  private static <T> T roundTrip(T o) throws IOException, ClassNotFoundException {
+    ByteArrayOutputStream bout = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+      out.writeObject(o);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bout.toByteArray()))) {
+      return (T) in.readObject();
+    }
+  }
+
+  /**
+   * Checks the lookups and hash code, which both depend on the cached hash codes matching the elements.
+   */
+  private static void assertMatches(Set<String> expected, UnmodifiableArraySet<String> set) {
+    assertEquals(expected.size(), set.size());
+    for (String value : expected) {
+      assertTrue(value, set.contains(value));
+    }
+    for (int i = -1; i >= -20; i--) {
+      assertFalse(set.contains("v" + i));
+    }
+    assertEquals(expected.hashCode(), set.hashCode());
+    assertEquals(expected, set);
+    assertEquals(set, expected);
+  }
+
+  public void testExternalization() throws IOException, ClassNotFoundException {
+    Set<String> expected = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add("v" + i);
+    }
+    // Runs of equal hash codes ("Aa" and "BB" collide)
+    Collections.addAll(expected, "Aa", "BB", "AaAa", "AaBB", "BBAa", "BBBB");
+    ArrayList<String> list = new ArrayList<>(expected);
+    Collections.sort(list, HashCodeComparator.getInstance());
+    UnmodifiableArraySet<String> set = new UnmodifiableArraySet<>(list, 1);
+    assertMatches(expected, set);
+    UnmodifiableArraySet<String> copy = roundTrip(set);
+    assertMatches(expected, copy);
+    // The rebuilt hashes are used by the set operations
+    Set<String> other = new HashSet<>(expected);
+    other.removeIf(value -> value.startsWith("v1"));
+    other.add("Aa");
+    other.add("new");
+    Set<String> intersection = new HashSet<>(expected);
+    intersection.retainAll(other);
+    assertMatches(intersection, copy.intersection(other));
+    Set<String> difference = new HashSet<>(expected);
+    difference.removeAll(other);
+    assertMatches(difference, copy.difference(other));
+    Set<String> union = new HashSet<>(expected);
+    union.addAll(other);
+    assertMatches(union, copy.union(other));
+    assertMatches(Collections.emptySet(), roundTrip(new UnmodifiableArraySet<>(new ArrayList<String>())));
+  }
+
   /**
    * Used to find {@link UnmodifiableArraySet#BINARY_SEARCH_THRESHOLD}.
    */